@@ -0,0 +1,50 @@
+package com.postech.gourmet.adapters.controller;
+
+import com.postech.gourmet.adapters.dto.BuscaDisponibilidadeDTO;
+import com.postech.gourmet.adapters.dto.ResultadoBuscaDisponibilidadeDTO;
+import com.postech.gourmet.adapters.mapper.Converter;
+import com.postech.gourmet.application.usecase.reserva.BuscarDisponibilidadeUseCase;
+import com.postech.gourmet.application.usecase.reserva.ResultadoBuscaDisponibilidade;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/disponibilidade")
+@Tag(name = "Disponibilidade", description = "Endpoints para consulta de disponibilidade em vários restaurantes")
+public class DisponibilidadeController {
+
+    private final BuscarDisponibilidadeUseCase buscarDisponibilidadeUseCase;
+
+    @Autowired
+    public DisponibilidadeController(BuscarDisponibilidadeUseCase buscarDisponibilidadeUseCase) {
+        this.buscarDisponibilidadeUseCase = buscarDisponibilidadeUseCase;
+    }
+
+    @Operation(summary = "Buscar disponibilidade em vários restaurantes",
+            description = "Verifica, para a data/hora e o número de pessoas informados, até 200 restaurantes " +
+                    "indicados por ID ou encontrados pelo termo de busca. Restaurantes não verificados dentro " +
+                    "do prazo voltam com situação PRAZO_ESGOTADO e a busca é marcada como incompleta")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada, possivelmente com resultados parciais",
+                    content = @Content(schema = @Schema(implementation = ResultadoBuscaDisponibilidadeDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Parâmetros inválidos")
+    })
+    @PostMapping("/busca")
+    public ResponseEntity<ResultadoBuscaDisponibilidadeDTO> buscarDisponibilidade(
+            @RequestBody BuscaDisponibilidadeDTO buscaDTO) {
+        ResultadoBuscaDisponibilidade resultado = buscarDisponibilidadeUseCase.buscar(
+                buscaDTO.getRestauranteIds(), buscaDTO.getTermo(), buscaDTO.getDataHora(), buscaDTO.getNumeroPessoas());
+
+        return ResponseEntity.ok(Converter.toResultadoBuscaDisponibilidadeDTO(resultado));
+    }
+}
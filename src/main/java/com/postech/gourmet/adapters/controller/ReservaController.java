@@ -1,10 +1,29 @@
 package com.postech.gourmet.adapters.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.postech.gourmet.adapters.dto.BloqueioAssentosDTO;
+import com.postech.gourmet.adapters.dto.EntradaListaEsperaDTO;
+import com.postech.gourmet.adapters.dto.PaginaReservasDTO;
 import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.adapters.dto.ResultadoAlteracaoStatusDTO;
+import com.postech.gourmet.adapters.dto.ResultadoImportacaoDTO;
+import com.postech.gourmet.adapters.mapper.Converter;
 import com.postech.gourmet.adapters.mapper.EntityMapper;
+import com.postech.gourmet.application.usecase.reserva.AlterarStatusEmLoteUseCase;
+import com.postech.gourmet.application.usecase.reserva.ExportarReservasUseCase;
 import com.postech.gourmet.application.usecase.reserva.GerenciarReservaUseCase;
+import com.postech.gourmet.application.usecase.reserva.ImportarReservasUseCase;
+import com.postech.gourmet.application.usecase.reserva.ListaEsperaUseCase;
+import com.postech.gourmet.application.usecase.reserva.PaginaReservas;
+import com.postech.gourmet.application.usecase.reserva.ReservaIdempotenteUseCase;
+import com.postech.gourmet.application.usecase.reserva.ResultadoReservaIdempotente;
 import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.FiltroReservas;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,10 +31,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -23,39 +57,261 @@ import java.util.List;
 @Tag(name = "Reservas", description = "API de gerenciamento de reservas em restaurantes")
 public class ReservaController {
 
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    public static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
+    private static final String CABECALHO_CSV = "id,cliente,dataHora,numeroPessoas,restauranteId,usuarioId,status";
+
     private final GerenciarReservaUseCase gerenciarReservaUseCase;
+    private final ImportarReservasUseCase importarReservasUseCase;
+    private final ExportarReservasUseCase exportarReservasUseCase;
+    private final ReservaIdempotenteUseCase reservaIdempotenteUseCase;
+    private final ListaEsperaUseCase listaEsperaUseCase;
+    private final AlterarStatusEmLoteUseCase alterarStatusEmLoteUseCase;
     private final EntityMapper entityMapper;
+    private final ObjectMapper objectMapper;
 
     @Autowired
     public ReservaController(
             GerenciarReservaUseCase gerenciarReservaUseCase,
-            EntityMapper entityMapper) {
+            ImportarReservasUseCase importarReservasUseCase,
+            ExportarReservasUseCase exportarReservasUseCase,
+            ReservaIdempotenteUseCase reservaIdempotenteUseCase,
+            ListaEsperaUseCase listaEsperaUseCase,
+            AlterarStatusEmLoteUseCase alterarStatusEmLoteUseCase,
+            EntityMapper entityMapper,
+            ObjectMapper objectMapper) {
         this.gerenciarReservaUseCase = gerenciarReservaUseCase;
+        this.importarReservasUseCase = importarReservasUseCase;
+        this.exportarReservasUseCase = exportarReservasUseCase;
+        this.reservaIdempotenteUseCase = reservaIdempotenteUseCase;
+        this.listaEsperaUseCase = listaEsperaUseCase;
+        this.alterarStatusEmLoteUseCase = alterarStatusEmLoteUseCase;
         this.entityMapper = entityMapper;
+        this.objectMapper = objectMapper;
     }
 
-    @Operation(summary = "Criar uma nova reserva", description = "Cria uma nova reserva em um restaurante")
+    @Operation(summary = "Criar uma nova reserva",
+            description = "Cria uma nova reserva em um restaurante. Com o cabeçalho Idempotency-Key, repetir a " +
+                    "requisição devolve a reserva já criada em vez de criar outra")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Reserva criada com sucesso",
                     content = @Content(schema = @Schema(implementation = ReservaDTO.class))),
-            @ApiResponse(responseCode = "400", description = "Dados inválidos ou restaurante sem disponibilidade"),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos, restaurante sem disponibilidade " +
+                    "ou Idempotency-Key já usada com outros dados"),
             @ApiResponse(responseCode = "404", description = "Restaurante ou usuário não encontrado")
     })
     @PostMapping
-    public ResponseEntity<ReservaDTO> reservar(@RequestBody @Valid ReservaDTO reservaDTO) {
-        Reserva reserva = gerenciarReservaUseCase.novaReserva(reservaDTO);
+    public ResponseEntity<ReservaDTO> reservar(
+            @Parameter(description = "Chave única da requisição, para repeti-la com segurança")
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String chaveIdempotencia,
+            @RequestBody @Valid ReservaDTO reservaDTO) {
+        if (chaveIdempotencia == null) {
+            Reserva reserva = gerenciarReservaUseCase.novaReserva(reservaDTO);
+            ReservaDTO reservaFeita = entityMapper.mapTo(reserva, ReservaDTO.class);
+            return ResponseEntity.status(HttpStatus.CREATED).body(reservaFeita);
+        }
+
+        ResultadoReservaIdempotente resultado = reservaIdempotenteUseCase.reservar(chaveIdempotencia, reservaDTO);
+        ReservaDTO reservaFeita = entityMapper.mapTo(resultado.reserva(), ReservaDTO.class);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED, String.valueOf(resultado.repetida()))
+                .body(reservaFeita);
+    }
+
+    @Operation(summary = "Bloquear assentos temporariamente",
+            description = "Retém os assentos por alguns minutos enquanto o usuário conclui a reserva; " +
+                    "os assentos voltam a ficar livres se o bloqueio não for convertido até expirar")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Assentos bloqueados com sucesso",
+                    content = @Content(schema = @Schema(implementation = BloqueioAssentosDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos ou restaurante sem disponibilidade"),
+            @ApiResponse(responseCode = "404", description = "Restaurante ou usuário não encontrado")
+    })
+    @PostMapping("/hold")
+    public ResponseEntity<BloqueioAssentosDTO> bloquearAssentos(@RequestBody @Valid ReservaDTO reservaDTO) {
+        BloqueioAssentosDTO bloqueio = Converter.toBloqueioAssentosDTO(
+                gerenciarReservaUseCase.bloquearAssentos(reservaDTO));
+        return ResponseEntity.status(HttpStatus.CREATED).body(bloqueio);
+    }
+
+    @Operation(summary = "Converter bloqueio em reserva",
+            description = "Cria uma reserva pendente com os assentos retidos pelo bloqueio")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Reserva criada com sucesso",
+                    content = @Content(schema = @Schema(implementation = ReservaDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Bloqueio pertence a outro usuário"),
+            @ApiResponse(responseCode = "404", description = "Bloqueio não encontrado ou expirado")
+    })
+    @PostMapping("/hold/{bloqueioId}/reserva")
+    public ResponseEntity<ReservaDTO> converterBloqueio(
+            @PathVariable String bloqueioId,
+            @RequestParam Long usuarioId) {
+        Reserva reserva = gerenciarReservaUseCase.converterBloqueio(bloqueioId, usuarioId);
         ReservaDTO reservaFeita = entityMapper.mapTo(reserva, ReservaDTO.class);
         return ResponseEntity.status(HttpStatus.CREATED).body(reservaFeita);
     }
 
-    @Operation(summary = "Listar todas as reservas", description = "Retorna todas as reservas cadastradas no sistema")
-    @ApiResponse(responseCode = "200", description = "Lista de reservas recuperada com sucesso")
+    @Operation(summary = "Liberar bloqueio", description = "Devolve os assentos de um bloqueio antes de ele expirar")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Bloqueio liberado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Bloqueio pertence a outro usuário"),
+            @ApiResponse(responseCode = "404", description = "Bloqueio não encontrado ou expirado")
+    })
+    @DeleteMapping("/hold/{bloqueioId}")
+    public ResponseEntity<Void> liberarBloqueio(
+            @PathVariable String bloqueioId,
+            @RequestParam Long usuarioId) {
+        gerenciarReservaUseCase.liberarBloqueio(bloqueioId, usuarioId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Entrar na lista de espera",
+            description = "Coloca o grupo na fila de um horário lotado. Quando assentos são liberados, o grupo " +
+                    "mais antigo que couber recebe automaticamente uma reserva pendente")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Grupo colocado na lista de espera",
+                    content = @Content(schema = @Schema(implementation = EntradaListaEsperaDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Dados inválidos, restaurante fechado ou ainda há assentos disponíveis"),
+            @ApiResponse(responseCode = "404", description = "Restaurante ou usuário não encontrado")
+    })
+    @PostMapping("/espera")
+    public ResponseEntity<EntradaListaEsperaDTO> entrarListaEspera(@RequestBody @Valid ReservaDTO reservaDTO) {
+        EntradaListaEsperaDTO entrada = Converter.toEntradaListaEsperaDTO(listaEsperaUseCase.entrar(reservaDTO));
+        return ResponseEntity.status(HttpStatus.CREATED).body(entrada);
+    }
+
+    @Operation(summary = "Consultar entrada da lista de espera",
+            description = "Retorna a situação da entrada e, se o grupo foi promovido, o ID da reserva criada")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Entrada encontrada",
+                    content = @Content(schema = @Schema(implementation = EntradaListaEsperaDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Entrada não encontrada")
+    })
+    @GetMapping("/espera/{entradaId}")
+    public ResponseEntity<EntradaListaEsperaDTO> buscarEntradaListaEspera(@PathVariable Long entradaId) {
+        return ResponseEntity.ok(Converter.toEntradaListaEsperaDTO(listaEsperaUseCase.buscar(entradaId)));
+    }
+
+    @Operation(summary = "Sair da lista de espera", description = "Retira o grupo da fila do horário")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Grupo retirado da lista de espera"),
+            @ApiResponse(responseCode = "400", description = "Entrada pertence a outro usuário ou não está mais aguardando"),
+            @ApiResponse(responseCode = "404", description = "Entrada não encontrada")
+    })
+    @DeleteMapping("/espera/{entradaId}")
+    public ResponseEntity<Void> sairListaEspera(
+            @PathVariable Long entradaId,
+            @RequestParam Long usuarioId) {
+        listaEsperaUseCase.sair(entradaId, usuarioId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "Importar lote de reservas",
+            description = "Cria várias reservas de uma vez a partir de um array JSON e retorna o resultado de cada item")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada item"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o permitido")
+    })
+    @PostMapping(value = "/lote", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<ResultadoImportacaoDTO>> importarLote(@RequestBody List<ReservaDTO> reservas) {
+        return ResponseEntity.ok(importar(reservas));
+    }
+
+    @Operation(summary = "Importar lote de reservas (NDJSON)",
+            description = "Cria várias reservas a partir de um corpo NDJSON, uma reserva JSON por linha")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada item"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o permitido")
+    })
+    @PostMapping(value = "/lote", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<List<ResultadoImportacaoDTO>> importarLoteNdjson(InputStream corpo) throws IOException {
+        List<ReservaDTO> reservas = new ArrayList<>();
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(corpo, StandardCharsets.UTF_8))) {
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                if (reservas.size() == ImportarReservasUseCase.MAXIMO_ITENS_POR_LOTE) {
+                    throw new InvalidRequestException("O lote pode conter no máximo "
+                            + ImportarReservasUseCase.MAXIMO_ITENS_POR_LOTE + " reservas");
+                }
+                reservas.add(lerLinha(linha));
+            }
+        }
+        return ResponseEntity.ok(importar(reservas));
+    }
+
+    @Operation(summary = "Listar reservas",
+            description = "Retorna uma página de reservas ordenada por data/hora, com filtros opcionais. "
+                    + "Para a próxima página, envie o proximoCursor da resposta no parâmetro cursor")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de reservas recuperada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Filtros, cursor ou limite inválidos")
+    })
     @GetMapping
-    public ResponseEntity<List<ReservaDTO>> listarReservas() {
-        List<Reserva> reservas = gerenciarReservaUseCase.listarReservas();
-        List<ReservaDTO> reservaDTOs = entityMapper.mapToList(reservas, ReservaDTO.class);
+    public ResponseEntity<PaginaReservasDTO> listarReservas(
+            @RequestParam(required = false) Long restauranteId,
+            @RequestParam(required = false) StatusReserva status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime de,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime ate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limite) {
 
-        return ResponseEntity.ok(reservaDTOs);
+        FiltroReservas filtro = new FiltroReservas(restauranteId, status, de, ate);
+        PaginaReservas pagina = gerenciarReservaUseCase.listarReservas(
+                filtro, cursor != null ? Converter.toCursorReserva(cursor) : null, limite);
+
+        return ResponseEntity.ok(Converter.toPaginaReservasDTO(pagina));
+    }
+
+    @Operation(summary = "Exportar todas as reservas",
+            description = "Transmite todas as reservas em NDJSON (uma por linha) ou CSV, sem limite de tamanho")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Exportação transmitida com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Formato de exportação inválido")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportarReservas(
+            @RequestParam(defaultValue = "ndjson") String formato) {
+
+        boolean csv = switch (formato.toLowerCase()) {
+            case "ndjson" -> false;
+            case "csv" -> true;
+            default -> throw new InvalidRequestException("Formato de exportação inválido: " + formato
+                    + ". Use ndjson ou csv");
+        };
+
+        StreamingResponseBody corpo = saida -> {
+            Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+            if (csv) {
+                escritor.write(CABECALHO_CSV);
+                escritor.write('\n');
+            }
+            try {
+                exportarReservasUseCase.exportarReservas(reserva -> {
+                    ReservaDTO dto = Converter.toReservaDTO(reserva);
+                    try {
+                        escritor.write(csv ? toLinhaCsv(dto) : objectMapper.writeValueAsString(dto));
+                        escritor.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            escritor.flush();
+        };
+
+        String extensao = csv ? "csv" : "ndjson";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType((csv ? TEXT_CSV_VALUE : APPLICATION_NDJSON_VALUE) + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"reservas." + extensao + "\"")
+                .body(corpo);
     }
 
     @Operation(summary = "Listar reservas por usuário", description = "Retorna todas as reservas de um usuário específico")
@@ -102,6 +358,35 @@ public class ReservaController {
         return ResponseEntity.ok(reservaConfirmadaDTO);
     }
 
+    @Operation(summary = "Confirmar reservas em lote",
+            description = "Confirma várias reservas pendentes de uma vez. Reservas recusadas não impedem as demais")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada reserva"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, com IDs nulos ou maior que o permitido")
+    })
+    @PatchMapping("/confirmar")
+    public ResponseEntity<List<ResultadoAlteracaoStatusDTO>> confirmarReservas(@RequestBody List<Long> reservaIds) {
+        return ResponseEntity.ok(alterarStatusEmLoteUseCase.confirmarReservas(reservaIds)
+                .stream()
+                .map(Converter::toResultadoAlteracaoStatusDTO)
+                .toList());
+    }
+
+    @Operation(summary = "Cancelar reservas em lote",
+            description = "Cancela várias reservas pendentes ou confirmadas de uma vez. Reservas recusadas não " +
+                    "impedem as demais")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; consulte o resultado de cada reserva"),
+            @ApiResponse(responseCode = "400", description = "Lote vazio, com IDs nulos ou maior que o permitido")
+    })
+    @PatchMapping("/cancelar")
+    public ResponseEntity<List<ResultadoAlteracaoStatusDTO>> cancelarReservas(@RequestBody List<Long> reservaIds) {
+        return ResponseEntity.ok(alterarStatusEmLoteUseCase.cancelarReservas(reservaIds)
+                .stream()
+                .map(Converter::toResultadoAlteracaoStatusDTO)
+                .toList());
+    }
+
     @Operation(summary = "Buscar reserva por ID", description = "Retorna os detalhes de uma reserva específica")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Reserva encontrada",
@@ -115,4 +400,53 @@ public class ReservaController {
 
         return ResponseEntity.ok(reservaDTO);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "Listar mesas da reserva",
+            description = "Retorna os IDs das mesas ocupadas pela reserva; vazio se o restaurante não usa mesas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Mesas recuperadas com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Reserva não encontrada")
+    })
+    @GetMapping("/{reservaId}/mesas")
+    public ResponseEntity<List<Long>> listarMesasDaReserva(@PathVariable Long reservaId) {
+        return ResponseEntity.ok(gerenciarReservaUseCase.listarMesasDaReserva(reservaId));
+    }
+
+    private List<ResultadoImportacaoDTO> importar(List<ReservaDTO> reservas) {
+        return importarReservasUseCase.importarReservas(reservas)
+                .stream()
+                .map(Converter::toResultadoImportacaoDTO)
+                .toList();
+    }
+
+    private static String toLinhaCsv(ReservaDTO dto) {
+        return String.join(",",
+                valorCsv(dto.getId()),
+                valorCsv(dto.getCliente()),
+                valorCsv(dto.getDataHora()),
+                valorCsv(dto.getNumeroPessoas()),
+                valorCsv(dto.getRestauranteId()),
+                valorCsv(dto.getUsuarioId()),
+                valorCsv(dto.getStatus()));
+    }
+
+    private static String valorCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+
+    private ReservaDTO lerLinha(String linha) {
+        try {
+            return objectMapper.readValue(linha, ReservaDTO.class);
+        } catch (JsonProcessingException e) {
+            // Linhas inválidas viram itens recusados, sem interromper o restante do lote
+            return null;
+        }
+    }
+}
@@ -1,9 +1,22 @@
 package com.postech.gourmet.adapters.controller;
 
+import com.postech.gourmet.adapters.dto.MapaDemandaDTO;
+import com.postech.gourmet.adapters.dto.MesaDTO;
+import com.postech.gourmet.adapters.dto.OcupacaoHorariaDTO;
 import com.postech.gourmet.adapters.dto.RestauranteDTO;
+import com.postech.gourmet.adapters.dto.RestauranteProximoDTO;
+import com.postech.gourmet.adapters.dto.SlotDisponivelDTO;
+import com.postech.gourmet.adapters.dto.SugestaoRestauranteDTO;
+import com.postech.gourmet.adapters.mapper.Converter;
 import com.postech.gourmet.adapters.mapper.EntityMapper;
+import com.postech.gourmet.application.usecase.reserva.ConsultarDisponibilidadeUseCase;
 import com.postech.gourmet.application.usecase.restaurante.BuscarRestauranteUseCase;
+import com.postech.gourmet.application.usecase.restaurante.BuscarRestaurantesProximosUseCase;
 import com.postech.gourmet.application.usecase.restaurante.CadastroRestauranteUseCase;
+import com.postech.gourmet.application.usecase.restaurante.GerenciarMesasUseCase;
+import com.postech.gourmet.application.usecase.restaurante.MapaDemandaUseCase;
+import com.postech.gourmet.application.usecase.restaurante.OcupacaoRestauranteUseCase;
+import com.postech.gourmet.application.usecase.restaurante.SugerirRestaurantesUseCase;
 import com.postech.gourmet.domain.entities.Restaurante;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,10 +26,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -26,15 +41,33 @@ public class RestauranteController {
 
     private final CadastroRestauranteUseCase cadastroRestauranteUseCase;
     private final BuscarRestauranteUseCase buscarRestauranteUseCase;
+    private final ConsultarDisponibilidadeUseCase consultarDisponibilidadeUseCase;
+    private final OcupacaoRestauranteUseCase ocupacaoRestauranteUseCase;
+    private final GerenciarMesasUseCase gerenciarMesasUseCase;
+    private final MapaDemandaUseCase mapaDemandaUseCase;
+    private final SugerirRestaurantesUseCase sugerirRestaurantesUseCase;
+    private final BuscarRestaurantesProximosUseCase buscarRestaurantesProximosUseCase;
     private final EntityMapper entityMapper;
 
     @Autowired
     public RestauranteController(
             CadastroRestauranteUseCase cadastroRestauranteUseCase,
             BuscarRestauranteUseCase buscarRestauranteUseCase,
+            ConsultarDisponibilidadeUseCase consultarDisponibilidadeUseCase,
+            OcupacaoRestauranteUseCase ocupacaoRestauranteUseCase,
+            GerenciarMesasUseCase gerenciarMesasUseCase,
+            MapaDemandaUseCase mapaDemandaUseCase,
+            SugerirRestaurantesUseCase sugerirRestaurantesUseCase,
+            BuscarRestaurantesProximosUseCase buscarRestaurantesProximosUseCase,
             EntityMapper entityMapper) {
         this.cadastroRestauranteUseCase = cadastroRestauranteUseCase;
         this.buscarRestauranteUseCase = buscarRestauranteUseCase;
+        this.consultarDisponibilidadeUseCase = consultarDisponibilidadeUseCase;
+        this.ocupacaoRestauranteUseCase = ocupacaoRestauranteUseCase;
+        this.gerenciarMesasUseCase = gerenciarMesasUseCase;
+        this.mapaDemandaUseCase = mapaDemandaUseCase;
+        this.sugerirRestaurantesUseCase = sugerirRestaurantesUseCase;
+        this.buscarRestaurantesProximosUseCase = buscarRestaurantesProximosUseCase;
         this.entityMapper = entityMapper;
     }
 
@@ -53,17 +86,67 @@ public class RestauranteController {
         return ResponseEntity.status(HttpStatus.CREATED).body(novoRestauranteDTO);
     }
 
-    @Operation(summary = "Buscar restaurantes", description = "Busca restaurantes com base em um termo opcional")
-    @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso")
+    @Operation(summary = "Buscar restaurantes",
+            description = "Busca restaurantes com base em um termo opcional. Com fuzzy=true, tolera até duas " +
+                    "letras erradas por palavra do nome ou do tipo de cozinha, ordena pelos mais próximos do termo " +
+                    "e devolve no máximo limite restaurantes")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Busca realizada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite inválido na busca com fuzzy=true")
+    })
     @GetMapping
     public ResponseEntity<List<RestauranteDTO>> buscarRestaurantes(
-            @RequestParam(required = false) String termo) {
-        List<Restaurante> restaurantes = buscarRestauranteUseCase.buscarRestaurantes(termo);
+            @RequestParam(required = false) String termo,
+            @RequestParam(defaultValue = "false") boolean fuzzy,
+            @RequestParam(defaultValue = "20") int limite) {
+        List<Restaurante> restaurantes = fuzzy
+                ? buscarRestauranteUseCase.buscarRestaurantesAproximado(termo, limite)
+                : buscarRestauranteUseCase.buscarRestaurantes(termo);
         List<RestauranteDTO> restauranteDTOs = entityMapper.mapToList(restaurantes, RestauranteDTO.class);
 
         return ResponseEntity.ok(restauranteDTOs);
     }
 
+    @Operation(summary = "Sugerir restaurantes",
+            description = "Retorna os restaurantes mais bem avaliados cujo nome ou tipo de cozinha começa com o prefixo, " +
+                    "sem diferenciar acentos nem maiúsculas, para o autocompletar da busca")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Sugestões recuperadas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Limite fora do intervalo permitido")
+    })
+    @GetMapping("/sugestoes")
+    public ResponseEntity<List<SugestaoRestauranteDTO>> sugerirRestaurantes(
+            @RequestParam String prefixo,
+            @RequestParam(defaultValue = "10") int limite) {
+        List<SugestaoRestauranteDTO> sugestoes = sugerirRestaurantesUseCase.sugerir(prefixo, limite)
+                .stream()
+                .map(Converter::toSugestaoRestauranteDTO)
+                .toList();
+
+        return ResponseEntity.ok(sugestoes);
+    }
+
+    @Operation(summary = "Buscar restaurantes próximos",
+            description = "Retorna os restaurantes com localização cadastrada a até raio km do ponto, " +
+                    "do mais próximo para o mais distante")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Restaurantes próximos recuperados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Coordenadas, raio ou limite inválidos")
+    })
+    @GetMapping("/proximos")
+    public ResponseEntity<List<RestauranteProximoDTO>> buscarRestaurantesProximos(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "2") double raio,
+            @RequestParam(defaultValue = "20") int limite) {
+        List<RestauranteProximoDTO> proximos = buscarRestaurantesProximosUseCase.buscarProximos(lat, lon, raio, limite)
+                .stream()
+                .map(Converter::toRestauranteProximoDTO)
+                .toList();
+
+        return ResponseEntity.ok(proximos);
+    }
+
     @Operation(summary = "Buscar restaurante por ID", description = "Retorna um restaurante específico pelo seu ID")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Restaurante encontrado",
@@ -78,6 +161,96 @@ public class RestauranteController {
         return ResponseEntity.ok(restauranteDTO);
     }
 
+    @Operation(summary = "Consultar disponibilidade",
+            description = "Retorna todos os horários reserváveis do restaurante entre duas datas para o número de pessoas informado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Horários disponíveis recuperados com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período ou número de pessoas inválido"),
+            @ApiResponse(responseCode = "404", description = "Restaurante não encontrado")
+    })
+    @GetMapping("/{id}/disponibilidade")
+    public ResponseEntity<List<SlotDisponivelDTO>> consultarDisponibilidade(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate,
+            @RequestParam Integer pessoas) {
+        List<SlotDisponivelDTO> slots = consultarDisponibilidadeUseCase
+                .buscarSlotsDisponiveis(id, de, ate, pessoas)
+                .stream()
+                .map(Converter::toSlotDisponivelDTO)
+                .toList();
+
+        return ResponseEntity.ok(slots);
+    }
+
+    @Operation(summary = "Consultar ocupação do restaurante",
+            description = "Retorna, hora a hora, as reservas e pessoas pendentes e confirmadas do restaurante entre duas datas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ocupação recuperada com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Período inválido"),
+            @ApiResponse(responseCode = "404", description = "Restaurante não encontrado")
+    })
+    @GetMapping("/{id}/ocupacao")
+    public ResponseEntity<List<OcupacaoHorariaDTO>> consultarOcupacao(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate de,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate ate) {
+        List<OcupacaoHorariaDTO> ocupacao = ocupacaoRestauranteUseCase
+                .consultarOcupacao(id, de, ate)
+                .stream()
+                .map(Converter::toOcupacaoHorariaDTO)
+                .toList();
+
+        return ResponseEntity.ok(ocupacao);
+    }
+
+    @Operation(summary = "Consultar mapa de demanda",
+            description = "Retorna reservas, cancelamentos e não comparecimentos (reservas expiradas sem confirmação) " +
+                    "dos últimos 90 dias, por dia da semana e quarto de hora do horário reservado")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Mapa de demanda recuperado com sucesso",
+                    content = @Content(schema = @Schema(implementation = MapaDemandaDTO.class))),
+            @ApiResponse(responseCode = "404", description = "Restaurante não encontrado")
+    })
+    @GetMapping("/{id}/demanda")
+    public ResponseEntity<MapaDemandaDTO> consultarDemanda(@PathVariable Long id) {
+        return ResponseEntity.ok(Converter.toMapaDemandaDTO(mapaDemandaUseCase.consultar(id)));
+    }
+
+    @Operation(summary = "Listar mesas do restaurante", description = "Retorna o layout de mesas usado na alocação das reservas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Mesas recuperadas com sucesso"),
+            @ApiResponse(responseCode = "404", description = "Restaurante não encontrado")
+    })
+    @GetMapping("/{id}/mesas")
+    public ResponseEntity<List<MesaDTO>> listarMesas(@PathVariable Long id) {
+        List<MesaDTO> mesas = gerenciarMesasUseCase.listarMesas(id)
+                .stream()
+                .map(Converter::toMesaDTO)
+                .toList();
+
+        return ResponseEntity.ok(mesas);
+    }
+
+    @Operation(summary = "Definir mesas do restaurante",
+            description = "Substitui o layout de mesas. Com mesas cadastradas, cada reserva é colocada na menor mesa " +
+                    "em que o grupo cabe, ou em uma combinação de mesas combináveis; uma lista vazia remove as mesas")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Mesas definidas com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Mesa sem lugares ou quantidade acima do limite"),
+            @ApiResponse(responseCode = "404", description = "Restaurante não encontrado")
+    })
+    @PutMapping("/{id}/mesas")
+    public ResponseEntity<List<MesaDTO>> definirMesas(@PathVariable Long id, @RequestBody List<MesaDTO> mesas) {
+        List<MesaDTO> salvas = gerenciarMesasUseCase
+                .definirMesas(id, mesas.stream().map(Converter::toMesa).toList())
+                .stream()
+                .map(Converter::toMesaDTO)
+                .toList();
+
+        return ResponseEntity.ok(salvas);
+    }
+
     @Operation(summary = "Atualizar restaurante", description = "Atualiza os dados de um restaurante existente")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Restaurante atualizado com sucesso",
@@ -0,0 +1,60 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.time.LocalDateTime;
+
+public class BloqueioAssentosDTO {
+    private String id;
+    private Long restauranteId;
+    private Long usuarioId;
+    private LocalDateTime dataHora;
+    private Integer numeroPessoas;
+    private LocalDateTime expiraEm;
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    public Integer getNumeroPessoas() {
+        return numeroPessoas;
+    }
+
+    public void setNumeroPessoas(Integer numeroPessoas) {
+        this.numeroPessoas = numeroPessoas;
+    }
+
+    public LocalDateTime getExpiraEm() {
+        return expiraEm;
+    }
+
+    public void setExpiraEm(LocalDateTime expiraEm) {
+        this.expiraEm = expiraEm;
+    }
+}
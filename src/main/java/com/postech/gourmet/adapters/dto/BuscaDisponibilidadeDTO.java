@@ -0,0 +1,43 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BuscaDisponibilidadeDTO {
+    private List<Long> restauranteIds;
+    private String termo;
+    private LocalDateTime dataHora;
+    private Integer numeroPessoas;
+
+    public List<Long> getRestauranteIds() {
+        return restauranteIds;
+    }
+
+    public void setRestauranteIds(List<Long> restauranteIds) {
+        this.restauranteIds = restauranteIds;
+    }
+
+    public String getTermo() {
+        return termo;
+    }
+
+    public void setTermo(String termo) {
+        this.termo = termo;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    public Integer getNumeroPessoas() {
+        return numeroPessoas;
+    }
+
+    public void setNumeroPessoas(Integer numeroPessoas) {
+        this.numeroPessoas = numeroPessoas;
+    }
+}
@@ -0,0 +1,50 @@
+package com.postech.gourmet.adapters.dto;
+
+public class DisponibilidadeRestauranteDTO {
+    private Long restauranteId;
+    private String nome;
+    private String situacao;
+    private Integer assentosLivres;
+
+    public DisponibilidadeRestauranteDTO() {
+    }
+
+    public DisponibilidadeRestauranteDTO(Long restauranteId, String nome, String situacao, Integer assentosLivres) {
+        this.restauranteId = restauranteId;
+        this.nome = nome;
+        this.situacao = situacao;
+        this.assentosLivres = assentosLivres;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getSituacao() {
+        return situacao;
+    }
+
+    public void setSituacao(String situacao) {
+        this.situacao = situacao;
+    }
+
+    public Integer getAssentosLivres() {
+        return assentosLivres;
+    }
+
+    public void setAssentosLivres(Integer assentosLivres) {
+        this.assentosLivres = assentosLivres;
+    }
+}
@@ -0,0 +1,78 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.time.LocalDateTime;
+
+public class EntradaListaEsperaDTO {
+    private Long id;
+    private Long restauranteId;
+    private Long usuarioId;
+    private LocalDateTime dataHora;
+    private Integer numeroPessoas;
+    private String status;
+    private Long reservaId;
+    private LocalDateTime criadaEm;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    public Integer getNumeroPessoas() {
+        return numeroPessoas;
+    }
+
+    public void setNumeroPessoas(Integer numeroPessoas) {
+        this.numeroPessoas = numeroPessoas;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getReservaId() {
+        return reservaId;
+    }
+
+    public void setReservaId(Long reservaId) {
+        this.reservaId = reservaId;
+    }
+
+    public LocalDateTime getCriadaEm() {
+        return criadaEm;
+    }
+
+    public void setCriadaEm(LocalDateTime criadaEm) {
+        this.criadaEm = criadaEm;
+    }
+}
@@ -0,0 +1,63 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.time.LocalDate;
+
+/**
+ * Matrizes [dia da semana][quarto de hora]: linha 0 é segunda-feira e coluna 0 é 00:00-00:15.
+ */
+public class MapaDemandaDTO {
+    private Long restauranteId;
+    private LocalDate inicio;
+    private LocalDate fim;
+    private int[][] reservas;
+    private int[][] cancelamentos;
+    private int[][] naoComparecimentos;
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public LocalDate getInicio() {
+        return inicio;
+    }
+
+    public void setInicio(LocalDate inicio) {
+        this.inicio = inicio;
+    }
+
+    public LocalDate getFim() {
+        return fim;
+    }
+
+    public void setFim(LocalDate fim) {
+        this.fim = fim;
+    }
+
+    public int[][] getReservas() {
+        return reservas;
+    }
+
+    public void setReservas(int[][] reservas) {
+        this.reservas = reservas;
+    }
+
+    public int[][] getCancelamentos() {
+        return cancelamentos;
+    }
+
+    public void setCancelamentos(int[][] cancelamentos) {
+        this.cancelamentos = cancelamentos;
+    }
+
+    public int[][] getNaoComparecimentos() {
+        return naoComparecimentos;
+    }
+
+    public void setNaoComparecimentos(int[][] naoComparecimentos) {
+        this.naoComparecimentos = naoComparecimentos;
+    }
+}
@@ -0,0 +1,31 @@
+package com.postech.gourmet.adapters.dto;
+
+public class MesaDTO {
+    private Long id;
+    private Integer lugares;
+    private boolean combinavel;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getLugares() {
+        return lugares;
+    }
+
+    public void setLugares(Integer lugares) {
+        this.lugares = lugares;
+    }
+
+    public boolean isCombinavel() {
+        return combinavel;
+    }
+
+    public void setCombinavel(boolean combinavel) {
+        this.combinavel = combinavel;
+    }
+}
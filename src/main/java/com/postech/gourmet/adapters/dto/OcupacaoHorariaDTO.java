@@ -0,0 +1,69 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.time.LocalDate;
+
+public class OcupacaoHorariaDTO {
+    private LocalDate data;
+    private Integer hora;
+    private Integer reservasPendentes;
+    private Integer pessoasPendentes;
+    private Integer reservasConfirmadas;
+    private Integer pessoasConfirmadas;
+    private Integer pessoas;
+
+    public LocalDate getData() {
+        return data;
+    }
+
+    public void setData(LocalDate data) {
+        this.data = data;
+    }
+
+    public Integer getHora() {
+        return hora;
+    }
+
+    public void setHora(Integer hora) {
+        this.hora = hora;
+    }
+
+    public Integer getReservasPendentes() {
+        return reservasPendentes;
+    }
+
+    public void setReservasPendentes(Integer reservasPendentes) {
+        this.reservasPendentes = reservasPendentes;
+    }
+
+    public Integer getPessoasPendentes() {
+        return pessoasPendentes;
+    }
+
+    public void setPessoasPendentes(Integer pessoasPendentes) {
+        this.pessoasPendentes = pessoasPendentes;
+    }
+
+    public Integer getReservasConfirmadas() {
+        return reservasConfirmadas;
+    }
+
+    public void setReservasConfirmadas(Integer reservasConfirmadas) {
+        this.reservasConfirmadas = reservasConfirmadas;
+    }
+
+    public Integer getPessoasConfirmadas() {
+        return pessoasConfirmadas;
+    }
+
+    public void setPessoasConfirmadas(Integer pessoasConfirmadas) {
+        this.pessoasConfirmadas = pessoasConfirmadas;
+    }
+
+    public Integer getPessoas() {
+        return pessoas;
+    }
+
+    public void setPessoas(Integer pessoas) {
+        this.pessoas = pessoas;
+    }
+}
@@ -0,0 +1,24 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.util.List;
+
+public class PaginaReservasDTO {
+    private List<ReservaDTO> reservas;
+    private String proximoCursor;
+
+    public List<ReservaDTO> getReservas() {
+        return reservas;
+    }
+
+    public void setReservas(List<ReservaDTO> reservas) {
+        this.reservas = reservas;
+    }
+
+    public String getProximoCursor() {
+        return proximoCursor;
+    }
+
+    public void setProximoCursor(String proximoCursor) {
+        this.proximoCursor = proximoCursor;
+    }
+}
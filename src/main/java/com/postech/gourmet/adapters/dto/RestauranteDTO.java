@@ -1,6 +1,8 @@
 // Arquivo: src/main/java/com/postech/gourmet/adapters/dto/RestauranteDTO.java
 package com.postech.gourmet.adapters.dto;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
@@ -25,6 +27,14 @@ public class RestauranteDTO {
 
     private Integer capacidade;
 
+    @DecimalMin(value = "-90.0", message = "A latitude deve estar entre -90 e 90")
+    @DecimalMax(value = "90.0", message = "A latitude deve estar entre -90 e 90")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "A longitude deve estar entre -180 e 180")
+    @DecimalMax(value = "180.0", message = "A longitude deve estar entre -180 e 180")
+    private Double longitude;
+
     private List<ReservaDTO> reservas;
 
     private Map<DayOfWeek, HorarioFuncionamentoDTO> horariosFuncionamento = new EnumMap<>(DayOfWeek.class);
@@ -73,6 +83,22 @@ public class RestauranteDTO {
         this.capacidade = capacidade;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public List<ReservaDTO> getReservas() {
         return reservas;
     }
@@ -0,0 +1,50 @@
+package com.postech.gourmet.adapters.dto;
+
+public class ResultadoAlteracaoStatusDTO {
+    private Long reservaId;
+    private boolean sucesso;
+    private ReservaDTO reserva;
+    private String erro;
+
+    public ResultadoAlteracaoStatusDTO() {
+    }
+
+    public ResultadoAlteracaoStatusDTO(Long reservaId, boolean sucesso, ReservaDTO reserva, String erro) {
+        this.reservaId = reservaId;
+        this.sucesso = sucesso;
+        this.reserva = reserva;
+        this.erro = erro;
+    }
+
+    public Long getReservaId() {
+        return reservaId;
+    }
+
+    public void setReservaId(Long reservaId) {
+        this.reservaId = reservaId;
+    }
+
+    public boolean isSucesso() {
+        return sucesso;
+    }
+
+    public void setSucesso(boolean sucesso) {
+        this.sucesso = sucesso;
+    }
+
+    public ReservaDTO getReserva() {
+        return reserva;
+    }
+
+    public void setReserva(ReservaDTO reserva) {
+        this.reserva = reserva;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
@@ -0,0 +1,24 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.util.List;
+
+public class ResultadoBuscaDisponibilidadeDTO {
+    private List<DisponibilidadeRestauranteDTO> restaurantes;
+    private boolean completa;
+
+    public List<DisponibilidadeRestauranteDTO> getRestaurantes() {
+        return restaurantes;
+    }
+
+    public void setRestaurantes(List<DisponibilidadeRestauranteDTO> restaurantes) {
+        this.restaurantes = restaurantes;
+    }
+
+    public boolean isCompleta() {
+        return completa;
+    }
+
+    public void setCompleta(boolean completa) {
+        this.completa = completa;
+    }
+}
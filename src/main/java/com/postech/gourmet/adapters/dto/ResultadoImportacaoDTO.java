@@ -0,0 +1,50 @@
+package com.postech.gourmet.adapters.dto;
+
+public class ResultadoImportacaoDTO {
+    private int indice;
+    private boolean sucesso;
+    private ReservaDTO reserva;
+    private String erro;
+
+    public ResultadoImportacaoDTO() {
+    }
+
+    public ResultadoImportacaoDTO(int indice, boolean sucesso, ReservaDTO reserva, String erro) {
+        this.indice = indice;
+        this.sucesso = sucesso;
+        this.reserva = reserva;
+        this.erro = erro;
+    }
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+
+    public boolean isSucesso() {
+        return sucesso;
+    }
+
+    public void setSucesso(boolean sucesso) {
+        this.sucesso = sucesso;
+    }
+
+    public ReservaDTO getReserva() {
+        return reserva;
+    }
+
+    public void setReserva(ReservaDTO reserva) {
+        this.reserva = reserva;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public void setErro(String erro) {
+        this.erro = erro;
+    }
+}
@@ -0,0 +1,32 @@
+package com.postech.gourmet.adapters.dto;
+
+import java.time.LocalDateTime;
+
+public class SlotDisponivelDTO {
+    private LocalDateTime dataHora;
+    private Integer assentosLivres;
+
+    public SlotDisponivelDTO() {
+    }
+
+    public SlotDisponivelDTO(LocalDateTime dataHora, Integer assentosLivres) {
+        this.dataHora = dataHora;
+        this.assentosLivres = assentosLivres;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    public Integer getAssentosLivres() {
+        return assentosLivres;
+    }
+
+    public void setAssentosLivres(Integer assentosLivres) {
+        this.assentosLivres = assentosLivres;
+    }
+}
@@ -0,0 +1,50 @@
+package com.postech.gourmet.adapters.dto;
+
+public class SugestaoRestauranteDTO {
+    private Long id;
+    private String nome;
+    private String tipoCozinha;
+    private Double mediaAvaliacoes;
+
+    public SugestaoRestauranteDTO() {
+    }
+
+    public SugestaoRestauranteDTO(Long id, String nome, String tipoCozinha, Double mediaAvaliacoes) {
+        this.id = id;
+        this.nome = nome;
+        this.tipoCozinha = tipoCozinha;
+        this.mediaAvaliacoes = mediaAvaliacoes;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getTipoCozinha() {
+        return tipoCozinha;
+    }
+
+    public void setTipoCozinha(String tipoCozinha) {
+        this.tipoCozinha = tipoCozinha;
+    }
+
+    public Double getMediaAvaliacoes() {
+        return mediaAvaliacoes;
+    }
+
+    public void setMediaAvaliacoes(Double mediaAvaliacoes) {
+        this.mediaAvaliacoes = mediaAvaliacoes;
+    }
+}
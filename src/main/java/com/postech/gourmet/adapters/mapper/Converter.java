@@ -1,15 +1,46 @@
 package com.postech.gourmet.adapters.mapper;
 
 import com.postech.gourmet.adapters.dto.AvaliacaoDTO;
+import com.postech.gourmet.adapters.dto.BloqueioAssentosDTO;
+import com.postech.gourmet.adapters.dto.DisponibilidadeRestauranteDTO;
+import com.postech.gourmet.adapters.dto.EntradaListaEsperaDTO;
 import com.postech.gourmet.adapters.dto.HorarioFuncionamentoDTO;
+import com.postech.gourmet.adapters.dto.MesaDTO;
+import com.postech.gourmet.adapters.dto.MapaDemandaDTO;
+import com.postech.gourmet.adapters.dto.OcupacaoHorariaDTO;
+import com.postech.gourmet.adapters.dto.PaginaReservasDTO;
 import com.postech.gourmet.adapters.dto.ReservaDTO;
 import com.postech.gourmet.adapters.dto.RestauranteDTO;
+import com.postech.gourmet.adapters.dto.RestauranteProximoDTO;
+import com.postech.gourmet.adapters.dto.ResultadoBuscaDisponibilidadeDTO;
+import com.postech.gourmet.adapters.dto.ResultadoAlteracaoStatusDTO;
+import com.postech.gourmet.adapters.dto.ResultadoImportacaoDTO;
+import com.postech.gourmet.adapters.dto.SlotDisponivelDTO;
+import com.postech.gourmet.adapters.dto.SugestaoRestauranteDTO;
+import com.postech.gourmet.application.usecase.reserva.BloqueioAssentos;
+import com.postech.gourmet.application.usecase.reserva.PaginaReservas;
+import com.postech.gourmet.application.usecase.reserva.ResultadoAlteracaoStatus;
+import com.postech.gourmet.application.usecase.reserva.ResultadoBuscaDisponibilidade;
+import com.postech.gourmet.application.usecase.reserva.ResultadoImportacao;
+import com.postech.gourmet.application.usecase.reserva.SlotDisponivel;
+import com.postech.gourmet.application.usecase.restaurante.MapaCalorDemanda;
+import com.postech.gourmet.application.usecase.restaurante.RestauranteProximo;
+import com.postech.gourmet.application.usecase.restaurante.SugestaoRestaurante;
 import com.postech.gourmet.domain.entities.Avaliacao;
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
 import com.postech.gourmet.domain.entities.HorarioFuncionamento;
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.OcupacaoHoraria;
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.CursorReserva;
 
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.EnumMap;
 import java.util.Map;
 
@@ -137,4 +168,145 @@ public class Converter {
 
         return avaliacao;
     }
-}
\ No newline at end of file
+
+    public static SlotDisponivelDTO toSlotDisponivelDTO(SlotDisponivel slot) {
+        return new SlotDisponivelDTO(slot.inicio(), slot.assentosLivres());
+    }
+
+    public static ResultadoBuscaDisponibilidadeDTO toResultadoBuscaDisponibilidadeDTO(ResultadoBuscaDisponibilidade resultado) {
+        ResultadoBuscaDisponibilidadeDTO dto = new ResultadoBuscaDisponibilidadeDTO();
+        dto.setRestaurantes(resultado.restaurantes().stream()
+                .map(disponibilidade -> new DisponibilidadeRestauranteDTO(disponibilidade.restauranteId(),
+                        disponibilidade.nome(), disponibilidade.situacao().name(), disponibilidade.assentosLivres()))
+                .toList());
+        dto.setCompleta(resultado.completa());
+
+        return dto;
+    }
+
+    public static BloqueioAssentosDTO toBloqueioAssentosDTO(BloqueioAssentos bloqueio) {
+        BloqueioAssentosDTO dto = new BloqueioAssentosDTO();
+        dto.setId(bloqueio.id());
+        dto.setRestauranteId(bloqueio.restauranteId());
+        dto.setUsuarioId(bloqueio.usuarioId());
+        dto.setDataHora(bloqueio.dataHora());
+        dto.setNumeroPessoas(bloqueio.numeroPessoas());
+        dto.setExpiraEm(bloqueio.expiraEm());
+
+        return dto;
+    }
+
+    public static EntradaListaEsperaDTO toEntradaListaEsperaDTO(EntradaListaEspera entrada) {
+        EntradaListaEsperaDTO dto = new EntradaListaEsperaDTO();
+        dto.setId(entrada.getId());
+        dto.setRestauranteId(entrada.getRestauranteId());
+        dto.setUsuarioId(entrada.getUsuarioId());
+        dto.setDataHora(entrada.getDataHora());
+        dto.setNumeroPessoas(entrada.getNumeroPessoas());
+        dto.setStatus(entrada.getStatus() != null ? entrada.getStatus().name() : null);
+        dto.setReservaId(entrada.getReservaId());
+        dto.setCriadaEm(entrada.getCriadaEm());
+
+        return dto;
+    }
+
+    public static MesaDTO toMesaDTO(Mesa mesa) {
+        MesaDTO dto = new MesaDTO();
+        dto.setId(mesa.getId());
+        dto.setLugares(mesa.getLugares());
+        dto.setCombinavel(mesa.isCombinavel());
+
+        return dto;
+    }
+
+    public static Mesa toMesa(MesaDTO dto) {
+        return new Mesa(null, null, dto.getLugares(), dto.isCombinavel());
+    }
+
+    public static OcupacaoHorariaDTO toOcupacaoHorariaDTO(OcupacaoHoraria ocupacao) {
+        OcupacaoHorariaDTO dto = new OcupacaoHorariaDTO();
+        dto.setData(ocupacao.getData());
+        dto.setHora(ocupacao.getHora());
+        dto.setReservasPendentes(ocupacao.getReservasPendentes());
+        dto.setPessoasPendentes(ocupacao.getPessoasPendentes());
+        dto.setReservasConfirmadas(ocupacao.getReservasConfirmadas());
+        dto.setPessoasConfirmadas(ocupacao.getPessoasConfirmadas());
+        dto.setPessoas(ocupacao.getPessoas());
+
+        return dto;
+    }
+
+    public static SugestaoRestauranteDTO toSugestaoRestauranteDTO(SugestaoRestaurante sugestao) {
+        return new SugestaoRestauranteDTO(sugestao.id(), sugestao.nome(), sugestao.tipoCozinha(), sugestao.mediaAvaliacoes());
+    }
+
+    public static RestauranteProximoDTO toRestauranteProximoDTO(RestauranteProximo proximo) {
+        Restaurante restaurante = proximo.restaurante();
+        RestauranteProximoDTO dto = new RestauranteProximoDTO();
+        dto.setId(restaurante.getId());
+        dto.setNome(restaurante.getNome());
+        dto.setEndereco(restaurante.getEndereco());
+        dto.setTelefone(restaurante.getTelefone());
+        dto.setTipoCozinha(restaurante.getTipoCozinha());
+        dto.setLatitude(restaurante.getLatitude());
+        dto.setLongitude(restaurante.getLongitude());
+        dto.setDistanciaKm(proximo.distanciaKm());
+        return dto;
+    }
+
+    public static MapaDemandaDTO toMapaDemandaDTO(MapaCalorDemanda mapa) {
+        MapaDemandaDTO dto = new MapaDemandaDTO();
+        dto.setRestauranteId(mapa.restauranteId());
+        dto.setInicio(mapa.inicio());
+        dto.setFim(mapa.fim());
+        dto.setReservas(mapa.reservas());
+        dto.setCancelamentos(mapa.cancelamentos());
+        dto.setNaoComparecimentos(mapa.naoComparecimentos());
+
+        return dto;
+    }
+
+    public static ResultadoImportacaoDTO toResultadoImportacaoDTO(ResultadoImportacao resultado) {
+        return new ResultadoImportacaoDTO(
+                resultado.indice(),
+                resultado.isCriada(),
+                resultado.isCriada() ? toReservaDTO(resultado.reserva()) : null,
+                resultado.erro());
+    }
+
+    public static ResultadoAlteracaoStatusDTO toResultadoAlteracaoStatusDTO(ResultadoAlteracaoStatus resultado) {
+        return new ResultadoAlteracaoStatusDTO(
+                resultado.reservaId(),
+                resultado.isAlterada(),
+                resultado.isAlterada() ? toReservaDTO(resultado.reserva()) : null,
+                resultado.erro());
+    }
+
+    public static PaginaReservasDTO toPaginaReservasDTO(PaginaReservas pagina) {
+        PaginaReservasDTO dto = new PaginaReservasDTO();
+        dto.setReservas(pagina.reservas().stream()
+                .map(Converter::toReservaDTO)
+                .toList());
+        if (pagina.proximoCursor() != null) {
+            dto.setProximoCursor(toCursorOpaco(pagina.proximoCursor()));
+        }
+        return dto;
+    }
+
+    public static String toCursorOpaco(CursorReserva cursor) {
+        String valor = cursor.dataHora() + "|" + cursor.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CursorReserva toCursorReserva(String cursorOpaco) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursorOpaco), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf('|');
+            return new CursorReserva(
+                    LocalDateTime.parse(valor.substring(0, separador)),
+                    Long.parseLong(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new InvalidRequestException("Cursor de paginação inválido");
+        }
+    }
+}
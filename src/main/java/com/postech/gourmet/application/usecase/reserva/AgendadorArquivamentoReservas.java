@@ -0,0 +1,52 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Diariamente, arquiva as reservas antigas lote a lote e descarta as partições que ficaram vazias.
+ * <p>
+ * O arquivo fica no disco local e seus índices são carregados apenas ao iniciar, então só uma
+ * instância pode arquivar e ler o que foi arquivado. Com várias instâncias
+ * ({@code gourmet.reservas.controle-concorrencia=postgres}) a aplicação não inicia com o
+ * arquivamento habilitado.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.arquivamento.habilitado", havingValue = "true", matchIfMissing = true)
+public class AgendadorArquivamentoReservas {
+    private final ArquivarReservasUseCase arquivarReservasUseCase;
+
+    public AgendadorArquivamentoReservas(
+            ArquivarReservasUseCase arquivarReservasUseCase,
+            @Value("${gourmet.reservas.controle-concorrencia:local}") String controleConcorrencia) {
+        if ("postgres".equals(controleConcorrencia)) {
+            throw new IllegalStateException("O arquivamento de reservas grava no disco local e só é suportado com"
+                    + " uma instância; defina gourmet.reservas.arquivamento.habilitado=false ao usar"
+                    + " gourmet.reservas.controle-concorrencia=postgres");
+        }
+        this.arquivarReservasUseCase = arquivarReservasUseCase;
+    }
+
+    @Scheduled(cron = "${gourmet.reservas.arquivamento.cron:0 30 3 * * *}")
+    public void executar() {
+        long inicio = System.nanoTime();
+        LocalDateTime agora = LocalDateTime.now();
+        int arquivadas = 0;
+        for (int lote = arquivarReservasUseCase.arquivarProximoLote(agora); lote > 0;
+             lote = arquivarReservasUseCase.arquivarProximoLote(agora)) {
+            arquivadas += lote;
+        }
+        List<YearMonth> removidas = arquivarReservasUseCase.removerParticoesArquivadas(agora);
+
+        log.info("{} reserva(s) arquivada(s) e {} partição(ões) removida(s) em {} ms",
+                arquivadas, removidas.size(), (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
@@ -0,0 +1,102 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Executa periodicamente a conclusão de reservas passadas e publica as métricas da última execução:
+ * {@code gourmet.reservas.conclusao.reservas} (total concluído), {@code .execucao} (duração),
+ * {@code .taxa} (reservas por segundo) e {@code .atraso} (segundos entre agora e o ponto até
+ * o qual tudo já foi concluído).
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.conclusao.habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorConclusaoReservas {
+    private final ConcluirReservasUseCase concluirReservasUseCase;
+    private final Duration pausaEntreLotes;
+    private final Counter reservasConcluidas;
+    private final Timer duracaoExecucao;
+    private final AtomicReference<Double> taxaUltimaExecucao = new AtomicReference<>(0.0);
+    private final AtomicReference<LocalDateTime> processadoAte = new AtomicReference<>();
+
+    public AgendadorConclusaoReservas(
+            ConcluirReservasUseCase concluirReservasUseCase,
+            MeterRegistry meterRegistry,
+            @Value("${gourmet.reservas.conclusao.pausa-entre-lotes:100ms}") Duration pausaEntreLotes) {
+        this.concluirReservasUseCase = concluirReservasUseCase;
+        this.pausaEntreLotes = pausaEntreLotes;
+        this.reservasConcluidas = Counter.builder("gourmet.reservas.conclusao.reservas")
+                .description("Reservas marcadas como concluídas")
+                .register(meterRegistry);
+        this.duracaoExecucao = Timer.builder("gourmet.reservas.conclusao.execucao")
+                .description("Duração de cada execução da conclusão de reservas")
+                .register(meterRegistry);
+        Gauge.builder("gourmet.reservas.conclusao.taxa", taxaUltimaExecucao, AtomicReference::get)
+                .description("Reservas concluídas por segundo na última execução")
+                .register(meterRegistry);
+        Gauge.builder("gourmet.reservas.conclusao.atraso", this, AgendadorConclusaoReservas::atrasoEmSegundos)
+                .description("Segundos entre agora e o ponto até o qual as reservas já foram concluídas")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${gourmet.reservas.conclusao.intervalo:10m}",
+            initialDelayString = "${gourmet.reservas.conclusao.atraso-inicial:1m}")
+    public void executar() throws InterruptedException {
+        long inicio = System.nanoTime();
+        CheckpointProcesso checkpoint = concluirReservasUseCase.iniciarExecucao(LocalDateTime.now());
+        long concluidasNaExecucao = 0;
+
+        while (checkpoint.isEmAndamento()) {
+            long antes = checkpoint.getProcessados();
+            checkpoint = concluirReservasUseCase.concluirProximoLote();
+            long concluidasNoLote = checkpoint.getProcessados() - antes;
+            concluidasNaExecucao += concluidasNoLote;
+            reservasConcluidas.increment(concluidasNoLote);
+            processadoAte.set(checkpoint.processadoAte());
+
+            if (checkpoint.isEmAndamento() && !pausaEntreLotes.isZero()) {
+                // Intervalo entre transações para não disputar o banco com o tráfego normal; roda
+                // numa thread própria do pool de agendamento (spring.task.scheduling.pool.size)
+                Thread.sleep(pausaEntreLotes.toMillis());
+            }
+        }
+
+        long duracaoNanos = System.nanoTime() - inicio;
+        duracaoExecucao.record(Duration.ofNanos(duracaoNanos));
+        double taxa = duracaoNanos > 0 ? concluidasNaExecucao / (duracaoNanos / 1e9) : 0;
+        taxaUltimaExecucao.set(taxa);
+
+        if (concluidasNaExecucao > 0) {
+            log.info("Conclusão de reservas: {} reservas concluídas em {} ms ({} por segundo)",
+                    concluidasNaExecucao, Duration.ofNanos(duracaoNanos).toMillis(), Math.round(taxa));
+        }
+    }
+
+    double atrasoEmSegundos() {
+        LocalDateTime ate = processadoAte.get();
+        if (ate == null) {
+            ate = concluirReservasUseCase.consultarCheckpoint()
+                    .map(CheckpointProcesso::processadoAte)
+                    .orElse(null);
+            if (ate == null) {
+                return Double.NaN;
+            }
+            processadoAte.compareAndSet(null, ate);
+        }
+        return Duration.between(ate, LocalDateTime.now()).toSeconds();
+    }
+}
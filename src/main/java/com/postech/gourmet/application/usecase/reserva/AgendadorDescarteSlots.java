@@ -0,0 +1,49 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Descarta periodicamente os slots passados mantidos em memória pelo {@link InventarioAssentos} e
+ * pelo {@link AlocadorMesas}, para que ambos fiquem limitados aos slots ainda reserváveis mais a
+ * retenção configurada.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.slots.descarte-habilitado", havingValue = "true", matchIfMissing = true)
+public class AgendadorDescarteSlots {
+    private final InventarioAssentos inventarioAssentos;
+    private final AlocadorMesas alocadorMesas;
+    private final Duration retencao;
+
+    public AgendadorDescarteSlots(
+            InventarioAssentos inventarioAssentos,
+            AlocadorMesas alocadorMesas,
+            @Value("${gourmet.reservas.slots.retencao:24h}") Duration retencao) {
+        if (retencao.isNegative()) {
+            throw new IllegalArgumentException("A retenção dos slots não pode ser negativa");
+        }
+        this.inventarioAssentos = inventarioAssentos;
+        this.alocadorMesas = alocadorMesas;
+        this.retencao = retencao;
+    }
+
+    @Scheduled(fixedDelayString = "${gourmet.reservas.slots.intervalo-descarte:1h}")
+    public void descartarSlotsPassados() {
+        LocalDateTime limite = LocalDateTime.now().minus(retencao);
+        int descartados = inventarioAssentos.descartarSlotsAnteriores(limite);
+        if (descartados > 0) {
+            log.info("Inventário de assentos: {} slots passados descartados da memória", descartados);
+        }
+        int mesas = alocadorMesas.descartarSlotsAnteriores(limite);
+        if (mesas > 0) {
+            log.info("Alocação de mesas: {} slots passados descartados da memória", mesas);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Dispara a expiração de reservas pendentes: reconstrói a agenda quando a aplicação sobe e,
+ * a cada intervalo, cancela em lotes as reservas vencidas.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.expiracao.habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorExpiracaoReservas {
+    private static final long ATRASO_NOVA_TENTATIVA_SEGUNDOS = 60;
+
+    private final ExpirarReservasPendentesUseCase expirarReservasPendentesUseCase;
+    private final int tamanhoLote;
+
+    public AgendadorExpiracaoReservas(
+            ExpirarReservasPendentesUseCase expirarReservasPendentesUseCase,
+            @Value("${gourmet.reservas.expiracao.tamanho-lote:500}") int tamanhoLote) {
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote de expiração deve ser positivo");
+        }
+        this.expirarReservasPendentesUseCase = expirarReservasPendentesUseCase;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirAgenda() {
+        int agendadas = expirarReservasPendentesUseCase.reconstruirAgenda();
+        log.info("Expiração de reservas: {} reservas pendentes agendadas", agendadas);
+    }
+
+    @Scheduled(fixedDelayString = "${gourmet.reservas.expiracao.intervalo:1s}")
+    public void expirarVencidas() {
+        LocalDateTime agora = LocalDateTime.now();
+        List<Long> vencidas = expirarReservasPendentesUseCase.coletarVencidas(agora);
+
+        for (int inicio = 0; inicio < vencidas.size(); inicio += tamanhoLote) {
+            List<Long> lote = vencidas.subList(inicio, Math.min(inicio + tamanhoLote, vencidas.size()));
+            try {
+                int expiradas = expirarReservasPendentesUseCase.expirarLote(lote);
+                log.info("Expiração de reservas: {} de {} reservas vencidas canceladas", expiradas, lote.size());
+            } catch (RuntimeException e) {
+                log.warn("Falha ao expirar lote de {} reservas; nova tentativa em {}s: {}",
+                        lote.size(), ATRASO_NOVA_TENTATIVA_SEGUNDOS, e.getMessage());
+                expirarReservasPendentesUseCase.reagendar(lote, agora.plusSeconds(ATRASO_NOVA_TENTATIVA_SEGUNDOS));
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Despacha periodicamente os lembretes de reserva vencidos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.lembretes.habilitado", havingValue = "true", matchIfMissing = true)
+public class AgendadorLembretesReserva {
+    private final DespacharLembretesUseCase despacharLembretesUseCase;
+
+    public AgendadorLembretesReserva(DespacharLembretesUseCase despacharLembretesUseCase) {
+        this.despacharLembretesUseCase = despacharLembretesUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${gourmet.lembretes.intervalo:30s}")
+    public void executar() throws InterruptedException {
+        int entregues = despacharLembretesUseCase.despacharVencidos(LocalDateTime.now());
+        if (entregues > 0) {
+            log.info("Lembretes de reserva: {} lembretes entregues", entregues);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Devolve ao inventário, a cada intervalo, os assentos dos bloqueios temporários vencidos.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.bloqueio.varredura-habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorLiberacaoBloqueios {
+    private final RegistroBloqueios registroBloqueios;
+
+    public AgendadorLiberacaoBloqueios(RegistroBloqueios registroBloqueios) {
+        this.registroBloqueios = registroBloqueios;
+    }
+
+    @Scheduled(fixedDelayString = "${gourmet.reservas.bloqueio.intervalo-varredura:1s}")
+    public void liberarVencidos() {
+        int liberados = registroBloqueios.liberarVencidos(LocalDateTime.now());
+        if (liberados > 0) {
+            log.debug("Bloqueios de assentos: {} bloqueios vencidos liberados", liberados);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remove periodicamente as chaves de idempotência vencidas, mantendo a tabela
+ * {@code chave_idempotencia} limitada às últimas horas de requisições.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.idempotencia.limpeza-habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorLimpezaIdempotencia {
+    private final ReservaIdempotenteUseCase reservaIdempotenteUseCase;
+
+    public AgendadorLimpezaIdempotencia(ReservaIdempotenteUseCase reservaIdempotenteUseCase) {
+        this.reservaIdempotenteUseCase = reservaIdempotenteUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${gourmet.reservas.idempotencia.intervalo-limpeza:1h}")
+    public void removerChavesVencidas() {
+        int removidas = reservaIdempotenteUseCase.removerChavesVencidas();
+        if (removidas > 0) {
+            log.info("Idempotência de reservas: {} chaves vencidas removidas", removidas);
+        }
+    }
+}
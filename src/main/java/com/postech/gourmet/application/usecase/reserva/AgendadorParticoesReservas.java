@@ -0,0 +1,35 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cria as partições mensais de reservas do mês corrente e dos seguintes, ao iniciar e
+ * diariamente. Independe do arquivamento: a criação é serializada no banco e pode rodar em
+ * todas as instâncias.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.particoes.habilitado", havingValue = "true", matchIfMissing = true)
+public class AgendadorParticoesReservas {
+    private final ArquivarReservasUseCase arquivarReservasUseCase;
+
+    public AgendadorParticoesReservas(ArquivarReservasUseCase arquivarReservasUseCase) {
+        this.arquivarReservasUseCase = arquivarReservasUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${gourmet.reservas.particoes.cron:0 0 3 * * *}")
+    public void prepararParticoes() {
+        int criadas = arquivarReservasUseCase.prepararParticoes(LocalDateTime.now());
+        if (criadas > 0) {
+            log.info("{} partição(ões) mensal(is) de reservas criada(s)", criadas);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.repositories.LembreteReservaRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Mantém a caixa de saída de lembretes em dia com as reservas. Executa de forma síncrona, na
+ * transação de quem publicou o evento: o lembrete só existe se a reserva for gravada.
+ */
+@Component
+public class AgendarLembretesReserva {
+    private final LembreteReservaRepository lembreteReservaRepository;
+
+    public AgendarLembretesReserva(LembreteReservaRepository lembreteReservaRepository) {
+        this.lembreteReservaRepository = lembreteReservaRepository;
+    }
+
+    @EventListener
+    public void aoAlterarReserva(ReservaAlteradaEvent event) {
+        Reserva reserva = event.reserva();
+        switch (event.operacao()) {
+            case CRIACAO, CONFIRMACAO -> agendar(reserva, event.operacao() == ReservaAlteradaEvent.Operacao.CRIACAO);
+            case CANCELAMENTO, EXPIRACAO -> lembreteReservaRepository.cancelarPendentes(reserva.getId());
+        }
+    }
+
+    /**
+     * Cria os lembretes da reserva cujo horário de envio ainda não passou.
+     *
+     * @param nova Se a reserva acabou de ser criada e, portanto, ainda não tem lembretes
+     */
+    private void agendar(Reserva reserva, boolean nova) {
+        LocalDateTime agora = LocalDateTime.now();
+        // Reservas confirmadas podem ter sido criadas antes dos lembretes existirem
+        Set<TipoLembrete> existentes = nova ? Set.of() : lembreteReservaRepository.findTiposByReservaId(reserva.getId());
+
+        List<LembreteReserva> lembretes = new ArrayList<>();
+        for (TipoLembrete tipo : TipoLembrete.values()) {
+            LembreteReserva lembrete = LembreteReserva.para(reserva, tipo);
+            if (!existentes.contains(tipo) && lembrete.getEnviarEm().isAfter(agora)) {
+                lembretes.add(lembrete);
+            }
+        }
+        if (!lembretes.isEmpty()) {
+            lembreteReservaRepository.saveAll(lembretes);
+        }
+    }
+}
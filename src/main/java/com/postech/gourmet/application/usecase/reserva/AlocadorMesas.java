@@ -0,0 +1,177 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Coloca cada reserva em uma mesa concreta, ou combinação de mesas, do restaurante.
+ * <p>
+ * Restaurantes sem mesas cadastradas continuam usando apenas a capacidade total. Para os demais,
+ * cada slot mantém em memória um índice de {@link MesasLivres}, montado no primeiro acesso a
+ * partir das alocações gravadas, como o {@link InventarioAssentos} faz com os assentos.
+ */
+@Component
+public class AlocadorMesas {
+    private final MesaRepository mesaRepository;
+    private final InventarioAssentos inventarioAssentos;
+    private final int maximoCombinadas;
+
+    private final Map<Long, List<Mesa>> mesasPorRestaurante = new ConcurrentHashMap<>();
+    private final Map<ChaveSlot, MesasLivres> slots = new ConcurrentHashMap<>();
+
+    public AlocadorMesas(
+            MesaRepository mesaRepository,
+            InventarioAssentos inventarioAssentos,
+            @Value("${gourmet.reservas.mesas.maximo-combinadas:3}") int maximoCombinadas) {
+        if (maximoCombinadas <= 0) {
+            throw new IllegalArgumentException("O máximo de mesas combinadas deve ser positivo");
+        }
+        this.mesaRepository = mesaRepository;
+        this.inventarioAssentos = inventarioAssentos;
+        this.maximoCombinadas = maximoCombinadas;
+    }
+
+    public boolean usaMesas(Long restauranteId) {
+        return !mesas(restauranteId).isEmpty();
+    }
+
+    public List<Mesa> mesas(Long restauranteId) {
+        return mesasPorRestaurante.computeIfAbsent(restauranteId, mesaRepository::findByRestauranteId);
+    }
+
+    /**
+     * Ocupa as mesas do slot para o grupo. Deve ser chamado sob a trava do slot; se a
+     * transação for desfeita, as mesas voltam a ficar livres.
+     *
+     * @return Mesas ocupadas, ou lista vazia se nenhuma mesa ou combinação comportar o grupo
+     */
+    public List<Mesa> alocar(ChaveSlot slot, int pessoas) {
+        MesasLivres livres = livres(slot);
+        List<Mesa> alocadas = livres.alocar(pessoas);
+        if (!alocadas.isEmpty()) {
+            List<Long> ids = alocadas.stream().map(Mesa::getId).toList();
+            aoDesfazer(() -> livres.liberar(ids));
+        }
+        return alocadas;
+    }
+
+    /**
+     * Verifica, sem ocupar nada, se o grupo caberia em alguma mesa ou combinação do slot.
+     * Restaurantes sem mesas cadastradas sempre comportam o grupo.
+     */
+    public boolean podeAlocar(ChaveSlot slot, int pessoas) {
+        return !usaMesas(slot.restauranteId()) || livres(slot).cabe(pessoas);
+    }
+
+    /**
+     * Grava as mesas ocupadas pela reserva.
+     */
+    public void registrar(Reserva reserva, List<Mesa> mesas) {
+        if (!mesas.isEmpty()) {
+            mesaRepository.registrarAlocacao(reserva.getId(), mesas.stream().map(Mesa::getId).toList());
+        }
+    }
+
+    public List<Long> mesasDaReserva(Long reservaId) {
+        return mesaRepository.findMesaIdsByReservaId(reservaId);
+    }
+
+    public int mesasLivres(ChaveSlot slot) {
+        return usaMesas(slot.restauranteId()) ? livres(slot).mesasLivres() : 0;
+    }
+
+    /**
+     * Devolve as mesas de reservas canceladas ou expiradas antes dos demais ouvintes, para que
+     * a lista de espera já as encontre livres.
+     */
+    @EventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void aoAlterarReserva(ReservaAlteradaEvent event) {
+        ReservaAlteradaEvent.Operacao operacao = event.operacao();
+        Reserva reserva = event.reserva();
+        if ((operacao != ReservaAlteradaEvent.Operacao.CANCELAMENTO && operacao != ReservaAlteradaEvent.Operacao.EXPIRACAO)
+                || reserva.getRestaurante() == null) {
+            return;
+        }
+
+        MesasLivres livres = slots.get(inventarioAssentos.chave(reserva.getRestaurante().getId(), reserva.getDataHora()));
+        if (livres == null) {
+            // Slot ainda não carregado: será montado a partir do banco, já sem esta reserva
+            return;
+        }
+        List<Long> mesaIds = mesaRepository.findMesaIdsByReservaId(reserva.getId());
+        livres.liberar(mesaIds);
+        aoDesfazer(() -> livres.ocupar(mesaIds));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        invalidar(event.restauranteId());
+    }
+
+    /**
+     * Descarta as mesas e os slots do restaurante mantidos em memória, após uma troca de layout.
+     */
+    public void invalidar(Long restauranteId) {
+        mesasPorRestaurante.remove(restauranteId);
+        slots.keySet().removeIf(chave -> chave.restauranteId().equals(restauranteId));
+    }
+
+    /**
+     * Remove da memória os slots que começam antes de {@code limite}, junto com as mesas dos
+     * restaurantes que ficarem sem slots. Um slot descartado é montado de novo a partir do banco
+     * se voltar a ser consultado.
+     *
+     * @return Quantidade de slots descartados
+     */
+    public int descartarSlotsAnteriores(LocalDateTime limite) {
+        int antes = slots.size();
+        slots.keySet().removeIf(chave -> chave.inicio().isBefore(limite));
+        int descartados = antes - slots.size();
+
+        Set<Long> emUso = new HashSet<>();
+        slots.keySet().forEach(chave -> emUso.add(chave.restauranteId()));
+        mesasPorRestaurante.keySet().retainAll(emUso);
+        return descartados;
+    }
+
+    private MesasLivres livres(ChaveSlot slot) {
+        return slots.computeIfAbsent(slot, chave -> new MesasLivres(
+                mesas(chave.restauranteId()),
+                new HashSet<>(mesaRepository.findMesaIdsOcupadas(chave.restauranteId(), chave.inicio(),
+                        chave.inicio().plusMinutes(inventarioAssentos.getMinutosPorSlot()))),
+                maximoCombinadas));
+    }
+
+    private static void aoDesfazer(Runnable compensacao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensacao.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Confirma ou cancela de uma vez várias reservas, como a equipe do restaurante faz no início
+ * do serviço.
+ * <p>
+ * As reservas do lote são bloqueadas em uma única consulta, as regras de
+ * {@link GerenciarReservaUseCase#confirmarReserva} e {@link GerenciarReservaUseCase#cancelarReserva}
+ * são aplicadas em memória e as aceitas são gravadas com um UPDATE por status de origem. Uma
+ * reserva recusada não impede as demais; cada ID recebe o seu resultado.
+ */
+@Service
+public class AlterarStatusEmLoteUseCase {
+    public static final int MAXIMO_ITENS_POR_LOTE = 500;
+
+    private final ReservaRepository reservaRepository;
+    private final InventarioAssentos inventarioAssentos;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public AlterarStatusEmLoteUseCase(
+            ReservaRepository reservaRepository,
+            InventarioAssentos inventarioAssentos,
+            ApplicationEventPublisher eventPublisher) {
+        this.reservaRepository = reservaRepository;
+        this.inventarioAssentos = inventarioAssentos;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Confirma as reservas pendentes do lote.
+     *
+     * @return Um resultado por ID distinto, na ordem recebida
+     */
+    @Transactional
+    public List<ResultadoAlteracaoStatus> confirmarReservas(List<Long> reservaIds) {
+        return alterar(reservaIds, StatusReserva.CONFIRMADA, this::validarConfirmacao, reserva -> {
+            // Reservas pendentes e confirmadas ocupam os mesmos assentos, então o inventário não muda
+            reserva.confirmar();
+            return ReservaAlteradaEvent.confirmacao(reserva);
+        });
+    }
+
+    /**
+     * Cancela as reservas pendentes ou confirmadas do lote e libera os seus assentos.
+     *
+     * @return Um resultado por ID distinto, na ordem recebida
+     */
+    @Transactional
+    public List<ResultadoAlteracaoStatus> cancelarReservas(List<Long> reservaIds) {
+        LocalDateTime agora = LocalDateTime.now();
+        return alterar(reservaIds, StatusReserva.CANCELADA, reserva -> validarCancelamento(reserva, agora), reserva -> {
+            StatusReserva statusAnterior = reserva.getStatus();
+            reserva.cancelar();
+            return ReservaAlteradaEvent.cancelamento(reserva, statusAnterior);
+        });
+    }
+
+    private List<ResultadoAlteracaoStatus> alterar(
+            List<Long> reservaIds,
+            StatusReserva novoStatus,
+            Function<Reserva, String> validacao,
+            Function<Reserva, ReservaAlteradaEvent> transicao) {
+        Set<Long> ids = validarLote(reservaIds);
+
+        Map<Long, Reserva> encontradas = reservaRepository.travarPorIds(ids)
+                .stream()
+                .collect(Collectors.toMap(Reserva::getId, Function.identity()));
+
+        Map<Long, ResultadoAlteracaoStatus> resultados = new HashMap<>();
+        Map<StatusReserva, List<Long>> porStatusAnterior = new EnumMap<>(StatusReserva.class);
+        List<ReservaAlteradaEvent> eventos = new ArrayList<>();
+        for (Long id : ids) {
+            Reserva reserva = encontradas.get(id);
+            if (reserva == null) {
+                resultados.put(id, ResultadoAlteracaoStatus.recusada(id, "Reserva não encontrada com ID: " + id));
+                continue;
+            }
+            String erro = validacao.apply(reserva);
+            if (erro != null) {
+                resultados.put(id, ResultadoAlteracaoStatus.recusada(id, erro));
+                continue;
+            }
+            StatusReserva statusAnterior = reserva.getStatus();
+            eventos.add(transicao.apply(reserva));
+            porStatusAnterior.computeIfAbsent(statusAnterior, status -> new ArrayList<>()).add(id);
+            resultados.put(id, ResultadoAlteracaoStatus.alterada(reserva));
+        }
+
+        // As linhas estão bloqueadas desde a leitura, então cada UPDATE altera exatamente as reservas validadas
+        porStatusAnterior.forEach((statusAnterior, alteradas) ->
+                reservaRepository.atualizarStatus(alteradas, statusAnterior, novoStatus));
+
+        for (ReservaAlteradaEvent evento : eventos) {
+            Reserva reserva = evento.reserva();
+            if (novoStatus == StatusReserva.CANCELADA && reserva.getRestaurante() != null) {
+                inventarioAssentos.liberar(
+                        reserva.getRestaurante().getId(), reserva.getDataHora(), reserva.getNumeroPessoas());
+            }
+            eventPublisher.publishEvent(evento);
+        }
+
+        return ids.stream().map(resultados::get).toList();
+    }
+
+    private String validarConfirmacao(Reserva reserva) {
+        if (reserva.getStatus() != StatusReserva.PENDENTE) {
+            return "Apenas reservas pendentes podem ser confirmadas";
+        }
+        return null;
+    }
+
+    private String validarCancelamento(Reserva reserva, LocalDateTime agora) {
+        if (reserva.getDataHora().isBefore(agora)) {
+            return "Não é possível cancelar uma reserva no passado";
+        }
+        if (reserva.getStatus() == StatusReserva.CANCELADA) {
+            return "Esta reserva já está cancelada";
+        }
+        if (reserva.getStatus() != StatusReserva.PENDENTE && reserva.getStatus() != StatusReserva.CONFIRMADA) {
+            return "Não é possível cancelar uma reserva já concluída ou cancelada";
+        }
+        return null;
+    }
+
+    private Set<Long> validarLote(List<Long> reservaIds) {
+        if (reservaIds == null || reservaIds.isEmpty()) {
+            throw new InvalidRequestException("Informe ao menos uma reserva");
+        }
+        if (reservaIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("O lote contém IDs de reserva nulos");
+        }
+        // IDs repetidos recebem um único resultado
+        Set<Long> ids = new LinkedHashSet<>(reservaIds);
+        if (ids.size() > MAXIMO_ITENS_POR_LOTE) {
+            throw new InvalidRequestException("O lote pode conter no máximo " + MAXIMO_ITENS_POR_LOTE + " reservas");
+        }
+        return ids;
+    }
+}
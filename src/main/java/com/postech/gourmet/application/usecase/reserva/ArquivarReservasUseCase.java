@@ -0,0 +1,95 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.ArquivoReservaRepository;
+import com.postech.gourmet.domain.repositories.ParticaoReservaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Move para o arquivo frio as reservas concluídas ou canceladas há mais de
+ * {@code gourmet.reservas.arquivamento.meses} meses e mantém as partições mensais da tabela.
+ * <p>
+ * Cada lote é gravado no arquivo antes de ser removido do banco: uma falha entre os dois passos
+ * deixa a reserva nos dois lugares, e as leituras continuam usando a cópia do banco.
+ */
+@Service
+public class ArquivarReservasUseCase {
+    static final List<StatusReserva> STATUS_ARQUIVAVEIS = List.of(StatusReserva.CONCLUIDA, StatusReserva.CANCELADA);
+
+    private final ReservaRepository reservaRepository;
+    private final ArquivoReservaRepository arquivoReservaRepository;
+    private final ParticaoReservaRepository particaoReservaRepository;
+    private final int meses;
+    private final int mesesAFrente;
+    private final int tamanhoLote;
+
+    public ArquivarReservasUseCase(
+            ReservaRepository reservaRepository,
+            ArquivoReservaRepository arquivoReservaRepository,
+            ParticaoReservaRepository particaoReservaRepository,
+            @Value("${gourmet.reservas.arquivamento.meses:12}") int meses,
+            @Value("${gourmet.reservas.particoes.meses-a-frente:3}") int mesesAFrente,
+            @Value("${gourmet.reservas.arquivamento.tamanho-lote:5000}") int tamanhoLote) {
+        if (meses <= 0 || mesesAFrente < 0 || tamanhoLote <= 0) {
+            throw new IllegalArgumentException("Configuração de arquivamento de reservas inválida");
+        }
+        this.reservaRepository = reservaRepository;
+        this.arquivoReservaRepository = arquivoReservaRepository;
+        this.particaoReservaRepository = particaoReservaRepository;
+        this.meses = meses;
+        this.mesesAFrente = mesesAFrente;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Arquiva o próximo lote de reservas anteriores ao corte e as remove do banco.
+     *
+     * @return Quantidade de reservas arquivadas; zero quando não há mais o que arquivar
+     */
+    @Transactional
+    public int arquivarProximoLote(LocalDateTime agora) {
+        List<Reserva> reservas = reservaRepository.buscarParaArquivar(STATUS_ARQUIVAVEIS, corte(agora), tamanhoLote);
+        if (reservas.isEmpty()) {
+            return 0;
+        }
+        arquivoReservaRepository.arquivar(reservas);
+        reservaRepository.excluirPorIds(reservas.stream().map(Reserva::getId).toList());
+        return reservas.size();
+    }
+
+    /**
+     * Garante as partições do mês corrente e dos {@code meses-a-frente} seguintes, para que
+     * novas reservas nunca caiam na partição padrão.
+     *
+     * @return Quantidade de partições criadas
+     */
+    public int prepararParticoes(LocalDateTime agora) {
+        YearMonth mes = YearMonth.from(agora);
+        int criadas = 0;
+        for (int i = 0; i <= mesesAFrente; i++) {
+            if (particaoReservaRepository.criarParticao(mes.plusMonths(i))) {
+                criadas++;
+            }
+        }
+        return criadas;
+    }
+
+    /**
+     * Remove as partições de meses inteiramente anteriores ao corte que o arquivamento esvaziou.
+     */
+    public List<YearMonth> removerParticoesArquivadas(LocalDateTime agora) {
+        return particaoReservaRepository.removerParticoesVaziasAntes(YearMonth.from(corte(agora)));
+    }
+
+    private LocalDateTime corte(LocalDateTime agora) {
+        return agora.minusMonths(meses);
+    }
+}
@@ -0,0 +1,111 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.events.RegistroJournalReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.ReservasConcluidasEvent;
+import com.postech.gourmet.domain.repositories.JournalReservaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Registra no journal de auditoria cada alteração de reserva, após o commit no banco: alterações
+ * desfeitas não chegam ao journal. A thread que alterou a reserva espera o registro chegar ao
+ * disco, então a resposta ao cliente só sai depois de a alteração estar auditada.
+ * <p>
+ * Os registros de uma mesma transação são acumulados em uma única sincronização e entregues
+ * juntos ao journal no fim dela, com uma só espera: uma transação que altera várias reservas
+ * paga uma gravação em disco, não uma por alteração.
+ */
+@Slf4j
+@Component
+public class AuditoriaReservas {
+    private static final long ESPERA_MAXIMA_SEGUNDOS = 10;
+
+    private final JournalReservaRepository journalReservaRepository;
+
+    public AuditoriaReservas(JournalReservaRepository journalReservaRepository) {
+        this.journalReservaRepository = journalReservaRepository;
+    }
+
+    @EventListener
+    public void aoAlterarReserva(ReservaAlteradaEvent event) {
+        registrarAposCommit(List.of(RegistroJournalReserva.de(event)));
+    }
+
+    @EventListener
+    public void aoConcluirReservas(ReservasConcluidasEvent event) {
+        registrarAposCommit(event.reservas().stream()
+                .map(chave -> RegistroJournalReserva.conclusao(chave.id(), chave.dataHora()))
+                .toList());
+    }
+
+    private void registrarAposCommit(List<RegistroJournalReserva> registros) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            registrar(registros);
+            return;
+        }
+        registrosDaTransacao().addAll(registros);
+    }
+
+    /**
+     * Devolve os registros pendentes da transação corrente, registrando a sincronização na
+     * primeira alteração. A busca é feita entre as sincronizações, e não em um recurso ligado à
+     * thread, porque só elas são suspensas junto com a transação em {@code REQUIRES_NEW}.
+     */
+    private List<RegistroJournalReserva> registrosDaTransacao() {
+        for (TransactionSynchronization sincronizacao : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sincronizacao instanceof RegistrosPendentes pendentes && pendentes.dono() == this) {
+                return pendentes.registros;
+            }
+        }
+        RegistrosPendentes pendentes = new RegistrosPendentes();
+        TransactionSynchronizationManager.registerSynchronization(pendentes);
+        return pendentes.registros;
+    }
+
+    private void registrar(List<RegistroJournalReserva> registros) {
+        if (registros.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<Long>> futuros = registros.stream()
+                .map(journalReservaRepository::registrar)
+                .toList();
+        try {
+            // Todos os registros entram na fila antes da espera e são gravados no mesmo lote
+            CompletableFuture.allOf(futuros.toArray(CompletableFuture[]::new))
+                    .get(ESPERA_MAXIMA_SEGUNDOS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // A alteração já foi gravada no banco e não pode mais ser desfeita
+            log.error("Falha ao registrar {} alteração(ões) de reserva no journal", futuros.size(), e);
+        }
+    }
+
+    private class RegistrosPendentes implements TransactionSynchronization {
+        private final List<RegistroJournalReserva> registros = new ArrayList<>();
+
+        private AuditoriaReservas dono() {
+            return AuditoriaReservas.this;
+        }
+
+        // afterCompletion, e não afterCommit: alterações publicadas por outros callbacks de
+        // afterCommit ainda entram na lista, pois as sincronizações são relidas antes desta fase
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                registrar(registros);
+            }
+        }
+    }
+}
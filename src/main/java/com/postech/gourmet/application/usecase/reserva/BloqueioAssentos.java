@@ -0,0 +1,22 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import java.time.LocalDateTime;
+
+/**
+ * Assentos retidos temporariamente para um usuário enquanto ele conclui a reserva.
+ *
+ * @param id       Identificador opaco devolvido ao cliente
+ * @param expiraEm Instante a partir do qual os assentos voltam a ficar livres
+ */
+public record BloqueioAssentos(
+        String id,
+        Long restauranteId,
+        Long usuarioId,
+        LocalDateTime dataHora,
+        int numeroPessoas,
+        LocalDateTime expiraEm) {
+
+    public boolean expirado(LocalDateTime agora) {
+        return !agora.isBefore(expiraEm);
+    }
+}
@@ -0,0 +1,184 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.application.usecase.reserva.DisponibilidadeRestaurante.Situacao;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+public class BuscarDisponibilidadeUseCase {
+    static final int MAXIMO_RESTAURANTES = 200;
+
+    private final InventarioAssentos inventarioAssentos;
+    private final RestauranteRepository restauranteRepository;
+    private final Duration prazo;
+    private final int paralelismo;
+
+    public BuscarDisponibilidadeUseCase(
+            InventarioAssentos inventarioAssentos,
+            RestauranteRepository restauranteRepository,
+            @Value("${gourmet.disponibilidade.busca.prazo:2s}") Duration prazo,
+            @Value("${gourmet.disponibilidade.busca.paralelismo:8}") int paralelismo) {
+        if (prazo.isNegative() || prazo.isZero()) {
+            throw new IllegalArgumentException("O prazo da busca de disponibilidade deve ser positivo");
+        }
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("O paralelismo da busca de disponibilidade deve ser positivo");
+        }
+        this.inventarioAssentos = inventarioAssentos;
+        this.restauranteRepository = restauranteRepository;
+        this.prazo = prazo;
+        this.paralelismo = paralelismo;
+    }
+
+    /**
+     * Verifica a disponibilidade de vários restaurantes para o mesmo horário e grupo.
+     * <p>
+     * Os restaurantes são carregados em lote e cada um é verificado em uma virtual thread
+     * própria. Slots já em memória respondem sem consultar o banco; os demais são carregados
+     * por no máximo {@code paralelismo} verificações ao mesmo tempo, para não esgotar o pool de
+     * conexões. Restaurantes não verificados até o prazo são devolvidos como
+     * {@link Situacao#PRAZO_ESGOTADO} e a busca é marcada como incompleta.
+     *
+     * @param restauranteIds IDs dos restaurantes, na ordem desejada (ignorado se vazio)
+     * @param termo          Termo de busca por nome, endereço ou tipo de cozinha, usado quando não há IDs
+     * @param dataHora       Data e hora desejadas
+     * @param numeroPessoas  Quantidade de pessoas do grupo
+     * @throws InvalidRequestException se os parâmetros forem inválidos
+     */
+    public ResultadoBuscaDisponibilidade buscar(List<Long> restauranteIds, String termo,
+                                                LocalDateTime dataHora, Integer numeroPessoas) {
+        validarParametros(restauranteIds, termo, dataHora, numeroPessoas);
+        long limite = System.nanoTime() + prazo.toNanos();
+
+        List<Long> ids = idsSolicitados(restauranteIds, termo);
+        Map<Long, Restaurante> restaurantes = inventarioAssentos.restaurantes(ids);
+
+        Semaphore consultas = new Semaphore(paralelismo);
+        List<Callable<DisponibilidadeRestaurante>> verificacoes = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Restaurante restaurante = restaurantes.get(id);
+            verificacoes.add(() -> restaurante == null
+                    ? new DisponibilidadeRestaurante(id, null, Situacao.NAO_ENCONTRADO, null)
+                    : verificar(restaurante, dataHora, numeroPessoas, consultas));
+        }
+
+        List<Future<DisponibilidadeRestaurante>> futuros;
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            futuros = executor.invokeAll(verificacoes, Math.max(0, limite - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Busca de disponibilidade interrompida", e);
+        } finally {
+            // Verificações presas em uma consulta terminam sozinhas; a resposta não espera por elas
+            executor.shutdownNow();
+        }
+
+        List<DisponibilidadeRestaurante> resultado = new ArrayList<>(ids.size());
+        boolean completa = true;
+        for (int i = 0; i < ids.size(); i++) {
+            DisponibilidadeRestaurante disponibilidade = resultadoDe(futuros.get(i), ids.get(i), restaurantes);
+            completa &= disponibilidade.situacao() != Situacao.PRAZO_ESGOTADO;
+            resultado.add(disponibilidade);
+        }
+        if (!completa) {
+            log.warn("Busca de disponibilidade incompleta: prazo de {} ms esgotado", prazo.toMillis());
+        }
+        return new ResultadoBuscaDisponibilidade(resultado, completa);
+    }
+
+    private DisponibilidadeRestaurante verificar(Restaurante restaurante, LocalDateTime dataHora,
+                                                 int numeroPessoas, Semaphore consultas) throws InterruptedException {
+        Long id = restaurante.getId();
+        if (!restaurante.estaAberto(dataHora.getDayOfWeek(), dataHora.toLocalTime())) {
+            return new DisponibilidadeRestaurante(id, restaurante.getNome(), Situacao.FECHADO, null);
+        }
+
+        int livres;
+        consultas.acquire();
+        try {
+            livres = inventarioAssentos.assentosLivres(id, dataHora);
+        } finally {
+            consultas.release();
+        }
+        Situacao situacao = livres >= numeroPessoas ? Situacao.DISPONIVEL : Situacao.SEM_ASSENTOS;
+        return new DisponibilidadeRestaurante(id, restaurante.getNome(), situacao, livres);
+    }
+
+    private DisponibilidadeRestaurante resultadoDe(Future<DisponibilidadeRestaurante> futuro, Long id,
+                                                   Map<Long, Restaurante> restaurantes) {
+        Restaurante restaurante = restaurantes.get(id);
+        String nome = restaurante != null ? restaurante.getNome() : null;
+        try {
+            return futuro.get();
+        } catch (CancellationException e) {
+            return new DisponibilidadeRestaurante(id, nome, Situacao.PRAZO_ESGOTADO, null);
+        } catch (ExecutionException e) {
+            log.warn("Falha ao verificar a disponibilidade do restaurante {}", id, e.getCause());
+            return new DisponibilidadeRestaurante(id, nome, Situacao.ERRO, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new DisponibilidadeRestaurante(id, nome, Situacao.PRAZO_ESGOTADO, null);
+        }
+    }
+
+    private List<Long> idsSolicitados(List<Long> restauranteIds, String termo) {
+        if (restauranteIds != null && !restauranteIds.isEmpty()) {
+            return List.copyOf(new LinkedHashSet<>(restauranteIds));
+        }
+        return restauranteRepository.findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(termo, termo, termo)
+                .stream()
+                .map(Restaurante::getId)
+                .limit(MAXIMO_RESTAURANTES)
+                .toList();
+    }
+
+    private void validarParametros(List<Long> restauranteIds, String termo, LocalDateTime dataHora,
+                                   Integer numeroPessoas) {
+        boolean semIds = restauranteIds == null || restauranteIds.isEmpty();
+        if (semIds && (termo == null || termo.isBlank())) {
+            throw new InvalidRequestException("Informe os IDs dos restaurantes ou um termo de busca");
+        }
+
+        if (!semIds && restauranteIds.size() > MAXIMO_RESTAURANTES) {
+            throw new InvalidRequestException("A busca pode incluir no máximo " + MAXIMO_RESTAURANTES + " restaurantes");
+        }
+
+        if (!semIds && restauranteIds.stream().anyMatch(Objects::isNull)) {
+            throw new InvalidRequestException("Os IDs dos restaurantes não podem ser nulos");
+        }
+
+        if (dataHora == null) {
+            throw new InvalidRequestException("Data e hora são obrigatórias");
+        }
+
+        if (dataHora.isBefore(LocalDateTime.now())) {
+            throw new InvalidRequestException("Não é possível buscar disponibilidade para datas passadas");
+        }
+
+        if (numeroPessoas == null || numeroPessoas <= 0) {
+            throw new InvalidRequestException("Número de pessoas deve ser maior que zero");
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache em memória com capacidade máxima e prazo de validade por entrada.
+ * <p>
+ * As entradas ficam em ordem de inserção. Com o prazo padrão ela é também a ordem de
+ * vencimento: a cada escrita as vencidas são removidas do início e, se a capacidade for
+ * excedida, sai a mais antiga. Uma entrada guardada com prazo menor que o padrão nunca é
+ * devolvida depois de vencer, mas só sai da memória ao ser consultada, ao chegar ao início
+ * ou pela capacidade.
+ */
+public class CacheExpiravel<K, V> {
+    private final int capacidade;
+    private final long validadeNanos;
+    private final LongSupplier relogio;
+    private final LinkedHashMap<K, Entrada<V>> entradas = new LinkedHashMap<>();
+
+    public CacheExpiravel(int capacidade, Duration validade) {
+        this(capacidade, validade, System::nanoTime);
+    }
+
+    CacheExpiravel(int capacidade, Duration validade, LongSupplier relogio) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("A capacidade do cache deve ser positiva");
+        }
+        this.capacidade = capacidade;
+        this.validadeNanos = validade.toNanos();
+        this.relogio = relogio;
+    }
+
+    public synchronized Optional<V> buscar(K chave) {
+        Entrada<V> entrada = entradas.get(chave);
+        if (entrada == null) {
+            return Optional.empty();
+        }
+        if (relogio.getAsLong() - entrada.venceEm >= 0) {
+            entradas.remove(chave);
+            return Optional.empty();
+        }
+        return Optional.of(entrada.valor);
+    }
+
+    public void guardar(K chave, V valor) {
+        guardarPorNanos(chave, valor, validadeNanos);
+    }
+
+    /**
+     * Guarda a entrada por um prazo menor que o padrão, como o restante da validade de um
+     * registro lido de outra fonte. Prazos maiores que o padrão são reduzidos a ele.
+     */
+    public void guardar(K chave, V valor, Duration validade) {
+        long nanos = Math.min(validade.toNanos(), validadeNanos);
+        if (nanos > 0) {
+            guardarPorNanos(chave, valor, nanos);
+        }
+    }
+
+    public synchronized int tamanho() {
+        return entradas.size();
+    }
+
+    private synchronized void guardarPorNanos(K chave, V valor, long nanos) {
+        long agora = relogio.getAsLong();
+        removerVencidas(agora);
+        // Remove antes de inserir para que a entrada vá para o fim da ordem de vencimento
+        entradas.remove(chave);
+        entradas.put(chave, new Entrada<>(valor, agora + nanos));
+        if (entradas.size() > capacidade) {
+            Iterator<K> maisAntigas = entradas.keySet().iterator();
+            maisAntigas.next();
+            maisAntigas.remove();
+        }
+    }
+
+    private void removerVencidas(long agora) {
+        Iterator<Map.Entry<K, Entrada<V>>> iterador = entradas.entrySet().iterator();
+        while (iterador.hasNext()) {
+            if (agora - iterador.next().getValue().venceEm < 0) {
+                break;
+            }
+            iterador.remove();
+        }
+    }
+
+    private record Entrada<V>(V valor, long venceEm) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import java.time.LocalDateTime;
+
+/**
+ * Identifica um slot de reserva: o restaurante e o horário de início do slot,
+ * já truncado para a granularidade configurada.
+ */
+public record ChaveSlot(Long restauranteId, LocalDateTime inicio) {
+}
@@ -0,0 +1,124 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservasConcluidasEvent;
+import com.postech.gourmet.domain.repositories.CheckpointProcessoRepository;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Marca como CONCLUIDA as reservas CONFIRMADA cujo horário já passou há mais de
+ * {@code gourmet.reservas.conclusao.apos}.
+ * <p>
+ * Cada lote é uma transação curta: busca apenas (dataHora, id) das próximas reservas pelo índice
+ * (status, data_hora, id), aplica um único UPDATE e grava o checkpoint. Uma execução interrompida
+ * é retomada do último lote gravado, e nenhuma reserva é carregada como entidade.
+ */
+@Service
+public class ConcluirReservasUseCase {
+    public static final String NOME_PROCESSO = "conclusao-reservas";
+
+    private final ReservaRepository reservaRepository;
+    private final CheckpointProcessoRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration concluirApos;
+    private final int tamanhoLote;
+
+    public ConcluirReservasUseCase(
+            ReservaRepository reservaRepository,
+            CheckpointProcessoRepository checkpointRepository,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${gourmet.reservas.conclusao.apos:3h}") Duration concluirApos,
+            @Value("${gourmet.reservas.conclusao.tamanho-lote:1000}") int tamanhoLote) {
+        if (tamanhoLote <= 0) {
+            throw new IllegalArgumentException("O tamanho do lote de conclusão deve ser positivo");
+        }
+        this.reservaRepository = reservaRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.concluirApos = concluirApos;
+        this.tamanhoLote = tamanhoLote;
+    }
+
+    /**
+     * Retoma a execução interrompida, se houver, ou inicia uma nova cobrindo as reservas
+     * anteriores a {@code agora - concluirApos}.
+     */
+    @Transactional
+    public CheckpointProcesso iniciarExecucao(LocalDateTime agora) {
+        CheckpointProcesso checkpoint = checkpointRepository.findByNome(NOME_PROCESSO)
+                .orElseGet(() -> new CheckpointProcesso(NOME_PROCESSO));
+        if (!checkpoint.isEmAndamento()) {
+            checkpoint.iniciar(agora.minus(concluirApos));
+        }
+        return checkpointRepository.save(checkpoint);
+    }
+
+    /**
+     * Conclui o próximo lote da execução em andamento e grava o progresso na mesma transação.
+     * A execução é finalizada quando um lote vem incompleto.
+     *
+     * @return O checkpoint atualizado
+     * @throws IllegalStateException se nenhuma execução foi iniciada
+     */
+    @Transactional
+    public CheckpointProcesso concluirProximoLote() {
+        CheckpointProcesso checkpoint = checkpointRepository.findByNome(NOME_PROCESSO)
+                .orElseThrow(() -> new IllegalStateException("Nenhuma execução de conclusão foi iniciada"));
+        if (!checkpoint.isEmAndamento()) {
+            return checkpoint;
+        }
+
+        CursorReserva apos = checkpoint.getUltimoId() != null
+                ? new CursorReserva(checkpoint.getUltimaDataHora(), checkpoint.getUltimoId())
+                : null;
+        List<CursorReserva> chaves = reservaRepository.buscarChavesPorStatusAntesDe(
+                StatusReserva.CONFIRMADA, checkpoint.getCorte(), apos, tamanhoLote);
+
+        if (!chaves.isEmpty()) {
+            // Mesma transição de Reserva.concluir(): só reservas ainda confirmadas são alteradas
+            int concluidas = reservaRepository.atualizarStatus(
+                    chaves.stream().map(CursorReserva::id).toList(),
+                    StatusReserva.CONFIRMADA, StatusReserva.CONCLUIDA);
+            eventPublisher.publishEvent(new ReservasConcluidasEvent(
+                    concluidas == chaves.size() ? chaves : somenteConcluidas(chaves)));
+            CursorReserva ultima = chaves.get(chaves.size() - 1);
+            checkpoint.avancar(ultima.dataHora(), ultima.id(), concluidas);
+        }
+
+        if (chaves.size() < tamanhoLote) {
+            checkpoint.finalizar();
+        }
+        return checkpointRepository.save(checkpoint);
+    }
+
+    /**
+     * Reservas do lote que este UPDATE de fato concluiu, quando alguma foi cancelada entre a busca
+     * das chaves e a atualização. Raro: só então as reservas do lote são lidas.
+     */
+    private List<CursorReserva> somenteConcluidas(List<CursorReserva> chaves) {
+        Set<Long> concluidas = reservaRepository.travarPorStatus(
+                        chaves.stream().map(CursorReserva::id).toList(), StatusReserva.CONCLUIDA)
+                .stream()
+                .map(Reserva::getId)
+                .collect(Collectors.toSet());
+        return chaves.stream().filter(chave -> concluidas.contains(chave.id())).toList();
+    }
+
+    public Optional<CheckpointProcesso> consultarCheckpoint() {
+        return checkpointRepository.findByNome(NOME_PROCESSO);
+    }
+}
@@ -0,0 +1,107 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+@Service
+public class ConsultarDisponibilidadeUseCase {
+    static final int MAXIMO_DIAS_POR_CONSULTA = 31;
+
+    private final InventarioAssentos inventarioAssentos;
+
+    public ConsultarDisponibilidadeUseCase(InventarioAssentos inventarioAssentos) {
+        this.inventarioAssentos = inventarioAssentos;
+    }
+
+    /**
+     * Lista todos os slots reserváveis de um restaurante entre duas datas (inclusive).
+     * <p>
+     * Os slots abertos de cada dia vêm da grade de bits pré-calculada dos horários de
+     * funcionamento, e as ocupações do período são carregadas com uma única consulta.
+     *
+     * @param restauranteId ID do restaurante
+     * @param de            Primeiro dia do período
+     * @param ate           Último dia do período
+     * @param numeroPessoas Quantidade de pessoas da reserva
+     * @return Slots futuros com assentos suficientes, em ordem cronológica
+     * @throws ResourceNotFoundException se o restaurante não for encontrado
+     * @throws InvalidRequestException   se o período ou o número de pessoas forem inválidos
+     */
+    public List<SlotDisponivel> buscarSlotsDisponiveis(Long restauranteId, LocalDate de, LocalDate ate,
+                                                       Integer numeroPessoas) {
+        validarParametros(de, ate, numeroPessoas);
+
+        Restaurante restaurante = inventarioAssentos.restaurante(restauranteId);
+        if (restaurante.getCapacidade() == null || restaurante.getCapacidade() < numeroPessoas) {
+            return List.of();
+        }
+
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime inicio = de.atStartOfDay().isAfter(agora) ? de.atStartOfDay() : agora;
+        LocalDateTime fim = ate.plusDays(1).atStartOfDay();
+        if (!inicio.isBefore(fim)) {
+            return List.of();
+        }
+
+        BitSet[] grade = inventarioAssentos.gradeAbertura(restauranteId);
+        inventarioAssentos.carregarPeriodo(restauranteId, inicio, fim, slot ->
+                !slot.isBefore(agora) && grade[slot.getDayOfWeek().ordinal()].get(inventarioAssentos.indiceNoDia(slot)));
+
+        List<SlotDisponivel> disponiveis = new ArrayList<>();
+        int minutosPorSlot = inventarioAssentos.getMinutosPorSlot();
+        for (LocalDate dia = inicio.toLocalDate(); dia.isBefore(fim.toLocalDate()); dia = dia.plusDays(1)) {
+            BitSet abertos = grade[dia.getDayOfWeek().ordinal()];
+            LocalDateTime inicioDoDia = dia.atStartOfDay();
+
+            for (int i = abertos.nextSetBit(primeiroSlotFuturo(inicioDoDia, agora, minutosPorSlot));
+                 i >= 0;
+                 i = abertos.nextSetBit(i + 1)) {
+                LocalDateTime slot = inicioDoDia.plusMinutes((long) i * minutosPorSlot);
+                int livres = inventarioAssentos.assentosLivres(restauranteId, slot);
+                if (livres >= numeroPessoas) {
+                    disponiveis.add(new SlotDisponivel(slot, livres));
+                }
+            }
+        }
+        return disponiveis;
+    }
+
+    private int primeiroSlotFuturo(LocalDateTime inicioDoDia, LocalDateTime agora, int minutosPorSlot) {
+        if (!agora.isAfter(inicioDoDia)) {
+            return 0;
+        }
+        long minutosDecorridos = ChronoUnit.MINUTES.between(inicioDoDia, agora);
+        if (minutosDecorridos >= 1440) {
+            return 1440 / minutosPorSlot;
+        }
+        return (int) ((minutosDecorridos + minutosPorSlot) / minutosPorSlot);
+    }
+
+    private void validarParametros(LocalDate de, LocalDate ate, Integer numeroPessoas) {
+        if (de == null || ate == null) {
+            throw new InvalidRequestException("As datas inicial e final são obrigatórias");
+        }
+
+        if (ate.isBefore(de)) {
+            throw new InvalidRequestException("A data final deve ser igual ou posterior à data inicial");
+        }
+
+        if (ChronoUnit.DAYS.between(de, ate) >= MAXIMO_DIAS_POR_CONSULTA) {
+            throw new InvalidRequestException(
+                    "O período consultado não pode ultrapassar " + MAXIMO_DIAS_POR_CONSULTA + " dias");
+        }
+
+        if (numeroPessoas == null || numeroPessoas <= 0) {
+            throw new InvalidRequestException("Número de pessoas deve ser maior que zero");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Travas em memória, uma por slot, criadas sob demanda e descartadas assim que
+ * nenhuma thread as utiliza. Diferente de um vetor fixo de travas, chaves distintas
+ * nunca compartilham a mesma trava, então restaurantes diferentes não disputam entre si.
+ */
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.controle-concorrencia", havingValue = "local", matchIfMissing = true)
+public class ControleConcorrenciaLocal implements ControleConcorrenciaReservas {
+    private final Map<ChaveSlot, Trava> travas = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> T executarComTrava(ChaveSlot chave, Supplier<T> acao) {
+        Trava trava = travas.compute(chave, (k, atual) -> {
+            Trava t = atual != null ? atual : new Trava();
+            t.usuarios++;
+            return t;
+        });
+
+        trava.lock.lock();
+        try {
+            return acao.get();
+        } finally {
+            trava.lock.unlock();
+            travas.computeIfPresent(chave, (k, atual) -> --atual.usuarios == 0 ? null : atual);
+        }
+    }
+
+    int travasAtivas() {
+        return travas.size();
+    }
+
+    private static final class Trava {
+        private final ReentrantLock lock = new ReentrantLock();
+        // Alterado apenas dentro de compute/computeIfPresent, que são atômicos por chave
+        private int usuarios;
+    }
+}
@@ -0,0 +1,20 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import java.util.function.Supplier;
+
+/**
+ * Serializa as operações que verificam e ocupam assentos de um mesmo slot,
+ * evitando que duas reservas simultâneas ultrapassem a capacidade do restaurante.
+ * <p>
+ * A implementação é escolhida pela propriedade {@code gourmet.reservas.controle-concorrencia}:
+ * {@code local} (padrão) para uma única instância e {@code postgres} para várias instâncias
+ * compartilhando o mesmo banco.
+ */
+public interface ControleConcorrenciaReservas {
+
+    /**
+     * Executa a ação mantendo exclusividade sobre o slot informado. Ações em slots
+     * diferentes nunca aguardam umas pelas outras.
+     */
+    <T> T executarComTrava(ChaveSlot chave, Supplier<T> acao);
+}
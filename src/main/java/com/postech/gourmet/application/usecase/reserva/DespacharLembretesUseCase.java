@@ -0,0 +1,155 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.repositories.LembreteReservaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Envia os lembretes vencidos da caixa de saída.
+ * <p>
+ * Cada lote é reservado em uma transação curta (SELECT ... FOR UPDATE SKIP LOCKED, então várias
+ * instâncias podem despachar ao mesmo tempo), entregue fora de transação e registrado em outra
+ * transação, com um UPDATE por desfecho. No máximo {@code paralelismo} envios ficam em andamento
+ * e o lote seguinte só é reservado depois que o anterior termina: um canal lento reduz o ritmo
+ * das reservas em vez de acumular lembretes em memória.
+ */
+@Slf4j
+@Service
+public class DespacharLembretesUseCase {
+    private final LembreteReservaRepository lembreteReservaRepository;
+    private final EnviadorLembretes enviadorLembretes;
+    private final TransactionTemplate transactionTemplate;
+    private final int tamanhoLote;
+    private final int paralelismo;
+    private final Duration arrendamento;
+    private final int maximoTentativas;
+    private final Duration intervaloTentativas;
+
+    public DespacharLembretesUseCase(
+            LembreteReservaRepository lembreteReservaRepository,
+            EnviadorLembretes enviadorLembretes,
+            PlatformTransactionManager transactionManager,
+            @Value("${gourmet.lembretes.tamanho-lote:200}") int tamanhoLote,
+            @Value("${gourmet.lembretes.paralelismo:8}") int paralelismo,
+            @Value("${gourmet.lembretes.arrendamento:5m}") Duration arrendamento,
+            @Value("${gourmet.lembretes.maximo-tentativas:5}") int maximoTentativas,
+            @Value("${gourmet.lembretes.intervalo-tentativas:1m}") Duration intervaloTentativas) {
+        if (tamanhoLote <= 0 || paralelismo <= 0 || maximoTentativas <= 0) {
+            throw new IllegalArgumentException("Lote, paralelismo e tentativas de lembretes devem ser positivos");
+        }
+        this.lembreteReservaRepository = lembreteReservaRepository;
+        this.enviadorLembretes = enviadorLembretes;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tamanhoLote = tamanhoLote;
+        this.paralelismo = paralelismo;
+        this.arrendamento = arrendamento;
+        this.maximoTentativas = maximoTentativas;
+        this.intervaloTentativas = intervaloTentativas;
+    }
+
+    /**
+     * Despacha lotes até esgotar os lembretes vencidos em {@code agora}.
+     *
+     * @return Quantidade de lembretes entregues
+     */
+    public int despacharVencidos(LocalDateTime agora) throws InterruptedException {
+        int entregues = 0;
+        ResultadoLote resultado;
+        do {
+            resultado = despacharLote(agora);
+            entregues += resultado.entregues();
+        } while (resultado.reservados() == tamanhoLote);
+        return entregues;
+    }
+
+    /**
+     * Reserva, entrega e registra um lote de lembretes vencidos.
+     */
+    public ResultadoLote despacharLote(LocalDateTime agora) throws InterruptedException {
+        List<LembreteReserva> lote = transactionTemplate.execute(status ->
+                lembreteReservaRepository.reservarVencidos(agora, agora.plus(arrendamento), tamanhoLote));
+        if (lote == null || lote.isEmpty()) {
+            return new ResultadoLote(0, 0);
+        }
+
+        List<Long> obsoletos = new ArrayList<>();
+        List<LembreteReserva> aEnviar = new ArrayList<>();
+        for (LembreteReserva lembrete : lote) {
+            // Lembrete que só foi alcançado depois do horário da reserva não serve mais ao cliente
+            if (lembrete.getDataHoraReserva().isAfter(agora)) {
+                aEnviar.add(lembrete);
+            } else {
+                obsoletos.add(lembrete.getId());
+            }
+        }
+
+        Queue<Long> entregues = new ConcurrentLinkedQueue<>();
+        Queue<LembreteReserva> falhas = new ConcurrentLinkedQueue<>();
+        Semaphore vagas = new Semaphore(paralelismo);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (LembreteReserva lembrete : aEnviar) {
+                vagas.acquire();
+                executor.submit(() -> {
+                    try {
+                        enviadorLembretes.enviar(lembrete);
+                        entregues.add(lembrete.getId());
+                    } catch (RuntimeException e) {
+                        log.warn("Falha ao enviar lembrete {} da reserva {} (tentativa {}): {}",
+                                lembrete.getId(), lembrete.getReservaId(), lembrete.getTentativas(), e.getMessage());
+                        falhas.add(lembrete);
+                    } finally {
+                        vagas.release();
+                    }
+                });
+            }
+        }
+
+        registrar(agora, List.copyOf(entregues), obsoletos, List.copyOf(falhas));
+        return new ResultadoLote(lote.size(), entregues.size());
+    }
+
+    private void registrar(LocalDateTime agora, List<Long> entregues, List<Long> obsoletos, List<LembreteReserva> falhas) {
+        List<Long> esgotados = new ArrayList<>();
+        // Espera crescente com o número de tentativas; um UPDATE por quantidade de tentativas
+        Map<Integer, List<Long>> porTentativas = new TreeMap<>();
+        for (LembreteReserva lembrete : falhas) {
+            if (lembrete.getTentativas() >= maximoTentativas) {
+                esgotados.add(lembrete.getId());
+            } else {
+                porTentativas.computeIfAbsent(lembrete.getTentativas(), tentativas -> new ArrayList<>()).add(lembrete.getId());
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            lembreteReservaRepository.atualizarStatus(entregues, StatusLembrete.ENVIADO);
+            lembreteReservaRepository.atualizarStatus(obsoletos, StatusLembrete.CANCELADO);
+            lembreteReservaRepository.atualizarStatus(esgotados, StatusLembrete.FALHOU);
+            porTentativas.forEach((tentativas, ids) ->
+                    lembreteReservaRepository.reagendar(ids, agora.plus(intervaloTentativas.multipliedBy(tentativas))));
+        });
+    }
+
+    /**
+     * @param reservados Lembretes reservados no lote
+     * @param entregues  Lembretes entregues com sucesso
+     */
+    public record ResultadoLote(int reservados, int entregues) {
+    }
+}
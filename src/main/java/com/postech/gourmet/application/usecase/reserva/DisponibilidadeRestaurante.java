@@ -0,0 +1,25 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+/**
+ * Resultado da busca de disponibilidade para um restaurante.
+ *
+ * @param restauranteId  ID do restaurante consultado
+ * @param nome           Nome do restaurante (nulo se ele não foi encontrado)
+ * @param situacao       Resultado da verificação
+ * @param assentosLivres Assentos livres no slot (nulo se não foi possível verificar)
+ */
+public record DisponibilidadeRestaurante(Long restauranteId, String nome, Situacao situacao, Integer assentosLivres) {
+
+    public enum Situacao {
+        DISPONIVEL,
+        SEM_ASSENTOS,
+        FECHADO,
+        NAO_ENCONTRADO,
+        PRAZO_ESGOTADO,
+        ERRO
+    }
+
+    public boolean isDisponivel() {
+        return situacao == Situacao.DISPONIVEL;
+    }
+}
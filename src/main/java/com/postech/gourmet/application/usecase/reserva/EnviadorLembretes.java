@@ -0,0 +1,19 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+
+/**
+ * Canal de entrega dos lembretes de reserva (e-mail, SMS, push). A implementação é escolhida
+ * pela propriedade {@code gourmet.lembretes.enviador}.
+ * <p>
+ * Pode ser chamado por várias threads ao mesmo tempo. Um lembrete pode ser entregue mais de uma
+ * vez se a instância cair entre o envio e o registro; o {@link LembreteReserva#getId() ID} serve
+ * como chave de deduplicação para o canal.
+ */
+public interface EnviadorLembretes {
+
+    /**
+     * Entrega o lembrete, lançando exceção se não for possível; o lembrete é então reagendado.
+     */
+    void enviar(LembreteReserva lembrete);
+}
@@ -0,0 +1,142 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Cancela automaticamente as reservas que continuam PENDENTE depois do prazo configurado
+ * ({@code gourmet.reservas.expiracao.ttl}), liberando os assentos que elas ocupavam.
+ * <p>
+ * Os prazos ficam em uma {@link RodaTemporizacao} em memória, reconstruída a partir do banco na
+ * inicialização e mantida pelos eventos de reserva; assim, nenhuma varredura da tabela é
+ * necessária para descobrir o que venceu.
+ */
+@Service
+public class ExpirarReservasPendentesUseCase {
+    private static final long DURACAO_TICK_MILLIS = 1000;
+
+    private final ReservaRepository reservaRepository;
+    private final InventarioAssentos inventarioAssentos;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+    private final RodaTemporizacao<Long> roda;
+
+    public ExpirarReservasPendentesUseCase(
+            ReservaRepository reservaRepository,
+            InventarioAssentos inventarioAssentos,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${gourmet.reservas.expiracao.ttl:30m}") Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("O prazo de expiração deve ser positivo");
+        }
+        this.reservaRepository = reservaRepository;
+        this.inventarioAssentos = inventarioAssentos;
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+        this.roda = new RodaTemporizacao<>(DURACAO_TICK_MILLIS, paraMillis(LocalDateTime.now()));
+    }
+
+    /**
+     * Agenda a expiração de todas as reservas pendentes gravadas no banco.
+     * Reservas antigas sem data de criação recebem o prazo completo a partir de agora.
+     *
+     * @return Quantidade de reservas agendadas
+     */
+    @Transactional(readOnly = true)
+    public int reconstruirAgenda() {
+        LocalDateTime agora = LocalDateTime.now();
+        int total = 0;
+        try (Stream<Reserva> pendentes = reservaRepository.streamByStatus(StatusReserva.PENDENTE)) {
+            for (Reserva reserva : (Iterable<Reserva>) pendentes::iterator) {
+                LocalDateTime criadaEm = reserva.getCriadaEm() != null ? reserva.getCriadaEm() : agora;
+                roda.agendar(reserva.getId(), paraMillis(criadaEm.plus(ttl)));
+                total++;
+            }
+        }
+        return total;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarReserva(ReservaAlteradaEvent event) {
+        Reserva reserva = event.reserva();
+        switch (event.operacao()) {
+            case CRIACAO -> {
+                LocalDateTime criadaEm = reserva.getCriadaEm() != null ? reserva.getCriadaEm() : LocalDateTime.now();
+                roda.agendar(reserva.getId(), paraMillis(criadaEm.plus(ttl)));
+            }
+            case CONFIRMACAO, CANCELAMENTO -> roda.cancelar(reserva.getId());
+            case EXPIRACAO -> {
+                // Já saiu da roda ao vencer
+            }
+        }
+    }
+
+    /**
+     * Avança a roda até {@code agora} e devolve os IDs das reservas cujo prazo venceu.
+     */
+    public List<Long> coletarVencidas(LocalDateTime agora) {
+        return roda.avancar(paraMillis(agora));
+    }
+
+    /**
+     * Devolve à roda reservas cuja expiração falhou, para nova tentativa no instante informado.
+     */
+    public void reagendar(Collection<Long> reservaIds, LocalDateTime quando) {
+        long prazo = paraMillis(quando);
+        reservaIds.forEach(id -> roda.agendar(id, prazo));
+    }
+
+    /**
+     * Cancela, em um único UPDATE, as reservas do lote que ainda estão pendentes e libera os
+     * assentos correspondentes. Reservas confirmadas ou canceladas nesse meio tempo são ignoradas.
+     *
+     * @return Quantidade de reservas expiradas
+     */
+    @Transactional
+    public int expirarLote(Collection<Long> reservaIds) {
+        if (reservaIds.isEmpty()) {
+            return 0;
+        }
+
+        // As linhas ficam bloqueadas até o commit, então o UPDATE abaixo altera exatamente estas reservas
+        List<Reserva> pendentes = reservaRepository.travarPorStatus(reservaIds, StatusReserva.PENDENTE);
+        if (pendentes.isEmpty()) {
+            return 0;
+        }
+        pendentes.forEach(Reserva::cancelar);
+
+        int expiradas = reservaRepository.atualizarStatus(
+                pendentes.stream().map(Reserva::getId).toList(), StatusReserva.PENDENTE, StatusReserva.CANCELADA);
+
+        for (Reserva reserva : pendentes) {
+            if (reserva.getRestaurante() != null) {
+                inventarioAssentos.liberar(
+                        reserva.getRestaurante().getId(), reserva.getDataHora(), reserva.getNumeroPessoas());
+            }
+            eventPublisher.publishEvent(ReservaAlteradaEvent.expiracao(reserva));
+        }
+        return expiradas;
+    }
+
+    public int reservasAgendadas() {
+        return roda.tamanho();
+    }
+
+    private static long paraMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,37 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+@Service
+public class ExportarReservasUseCase {
+    private final ReservaRepository reservaRepository;
+
+    public ExportarReservasUseCase(ReservaRepository reservaRepository) {
+        this.reservaRepository = reservaRepository;
+    }
+
+    /**
+     * Entrega todas as reservas, uma a uma, ao consumidor. As linhas são lidas por um cursor
+     * no servidor e nenhuma lista é montada, então o uso de memória não cresce com a tabela.
+     *
+     * @param consumidor Recebe cada reserva, em ordem de ID
+     * @return Quantidade de reservas exportadas
+     */
+    @Transactional(readOnly = true)
+    public long exportarReservas(Consumer<Reserva> consumidor) {
+        long total = 0;
+        try (Stream<Reserva> reservas = reservaRepository.streamAll()) {
+            for (Reserva reserva : (Iterable<Reserva>) reservas::iterator) {
+                consumidor.accept(reserva);
+                total++;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,153 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Fila de espera de um slot: um balde FIFO por tamanho de grupo e uma árvore de segmentos que
+ * guarda, para cada intervalo de tamanhos, o balde cujo primeiro grupo chegou mais cedo.
+ * <p>
+ * Achar o grupo mais antigo entre os que cabem em {@code n} lugares é uma consulta de mínimo no
+ * prefixo [1, n] da árvore, e cada retirada atualiza um único caminho folha-raiz: O(log G), com G
+ * o tamanho máximo de grupo, sem percorrer as entradas que aguardam. Entradas que saem da fila
+ * são apenas marcadas e descartadas quando chegam ao início do balde.
+ */
+class FilaEspera {
+    private static final int NENHUM = -1;
+
+    private final ArrayDeque<Posicao>[] baldes;
+    private final int[] arvore;
+    private final int folhas;
+    private final Set<Long> aguardando = new HashSet<>();
+    private long proximaOrdem;
+
+    @SuppressWarnings("unchecked")
+    FilaEspera(int tamanhoMaximoGrupo) {
+        if (tamanhoMaximoGrupo <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo de grupo deve ser positivo");
+        }
+        this.baldes = new ArrayDeque[tamanhoMaximoGrupo];
+        for (int i = 0; i < tamanhoMaximoGrupo; i++) {
+            baldes[i] = new ArrayDeque<>();
+        }
+        this.folhas = Integer.highestOneBit(Math.max(1, tamanhoMaximoGrupo - 1)) << 1;
+        this.arvore = new int[2 * folhas];
+        Arrays.fill(arvore, NENHUM);
+        for (int i = 0; i < tamanhoMaximoGrupo; i++) {
+            arvore[folhas + i] = i;
+        }
+        for (int no = folhas - 1; no >= 1; no--) {
+            arvore[no] = maisAntigo(arvore[2 * no], arvore[2 * no + 1]);
+        }
+    }
+
+    /**
+     * Coloca a entrada no fim do balde do seu tamanho de grupo.
+     */
+    synchronized void adicionar(EntradaListaEspera entrada) {
+        int balde = balde(entrada);
+        baldes[balde].addLast(new Posicao(entrada, proximaOrdem++));
+        aguardando.add(entrada.getId());
+        if (baldes[balde].size() == 1) {
+            atualizar(balde);
+        }
+    }
+
+    /**
+     * Retira o grupo que chegou primeiro entre os que cabem nos lugares informados.
+     *
+     * @return Posição retirada, ou {@code null} se nenhum grupo couber
+     */
+    synchronized Posicao retirarPrimeiroQueCabe(int lugares) {
+        int limite = Math.min(lugares, baldes.length);
+        while (limite > 0) {
+            int balde = consultar(limite);
+            if (balde == NENHUM) {
+                return null;
+            }
+            Posicao posicao = baldes[balde].pollFirst();
+            atualizar(balde);
+            if (aguardando.remove(posicao.entrada().getId())) {
+                return posicao;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Devolve ao início do balde uma posição retirada cuja promoção foi desfeita. Posições
+     * devolvidas juntas devem vir na ordem inversa da retirada.
+     */
+    synchronized void devolver(Posicao posicao) {
+        int balde = balde(posicao.entrada());
+        baldes[balde].addFirst(posicao);
+        aguardando.add(posicao.entrada().getId());
+        atualizar(balde);
+    }
+
+    /**
+     * Marca a entrada como fora da fila; ela é descartada ao chegar ao início do balde.
+     */
+    synchronized void remover(Long entradaId) {
+        aguardando.remove(entradaId);
+    }
+
+    synchronized int tamanho() {
+        return aguardando.size();
+    }
+
+    synchronized boolean isVazia() {
+        return aguardando.isEmpty();
+    }
+
+    private int balde(EntradaListaEspera entrada) {
+        int numeroPessoas = entrada.getNumeroPessoas();
+        if (numeroPessoas <= 0 || numeroPessoas > baldes.length) {
+            throw new IllegalArgumentException("Tamanho de grupo fora do limite da fila: " + numeroPessoas);
+        }
+        return numeroPessoas - 1;
+    }
+
+    private void atualizar(int balde) {
+        for (int no = (folhas + balde) >> 1; no >= 1; no >>= 1) {
+            arvore[no] = maisAntigo(arvore[2 * no], arvore[2 * no + 1]);
+        }
+    }
+
+    /**
+     * Balde com o grupo mais antigo entre os baldes [0, limite).
+     */
+    private int consultar(int limite) {
+        int resultado = NENHUM;
+        for (int esquerda = folhas, direita = folhas + limite; esquerda < direita; esquerda >>= 1, direita >>= 1) {
+            if ((esquerda & 1) == 1) {
+                resultado = maisAntigo(resultado, arvore[esquerda++]);
+            }
+            if ((direita & 1) == 1) {
+                resultado = maisAntigo(resultado, arvore[--direita]);
+            }
+        }
+        return resultado != NENHUM && !baldes[resultado].isEmpty() ? resultado : NENHUM;
+    }
+
+    private int maisAntigo(int a, int b) {
+        return ordemDoPrimeiro(b) < ordemDoPrimeiro(a) ? b : a;
+    }
+
+    private long ordemDoPrimeiro(int balde) {
+        if (balde == NENHUM || baldes[balde].isEmpty()) {
+            return Long.MAX_VALUE;
+        }
+        return baldes[balde].peekFirst().ordem();
+    }
+
+    /**
+     * Entrada da fila com a sua ordem de chegada nesta instância.
+     */
+    record Posicao(EntradaListaEspera entrada, long ordem) {
+    }
+}
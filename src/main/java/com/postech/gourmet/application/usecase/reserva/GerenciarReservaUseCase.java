@@ -1,75 +1,168 @@
 package com.postech.gourmet.application.usecase.reserva;
 
 import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.Mesa;
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
 import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
 import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.FiltroReservas;
 import com.postech.gourmet.domain.repositories.ReservaRepository;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
 import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
 public class GerenciarReservaUseCase {
+    public static final int TAMANHO_PAGINA_PADRAO = 50;
+    public static final int TAMANHO_PAGINA_MAXIMO = 500;
+
     private final ReservaRepository reservaRepository;
     private final RestauranteRepository restauranteRepository;
     private final UsuarioRepository usuarioRepository;
+    private final InventarioAssentos inventarioAssentos;
+    private final ControleConcorrenciaReservas controleConcorrencia;
+    private final RegistroBloqueios registroBloqueios;
+    private final AlocadorMesas alocadorMesas;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GerenciarReservaUseCase(
             ReservaRepository reservaRepository,
             RestauranteRepository restauranteRepository,
-            UsuarioRepository usuarioRepository) {
+            UsuarioRepository usuarioRepository,
+            InventarioAssentos inventarioAssentos,
+            ControleConcorrenciaReservas controleConcorrencia,
+            RegistroBloqueios registroBloqueios,
+            AlocadorMesas alocadorMesas,
+            ApplicationEventPublisher eventPublisher) {
         this.reservaRepository = reservaRepository;
         this.restauranteRepository = restauranteRepository;
         this.usuarioRepository = usuarioRepository;
+        this.inventarioAssentos = inventarioAssentos;
+        this.controleConcorrencia = controleConcorrencia;
+        this.registroBloqueios = registroBloqueios;
+        this.alocadorMesas = alocadorMesas;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
     public Reserva novaReserva(ReservaDTO reservaDTO) {
-        if (reservaDTO.getDataHora() == null) {
-            throw new InvalidRequestException("Data e hora são obrigatórias");
-        }
+        validarNovaReserva(reservaDTO);
 
-        if (reservaDTO.getDataHora().isBefore(LocalDateTime.now())) {
-            throw new InvalidRequestException("Não é possível fazer reservas para datas passadas");
+        Restaurante restaurante = restauranteRepository.findById(reservaDTO.getRestauranteId())
+                .orElseThrow(() -> new ResourceNotFoundException("Restaurante não encontrado"));
+
+        Usuario usuario = usuarioRepository.findById(reservaDTO.getUsuarioId())
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado"));
+
+        // A verificação e a ocupação dos assentos precisam ser atômicas por slot
+        ChaveSlot slot = inventarioAssentos.chave(restaurante.getId(), reservaDTO.getDataHora());
+        return controleConcorrencia.executarComTrava(slot, () -> {
+            if (!verificarDisponibilidade(reservaDTO.getRestauranteId(), reservaDTO.getDataHora(), reservaDTO.getNumeroPessoas())) {
+                throw new InvalidRequestException("Restaurante sem disponibilidade para esta data/hora");
+            }
+            return criarReserva(restaurante, usuario, reservaDTO.getDataHora(), reservaDTO.getNumeroPessoas());
+        });
+    }
+
+    /**
+     * Retém os assentos por alguns minutos ({@code gourmet.reservas.bloqueio.ttl}) enquanto o
+     * usuário conclui a reserva. Os assentos bloqueados deixam de aparecer como disponíveis.
+     *
+     * @throws InvalidRequestException se os dados forem inválidos ou não houver disponibilidade
+     */
+    @Transactional
+    public BloqueioAssentos bloquearAssentos(ReservaDTO reservaDTO) {
+        validarNovaReserva(reservaDTO);
+
+        Restaurante restaurante = restauranteRepository.findById(reservaDTO.getRestauranteId())
+                .orElseThrow(() -> new ResourceNotFoundException("Restaurante não encontrado"));
+
+        if (!usuarioRepository.existsById(reservaDTO.getUsuarioId())) {
+            throw new ResourceNotFoundException("Usuário não encontrado");
         }
 
-        if (reservaDTO.getNumeroPessoas() == null || reservaDTO.getNumeroPessoas() <= 0) {
-            throw new InvalidRequestException("Número de pessoas deve ser maior que zero");
+        ChaveSlot slot = inventarioAssentos.chave(restaurante.getId(), reservaDTO.getDataHora());
+        return controleConcorrencia.executarComTrava(slot, () -> {
+            if (!verificarDisponibilidade(restaurante.getId(), reservaDTO.getDataHora(), reservaDTO.getNumeroPessoas())) {
+                throw new InvalidRequestException("Restaurante sem disponibilidade para esta data/hora");
+            }
+            return registroBloqueios.registrar(restaurante.getId(), reservaDTO.getUsuarioId(),
+                    reservaDTO.getDataHora(), reservaDTO.getNumeroPessoas(), LocalDateTime.now());
+        });
+    }
+
+    /**
+     * Cria a reserva com os assentos retidos pelo bloqueio, sem disputá-los novamente.
+     *
+     * @throws ResourceNotFoundException se o bloqueio não existir ou já tiver vencido
+     * @throws InvalidRequestException   se o bloqueio pertencer a outro usuário
+     */
+    @Transactional
+    public Reserva converterBloqueio(String bloqueioId, Long usuarioId) {
+        BloqueioAssentos bloqueio = registroBloqueios.buscar(bloqueioId, LocalDateTime.now())
+                .orElseThrow(() -> new ResourceNotFoundException("Bloqueio não encontrado ou expirado: " + bloqueioId));
+        if (!bloqueio.usuarioId().equals(usuarioId)) {
+            throw new InvalidRequestException("Usuário sem permissão para usar este bloqueio");
         }
 
-        Restaurante restaurante = restauranteRepository.findById(reservaDTO.getRestauranteId())
+        Restaurante restaurante = restauranteRepository.findById(bloqueio.restauranteId())
                 .orElseThrow(() -> new ResourceNotFoundException("Restaurante não encontrado"));
 
-        Usuario usuario = usuarioRepository.findById(reservaDTO.getUsuarioId())
+        Usuario usuario = usuarioRepository.findById(usuarioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado"));
 
-        if (!verificarDisponibilidade(reservaDTO.getRestauranteId(), reservaDTO.getDataHora(), reservaDTO.getNumeroPessoas())) {
-            throw new InvalidRequestException("Restaurante sem disponibilidade para esta data/hora");
+        ChaveSlot slot = inventarioAssentos.chave(restaurante.getId(), bloqueio.dataHora());
+        return controleConcorrencia.executarComTrava(slot, () -> {
+            // Retirar o bloqueio impede que duas requisições convertam o mesmo bloqueio
+            registroBloqueios.retirar(bloqueioId, LocalDateTime.now())
+                    .orElseThrow(() -> new ResourceNotFoundException("Bloqueio não encontrado ou expirado: " + bloqueioId));
+            return criarReserva(restaurante, usuario, bloqueio.dataHora(), bloqueio.numeroPessoas());
+        });
+    }
+
+    /**
+     * Devolve os assentos de um bloqueio antes do vencimento.
+     *
+     * @throws ResourceNotFoundException se o bloqueio não existir ou já tiver vencido
+     * @throws InvalidRequestException   se o bloqueio pertencer a outro usuário
+     */
+    public void liberarBloqueio(String bloqueioId, Long usuarioId) {
+        BloqueioAssentos bloqueio = registroBloqueios.buscar(bloqueioId, LocalDateTime.now())
+                .orElseThrow(() -> new ResourceNotFoundException("Bloqueio não encontrado ou expirado: " + bloqueioId));
+        if (!bloqueio.usuarioId().equals(usuarioId)) {
+            throw new InvalidRequestException("Usuário sem permissão para liberar este bloqueio");
         }
+        registroBloqueios.liberar(bloqueioId);
+    }
 
-        Reserva reserva = new Reserva();
-        reserva.setRestaurante(restaurante);
-        reserva.setUsuario(usuario);
-        reserva.setCliente(usuario.getNome());
-        reserva.setDataHora(reservaDTO.getDataHora());
-        reserva.setNumeroPessoas(reservaDTO.getNumeroPessoas());
-        reserva.setStatus(StatusReserva.PENDENTE);
+    public PaginaReservas listarReservas(FiltroReservas filtro, CursorReserva cursor, Integer limite) {
+        int tamanhoPagina = limite != null ? limite : TAMANHO_PAGINA_PADRAO;
+        if (tamanhoPagina <= 0 || tamanhoPagina > TAMANHO_PAGINA_MAXIMO) {
+            throw new InvalidRequestException("O limite deve estar entre 1 e " + TAMANHO_PAGINA_MAXIMO);
+        }
 
-        return reservaRepository.save(reserva);
-    }
+        if (filtro.de() != null && filtro.ate() != null && !filtro.ate().isAfter(filtro.de())) {
+            throw new InvalidRequestException("A data final deve ser posterior à data inicial");
+        }
 
+        // Um item a mais indica se existe próxima página sem precisar de COUNT
+        List<Reserva> reservas = reservaRepository.buscarPagina(filtro, cursor, tamanhoPagina + 1);
+        if (reservas.size() <= tamanhoPagina) {
+            return new PaginaReservas(reservas, null);
+        }
 
-    public List<Reserva> listarReservas() {
-        return reservaRepository.findAll();
+        List<Reserva> pagina = reservas.subList(0, tamanhoPagina);
+        return new PaginaReservas(pagina, CursorReserva.apos(pagina.get(tamanhoPagina - 1)));
     }
 
     public List<Reserva> listarReservasPorUsuario(Long usuarioId) {
@@ -79,15 +172,23 @@ public class GerenciarReservaUseCase {
         return reservaRepository.findByUsuarioId(usuarioId);
     }
 
+    /**
+     * Cancela a reserva e devolve os seus assentos.
+     * <p>
+     * A linha é bloqueada (SELECT ... FOR UPDATE) antes de o status ser verificado, então um
+     * cancelamento concorrente, a expiração de pendentes ou o cancelamento em lote esperam este
+     * terminar e encontram a reserva já cancelada: os assentos são devolvidos uma única vez. A trava
+     * do slot é obtida depois da linha, na mesma ordem da expiração e do lote, que promovem a lista
+     * de espera sob a trava do slot enquanto mantêm as linhas bloqueadas.
+     */
     @Transactional
     public void cancelarReserva(Long reservaId, Long usuarioId) {
-        Reserva reserva = reservaRepository.findById(reservaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Reserva não encontrada com ID: " + reservaId));
+        Reserva reserva = travarReserva(reservaId);
 
         Usuario usuario = usuarioRepository.findById(usuarioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + usuarioId));
 
-        if (usuario != null) {
+        if (reserva.getUsuario() == null || !usuario.getId().equals(reserva.getUsuario().getId())) {
             throw new InvalidRequestException("Usuário sem permissão para cancelar esta reserva");
         }
 
@@ -99,21 +200,35 @@ public class GerenciarReservaUseCase {
             throw new InvalidRequestException("Esta reserva já está cancelada");
         }
 
-        reserva.cancelar();
-        reservaRepository.save(reserva);
+        ChaveSlot slot = inventarioAssentos.chave(reserva.getRestaurante().getId(), reserva.getDataHora());
+        controleConcorrencia.executarComTrava(slot, () -> {
+            StatusReserva statusAnterior = reserva.getStatus();
+            reserva.cancelar();
+            inventarioAssentos.liberar(reserva.getRestaurante().getId(), reserva.getDataHora(), reserva.getNumeroPessoas());
+            reservaRepository.save(reserva);
+            eventPublisher.publishEvent(ReservaAlteradaEvent.cancelamento(reserva, statusAnterior));
+            return null;
+        });
     }
 
+    /**
+     * Confirma uma reserva pendente. Como no cancelamento, o status é verificado na leitura com
+     * trava da linha: se a expiração de pendentes cancelou a reserva e devolveu os assentos, a
+     * confirmação é recusada em vez de reativá-la.
+     */
     @Transactional
     public Reserva confirmarReserva(Long reservaId) {
-        Reserva reserva = reservaRepository.findById(reservaId)
-                .orElseThrow(() -> new ResourceNotFoundException("Reserva não encontrada com ID: " + reservaId));
+        Reserva reserva = travarReserva(reservaId);
 
         if (reserva.getStatus() != StatusReserva.PENDENTE) {
             throw new InvalidRequestException("Apenas reservas pendentes podem ser confirmadas");
         }
 
+        // Reservas pendentes e confirmadas ocupam os mesmos assentos, então o inventário não muda
         reserva.confirmar();
-        return reservaRepository.save(reserva);
+        Reserva confirmada = reservaRepository.save(reserva);
+        eventPublisher.publishEvent(ReservaAlteradaEvent.confirmacao(confirmada));
+        return confirmada;
     }
 
 
@@ -124,13 +239,70 @@ public class GerenciarReservaUseCase {
 
 
     public boolean verificarDisponibilidade(Long restauranteId, LocalDateTime dataHora, Integer numeroPessoas) {
+        return inventarioAssentos.possuiDisponibilidade(restauranteId, dataHora, numeroPessoas);
+    }
+
+    /**
+     * Lê a reserva já bloqueada para atualização até o fim da transação. Não passa por
+     * {@code findById} antes: uma entidade já carregada na sessão não seria relida pela consulta
+     * com trava e o status verificado poderia estar desatualizado.
+     */
+    private Reserva travarReserva(Long reservaId) {
+        List<Reserva> travadas = reservaRepository.travarPorIds(List.of(reservaId));
+        if (travadas.isEmpty()) {
+            throw new ResourceNotFoundException("Reserva não encontrada com ID: " + reservaId);
+        }
+        return travadas.get(0);
+    }
+
+    private void validarNovaReserva(ReservaDTO reservaDTO) {
+        if (reservaDTO.getDataHora() == null) {
+            throw new InvalidRequestException("Data e hora são obrigatórias");
+        }
+
+        if (reservaDTO.getDataHora().isBefore(LocalDateTime.now())) {
+            throw new InvalidRequestException("Não é possível fazer reservas para datas passadas");
+        }
+
+        if (reservaDTO.getNumeroPessoas() == null || reservaDTO.getNumeroPessoas() <= 0) {
+            throw new InvalidRequestException("Número de pessoas deve ser maior que zero");
+        }
+    }
+
+    private Reserva criarReserva(Restaurante restaurante, Usuario usuario, LocalDateTime dataHora, int numeroPessoas) {
+        List<Mesa> mesas = List.of();
+        if (alocadorMesas.usaMesas(restaurante.getId())) {
+            mesas = alocadorMesas.alocar(inventarioAssentos.chave(restaurante.getId(), dataHora), numeroPessoas);
+            if (mesas.isEmpty()) {
+                throw new InvalidRequestException("Nenhuma mesa disponível para o grupo nesta data/hora");
+            }
+        }
+
+        Reserva reserva = new Reserva();
+        reserva.setRestaurante(restaurante);
+        reserva.setUsuario(usuario);
+        reserva.setCliente(usuario.getNome());
+        reserva.setDataHora(dataHora);
+        reserva.setNumeroPessoas(numeroPessoas);
+        reserva.setStatus(StatusReserva.PENDENTE);
+        reserva.setCriadaEm(LocalDateTime.now());
+
+        inventarioAssentos.ocupar(restaurante.getId(), reserva.getDataHora(), reserva.getNumeroPessoas());
+        Reserva salva = reservaRepository.save(reserva);
+        alocadorMesas.registrar(salva, mesas);
+        eventPublisher.publishEvent(ReservaAlteradaEvent.criacao(salva));
+        return salva;
+    }
 
-        Restaurante restaurante = restauranteRepository.findById(restauranteId)
-                .orElseThrow(() -> new ResourceNotFoundException("Restaurante não encontrado com ID: " + restauranteId));
-        DayOfWeek diaSemana = dataHora.getDayOfWeek();
-        if (restaurante.getCapacidade() <= numeroPessoas) {
-            return false;
+    /**
+     * IDs das mesas ocupadas pela reserva; vazio se o restaurante não usa mesas.
+     *
+     * @throws ResourceNotFoundException se a reserva não existir
+     */
+    public List<Long> listarMesasDaReserva(Long reservaId) {
+        if (!reservaRepository.existsById(reservaId)) {
+            throw new ResourceNotFoundException("Reserva não encontrada com ID: " + reservaId);
         }
-        return restaurante.estaAberto(diaSemana, dataHora.toLocalTime());
+        return alocadorMesas.mesasDaReserva(reservaId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class ImportarReservasUseCase {
+    public static final int MAXIMO_ITENS_POR_LOTE = 5000;
+
+    private static final Comparator<ChaveSlot> ORDEM_SLOTS = Comparator
+            .comparing(ChaveSlot::restauranteId)
+            .thenComparing(ChaveSlot::inicio);
+
+    private final ReservaRepository reservaRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final InventarioAssentos inventarioAssentos;
+    private final AlocadorMesas alocadorMesas;
+    private final ControleConcorrenciaReservas controleConcorrencia;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ImportarReservasUseCase(
+            ReservaRepository reservaRepository,
+            UsuarioRepository usuarioRepository,
+            InventarioAssentos inventarioAssentos,
+            AlocadorMesas alocadorMesas,
+            ControleConcorrenciaReservas controleConcorrencia,
+            ApplicationEventPublisher eventPublisher) {
+        this.reservaRepository = reservaRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.inventarioAssentos = inventarioAssentos;
+        this.alocadorMesas = alocadorMesas;
+        this.controleConcorrencia = controleConcorrencia;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Cria as reservas de um lote aplicando as mesmas regras de {@link GerenciarReservaUseCase#novaReserva}.
+     * <p>
+     * Restaurantes e usuários são carregados de uma só vez, os itens de um mesmo slot são
+     * verificados sob uma única trava (sempre na mesma ordem, evitando impasses entre lotes
+     * concorrentes) e as reservas aceitas são gravadas juntas em lotes JDBC. Em restaurantes com
+     * mesas cadastradas, cada item ocupa suas mesas sob a trava do slot, e o item que não couber em
+     * nenhuma mesa ou combinação é recusado.
+     *
+     * @param itens Reservas a criar; itens nulos representam entradas que não puderam ser lidas
+     * @return Um resultado por item, na mesma ordem do lote recebido
+     * @throws InvalidRequestException se o lote estiver vazio ou exceder o tamanho máximo
+     */
+    @Transactional
+    public List<ResultadoImportacao> importarReservas(List<ReservaDTO> itens) {
+        if (itens == null || itens.isEmpty()) {
+            throw new InvalidRequestException("O lote de reservas está vazio");
+        }
+
+        if (itens.size() > MAXIMO_ITENS_POR_LOTE) {
+            throw new InvalidRequestException(
+                    "O lote pode conter no máximo " + MAXIMO_ITENS_POR_LOTE + " reservas");
+        }
+
+        Map<Long, Restaurante> restaurantes = inventarioAssentos.restaurantes(itens.stream()
+                .filter(Objects::nonNull)
+                .map(ReservaDTO::getRestauranteId)
+                .toList());
+        Map<Long, Usuario> usuarios = usuarioRepository.findAllById(itens.stream()
+                        .filter(Objects::nonNull)
+                        .map(ReservaDTO::getUsuarioId)
+                        .filter(Objects::nonNull)
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Usuario::getId, Function.identity()));
+
+        ResultadoImportacao[] resultados = new ResultadoImportacao[itens.size()];
+        Map<ChaveSlot, List<Integer>> itensPorSlot = new TreeMap<>(ORDEM_SLOTS);
+        LocalDateTime agora = LocalDateTime.now();
+
+        for (int i = 0; i < itens.size(); i++) {
+            String erro = validar(itens.get(i), restaurantes, usuarios, agora);
+            if (erro != null) {
+                resultados[i] = ResultadoImportacao.recusada(i, erro);
+            } else {
+                ReservaDTO item = itens.get(i);
+                itensPorSlot.computeIfAbsent(inventarioAssentos.chave(item.getRestauranteId(), item.getDataHora()),
+                        chave -> new ArrayList<>()).add(i);
+            }
+        }
+
+        List<Reserva> aceitas = new ArrayList<>();
+        List<Integer> indicesAceitos = new ArrayList<>();
+        List<List<Mesa>> mesasAceitas = new ArrayList<>();
+        itensPorSlot.forEach((slot, indices) -> controleConcorrencia.executarComTrava(slot, () -> {
+            for (Integer indice : indices) {
+                ReservaDTO item = itens.get(indice);
+                if (!inventarioAssentos.possuiDisponibilidade(
+                        item.getRestauranteId(), item.getDataHora(), item.getNumeroPessoas())) {
+                    resultados[indice] = ResultadoImportacao.recusada(indice,
+                            "Restaurante sem disponibilidade para esta data/hora");
+                    continue;
+                }
+
+                // As mesas alocadas voltam a ficar livres se a transação for desfeita
+                List<Mesa> mesas = List.of();
+                if (alocadorMesas.usaMesas(item.getRestauranteId())) {
+                    mesas = alocadorMesas.alocar(slot, item.getNumeroPessoas());
+                    if (mesas.isEmpty()) {
+                        resultados[indice] = ResultadoImportacao.recusada(indice,
+                                "Nenhuma mesa disponível para o grupo nesta data/hora");
+                        continue;
+                    }
+                }
+
+                inventarioAssentos.ocupar(item.getRestauranteId(), item.getDataHora(), item.getNumeroPessoas());
+                aceitas.add(novaReserva(item, restaurantes.get(item.getRestauranteId()),
+                        usuarios.get(item.getUsuarioId()), agora));
+                indicesAceitos.add(indice);
+                mesasAceitas.add(mesas);
+            }
+            return null;
+        }));
+
+        if (!aceitas.isEmpty()) {
+            List<Reserva> salvas = reservaRepository.saveAll(aceitas);
+            for (int i = 0; i < salvas.size(); i++) {
+                int indice = indicesAceitos.get(i);
+                alocadorMesas.registrar(salvas.get(i), mesasAceitas.get(i));
+                resultados[indice] = ResultadoImportacao.criada(indice, salvas.get(i));
+                eventPublisher.publishEvent(ReservaAlteradaEvent.criacao(salvas.get(i)));
+            }
+        }
+
+        return List.of(resultados);
+    }
+
+    private String validar(ReservaDTO item, Map<Long, Restaurante> restaurantes, Map<Long, Usuario> usuarios,
+                           LocalDateTime agora) {
+        if (item == null) {
+            return "Item mal formatado";
+        }
+
+        if (item.getDataHora() == null) {
+            return "Data e hora são obrigatórias";
+        }
+
+        if (item.getDataHora().isBefore(agora)) {
+            return "Não é possível fazer reservas para datas passadas";
+        }
+
+        if (item.getNumeroPessoas() == null || item.getNumeroPessoas() <= 0) {
+            return "Número de pessoas deve ser maior que zero";
+        }
+
+        if (item.getRestauranteId() == null || !restaurantes.containsKey(item.getRestauranteId())) {
+            return "Restaurante não encontrado";
+        }
+
+        if (item.getUsuarioId() == null || !usuarios.containsKey(item.getUsuarioId())) {
+            return "Usuário não encontrado";
+        }
+
+        return null;
+    }
+
+    private Reserva novaReserva(ReservaDTO item, Restaurante restaurante, Usuario usuario, LocalDateTime agora) {
+        Reserva reserva = new Reserva();
+        reserva.setRestaurante(restaurante);
+        reserva.setUsuario(usuario);
+        reserva.setCliente(usuario.getNome());
+        reserva.setDataHora(item.getDataHora());
+        reserva.setNumeroPessoas(item.getNumeroPessoas());
+        reserva.setStatus(StatusReserva.PENDENTE);
+        reserva.setCriadaEm(agora);
+        return reserva;
+    }
+}
@@ -0,0 +1,292 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Livro-razão em memória dos assentos ocupados por slot de cada restaurante.
+ * <p>
+ * Cada slot é carregado do banco apenas no primeiro acesso; a partir daí é mantido
+ * pelas operações de reserva, de modo que a verificação de disponibilidade não precisa
+ * consultar o banco nem reconverter os horários de funcionamento do restaurante.
+ */
+@Component
+public class InventarioAssentos {
+    private final RestauranteRepository restauranteRepository;
+    private final ReservaRepository reservaRepository;
+    private final int minutosPorSlot;
+
+    private final Map<Long, Restaurante> restaurantes = new ConcurrentHashMap<>();
+    private final Map<Long, BitSet[]> gradesAbertura = new ConcurrentHashMap<>();
+    private final Map<ChaveSlot, AtomicInteger> ocupacao = new ConcurrentHashMap<>();
+    private final Map<ChaveSlot, Integer> bloqueados = new ConcurrentHashMap<>();
+
+    public InventarioAssentos(
+            RestauranteRepository restauranteRepository,
+            ReservaRepository reservaRepository,
+            @Value("${gourmet.reservas.minutos-por-slot:30}") int minutosPorSlot) {
+        if (minutosPorSlot <= 0 || 1440 % minutosPorSlot != 0) {
+            throw new IllegalArgumentException("A duração do slot deve ser um divisor de 1440 minutos");
+        }
+        this.restauranteRepository = restauranteRepository;
+        this.reservaRepository = reservaRepository;
+        this.minutosPorSlot = minutosPorSlot;
+    }
+
+    public int getMinutosPorSlot() {
+        return minutosPorSlot;
+    }
+
+    public int getSlotsPorDia() {
+        return 1440 / minutosPorSlot;
+    }
+
+    /**
+     * Índice do slot dentro do dia (0 para o slot que começa à meia-noite).
+     */
+    public int indiceNoDia(LocalDateTime dataHora) {
+        return (dataHora.getHour() * 60 + dataHora.getMinute()) / minutosPorSlot;
+    }
+
+    /**
+     * Trunca a data/hora para o início do slot ao qual ela pertence.
+     */
+    public ChaveSlot chave(Long restauranteId, LocalDateTime dataHora) {
+        LocalDateTime inicioDoDia = dataHora.truncatedTo(ChronoUnit.DAYS);
+        return new ChaveSlot(restauranteId, inicioDoDia.plusMinutes((long) indiceNoDia(dataHora) * minutosPorSlot));
+    }
+
+    /**
+     * Retorna o restaurante mantido em cache, carregando-o do repositório apenas no primeiro acesso.
+     *
+     * @throws ResourceNotFoundException se o restaurante não existir
+     */
+    public Restaurante restaurante(Long restauranteId) {
+        return restaurantes.computeIfAbsent(restauranteId, id -> restauranteRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Restaurante não encontrado com ID: " + id)));
+    }
+
+    /**
+     * Versão em lote de {@link #restaurante(Long)}: os restaurantes que ainda não estão em
+     * cache são carregados com uma única consulta.
+     *
+     * @return Restaurantes encontrados, indexados pelo ID (IDs inexistentes ficam de fora)
+     */
+    public Map<Long, Restaurante> restaurantes(Collection<Long> ids) {
+        List<Long> ausentes = ids.stream()
+                .filter(Objects::nonNull)
+                .filter(id -> !restaurantes.containsKey(id))
+                .distinct()
+                .toList();
+        if (!ausentes.isEmpty()) {
+            restauranteRepository.findAllById(ausentes)
+                    .forEach(restaurante -> restaurantes.putIfAbsent(restaurante.getId(), restaurante));
+        }
+
+        Map<Long, Restaurante> encontrados = new HashMap<>();
+        for (Long id : ids) {
+            Restaurante restaurante = id != null ? restaurantes.get(id) : null;
+            if (restaurante != null) {
+                encontrados.put(id, restaurante);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Mapa de bits, por dia da semana, dos slots em que o restaurante está aberto.
+     * É calculado uma única vez a partir dos horários de funcionamento e descartado
+     * junto com o restaurante em cache quando ele é alterado.
+     *
+     * @return Vetor indexado por {@link DayOfWeek#ordinal()}
+     */
+    public BitSet[] gradeAbertura(Long restauranteId) {
+        Restaurante restaurante = restaurante(restauranteId);
+        return gradesAbertura.computeIfAbsent(restauranteId, id -> montarGrade(restaurante));
+    }
+
+    public int assentosOcupados(Long restauranteId, LocalDateTime dataHora) {
+        return contador(chave(restauranteId, dataHora)).get();
+    }
+
+    /**
+     * Assentos retidos por bloqueios temporários ainda não convertidos em reserva.
+     * Não dependem do banco: existem apenas na memória desta instância.
+     */
+    public int assentosBloqueados(Long restauranteId, LocalDateTime dataHora) {
+        return bloqueados.getOrDefault(chave(restauranteId, dataHora), 0);
+    }
+
+    public int assentosLivres(Long restauranteId, LocalDateTime dataHora) {
+        Integer capacidade = restaurante(restauranteId).getCapacidade();
+        if (capacidade == null) {
+            return 0;
+        }
+        int indisponiveis = assentosOcupados(restauranteId, dataHora) + assentosBloqueados(restauranteId, dataHora);
+        return Math.max(0, capacidade - indisponiveis);
+    }
+
+    /**
+     * Verifica se o restaurante está aberto no horário e possui assentos livres no slot.
+     */
+    public boolean possuiDisponibilidade(Long restauranteId, LocalDateTime dataHora, int numeroPessoas) {
+        Restaurante restaurante = restaurante(restauranteId);
+        if (!restaurante.estaAberto(dataHora.getDayOfWeek(), dataHora.toLocalTime())) {
+            return false;
+        }
+        return assentosLivres(restauranteId, dataHora) >= numeroPessoas;
+    }
+
+    /**
+     * Registra os assentos de uma nova reserva. Se houver uma transação ativa e ela
+     * for desfeita, os assentos são devolvidos automaticamente.
+     */
+    public void ocupar(Long restauranteId, LocalDateTime dataHora, int numeroPessoas) {
+        ChaveSlot chave = chave(restauranteId, dataHora);
+        contador(chave).addAndGet(numeroPessoas);
+        aoDesfazer(() -> contador(chave).addAndGet(-numeroPessoas));
+    }
+
+    /**
+     * Devolve os assentos de uma reserva cancelada ou expirada.
+     */
+    public void liberar(Long restauranteId, LocalDateTime dataHora, int numeroPessoas) {
+        ChaveSlot chave = chave(restauranteId, dataHora);
+        contador(chave).updateAndGet(atual -> Math.max(0, atual - numeroPessoas));
+        aoDesfazer(() -> contador(chave).addAndGet(numeroPessoas));
+    }
+
+    /**
+     * Retém assentos do slot para um bloqueio temporário, sem gravar nada no banco.
+     */
+    public void bloquear(Long restauranteId, LocalDateTime dataHora, int numeroPessoas) {
+        bloqueados.merge(chave(restauranteId, dataHora), numeroPessoas, Integer::sum);
+    }
+
+    /**
+     * Devolve os assentos de um bloqueio liberado, vencido ou convertido em reserva.
+     */
+    public void desbloquear(Long restauranteId, LocalDateTime dataHora, int numeroPessoas) {
+        // Remove a entrada ao zerar, para que slots sem bloqueio não ocupem memória
+        bloqueados.computeIfPresent(chave(restauranteId, dataHora),
+                (chave, atual) -> atual > numeroPessoas ? atual - numeroPessoas : null);
+    }
+
+    /**
+     * Carrega com uma única consulta todos os slots do período aceitos pelo filtro e que
+     * ainda não estão em memória, evitando uma consulta por slot em buscas por intervalo.
+     */
+    public void carregarPeriodo(Long restauranteId, LocalDateTime inicio, LocalDateTime fim,
+                                Predicate<LocalDateTime> incluirSlot) {
+        LocalDateTime primeiroSlot = chave(restauranteId, inicio).inicio();
+        Map<LocalDateTime, Integer> totais = new HashMap<>();
+        reservaRepository.somarPessoasAtivasPorHorario(restauranteId, primeiroSlot, fim)
+                .forEach((dataHora, pessoas) ->
+                        totais.merge(chave(restauranteId, dataHora).inicio(), pessoas, Integer::sum));
+
+        for (LocalDateTime slot = primeiroSlot; slot.isBefore(fim); slot = slot.plusMinutes(minutosPorSlot)) {
+            if (incluirSlot.test(slot)) {
+                ocupacao.putIfAbsent(new ChaveSlot(restauranteId, slot),
+                        new AtomicInteger(totais.getOrDefault(slot, 0)));
+            }
+        }
+    }
+
+    /**
+     * Descarta o valor em memória do slot e o recarrega do banco. Usado quando outras
+     * instâncias podem ter alterado o slot.
+     */
+    public void recarregarSlot(ChaveSlot chave) {
+        ocupacao.put(chave, new AtomicInteger(reservaRepository.somarPessoasAtivasNoPeriodo(
+                chave.restauranteId(), chave.inicio(), chave.inicio().plusMinutes(minutosPorSlot))));
+    }
+
+    /**
+     * Remove os slots anteriores ao limite informado, que não podem mais receber reservas, e os
+     * restaurantes que ficaram sem slots em memória. Um acesso posterior a um slot descartado o
+     * recarrega do banco.
+     *
+     * @return Quantidade de slots descartados
+     */
+    public int descartarSlotsAnteriores(LocalDateTime limite) {
+        int antes = ocupacao.size();
+        ocupacao.keySet().removeIf(chave -> chave.inicio().isBefore(limite));
+        bloqueados.keySet().removeIf(chave -> chave.inicio().isBefore(limite));
+        int descartados = antes - ocupacao.size();
+
+        Set<Long> emUso = new HashSet<>();
+        ocupacao.keySet().forEach(chave -> emUso.add(chave.restauranteId()));
+        bloqueados.keySet().forEach(chave -> emUso.add(chave.restauranteId()));
+        restaurantes.keySet().retainAll(emUso);
+        gradesAbertura.keySet().retainAll(emUso);
+        return descartados;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        restaurantes.remove(event.restauranteId());
+        gradesAbertura.remove(event.restauranteId());
+        if (event.operacao() == RestauranteAlteradoEvent.Operacao.EXCLUSAO) {
+            ocupacao.keySet().removeIf(chave -> chave.restauranteId().equals(event.restauranteId()));
+            bloqueados.keySet().removeIf(chave -> chave.restauranteId().equals(event.restauranteId()));
+        }
+    }
+
+    private BitSet[] montarGrade(Restaurante restaurante) {
+        BitSet[] grade = new BitSet[DayOfWeek.values().length];
+        for (DayOfWeek dia : DayOfWeek.values()) {
+            BitSet abertos = new BitSet(getSlotsPorDia());
+            for (int i = 0; i < getSlotsPorDia(); i++) {
+                if (restaurante.estaAberto(dia, LocalTime.MIDNIGHT.plusMinutes((long) i * minutosPorSlot))) {
+                    abertos.set(i);
+                }
+            }
+            grade[dia.ordinal()] = abertos;
+        }
+        return grade;
+    }
+
+    private AtomicInteger contador(ChaveSlot chave) {
+        return ocupacao.computeIfAbsent(chave, c -> new AtomicInteger(
+                reservaRepository.somarPessoasAtivasNoPeriodo(
+                        c.restauranteId(), c.inicio(), c.inicio().plusMinutes(minutosPorSlot))));
+    }
+
+    private void aoDesfazer(Runnable compensacao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensacao.run();
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,344 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.AssentosLiberadosEvent;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.ListaEsperaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Lista de espera por horário lotado. Quando uma reserva é cancelada ou expira, o primeiro grupo
+ * da fila do slot que couber nos assentos liberados recebe uma reserva pendente, na mesma
+ * transação do cancelamento. Assentos devolvidos por bloqueios temporários liberados ou vencidos
+ * são oferecidos à fila da mesma forma, em uma transação própria.
+ * <p>
+ * As entradas ficam gravadas no banco; em memória, cada slot mantém uma {@link FilaEspera}
+ * reconstruída na inicialização, de modo que cada promoção custa O(log G) sem consultar nem
+ * percorrer as entradas que aguardam.
+ */
+@Slf4j
+@Service
+public class ListaEsperaUseCase {
+    private final ListaEsperaRepository listaEsperaRepository;
+    private final ReservaRepository reservaRepository;
+    private final UsuarioRepository usuarioRepository;
+    private final InventarioAssentos inventarioAssentos;
+    private final ControleConcorrenciaReservas controleConcorrencia;
+    private final AlocadorMesas alocadorMesas;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transacaoPropria;
+    private final int tamanhoMaximoGrupo;
+    private final Map<ChaveSlot, FilaEspera> filas = new ConcurrentHashMap<>();
+
+    public ListaEsperaUseCase(
+            ListaEsperaRepository listaEsperaRepository,
+            ReservaRepository reservaRepository,
+            UsuarioRepository usuarioRepository,
+            InventarioAssentos inventarioAssentos,
+            ControleConcorrenciaReservas controleConcorrencia,
+            AlocadorMesas alocadorMesas,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            @Value("${gourmet.reservas.lista-espera.tamanho-maximo-grupo:20}") int tamanhoMaximoGrupo) {
+        if (tamanhoMaximoGrupo <= 0) {
+            throw new IllegalArgumentException("O tamanho máximo de grupo da lista de espera deve ser positivo");
+        }
+        this.listaEsperaRepository = listaEsperaRepository;
+        this.reservaRepository = reservaRepository;
+        this.usuarioRepository = usuarioRepository;
+        this.inventarioAssentos = inventarioAssentos;
+        this.controleConcorrencia = controleConcorrencia;
+        this.alocadorMesas = alocadorMesas;
+        this.eventPublisher = eventPublisher;
+        this.transacaoPropria = new TransactionTemplate(transactionManager);
+        this.transacaoPropria.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.tamanhoMaximoGrupo = tamanhoMaximoGrupo;
+    }
+
+    /**
+     * Carrega nas filas as entradas que ainda aguardam horários futuros.
+     *
+     * @return Quantidade de entradas carregadas
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public int carregarFilas() {
+        List<EntradaListaEspera> aguardando = listaEsperaRepository.findAguardandoAPartirDe(LocalDateTime.now());
+        aguardando.forEach(this::adicionarNaFila);
+        log.info("Lista de espera: {} entradas carregadas", aguardando.size());
+        return aguardando.size();
+    }
+
+    /**
+     * Coloca o grupo na lista de espera de um horário sem assentos suficientes.
+     *
+     * @throws InvalidRequestException se os dados forem inválidos, o restaurante estiver fechado
+     *                                 ou ainda houver assentos para o grupo
+     */
+    @Transactional
+    public EntradaListaEspera entrar(ReservaDTO reservaDTO) {
+        if (reservaDTO.getDataHora() == null || reservaDTO.getDataHora().isBefore(LocalDateTime.now())) {
+            throw new InvalidRequestException("A lista de espera aceita apenas datas futuras");
+        }
+        Integer numeroPessoas = reservaDTO.getNumeroPessoas();
+        if (numeroPessoas == null || numeroPessoas <= 0 || numeroPessoas > tamanhoMaximoGrupo) {
+            throw new InvalidRequestException("Número de pessoas deve estar entre 1 e " + tamanhoMaximoGrupo);
+        }
+
+        Restaurante restaurante = inventarioAssentos.restaurante(reservaDTO.getRestauranteId());
+        if (!usuarioRepository.existsById(reservaDTO.getUsuarioId())) {
+            throw new ResourceNotFoundException("Usuário não encontrado");
+        }
+        LocalDateTime dataHora = reservaDTO.getDataHora();
+        if (!restaurante.estaAberto(dataHora.getDayOfWeek(), dataHora.toLocalTime())) {
+            throw new InvalidRequestException("Restaurante fechado nesta data/hora");
+        }
+        if (restaurante.getCapacidade() == null || numeroPessoas > restaurante.getCapacidade()) {
+            throw new InvalidRequestException("O grupo é maior que a capacidade do restaurante");
+        }
+
+        // Sob a trava do slot, nenhuma liberação de assentos acontece entre a verificação e a entrada na fila
+        ChaveSlot slot = inventarioAssentos.chave(restaurante.getId(), dataHora);
+        return controleConcorrencia.executarComTrava(slot, () -> {
+            if (inventarioAssentos.assentosLivres(restaurante.getId(), dataHora) >= numeroPessoas) {
+                throw new InvalidRequestException("Há assentos disponíveis para esta data/hora; faça a reserva diretamente");
+            }
+
+            EntradaListaEspera entrada = new EntradaListaEspera();
+            entrada.setRestauranteId(restaurante.getId());
+            entrada.setUsuarioId(reservaDTO.getUsuarioId());
+            entrada.setDataHora(dataHora);
+            entrada.setNumeroPessoas(numeroPessoas);
+            entrada.setStatus(StatusListaEspera.AGUARDANDO);
+            entrada.setCriadaEm(LocalDateTime.now());
+
+            EntradaListaEspera salva = listaEsperaRepository.save(entrada);
+            FilaEspera fila = adicionarNaFila(salva);
+            aoDesfazer(() -> fila.remover(salva.getId()));
+            return salva;
+        });
+    }
+
+    public EntradaListaEspera buscar(Long entradaId) {
+        return listaEsperaRepository.findById(entradaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Entrada da lista de espera não encontrada: " + entradaId));
+    }
+
+    /**
+     * Retira o grupo da lista de espera.
+     *
+     * @throws ResourceNotFoundException se a entrada não existir
+     * @throws InvalidRequestException   se a entrada pertencer a outro usuário ou não estiver mais aguardando
+     */
+    @Transactional
+    public void sair(Long entradaId, Long usuarioId) {
+        EntradaListaEspera entrada = buscar(entradaId);
+        if (!entrada.getUsuarioId().equals(usuarioId)) {
+            throw new InvalidRequestException("Usuário sem permissão para alterar esta entrada da lista de espera");
+        }
+        if (listaEsperaRepository.atualizarStatus(entradaId, StatusListaEspera.AGUARDANDO, StatusListaEspera.CANCELADA) == 0) {
+            throw new InvalidRequestException("Esta entrada não está mais aguardando");
+        }
+        aposConfirmar(() -> {
+            FilaEspera fila = filas.get(inventarioAssentos.chave(entrada.getRestauranteId(), entrada.getDataHora()));
+            if (fila != null) {
+                fila.remover(entradaId);
+            }
+        });
+    }
+
+    /**
+     * Assentos liberados por cancelamento ou expiração são oferecidos à fila do slot antes de o
+     * cancelamento ser confirmado. Executa de forma síncrona, na transação de quem publicou.
+     */
+    @EventListener
+    public void aoAlterarReserva(ReservaAlteradaEvent event) {
+        ReservaAlteradaEvent.Operacao operacao = event.operacao();
+        Reserva reserva = event.reserva();
+        if ((operacao == ReservaAlteradaEvent.Operacao.CANCELAMENTO || operacao == ReservaAlteradaEvent.Operacao.EXPIRACAO)
+                && reserva.getRestaurante() != null) {
+            promover(inventarioAssentos.chave(reserva.getRestaurante().getId(), reserva.getDataHora()));
+        }
+    }
+
+    /**
+     * Assentos de um bloqueio liberado ou vencido. A liberação acontece fora de transação (pelo
+     * cliente ou pela varredura) ou ao fim de uma conversão que falhou, então a promoção roda
+     * depois dela, em uma transação própria, e só quando o slot tem fila.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void aoLiberarAssentos(AssentosLiberadosEvent event) {
+        ChaveSlot slot = inventarioAssentos.chave(event.restauranteId(), event.dataHora());
+        FilaEspera fila = filas.get(slot);
+        if (fila == null || fila.isVazia()) {
+            return;
+        }
+        try {
+            transacaoPropria.executeWithoutResult(status -> promover(slot));
+        } catch (RuntimeException e) {
+            // Quem liberou o bloqueio não deve falhar por isso; a fila continua intacta
+            log.warn("Lista de espera: falha ao promover grupos no restaurante {} às {}: {}",
+                    slot.restauranteId(), slot.inicio(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        if (event.operacao() == RestauranteAlteradoEvent.Operacao.EXCLUSAO) {
+            filas.keySet().removeIf(chave -> chave.restauranteId().equals(event.restauranteId()));
+        }
+    }
+
+    /**
+     * Cria reservas pendentes para os grupos mais antigos da fila do slot enquanto couberem
+     * nos assentos livres. Se a transação for desfeita, os grupos voltam à mesma posição na fila.
+     *
+     * @return Reservas criadas
+     */
+    public List<Reserva> promover(ChaveSlot slot) {
+        FilaEspera fila = filas.get(slot);
+        if (fila == null || fila.isVazia()) {
+            return List.of();
+        }
+
+        return controleConcorrencia.executarComTrava(slot, () -> {
+            LocalDateTime agora = LocalDateTime.now();
+            List<FilaEspera.Posicao> retiradas = new ArrayList<>();
+            List<Reserva> promovidas = new ArrayList<>();
+
+            FilaEspera.Posicao posicao;
+            while ((posicao = fila.retirarPrimeiroQueCabe(
+                    inventarioAssentos.assentosLivres(slot.restauranteId(), slot.inicio()))) != null) {
+                EntradaListaEspera entrada = posicao.entrada();
+                if (entrada.getDataHora().isBefore(agora)) {
+                    // Horário já passou: a entrada apenas sai da memória
+                    retiradas.add(posicao);
+                    continue;
+                }
+                if (!alocadorMesas.podeAlocar(slot, entrada.getNumeroPessoas())) {
+                    // Sobram assentos, mas nenhuma mesa comporta o grupo: ele continua no início da fila
+                    fila.devolver(posicao);
+                    break;
+                }
+                retiradas.add(posicao);
+                Optional<Usuario> usuario = usuarioRepository.findById(entrada.getUsuarioId());
+                StatusListaEspera novoStatus = usuario.isPresent() ? StatusListaEspera.PROMOVIDA : StatusListaEspera.CANCELADA;
+                if (listaEsperaRepository.atualizarStatus(entrada.getId(), StatusListaEspera.AGUARDANDO, novoStatus) == 0
+                        || usuario.isEmpty()) {
+                    continue;
+                }
+
+                Reserva reserva = criarReserva(entrada, usuario.get());
+                listaEsperaRepository.registrarReserva(entrada.getId(), reserva.getId());
+                promovidas.add(reserva);
+            }
+
+            if (!retiradas.isEmpty()) {
+                aoDesfazer(() -> {
+                    for (int i = retiradas.size() - 1; i >= 0; i--) {
+                        fila.devolver(retiradas.get(i));
+                    }
+                });
+            }
+            if (!promovidas.isEmpty()) {
+                log.info("Lista de espera: {} grupos promovidos no restaurante {} às {}",
+                        promovidas.size(), slot.restauranteId(), slot.inicio());
+            }
+            // Só descarta a fila vazia depois do commit: um rollback ainda pode devolver grupos a ela
+            aposConfirmar(() -> filas.computeIfPresent(slot, (chave, atual) -> atual == fila && atual.isVazia() ? null : atual));
+            return promovidas;
+        });
+    }
+
+    public int entradasAguardando() {
+        return filas.values().stream().mapToInt(FilaEspera::tamanho).sum();
+    }
+
+    private Reserva criarReserva(EntradaListaEspera entrada, Usuario usuario) {
+        Reserva reserva = new Reserva();
+        reserva.setRestaurante(inventarioAssentos.restaurante(entrada.getRestauranteId()));
+        reserva.setUsuario(usuario);
+        reserva.setCliente(usuario.getNome());
+        reserva.setDataHora(entrada.getDataHora());
+        reserva.setNumeroPessoas(entrada.getNumeroPessoas());
+        reserva.setStatus(StatusReserva.PENDENTE);
+        reserva.setCriadaEm(LocalDateTime.now());
+
+        List<Mesa> mesas = alocadorMesas.usaMesas(entrada.getRestauranteId())
+                ? alocadorMesas.alocar(inventarioAssentos.chave(entrada.getRestauranteId(), entrada.getDataHora()), entrada.getNumeroPessoas())
+                : List.of();
+        inventarioAssentos.ocupar(entrada.getRestauranteId(), reserva.getDataHora(), reserva.getNumeroPessoas());
+        Reserva salva = reservaRepository.save(reserva);
+        alocadorMesas.registrar(salva, mesas);
+        eventPublisher.publishEvent(ReservaAlteradaEvent.criacao(salva));
+        return salva;
+    }
+
+    private FilaEspera adicionarNaFila(EntradaListaEspera entrada) {
+        // Dentro do compute para não competir com o descarte de filas vazias
+        return filas.compute(inventarioAssentos.chave(entrada.getRestauranteId(), entrada.getDataHora()), (chave, atual) -> {
+            FilaEspera fila = atual != null ? atual : new FilaEspera(tamanhoMaximoGrupo);
+            fila.adicionar(entrada);
+            return fila;
+        });
+    }
+
+    private static void aoDesfazer(Runnable compensacao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    compensacao.run();
+                }
+            }
+        });
+    }
+
+    private static void aposConfirmar(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+}
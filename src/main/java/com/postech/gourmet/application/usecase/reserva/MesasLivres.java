@@ -0,0 +1,163 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Mesa;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Mesas livres de um slot, indexadas pelo número de lugares.
+ * <p>
+ * Um grupo recebe a menor mesa em que cabe (best-fit, uma busca {@code ceiling} no índice).
+ * Se nenhuma mesa isolada comportar o grupo, mesas combináveis são juntadas: as maiores
+ * primeiro, até que o restante caiba em uma única mesa, escolhida também por best-fit. O custo
+ * depende apenas da quantidade de tamanhos distintos de mesa, não da quantidade de mesas.
+ */
+class MesasLivres {
+    private final Map<Long, Mesa> mesas = new HashMap<>();
+    private final Set<Long> livres = new HashSet<>();
+    private final NavigableMap<Integer, Tamanho> porLugares = new TreeMap<>();
+    private final int maximoCombinadas;
+
+    MesasLivres(Collection<Mesa> todas, Collection<Long> ocupadas, int maximoCombinadas) {
+        this.maximoCombinadas = maximoCombinadas;
+        todas.forEach(mesa -> mesas.put(mesa.getId(), mesa));
+        for (Mesa mesa : todas) {
+            if (!ocupadas.contains(mesa.getId())) {
+                devolver(mesa);
+            }
+        }
+    }
+
+    /**
+     * Ocupa a mesa, ou combinação de mesas, que acomoda o grupo com menos lugares sobrando.
+     *
+     * @return Mesas ocupadas, ou lista vazia se o grupo não couber
+     */
+    synchronized List<Mesa> alocar(int pessoas) {
+        if (pessoas <= 0) {
+            return List.of();
+        }
+
+        Map.Entry<Integer, Tamanho> isolada = porLugares.ceilingEntry(pessoas);
+        if (isolada != null) {
+            // Mesas fixas primeiro: as combináveis ficam para os grupos que precisam delas
+            return List.of(retirar(isolada.getKey(), isolada.getValue().fixas.isEmpty()));
+        }
+
+        List<Mesa> escolhidas = new ArrayList<>();
+        int restante = pessoas;
+        while (restante > 0 && escolhidas.size() < maximoCombinadas) {
+            Integer lugares = menorCombinavelAPartirDe(restante);
+            if (lugares == null) {
+                lugares = maiorCombinavel();
+            }
+            if (lugares == null) {
+                break;
+            }
+            Mesa mesa = retirar(lugares, true);
+            escolhidas.add(mesa);
+            restante -= mesa.getLugares();
+        }
+
+        if (restante > 0) {
+            escolhidas.forEach(this::devolver);
+            return List.of();
+        }
+        return escolhidas;
+    }
+
+    /**
+     * Verifica se o grupo caberia agora, sem ocupar nenhuma mesa.
+     */
+    synchronized boolean cabe(int pessoas) {
+        List<Mesa> alocadas = alocar(pessoas);
+        alocadas.forEach(this::devolver);
+        return !alocadas.isEmpty();
+    }
+
+    /**
+     * Devolve as mesas de uma reserva cancelada. IDs desconhecidos, de um layout anterior,
+     * ou de mesas já livres são ignorados.
+     */
+    synchronized void liberar(Collection<Long> mesaIds) {
+        for (Long mesaId : mesaIds) {
+            Mesa mesa = mesas.get(mesaId);
+            if (mesa != null && !livres.contains(mesaId)) {
+                devolver(mesa);
+            }
+        }
+    }
+
+    /**
+     * Marca como ocupadas mesas que estavam livres, desfazendo uma liberação.
+     */
+    synchronized void ocupar(Collection<Long> mesaIds) {
+        for (Long mesaId : mesaIds) {
+            Mesa mesa = mesas.get(mesaId);
+            if (mesa == null || !livres.remove(mesaId)) {
+                continue;
+            }
+            Tamanho tamanho = porLugares.get(mesa.getLugares());
+            (mesa.isCombinavel() ? tamanho.combinaveis : tamanho.fixas).remove(mesa);
+            if (tamanho.isVazio()) {
+                porLugares.remove(mesa.getLugares());
+            }
+        }
+    }
+
+    synchronized int mesasLivres() {
+        return livres.size();
+    }
+
+    private Integer menorCombinavelAPartirDe(int lugares) {
+        for (Map.Entry<Integer, Tamanho> entrada : porLugares.tailMap(lugares, true).entrySet()) {
+            if (!entrada.getValue().combinaveis.isEmpty()) {
+                return entrada.getKey();
+            }
+        }
+        return null;
+    }
+
+    private Integer maiorCombinavel() {
+        for (Map.Entry<Integer, Tamanho> entrada : porLugares.descendingMap().entrySet()) {
+            if (!entrada.getValue().combinaveis.isEmpty()) {
+                return entrada.getKey();
+            }
+        }
+        return null;
+    }
+
+    private Mesa retirar(int lugares, boolean combinavel) {
+        Tamanho tamanho = porLugares.get(lugares);
+        Mesa mesa = (combinavel ? tamanho.combinaveis : tamanho.fixas).pollFirst();
+        if (tamanho.isVazio()) {
+            porLugares.remove(lugares);
+        }
+        livres.remove(mesa.getId());
+        return mesa;
+    }
+
+    private void devolver(Mesa mesa) {
+        Tamanho tamanho = porLugares.computeIfAbsent(mesa.getLugares(), lugares -> new Tamanho());
+        (mesa.isCombinavel() ? tamanho.combinaveis : tamanho.fixas).addLast(mesa);
+        livres.add(mesa.getId());
+    }
+
+    private static final class Tamanho {
+        private final ArrayDeque<Mesa> fixas = new ArrayDeque<>();
+        private final ArrayDeque<Mesa> combinaveis = new ArrayDeque<>();
+
+        private boolean isVazio() {
+            return fixas.isEmpty() && combinaveis.isEmpty();
+        }
+    }
+}
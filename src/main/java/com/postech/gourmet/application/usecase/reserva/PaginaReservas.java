@@ -0,0 +1,12 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+
+import java.util.List;
+
+/**
+ * Página da listagem de reservas. {@code proximoCursor} é nulo quando não há mais páginas.
+ */
+public record PaginaReservas(List<Reserva> reservas, CursorReserva proximoCursor) {
+}
@@ -0,0 +1,172 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.events.AssentosLiberadosEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tabela em memória dos bloqueios temporários de assentos ({@code POST /reservas/hold}).
+ * <p>
+ * Os assentos de cada bloqueio ficam retidos no {@link InventarioAssentos} até que ele seja
+ * convertido em reserva, liberado pelo cliente ou vença. Os vencimentos ficam em uma
+ * {@link RodaTemporizacao}, então a varredura periódica só toca os bloqueios que venceram.
+ * <p>
+ * Assentos devolvidos por liberação ou vencimento são anunciados com um
+ * {@link AssentosLiberadosEvent}, para que a lista de espera do slot possa ocupá-los.
+ */
+@Component
+public class RegistroBloqueios {
+    private static final long DURACAO_TICK_MILLIS = 1000;
+
+    private final InventarioAssentos inventarioAssentos;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration ttl;
+    private final Map<String, BloqueioAssentos> bloqueios = new ConcurrentHashMap<>();
+    private final RodaTemporizacao<String> roda;
+
+    public RegistroBloqueios(
+            InventarioAssentos inventarioAssentos,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${gourmet.reservas.bloqueio.ttl:2m}") Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("A duração do bloqueio deve ser positiva");
+        }
+        this.inventarioAssentos = inventarioAssentos;
+        this.eventPublisher = eventPublisher;
+        this.ttl = ttl;
+        this.roda = new RodaTemporizacao<>(DURACAO_TICK_MILLIS, paraMillis(LocalDateTime.now()));
+
+        Gauge.builder("gourmet.reservas.bloqueios.ativos", bloqueios, Map::size)
+                .description("Bloqueios temporários de assentos ativos")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Retém os assentos e registra o bloqueio. A disponibilidade deve ter sido verificada
+     * pelo chamador sob a trava do slot.
+     */
+    public BloqueioAssentos registrar(Long restauranteId, Long usuarioId, LocalDateTime dataHora,
+                                      int numeroPessoas, LocalDateTime agora) {
+        BloqueioAssentos bloqueio = new BloqueioAssentos(
+                UUID.randomUUID().toString(), restauranteId, usuarioId, dataHora, numeroPessoas, agora.plus(ttl));
+        inventarioAssentos.bloquear(restauranteId, dataHora, numeroPessoas);
+        bloqueios.put(bloqueio.id(), bloqueio);
+        roda.agendar(bloqueio.id(), paraMillis(bloqueio.expiraEm()));
+        return bloqueio;
+    }
+
+    /**
+     * @return O bloqueio, se existir e ainda não tiver vencido
+     */
+    public Optional<BloqueioAssentos> buscar(String id, LocalDateTime agora) {
+        return Optional.ofNullable(bloqueios.get(id)).filter(bloqueio -> !bloqueio.expirado(agora));
+    }
+
+    /**
+     * Retira o bloqueio da tabela para convertê-lo em reserva. Os assentos continuam retidos até o
+     * fim da transação corrente: são devolvidos no commit, quando a reserva já os ocupa, e o
+     * bloqueio volta à tabela se a transação for desfeita.
+     *
+     * @return O bloqueio retirado, ou vazio se ele não existir, já tiver vencido ou já estiver
+     * sendo convertido por outra requisição
+     */
+    public Optional<BloqueioAssentos> retirar(String id, LocalDateTime agora) {
+        BloqueioAssentos bloqueio = bloqueios.remove(id);
+        if (bloqueio == null) {
+            return Optional.empty();
+        }
+        roda.cancelar(id);
+        if (bloqueio.expirado(agora)) {
+            liberarAssentos(bloqueio);
+            return Optional.empty();
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            devolverAssentos(bloqueio);
+            return Optional.of(bloqueio);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    devolverAssentos(bloqueio);
+                } else {
+                    bloqueios.put(bloqueio.id(), bloqueio);
+                    roda.agendar(bloqueio.id(), paraMillis(bloqueio.expiraEm()));
+                }
+            }
+        });
+        return Optional.of(bloqueio);
+    }
+
+    /**
+     * Remove o bloqueio e devolve seus assentos imediatamente.
+     *
+     * @return {@code false} se o bloqueio não existia mais
+     */
+    public boolean liberar(String id) {
+        BloqueioAssentos bloqueio = bloqueios.remove(id);
+        if (bloqueio == null) {
+            return false;
+        }
+        roda.cancelar(id);
+        liberarAssentos(bloqueio);
+        return true;
+    }
+
+    /**
+     * Libera os bloqueios vencidos até {@code agora}.
+     *
+     * @return Quantidade de bloqueios liberados
+     */
+    public int liberarVencidos(LocalDateTime agora) {
+        int liberados = 0;
+        for (String id : roda.avancar(paraMillis(agora))) {
+            BloqueioAssentos bloqueio = bloqueios.remove(id);
+            if (bloqueio != null) {
+                liberarAssentos(bloqueio);
+                liberados++;
+            }
+        }
+        return liberados;
+    }
+
+    public int bloqueiosAtivos() {
+        return bloqueios.size();
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    private void devolverAssentos(BloqueioAssentos bloqueio) {
+        inventarioAssentos.desbloquear(bloqueio.restauranteId(), bloqueio.dataHora(), bloqueio.numeroPessoas());
+    }
+
+    /**
+     * Devolve os assentos de um bloqueio que não virou reserva e os anuncia à lista de espera.
+     */
+    private void liberarAssentos(BloqueioAssentos bloqueio) {
+        devolverAssentos(bloqueio);
+        eventPublisher.publishEvent(new AssentosLiberadosEvent(
+                bloqueio.restauranteId(), bloqueio.dataHora(), bloqueio.numeroPessoas()));
+    }
+
+    private static long paraMillis(LocalDateTime dataHora) {
+        return dataHora.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,156 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.ChaveIdempotencia;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.ChaveIdempotenciaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Criação de reservas com o cabeçalho {@code Idempotency-Key}: a primeira requisição com uma chave
+ * cria a reserva e registra a chave na mesma transação; as repetições devolvem a reserva original
+ * sem executar {@link GerenciarReservaUseCase#novaReserva} de novo.
+ * <p>
+ * As chaves recentes ficam em um cache local limitado; a tabela {@code chave_idempotencia} garante
+ * o resultado entre instâncias, já que duas requisições simultâneas com a mesma chave não
+ * conseguem inserir a mesma chave primária.
+ */
+@Service
+public class ReservaIdempotenteUseCase {
+    public static final int TAMANHO_MAXIMO_CHAVE = 255;
+
+    private final GerenciarReservaUseCase gerenciarReservaUseCase;
+    private final ReservaRepository reservaRepository;
+    private final ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheExpiravel<String, ChaveIdempotencia> cache;
+    private final Duration validade;
+
+    public ReservaIdempotenteUseCase(
+            GerenciarReservaUseCase gerenciarReservaUseCase,
+            ReservaRepository reservaRepository,
+            ChaveIdempotenciaRepository chaveIdempotenciaRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${gourmet.reservas.idempotencia.validade:24h}") Duration validade,
+            @Value("${gourmet.reservas.idempotencia.capacidade-cache:10000}") int capacidadeCache) {
+        this.gerenciarReservaUseCase = gerenciarReservaUseCase;
+        this.reservaRepository = reservaRepository;
+        this.chaveIdempotenciaRepository = chaveIdempotenciaRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.cache = new CacheExpiravel<>(capacidadeCache, validade);
+        this.validade = validade;
+    }
+
+    /**
+     * Cria a reserva ou, se a chave já foi usada, devolve a reserva criada por ela.
+     *
+     * @throws InvalidRequestException se a chave for inválida ou já tiver sido usada com outros dados
+     */
+    public ResultadoReservaIdempotente reservar(String chave, ReservaDTO reservaDTO) {
+        if (chave == null || chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new InvalidRequestException(
+                    "Idempotency-Key deve ter entre 1 e " + TAMANHO_MAXIMO_CHAVE + " caracteres");
+        }
+        String impressao = impressao(reservaDTO);
+
+        Optional<ResultadoReservaIdempotente> repetida = buscarRepetida(chave, impressao);
+        if (repetida.isPresent()) {
+            return repetida.get();
+        }
+
+        try {
+            LocalDateTime criadaEm = LocalDateTime.now();
+            Reserva reserva = transactionTemplate.execute(status -> {
+                Reserva criada = gerenciarReservaUseCase.novaReserva(reservaDTO);
+                chaveIdempotenciaRepository.inserir(new ChaveIdempotencia(chave, criada.getId(), impressao, criadaEm));
+                return criada;
+            });
+            guardarNoCache(new ChaveIdempotencia(chave, reserva.getId(), impressao, criadaEm), LocalDateTime.now());
+            return new ResultadoReservaIdempotente(reserva, false);
+        } catch (DataIntegrityViolationException e) {
+            // Outra requisição com a mesma chave gravou primeiro; a nossa transação foi desfeita
+            return buscarRepetida(chave, impressao).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Remove do banco as chaves mais antigas que a validade configurada.
+     *
+     * @return Quantidade de chaves removidas
+     */
+    @Transactional
+    public int removerChavesVencidas() {
+        return chaveIdempotenciaRepository.deleteByCriadaEmBefore(LocalDateTime.now().minus(validade));
+    }
+
+    private Optional<ResultadoReservaIdempotente> buscarRepetida(String chave, String impressao) {
+        LocalDateTime agora = LocalDateTime.now();
+        Optional<ChaveIdempotencia> registro = cache.buscar(chave);
+        if (registro.isEmpty()) {
+            registro = chaveIdempotenciaRepository.findByChave(chave);
+            if (registro.isPresent() && vencida(registro.get(), agora)) {
+                // Ainda não removida pela limpeza periódica: sai do banco para que a chave possa ser
+                // registrada de novo. Se outra requisição já a registrou, nada é removido
+                LocalDateTime limite = agora.minus(validade);
+                transactionTemplate.executeWithoutResult(status ->
+                        chaveIdempotenciaRepository.deleteByChaveAndCriadaEmBefore(chave, limite));
+                return Optional.empty();
+            }
+            registro.ifPresent(r -> guardarNoCache(r, agora));
+        }
+        if (registro.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (!registro.get().getImpressao().equals(impressao)) {
+            throw new InvalidRequestException("Idempotency-Key já utilizada com dados de reserva diferentes");
+        }
+        Long reservaId = registro.get().getReservaId();
+        Reserva reserva = reservaRepository.findById(reservaId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reserva não encontrada com ID: " + reservaId));
+        return Optional.of(new ResultadoReservaIdempotente(reserva, true));
+    }
+
+    private boolean vencida(ChaveIdempotencia registro, LocalDateTime agora) {
+        return !registro.getCriadaEm().plus(validade).isAfter(agora);
+    }
+
+    /**
+     * Guarda o registro apenas pelo que resta da sua validade, contada a partir da criação.
+     */
+    private void guardarNoCache(ChaveIdempotencia registro, LocalDateTime agora) {
+        cache.guardar(registro.getChave(), registro, Duration.between(agora, registro.getCriadaEm().plus(validade)));
+    }
+
+    private static String impressao(ReservaDTO reservaDTO) {
+        String conteudo = String.join("|",
+                Objects.toString(reservaDTO.getRestauranteId()),
+                Objects.toString(reservaDTO.getUsuarioId()),
+                Objects.toString(reservaDTO.getDataHora()),
+                Objects.toString(reservaDTO.getNumeroPessoas()),
+                Objects.toString(reservaDTO.getCliente()));
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(conteudo.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
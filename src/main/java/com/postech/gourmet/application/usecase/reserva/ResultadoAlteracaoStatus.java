@@ -0,0 +1,25 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+
+/**
+ * Resultado de uma reserva em uma confirmação ou cancelamento em lote.
+ *
+ * @param reservaId ID informado no lote
+ * @param reserva   Reserva já no novo status (nula se a alteração foi recusada)
+ * @param erro      Motivo da recusa (nulo se a reserva foi alterada)
+ */
+public record ResultadoAlteracaoStatus(Long reservaId, Reserva reserva, String erro) {
+
+    public static ResultadoAlteracaoStatus alterada(Reserva reserva) {
+        return new ResultadoAlteracaoStatus(reserva.getId(), reserva, null);
+    }
+
+    public static ResultadoAlteracaoStatus recusada(Long reservaId, String erro) {
+        return new ResultadoAlteracaoStatus(reservaId, null, erro);
+    }
+
+    public boolean isAlterada() {
+        return reserva != null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import java.util.List;
+
+/**
+ * Resultado de uma busca de disponibilidade em vários restaurantes.
+ *
+ * @param restaurantes Um resultado por restaurante, na ordem em que foram solicitados
+ * @param completa     Falso se algum restaurante não foi verificado dentro do prazo
+ */
+public record ResultadoBuscaDisponibilidade(List<DisponibilidadeRestaurante> restaurantes, boolean completa) {
+}
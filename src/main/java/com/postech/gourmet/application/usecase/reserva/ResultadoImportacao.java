@@ -0,0 +1,25 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+
+/**
+ * Resultado de um item de um lote de reservas: a reserva criada ou o motivo da recusa.
+ *
+ * @param indice  Posição do item no lote recebido
+ * @param reserva Reserva criada (nula se o item foi recusado)
+ * @param erro    Motivo da recusa (nulo se a reserva foi criada)
+ */
+public record ResultadoImportacao(int indice, Reserva reserva, String erro) {
+
+    public static ResultadoImportacao criada(int indice, Reserva reserva) {
+        return new ResultadoImportacao(indice, reserva, null);
+    }
+
+    public static ResultadoImportacao recusada(int indice, String erro) {
+        return new ResultadoImportacao(indice, null, erro);
+    }
+
+    public boolean isCriada() {
+        return reserva != null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+
+/**
+ * @param reserva  Reserva criada pela requisição original
+ * @param repetida Indica que a requisição repetiu uma chave já processada
+ */
+public record ResultadoReservaIdempotente(Reserva reserva, boolean repetida) {
+}
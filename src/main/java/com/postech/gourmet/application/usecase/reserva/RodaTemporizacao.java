@@ -0,0 +1,146 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Roda de temporização hierárquica: agenda itens para vencer em um instante futuro e devolve,
+ * a cada avanço do relógio, os que venceram.
+ * <p>
+ * São {@value #NIVEIS} rodas de {@value #POSICOES} posições; cada posição de um nível cobre uma
+ * volta inteira do nível abaixo. Agendar e cancelar custam O(1) e cada avanço percorre apenas as
+ * posições que passaram, redistribuindo para os níveis inferiores os itens de uma posição
+ * superior quando ela é alcançada. Com ticks de 1 segundo, prazos de até ~194 dias são
+ * posicionados diretamente; prazos maiores ficam na última posição e são reposicionados ao
+ * serem alcançados.
+ *
+ * @param <T> Tipo dos itens agendados; precisam implementar {@code equals}/{@code hashCode}
+ */
+public class RodaTemporizacao<T> {
+    private static final int BITS_POR_NIVEL = 6;
+    private static final int POSICOES = 1 << BITS_POR_NIVEL;
+    private static final int MASCARA = POSICOES - 1;
+    private static final int NIVEIS = 4;
+    private static final long ALCANCE = 1L << (BITS_POR_NIVEL * NIVEIS);
+
+    private final long duracaoTickMillis;
+    private final Set<T>[][] posicoes;
+    private final Map<T, Agendamento<T>> agendamentos = new HashMap<>();
+    private final Set<T> vencidos = new LinkedHashSet<>();
+    private long tickAtual;
+
+    @SuppressWarnings("unchecked")
+    public RodaTemporizacao(long duracaoTickMillis, long inicioMillis) {
+        if (duracaoTickMillis <= 0) {
+            throw new IllegalArgumentException("A duração do tick deve ser positiva");
+        }
+        this.duracaoTickMillis = duracaoTickMillis;
+        this.posicoes = new Set[NIVEIS][POSICOES];
+        this.tickAtual = Math.floorDiv(inicioMillis, duracaoTickMillis);
+    }
+
+    /**
+     * Agenda o item para vencer no instante informado, substituindo um agendamento anterior do
+     * mesmo item. Prazos já alcançados são devolvidos no próximo {@link #avancar(long)}.
+     */
+    public synchronized void agendar(T item, long prazoMillis) {
+        cancelar(item);
+        // Arredonda para cima: um item nunca vence antes do prazo
+        inserir(item, Math.ceilDiv(prazoMillis, duracaoTickMillis));
+    }
+
+    public synchronized boolean cancelar(T item) {
+        Agendamento<T> agendamento = agendamentos.remove(item);
+        if (agendamento == null) {
+            return false;
+        }
+        if (agendamento.posicao != null) {
+            agendamento.posicao.remove(item);
+        } else {
+            vencidos.remove(item);
+        }
+        return true;
+    }
+
+    /**
+     * Avança o relógio até o instante informado e devolve os itens vencidos até ele,
+     * removendo-os da roda.
+     */
+    public synchronized List<T> avancar(long agoraMillis) {
+        long tickAlvo = Math.floorDiv(agoraMillis, duracaoTickMillis);
+        while (tickAtual < tickAlvo) {
+            if (agendamentos.size() == vencidos.size()) {
+                // Nada aguardando nas rodas: não há por que percorrer as posições
+                tickAtual = tickAlvo;
+                break;
+            }
+            tickAtual++;
+            redistribuir();
+            esvaziar(0, (int) (tickAtual & MASCARA));
+        }
+
+        List<T> resultado = new ArrayList<>(vencidos);
+        resultado.forEach(agendamentos::remove);
+        vencidos.clear();
+        return resultado;
+    }
+
+    public synchronized int tamanho() {
+        return agendamentos.size();
+    }
+
+    private void redistribuir() {
+        // Do nível mais alto para o mais baixo, para que itens descidos de um nível caiam em
+        // posições que ainda serão esvaziadas nesta volta
+        int nivelMaximo = 0;
+        while (nivelMaximo + 1 < NIVEIS && (tickAtual & ((1L << (BITS_POR_NIVEL * (nivelMaximo + 1))) - 1)) == 0) {
+            nivelMaximo++;
+        }
+        for (int nivel = nivelMaximo; nivel >= 1; nivel--) {
+            esvaziar(nivel, (int) ((tickAtual >>> (BITS_POR_NIVEL * nivel)) & MASCARA));
+        }
+    }
+
+    private void esvaziar(int nivel, int indice) {
+        Set<T> posicao = posicoes[nivel][indice];
+        if (posicao == null || posicao.isEmpty()) {
+            return;
+        }
+        posicoes[nivel][indice] = null;
+        for (T item : posicao) {
+            inserir(item, agendamentos.remove(item).tick);
+        }
+    }
+
+    private void inserir(T item, long tick) {
+        if (tick <= tickAtual) {
+            vencidos.add(item);
+            agendamentos.put(item, new Agendamento<>(tick, null));
+            return;
+        }
+
+        long distancia = tick - tickAtual;
+        int nivel = 0;
+        while (nivel + 1 < NIVEIS && distancia >= 1L << (BITS_POR_NIVEL * (nivel + 1))) {
+            nivel++;
+        }
+        // Prazos além do alcance da roda ficam na posição mais distante e são reposicionados depois
+        long tickPosicao = Math.min(tick, tickAtual + ALCANCE - 1);
+        int indice = (int) ((tickPosicao >>> (BITS_POR_NIVEL * nivel)) & MASCARA);
+
+        Set<T> posicao = posicoes[nivel][indice];
+        if (posicao == null) {
+            posicao = new LinkedHashSet<>();
+            posicoes[nivel][indice] = posicao;
+        }
+        posicao.add(item);
+        agendamentos.put(item, new Agendamento<>(tick, posicao));
+    }
+
+    private record Agendamento<T>(long tick, Set<T> posicao) {
+    }
+}
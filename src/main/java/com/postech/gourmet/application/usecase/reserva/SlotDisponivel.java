@@ -0,0 +1,9 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import java.time.LocalDateTime;
+
+/**
+ * Slot reservável retornado pela busca de disponibilidade.
+ */
+public record SlotDisponivel(LocalDateTime inicio, int assentosLivres) {
+}
@@ -0,0 +1,30 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * Avança diariamente a janela do mapa de demanda, logo após a meia-noite.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.demanda.compactacao.habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorCompactacaoDemanda {
+    private final MapaDemandaUseCase mapaDemandaUseCase;
+
+    public AgendadorCompactacaoDemanda(MapaDemandaUseCase mapaDemandaUseCase) {
+        this.mapaDemandaUseCase = mapaDemandaUseCase;
+    }
+
+    @Scheduled(cron = "${gourmet.demanda.compactacao.cron:0 5 0 * * *}")
+    public void compactar() {
+        long inicio = System.nanoTime();
+        int removidos = mapaDemandaUseCase.compactar(LocalDate.now());
+        log.info("Mapa de demanda compactado: {} registros diários removidos em {} ms",
+                removidos, (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
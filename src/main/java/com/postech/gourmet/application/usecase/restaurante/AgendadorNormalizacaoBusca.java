@@ -0,0 +1,44 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Ao subir a aplicação, preenche as colunas normalizadas de busca dos restaurantes gravados antes
+ * delas existirem. Depois disso elas são mantidas a cada gravação, e a execução não encontra nada.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.restaurantes.normalizacao.habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorNormalizacaoBusca {
+    private static final int TAMANHO_LOTE = 500;
+
+    private final RestauranteRepository restauranteRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public AgendadorNormalizacaoBusca(RestauranteRepository restauranteRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.restauranteRepository = restauranteRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preencherPendentes() {
+        int total = 0;
+        Integer preenchidos;
+        do {
+            preenchidos = transactionTemplate.execute(status -> restauranteRepository.preencherCamposBusca(TAMANHO_LOTE));
+            total += preenchidos != null ? preenchidos : 0;
+        } while (preenchidos != null && preenchidos == TAMANHO_LOTE);
+
+        if (total > 0) {
+            log.info("Colunas de busca preenchidas para {} restaurantes", total);
+        }
+    }
+}
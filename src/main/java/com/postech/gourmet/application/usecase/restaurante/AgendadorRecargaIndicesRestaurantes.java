@@ -0,0 +1,39 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Recarrega periodicamente do banco a busca por termo, as sugestões e a busca por proximidade,
+ * para que cada instância receba os cadastros, alterações e exclusões feitos pelas outras.
+ * Estruturas ainda não carregadas continuam sendo montadas só no primeiro acesso.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.restaurantes.indices.recarga-habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorRecargaIndicesRestaurantes {
+    private final IndiceBuscaRestaurantes indiceBuscaRestaurantes;
+    private final SugerirRestaurantesUseCase sugerirRestaurantesUseCase;
+    private final BuscarRestaurantesProximosUseCase buscarRestaurantesProximosUseCase;
+
+    public AgendadorRecargaIndicesRestaurantes(
+            IndiceBuscaRestaurantes indiceBuscaRestaurantes,
+            SugerirRestaurantesUseCase sugerirRestaurantesUseCase,
+            BuscarRestaurantesProximosUseCase buscarRestaurantesProximosUseCase) {
+        this.indiceBuscaRestaurantes = indiceBuscaRestaurantes;
+        this.sugerirRestaurantesUseCase = sugerirRestaurantesUseCase;
+        this.buscarRestaurantesProximosUseCase = buscarRestaurantesProximosUseCase;
+    }
+
+    @Scheduled(fixedDelayString = "${gourmet.restaurantes.indices.intervalo-recarga:10m}",
+            initialDelayString = "${gourmet.restaurantes.indices.intervalo-recarga:10m}")
+    public void recarregar() {
+        long inicio = System.nanoTime();
+        indiceBuscaRestaurantes.recarregar();
+        sugerirRestaurantesUseCase.recarregar();
+        buscarRestaurantesProximosUseCase.recarregar();
+        log.info("Índices de restaurantes recarregados em {} ms", (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
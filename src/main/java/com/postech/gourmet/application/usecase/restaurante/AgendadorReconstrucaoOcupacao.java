@@ -0,0 +1,39 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstrói a tabela de ocupação quando a aplicação sobe com ela vazia (por exemplo, na
+ * primeira implantação) e, se {@code gourmet.ocupacao.reconstrucao.cron} for configurado,
+ * periodicamente.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.ocupacao.reconstrucao.habilitada", havingValue = "true", matchIfMissing = true)
+public class AgendadorReconstrucaoOcupacao {
+    private final OcupacaoRestauranteUseCase ocupacaoRestauranteUseCase;
+
+    public AgendadorReconstrucaoOcupacao(OcupacaoRestauranteUseCase ocupacaoRestauranteUseCase) {
+        this.ocupacaoRestauranteUseCase = ocupacaoRestauranteUseCase;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconstruirSeVazia() {
+        if (ocupacaoRestauranteUseCase.precisaReconstruir()) {
+            reconstruir();
+        }
+    }
+
+    @Scheduled(cron = "${gourmet.ocupacao.reconstrucao.cron:-}")
+    public void reconstruir() {
+        long inicio = System.nanoTime();
+        int restaurantes = ocupacaoRestauranteUseCase.reconstruir();
+        log.info("Ocupação reconstruída para {} restaurantes em {} ms",
+                restaurantes, (System.nanoTime() - inicio) / 1_000_000);
+    }
+}
@@ -0,0 +1,418 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Árvore de prefixos compactada (radix tree) dos nomes e tipos de cozinha normalizados, para
+ * sugerir restaurantes enquanto o usuário digita.
+ * <p>
+ * Cada nó guarda quantas chaves existem abaixo dele e, quando são mais de
+ * {@value #MAXIMO_SUGESTOES}, os {@value #MAXIMO_SUGESTOES} melhores restaurantes da subárvore,
+ * ordenados pela média das avaliações. A consulta só desce até o nó do prefixo e copia essa
+ * lista, independentemente de quantos restaurantes começam com ele. Cada alteração recalcula as
+ * listas apenas dos nós no caminho das chaves do restaurante, a partir das listas dos filhos.
+ */
+class ArvoreSugestoes {
+    static final int MAXIMO_SUGESTOES = 10;
+
+    private final No raiz = new No("");
+    private final Map<Integer, Entrada> entradas = new HashMap<>();
+    private final Comparator<Integer> ranking = Comparator
+            .comparingDouble((Integer id) -> -entradas.get(id).media())
+            .thenComparingLong(id -> -entradas.get(id).avaliacoes)
+            .thenComparingInt(id -> id);
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private boolean emCarga;
+
+    /**
+     * Inclui ou substitui o restaurante, mantendo as avaliações já registradas para ele.
+     */
+    void indexar(int id, String nome, String tipoCozinha) {
+        trava.writeLock().lock();
+        try {
+            Entrada anterior = entradas.get(id);
+            Entrada entrada = new Entrada(nome, tipoCozinha);
+            if (anterior != null) {
+                removerChaves(id, anterior);
+                entrada.avaliacoes = anterior.avaliacoes;
+                entrada.somaNotas = anterior.somaNotas;
+            }
+            entradas.put(id, entrada);
+            inserirChaves(id, entrada);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    void remover(int id) {
+        trava.writeLock().lock();
+        try {
+            Entrada entrada = entradas.get(id);
+            if (entrada != null) {
+                removerChaves(id, entrada);
+                entradas.remove(id);
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Soma avaliações ao restaurante e reposiciona-o nos rankings do caminho de suas chaves. A
+     * forma da árvore não muda, então só esses rankings são recalculados.
+     */
+    void registrarAvaliacoes(int id, long quantidade, long somaNotas) {
+        atualizarAvaliacoes(id, quantidade, somaNotas, true);
+    }
+
+    /**
+     * Substitui os totais de avaliações do restaurante, como {@link #registrarAvaliacoes}, mas de
+     * forma idempotente: aplicar os mesmos totais de novo não muda nada.
+     */
+    void definirAvaliacoes(int id, long quantidade, long somaNotas) {
+        atualizarAvaliacoes(id, quantidade, somaNotas, false);
+    }
+
+    private void atualizarAvaliacoes(int id, long quantidade, long somaNotas, boolean somar) {
+        trava.writeLock().lock();
+        try {
+            Entrada entrada = entradas.get(id);
+            if (entrada == null) {
+                return;
+            }
+            entrada.avaliacoes = somar ? entrada.avaliacoes + quantidade : quantidade;
+            entrada.somaNotas = somar ? entrada.somaNotas + somaNotas : somaNotas;
+            for (String chave : entrada.chaves) {
+                recalcularCaminho(caminho(chave));
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Executa as alterações com a trava de escrita e calcula os rankings de todos os nós uma única
+     * vez no final, em vez de a cada restaurante incluído.
+     */
+    void carregar(Runnable carga) {
+        trava.writeLock().lock();
+        try {
+            emCarga = true;
+            carga.run();
+        } finally {
+            emCarga = false;
+            recalcularSubarvore(raiz);
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Até {@code limite} restaurantes com nome ou tipo de cozinha começando pelo prefixo,
+     * da maior para a menor média de avaliações
+     */
+    List<SugestaoRestaurante> sugerir(String prefixo, int limite) {
+        String chave = Restaurante.normalizarParaBusca(prefixo);
+        trava.readLock().lock();
+        try {
+            No no = raiz;
+            int i = 0;
+            while (i < chave.length()) {
+                int posicao = Arrays.binarySearch(no.iniciais, chave.charAt(i));
+                if (posicao < 0) {
+                    return List.of();
+                }
+                No filho = no.filhos[posicao];
+                int comum = prefixoComum(filho.rotulo, chave, i);
+                if (comum < filho.rotulo.length() && i + comum < chave.length()) {
+                    return List.of();
+                }
+                no = filho;
+                i += comum;
+            }
+
+            int[] melhores = no.topo != null ? no.topo : ordenar(coletar(no, new LinkedHashSet<>()));
+            List<SugestaoRestaurante> sugestoes = new ArrayList<>(Math.min(limite, melhores.length));
+            for (int j = 0; j < melhores.length && j < limite; j++) {
+                Entrada entrada = entradas.get(melhores[j]);
+                sugestoes.add(new SugestaoRestaurante((long) melhores[j], entrada.nome, entrada.tipoCozinha,
+                        entrada.avaliacoes > 0 ? entrada.media() : null));
+            }
+            return sugestoes;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    int restaurantes() {
+        trava.readLock().lock();
+        try {
+            return entradas.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    private void inserirChaves(int id, Entrada entrada) {
+        for (String chave : entrada.chaves) {
+            inserir(chave, id);
+        }
+    }
+
+    private void removerChaves(int id, Entrada entrada) {
+        for (String chave : entrada.chaves) {
+            remover(chave, id);
+        }
+    }
+
+    private void inserir(String chave, int id) {
+        List<No> caminho = new ArrayList<>();
+        No no = raiz;
+        no.tamanho++;
+        caminho.add(no);
+        int i = 0;
+        while (i < chave.length()) {
+            int posicao = Arrays.binarySearch(no.iniciais, chave.charAt(i));
+            if (posicao < 0) {
+                No folha = new No(chave.substring(i));
+                folha.adicionarTerminal(id);
+                folha.tamanho = 1;
+                no.adicionarFilho(-posicao - 1, folha);
+                caminho.add(folha);
+                i = chave.length();
+                no = null;
+                break;
+            }
+
+            No filho = no.filhos[posicao];
+            int comum = prefixoComum(filho.rotulo, chave, i);
+            if (comum < filho.rotulo.length()) {
+                // A chave diverge no meio do rótulo: o trecho comum vira um nó intermediário
+                No intermediario = new No(filho.rotulo.substring(0, comum));
+                filho.rotulo = filho.rotulo.substring(comum);
+                intermediario.iniciais = new char[]{filho.rotulo.charAt(0)};
+                intermediario.filhos = new No[]{filho};
+                intermediario.tamanho = filho.tamanho;
+                no.filhos[posicao] = intermediario;
+                filho = intermediario;
+            }
+            filho.tamanho++;
+            caminho.add(filho);
+            no = filho;
+            i += comum;
+        }
+        if (no != null) {
+            no.adicionarTerminal(id);
+        }
+        recalcularCaminho(caminho);
+    }
+
+    private void remover(String chave, int id) {
+        List<No> caminho = caminho(chave);
+        if (caminho.isEmpty()) {
+            return;
+        }
+        No no = caminho.get(caminho.size() - 1);
+        if (!no.removerTerminal(id)) {
+            return;
+        }
+
+        for (No noCaminho : caminho) {
+            noCaminho.tamanho--;
+        }
+        // Nós que ficaram vazios saem da árvore; os demais têm o ranking recalculado
+        for (int j = caminho.size() - 1; j > 0; j--) {
+            No vazio = caminho.get(j);
+            if (vazio.tamanho > 0) {
+                break;
+            }
+            caminho.get(j - 1).removerFilho(vazio.rotulo.charAt(0));
+            caminho.remove(j);
+        }
+        recalcularCaminho(caminho);
+    }
+
+    /**
+     * @return Nós da raiz até o nó da chave, ou lista vazia se a chave não estiver na árvore
+     */
+    private List<No> caminho(String chave) {
+        List<No> caminho = new ArrayList<>();
+        No no = raiz;
+        caminho.add(no);
+        int i = 0;
+        while (i < chave.length()) {
+            int posicao = Arrays.binarySearch(no.iniciais, chave.charAt(i));
+            if (posicao < 0) {
+                return List.of();
+            }
+            No filho = no.filhos[posicao];
+            if (!chave.startsWith(filho.rotulo, i)) {
+                return List.of();
+            }
+            caminho.add(filho);
+            no = filho;
+            i += filho.rotulo.length();
+        }
+        return caminho;
+    }
+
+    private void recalcularCaminho(List<No> caminho) {
+        if (emCarga) {
+            return;
+        }
+        for (int j = caminho.size() - 1; j >= 0; j--) {
+            recalcular(caminho.get(j));
+        }
+    }
+
+    private void recalcularSubarvore(No no) {
+        for (No filho : no.filhos) {
+            recalcularSubarvore(filho);
+        }
+        recalcular(no);
+    }
+
+    /**
+     * Os melhores da subárvore estão entre os terminais do nó e os melhores de cada filho: um
+     * restaurante fora do ranking de um filho tem pelo menos {@value #MAXIMO_SUGESTOES} outros
+     * melhores do que ele.
+     */
+    private void recalcular(No no) {
+        if (no.tamanho <= MAXIMO_SUGESTOES) {
+            no.topo = null;
+            return;
+        }
+        Set<Integer> candidatos = new LinkedHashSet<>();
+        for (int i = 0; i < no.quantidadeTerminais; i++) {
+            candidatos.add(no.terminais[i]);
+        }
+        for (No filho : no.filhos) {
+            if (filho.topo != null) {
+                for (int id : filho.topo) {
+                    candidatos.add(id);
+                }
+            } else {
+                coletar(filho, candidatos);
+            }
+        }
+        int[] ordenados = ordenar(candidatos);
+        no.topo = ordenados.length > MAXIMO_SUGESTOES ? Arrays.copyOf(ordenados, MAXIMO_SUGESTOES) : ordenados;
+    }
+
+    private static Set<Integer> coletar(No no, Set<Integer> ids) {
+        for (int i = 0; i < no.quantidadeTerminais; i++) {
+            ids.add(no.terminais[i]);
+        }
+        for (No filho : no.filhos) {
+            coletar(filho, ids);
+        }
+        return ids;
+    }
+
+    private int[] ordenar(Set<Integer> ids) {
+        return ids.stream().sorted(ranking).mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int prefixoComum(String rotulo, String chave, int inicio) {
+        int limite = Math.min(rotulo.length(), chave.length() - inicio);
+        int comum = 0;
+        while (comum < limite && rotulo.charAt(comum) == chave.charAt(inicio + comum)) {
+            comum++;
+        }
+        return comum;
+    }
+
+    private static final class Entrada {
+        private final String nome;
+        private final String tipoCozinha;
+        private final String[] chaves;
+        private long avaliacoes;
+        private long somaNotas;
+
+        private Entrada(String nome, String tipoCozinha) {
+            this.nome = nome;
+            this.tipoCozinha = tipoCozinha;
+            this.chaves = Stream.of(nome, tipoCozinha)
+                    .map(Restaurante::normalizarParaBusca)
+                    .filter(chave -> chave != null && !chave.isEmpty())
+                    .distinct()
+                    .toArray(String[]::new);
+        }
+
+        private double media() {
+            return avaliacoes > 0 ? (double) somaNotas / avaliacoes : 0.0;
+        }
+    }
+
+    private static final class No {
+        private String rotulo;
+        // Primeiro caractere do rótulo de cada filho, em ordem, para a busca binária
+        private char[] iniciais = new char[0];
+        private No[] filhos = new No[0];
+        // Restaurantes cuja chave termina neste nó, sem ordem; a capacidade dobra ao encher
+        private int[] terminais = new int[1];
+        private int quantidadeTerminais;
+        private int tamanho;
+        private int[] topo;
+
+        private No(String rotulo) {
+            this.rotulo = rotulo;
+        }
+
+        private void adicionarTerminal(int id) {
+            if (quantidadeTerminais == terminais.length) {
+                terminais = Arrays.copyOf(terminais, terminais.length * 2);
+            }
+            terminais[quantidadeTerminais++] = id;
+        }
+
+        private boolean removerTerminal(int id) {
+            for (int i = 0; i < quantidadeTerminais; i++) {
+                if (terminais[i] == id) {
+                    terminais[i] = terminais[--quantidadeTerminais];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void adicionarFilho(int posicao, No filho) {
+            char[] novasIniciais = new char[iniciais.length + 1];
+            No[] novosFilhos = new No[filhos.length + 1];
+            System.arraycopy(iniciais, 0, novasIniciais, 0, posicao);
+            System.arraycopy(filhos, 0, novosFilhos, 0, posicao);
+            novasIniciais[posicao] = filho.rotulo.charAt(0);
+            novosFilhos[posicao] = filho;
+            System.arraycopy(iniciais, posicao, novasIniciais, posicao + 1, iniciais.length - posicao);
+            System.arraycopy(filhos, posicao, novosFilhos, posicao + 1, filhos.length - posicao);
+            iniciais = novasIniciais;
+            filhos = novosFilhos;
+        }
+
+        private void removerFilho(char inicial) {
+            int posicao = Arrays.binarySearch(iniciais, inicial);
+            if (posicao < 0) {
+                return;
+            }
+            char[] novasIniciais = new char[iniciais.length - 1];
+            No[] novosFilhos = new No[filhos.length - 1];
+            System.arraycopy(iniciais, 0, novasIniciais, 0, posicao);
+            System.arraycopy(filhos, 0, novosFilhos, 0, posicao);
+            System.arraycopy(iniciais, posicao + 1, novasIniciais, posicao, novasIniciais.length - posicao);
+            System.arraycopy(filhos, posicao + 1, novosFilhos, posicao, novosFilhos.length - posicao);
+            iniciais = novasIniciais;
+            filhos = novosFilhos;
+        }
+    }
+}
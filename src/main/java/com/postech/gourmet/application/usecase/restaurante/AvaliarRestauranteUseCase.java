@@ -4,11 +4,13 @@ import com.postech.gourmet.adapters.dto.AvaliacaoDTO;
 import com.postech.gourmet.domain.entities.Avaliacao;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.events.AvaliacaoRegistradaEvent;
 import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
 import com.postech.gourmet.domain.repositories.AvaliacaoRepository;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
 import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,14 +22,17 @@ public class AvaliarRestauranteUseCase {
     private final AvaliacaoRepository avaliacaoRepository;
     private final RestauranteRepository restauranteRepository;
     private final UsuarioRepository usuarioRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public AvaliarRestauranteUseCase(
             AvaliacaoRepository avaliacaoRepository,
             RestauranteRepository restauranteRepository,
-            UsuarioRepository usuarioRepository) {
+            UsuarioRepository usuarioRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.avaliacaoRepository = avaliacaoRepository;
         this.restauranteRepository = restauranteRepository;
         this.usuarioRepository = usuarioRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -59,6 +64,7 @@ public class AvaliarRestauranteUseCase {
 
         restaurante.adicionarAvaliacao(avaliacaoSalva);
         restauranteRepository.save(restaurante);
+        eventPublisher.publishEvent(new AvaliacaoRegistradaEvent(restauranteId, nota));
 
         return avaliacaoSalva;
     }
@@ -1,33 +1,81 @@
 package com.postech.gourmet.application.usecase.restaurante;
 
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class BuscarRestauranteUseCase {
+    public static final int MAXIMO_RESULTADOS_APROXIMADOS = 100;
+
     private final RestauranteRepository restauranteRepository;
+    private final IndiceBuscaRestaurantes indiceBuscaRestaurantes;
 
-    public BuscarRestauranteUseCase(RestauranteRepository restauranteRepository) {
+    public BuscarRestauranteUseCase(RestauranteRepository restauranteRepository,
+                                    IndiceBuscaRestaurantes indiceBuscaRestaurantes) {
         this.restauranteRepository = restauranteRepository;
+        this.indiceBuscaRestaurantes = indiceBuscaRestaurantes;
     }
 
     /**
-     * Busca restaurantes por termo (nome, endereço ou tipo de cozinha)
+     * Busca restaurantes por termo (nome, endereço ou tipo de cozinha), usando o índice de
+     * trigramas para encontrar os IDs e o banco apenas para carregar os restaurantes encontrados
      *
      * @param termo Termo para busca
-     * @return Lista de restaurantes encontrados
+     * @return Lista de restaurantes encontrados, em ordem de ID
      */
     public List<Restaurante> buscarRestaurantes(String termo) {
         if (termo == null || termo.trim().isEmpty()) {
             return restauranteRepository.findAll();
         }
 
-        return restauranteRepository.findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(
-                termo, termo, termo);
+        List<Long> ids = indiceBuscaRestaurantes.buscar(termo);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return restauranteRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(Restaurante::getId))
+                .toList();
+    }
+
+    /**
+     * Busca restaurantes tolerando erros de digitação: cada palavra do termo pode estar a até duas
+     * edições (uma para palavras de 3 a 5 letras, nenhuma para as menores) de uma palavra do nome
+     * ou do tipo de cozinha
+     *
+     * @param termo Termo para busca
+     * @param limite Quantidade máxima de restaurantes, até {@value #MAXIMO_RESULTADOS_APROXIMADOS}
+     * @return Lista de restaurantes encontrados, dos mais próximos do termo para os menos próximos;
+     * sem termo, os {@code limite} primeiros restaurantes em ordem de ID
+     * @throws InvalidRequestException se o limite for inválido
+     */
+    public List<Restaurante> buscarRestaurantesAproximado(String termo, int limite) {
+        if (limite < 1 || limite > MAXIMO_RESULTADOS_APROXIMADOS) {
+            throw new InvalidRequestException("O limite de restaurantes deve estar entre 1 e "
+                    + MAXIMO_RESULTADOS_APROXIMADOS);
+        }
+        if (termo == null || termo.trim().isEmpty()) {
+            return restauranteRepository.findPrimeiros(limite);
+        }
+
+        List<Long> ids = indiceBuscaRestaurantes.buscarAproximado(termo, limite);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Integer> posicoes = new HashMap<>();
+        for (int i = 0; i < ids.size(); i++) {
+            posicoes.put(ids.get(i), i);
+        }
+        return restauranteRepository.findAllById(ids).stream()
+                .sorted(Comparator.comparing(restaurante -> posicoes.get(restaurante.getId())))
+                .toList();
     }
 
     /**
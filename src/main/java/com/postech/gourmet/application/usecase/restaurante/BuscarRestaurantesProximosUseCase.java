@@ -0,0 +1,124 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.LocalizacaoRestaurante;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Busca de restaurantes perto de um ponto ("perto de mim").
+ * <p>
+ * Os restaurantes com localização ficam em uma {@link GradeGeografica} em memória, carregada do
+ * banco na primeira busca e mantida a partir daí pelos cadastros, atualizações e exclusões
+ * confirmados nesta instância; o banco só é consultado para carregar os restaurantes encontrados.
+ * As alterações feitas por outras instâncias só chegam pela {@link #recarregar() recarga}
+ * periódica, que monta uma grade nova e a troca pela atual.
+ */
+@Service
+public class BuscarRestaurantesProximosUseCase {
+    public static final double MAXIMO_RAIO_KM = 50;
+    public static final int MAXIMO_RESULTADOS = 100;
+    // Acima disso as células da grade ficam estreitas demais e a busca visita anéis demais
+    public static final double MAXIMO_LATITUDE = 85;
+
+    private final RestauranteRepository restauranteRepository;
+    private volatile GradeGeografica grade = new GradeGeografica();
+    private volatile boolean carregada;
+
+    public BuscarRestaurantesProximosUseCase(RestauranteRepository restauranteRepository) {
+        this.restauranteRepository = restauranteRepository;
+    }
+
+    /**
+     * @param raioKm Distância máxima em km, até {@value #MAXIMO_RAIO_KM}
+     * @param limite Quantidade máxima de restaurantes, até {@value #MAXIMO_RESULTADOS}
+     * @return Restaurantes dentro do raio, do mais próximo para o mais distante
+     * @throws InvalidRequestException se o ponto, o raio ou o limite forem inválidos
+     */
+    public List<RestauranteProximo> buscarProximos(double latitude, double longitude, double raioKm, int limite) {
+        if (Double.isNaN(latitude) || Math.abs(latitude) > MAXIMO_LATITUDE
+                || Double.isNaN(longitude) || Math.abs(longitude) > 180) {
+            throw new InvalidRequestException("Latitude deve estar entre -" + MAXIMO_LATITUDE + " e " + MAXIMO_LATITUDE
+                    + " e longitude entre -180 e 180");
+        }
+        if (!(raioKm > 0 && raioKm <= MAXIMO_RAIO_KM)) {
+            throw new InvalidRequestException("O raio deve ser maior que zero e de no máximo " + MAXIMO_RAIO_KM + " km");
+        }
+        if (limite < 1 || limite > MAXIMO_RESULTADOS) {
+            throw new InvalidRequestException("O limite de restaurantes deve estar entre 1 e " + MAXIMO_RESULTADOS);
+        }
+
+        carregarSeNecessario();
+        List<GradeGeografica.Vizinho> vizinhos = grade.proximos(latitude, longitude, raioKm, limite);
+        if (vizinhos.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Restaurante> restaurantes = restauranteRepository.findAllById(vizinhos.stream()
+                        .map(vizinho -> (long) vizinho.id())
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Restaurante::getId, Function.identity()));
+        // Restaurante excluído depois da consulta à grade fica de fora
+        return vizinhos.stream()
+                .filter(vizinho -> restaurantes.containsKey((long) vizinho.id()))
+                .map(vizinho -> new RestauranteProximo(restaurantes.get((long) vizinho.id()), vizinho.distanciaKm()))
+                .toList();
+    }
+
+    /**
+     * Alterações e cargas se excluem: uma alteração aplicada antes da carga já está no banco
+     * quando ela o lê, e uma posterior é aplicada à grade nova.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        int id = Math.toIntExact(event.restauranteId());
+        Restaurante restaurante = event.restaurante();
+        if (event.operacao() == RestauranteAlteradoEvent.Operacao.EXCLUSAO || restaurante == null
+                || !restaurante.temLocalizacao()) {
+            grade.remover(id);
+        } else {
+            grade.indexar(id, restaurante.getLatitude(), restaurante.getLongitude());
+        }
+    }
+
+    /**
+     * Remonta a grade a partir do banco, se já tiver sido carregada, trazendo as localizações das
+     * outras instâncias e descartando os restaurantes excluídos por elas.
+     */
+    public synchronized void recarregar() {
+        if (carregada) {
+            carregar();
+        }
+    }
+
+    private void carregarSeNecessario() {
+        if (carregada) {
+            return;
+        }
+        synchronized (this) {
+            if (!carregada) {
+                carregar();
+                carregada = true;
+            }
+        }
+    }
+
+    private void carregar() {
+        GradeGeografica nova = new GradeGeografica();
+        nova.carregar(() -> {
+            for (LocalizacaoRestaurante localizacao : restauranteRepository.findLocalizacoes()) {
+                nova.indexar(Math.toIntExact(localizacao.id()), localizacao.latitude(), localizacao.longitude());
+            }
+        });
+        grade = nova;
+    }
+}
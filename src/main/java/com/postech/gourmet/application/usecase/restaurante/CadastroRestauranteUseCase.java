@@ -4,10 +4,12 @@ import com.postech.gourmet.adapters.dto.HorarioFuncionamentoDTO;
 import com.postech.gourmet.adapters.dto.RestauranteDTO;
 import com.postech.gourmet.domain.entities.HorarioFuncionamento;
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
 import com.postech.gourmet.domain.exception.DuplicateResourceException;
 import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,10 +21,13 @@ import java.util.Map;
 @Service
 public class CadastroRestauranteUseCase {
     private final RestauranteRepository restauranteRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public CadastroRestauranteUseCase(
-            RestauranteRepository restauranteRepository) {
+            RestauranteRepository restauranteRepository,
+            ApplicationEventPublisher eventPublisher) {
         this.restauranteRepository = restauranteRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -34,7 +39,7 @@ public class CadastroRestauranteUseCase {
         restaurante.setTelefone(restauranteDTO.getTelefone());
         restaurante.setTipoCozinha(restauranteDTO.getTipoCozinha());
         restaurante.setCapacidade(restauranteDTO.getCapacidade());
-
+        definirLocalizacao(restaurante, restauranteDTO);
 
         Map<DayOfWeek, HorarioFuncionamento> horarios = new EnumMap<>(DayOfWeek.class);
         for (Map.Entry<DayOfWeek, HorarioFuncionamentoDTO> entry :
@@ -64,7 +69,9 @@ public class CadastroRestauranteUseCase {
             configurarHorariosDefault(restaurante);
         }
 
-        return restauranteRepository.save(restaurante);
+        Restaurante restauranteSalvo = restauranteRepository.save(restaurante);
+        eventPublisher.publishEvent(RestauranteAlteradoEvent.cadastro(restauranteSalvo));
+        return restauranteSalvo;
     }
 
 
@@ -94,6 +101,10 @@ public class CadastroRestauranteUseCase {
             restaurante.setCapacidade(restauranteDTO.getCapacidade());
         }
 
+        if (restauranteDTO.getLatitude() != null || restauranteDTO.getLongitude() != null) {
+            definirLocalizacao(restaurante, restauranteDTO);
+        }
+
         if (restauranteDTO.getHorariosFuncionamento() != null && !restauranteDTO.getHorariosFuncionamento().isEmpty()) {
             Map<DayOfWeek, HorarioFuncionamento> horarios = new EnumMap<>(DayOfWeek.class);
 
@@ -109,7 +120,9 @@ public class CadastroRestauranteUseCase {
 
             restaurante.setHorariosFuncionamento(horarios);
         }
-        return restauranteRepository.save(restaurante);
+        Restaurante restauranteAtualizado = restauranteRepository.save(restaurante);
+        eventPublisher.publishEvent(RestauranteAlteradoEvent.atualizacao(restauranteAtualizado));
+        return restauranteAtualizado;
     }
 
     @Transactional
@@ -119,9 +132,18 @@ public class CadastroRestauranteUseCase {
         }
 
         restauranteRepository.deleteById(id);
+        eventPublisher.publishEvent(RestauranteAlteradoEvent.exclusao(id));
     }
 
 
+    private void definirLocalizacao(Restaurante restaurante, RestauranteDTO restauranteDTO) {
+        try {
+            restaurante.definirLocalizacao(restauranteDTO.getLatitude(), restauranteDTO.getLongitude());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage());
+        }
+    }
+
     private void configurarHorariosDefault(Restaurante restaurante) {
         LocalTime abertura = LocalTime.of(11, 0);
         LocalTime fechamento = LocalTime.of(23, 0);
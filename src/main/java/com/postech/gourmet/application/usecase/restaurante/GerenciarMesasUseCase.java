@@ -0,0 +1,73 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.application.usecase.reserva.AlocadorMesas;
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Cadastro do layout de mesas de um restaurante. Sem mesas, as reservas disputam apenas a
+ * capacidade total; com mesas, cada reserva é colocada em uma mesa pelo {@link AlocadorMesas}.
+ */
+@Service
+public class GerenciarMesasUseCase {
+    public static final int MESAS_MAXIMAS = 1000;
+
+    private final MesaRepository mesaRepository;
+    private final RestauranteRepository restauranteRepository;
+    private final AlocadorMesas alocadorMesas;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public GerenciarMesasUseCase(
+            MesaRepository mesaRepository,
+            RestauranteRepository restauranteRepository,
+            AlocadorMesas alocadorMesas,
+            ApplicationEventPublisher eventPublisher) {
+        this.mesaRepository = mesaRepository;
+        this.restauranteRepository = restauranteRepository;
+        this.alocadorMesas = alocadorMesas;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public List<Mesa> listarMesas(Long restauranteId) {
+        if (!restauranteRepository.existsById(restauranteId)) {
+            throw new ResourceNotFoundException("Restaurante não encontrado com ID: " + restauranteId);
+        }
+        return alocadorMesas.mesas(restauranteId);
+    }
+
+    /**
+     * Substitui o layout de mesas do restaurante. Uma lista vazia remove as mesas e volta a
+     * usar apenas a capacidade total. Reservas existentes mantêm as mesas que já receberam.
+     *
+     * @throws InvalidRequestException se alguma mesa for inválida
+     */
+    @Transactional
+    public List<Mesa> definirMesas(Long restauranteId, List<Mesa> mesas) {
+        Restaurante restaurante = restauranteRepository.findById(restauranteId)
+                .orElseThrow(() -> new ResourceNotFoundException("Restaurante não encontrado com ID: " + restauranteId));
+
+        if (mesas.size() > MESAS_MAXIMAS) {
+            throw new InvalidRequestException("O restaurante pode ter no máximo " + MESAS_MAXIMAS + " mesas");
+        }
+        for (Mesa mesa : mesas) {
+            if (mesa.getLugares() == null || mesa.getLugares() <= 0) {
+                throw new InvalidRequestException("Toda mesa deve ter ao menos um lugar");
+            }
+        }
+
+        List<Mesa> salvas = mesaRepository.substituir(restauranteId, mesas);
+        // Descarta as mesas e slots em memória do restaurante após o commit
+        eventPublisher.publishEvent(RestauranteAlteradoEvent.atualizacao(restaurante));
+        return salvas;
+    }
+}
@@ -0,0 +1,251 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Índice geográfico dos restaurantes em uma grade uniforme de células de
+ * {@value #TAMANHO_CELULA_GRAUS}° de latitude por {@value #TAMANHO_CELULA_GRAUS}° de longitude
+ * (cerca de 1,1 km x 1 km em São Paulo, como os buckets de um geohash de 6 caracteres).
+ * <p>
+ * A busca dos mais próximos visita as células em anéis concêntricos a partir da célula do ponto
+ * consultado. Antes de cada anel calcula a menor distância possível até qualquer ponto fora dos
+ * anéis já visitados; quando ela passa do raio, ou da distância do k-ésimo mais próximo já
+ * encontrado, os anéis restantes não podem melhorar o resultado e a busca termina.
+ */
+class GradeGeografica {
+    static final double TAMANHO_CELULA_GRAUS = 0.01;
+    static final double RAIO_TERRA_KM = 6371.0088;
+    private static final int LINHAS = (int) Math.round(180 / TAMANHO_CELULA_GRAUS);
+    private static final int COLUNAS = (int) Math.round(360 / TAMANHO_CELULA_GRAUS);
+
+    private final Map<Long, Celula> celulas = new HashMap<>();
+    private final Map<Integer, Long> celulaPorRestaurante = new HashMap<>();
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Inclui o restaurante ou move-o para a nova posição.
+     */
+    void indexar(int id, double latitude, double longitude) {
+        trava.writeLock().lock();
+        try {
+            removerSemTrava(id);
+            long chave = chave(linha(latitude), coluna(longitude));
+            celulas.computeIfAbsent(chave, c -> new Celula()).adicionar(id, latitude, longitude);
+            celulaPorRestaurante.put(id, chave);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    void remover(int id) {
+        trava.writeLock().lock();
+        try {
+            removerSemTrava(id);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Executa a carga com a trava de escrita: alterações concorrentes esperam ela terminar e são
+     * aplicadas por cima.
+     */
+    void carregar(Runnable carga) {
+        trava.writeLock().lock();
+        try {
+            carga.run();
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return Até {@code limite} restaurantes a no máximo {@code raioKm} do ponto, do mais próximo
+     * para o mais distante (no empate, pelo ID)
+     */
+    List<Vizinho> proximos(double latitude, double longitude, double raioKm, int limite) {
+        Comparator<Vizinho> maisDistantePrimeiro = Comparator.comparingDouble(Vizinho::distanciaKm)
+                .thenComparingInt(Vizinho::id)
+                .reversed();
+        PriorityQueue<Vizinho> melhores = new PriorityQueue<>(limite + 1, maisDistantePrimeiro);
+        int linha = linha(latitude);
+        int coluna = coluna(longitude);
+
+        trava.readLock().lock();
+        try {
+            for (int anel = 0; anel <= LINHAS + COLUNAS; anel++) {
+                double corte = melhores.size() == limite ? melhores.peek().distanciaKm() : raioKm;
+                if (anel > 0 && distanciaMinimaForaDoBloco(latitude, longitude, linha, coluna, anel - 1) > corte) {
+                    break;
+                }
+                visitarAnel(linha, coluna, anel, celula -> {
+                    for (int i = 0; i < celula.quantidade; i++) {
+                        double distancia = distanciaKm(latitude, longitude, celula.latitudes[i], celula.longitudes[i]);
+                        if (distancia > raioKm) {
+                            continue;
+                        }
+                        Vizinho vizinho = new Vizinho(celula.ids[i], distancia);
+                        if (melhores.size() < limite) {
+                            melhores.add(vizinho);
+                        } else if (maisDistantePrimeiro.compare(vizinho, melhores.peek()) > 0) {
+                            melhores.poll();
+                            melhores.add(vizinho);
+                        }
+                    }
+                });
+            }
+        } finally {
+            trava.readLock().unlock();
+        }
+
+        List<Vizinho> resultado = new ArrayList<>(melhores);
+        resultado.sort(maisDistantePrimeiro.reversed());
+        return resultado;
+    }
+
+    int restaurantes() {
+        trava.readLock().lock();
+        try {
+            return celulaPorRestaurante.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * Distância de grande círculo pela fórmula de haversine.
+     */
+    static double distanciaKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLatitude = Math.toRadians(latitude2 - latitude1);
+        double dLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLatitude / 2) * Math.sin(dLatitude / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLongitude / 2) * Math.sin(dLongitude / 2);
+        return 2 * RAIO_TERRA_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Menor distância do ponto a qualquer ponto fora do bloco de células a até {@code anel}
+     * células da célula do ponto. Ao norte e ao sul é a diferença de latitude até a borda; a leste
+     * e a oeste, a distância ao meridiano da borda, {@code asin(cos(lat) * sin(dLon))}.
+     */
+    private static double distanciaMinimaForaDoBloco(double latitude, double longitude, int linha, int coluna, int anel) {
+        double norte = (linha + anel + 1) * TAMANHO_CELULA_GRAUS - 90;
+        double sul = (linha - anel) * TAMANHO_CELULA_GRAUS - 90;
+        double minima = Math.min(
+                norte >= 90 ? Double.POSITIVE_INFINITY : Math.toRadians(norte - latitude) * RAIO_TERRA_KM,
+                sul <= -90 ? Double.POSITIVE_INFINITY : Math.toRadians(latitude - sul) * RAIO_TERRA_KM);
+
+        if (2 * anel + 1 < COLUNAS) {
+            double leste = (coluna + anel + 1) * TAMANHO_CELULA_GRAUS - 180 - longitude;
+            double oeste = longitude - ((coluna - anel) * TAMANHO_CELULA_GRAUS - 180);
+            double delta = Math.min(leste, oeste);
+            double cosLatitude = Math.cos(Math.toRadians(latitude));
+            minima = Math.min(minima, delta >= 90 ? 0
+                    : RAIO_TERRA_KM * Math.asin(Math.min(1, cosLatitude * Math.sin(Math.toRadians(delta)))));
+        }
+        return minima;
+    }
+
+    /**
+     * Visita as células não vazias a exatamente {@code anel} células (distância de Chebyshev) da
+     * célula central, dando a volta no antimeridiano sem repetir colunas.
+     */
+    private void visitarAnel(int linha, int coluna, int anel, Consumer<Celula> visitante) {
+        int maiorDeslocamento = COLUNAS / 2;
+        for (int dLinha = -anel; dLinha <= anel; dLinha++) {
+            int linhaVisitada = linha + dLinha;
+            if (linhaVisitada < 0 || linhaVisitada >= LINHAS) {
+                continue;
+            }
+            boolean borda = Math.abs(dLinha) == anel;
+            for (int dColuna = -anel; dColuna <= anel; dColuna += borda ? 1 : 2 * anel) {
+                if (dColuna <= -maiorDeslocamento || dColuna > maiorDeslocamento) {
+                    continue;
+                }
+                Celula celula = celulas.get(chave(linhaVisitada, Math.floorMod(coluna + dColuna, COLUNAS)));
+                if (celula != null) {
+                    visitante.accept(celula);
+                }
+                if (anel == 0) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private void removerSemTrava(int id) {
+        Long chave = celulaPorRestaurante.remove(id);
+        if (chave == null) {
+            return;
+        }
+        Celula celula = celulas.get(chave);
+        if (celula.remover(id) == 0) {
+            celulas.remove(chave);
+        }
+    }
+
+    private static int linha(double latitude) {
+        return Math.min(LINHAS - 1, (int) Math.floor((latitude + 90) / TAMANHO_CELULA_GRAUS));
+    }
+
+    private static int coluna(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180) / TAMANHO_CELULA_GRAUS), COLUNAS);
+    }
+
+    private static long chave(int linha, int coluna) {
+        return (long) linha * COLUNAS + coluna;
+    }
+
+    /**
+     * @param distanciaKm Distância de grande círculo até o ponto consultado
+     */
+    record Vizinho(int id, double distanciaKm) {
+    }
+
+    /**
+     * Restaurantes de uma célula, em vetores paralelos; a remoção troca pelo último.
+     */
+    private static final class Celula {
+        private int[] ids = new int[2];
+        private double[] latitudes = new double[2];
+        private double[] longitudes = new double[2];
+        private int quantidade;
+
+        private void adicionar(int id, double latitude, double longitude) {
+            if (quantidade == ids.length) {
+                ids = Arrays.copyOf(ids, quantidade * 2);
+                latitudes = Arrays.copyOf(latitudes, quantidade * 2);
+                longitudes = Arrays.copyOf(longitudes, quantidade * 2);
+            }
+            ids[quantidade] = id;
+            latitudes[quantidade] = latitude;
+            longitudes[quantidade++] = longitude;
+        }
+
+        /**
+         * @return Quantidade de restaurantes restantes na célula
+         */
+        private int remover(int id) {
+            for (int i = 0; i < quantidade; i++) {
+                if (ids[i] == id) {
+                    quantidade--;
+                    ids[i] = ids[quantidade];
+                    latitudes[i] = latitudes[quantidade];
+                    longitudes[i] = longitudes[quantidade];
+                    break;
+                }
+            }
+            return quantidade;
+        }
+    }
+}
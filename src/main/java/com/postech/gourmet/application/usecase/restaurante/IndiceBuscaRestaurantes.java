@@ -0,0 +1,126 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.TextoRestaurante;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Índice de trigramas sobre nome, endereço e tipo de cozinha dos restaurantes, usado pela busca
+ * por termo no lugar de {@code LIKE '%termo%'}, que sempre varre a tabela inteira.
+ * <p>
+ * Mantém também o {@link VocabularioAproximado} das palavras do nome e do tipo de cozinha, para
+ * a busca tolerante a erros de digitação.
+ * <p>
+ * Os dois são carregados do banco na primeira busca, a partir das colunas já normalizadas, e a
+ * partir daí acompanham os cadastros, atualizações e exclusões confirmados nesta instância. As
+ * alterações feitas por outras instâncias só chegam pela {@link #recarregar() recarga} periódica,
+ * que monta índices novos e os troca pelos atuais sem bloquear as buscas.
+ */
+@Component
+public class IndiceBuscaRestaurantes {
+    private static final IndiceTrigramas.Documento<TextoRestaurante> DOCUMENTO = new IndiceTrigramas.Documento<>() {
+        @Override
+        public int id(TextoRestaurante texto) {
+            return Math.toIntExact(texto.id());
+        }
+
+        @Override
+        public String[] campos(TextoRestaurante texto) {
+            return new String[]{texto.nome(), texto.endereco(), texto.tipoCozinha()};
+        }
+    };
+
+    private static final IndiceTrigramas.Documento<TextoRestaurante> PALAVRAS = new IndiceTrigramas.Documento<>() {
+        @Override
+        public int id(TextoRestaurante texto) {
+            return Math.toIntExact(texto.id());
+        }
+
+        @Override
+        public String[] campos(TextoRestaurante texto) {
+            return new String[]{texto.nome(), texto.tipoCozinha()};
+        }
+    };
+
+    private final RestauranteRepository restauranteRepository;
+    private volatile IndiceTrigramas indice = new IndiceTrigramas();
+    private volatile VocabularioAproximado vocabulario = new VocabularioAproximado();
+    private volatile boolean carregado;
+
+    public IndiceBuscaRestaurantes(RestauranteRepository restauranteRepository) {
+        this.restauranteRepository = restauranteRepository;
+    }
+
+    /**
+     * @return IDs, em ordem crescente, dos restaurantes cujo nome, endereço ou tipo de cozinha
+     * contém o termo, sem diferenciar acentos nem maiúsculas
+     */
+    public List<Long> buscar(String termo) {
+        carregarSeNecessario();
+        return Arrays.stream(indice.buscar(termo)).mapToObj(Long::valueOf).toList();
+    }
+
+    /**
+     * @return Até {@code limite} IDs dos restaurantes com nome ou tipo de cozinha contendo palavras
+     * a até duas edições das palavras do termo, dos mais próximos para os menos próximos
+     */
+    public List<Long> buscarAproximado(String termo, int limite) {
+        carregarSeNecessario();
+        return Arrays.stream(vocabulario.buscar(termo, limite)).mapToObj(Long::valueOf).toList();
+    }
+
+    /**
+     * Alterações e cargas se excluem: uma alteração aplicada antes da carga já está no banco
+     * quando ela o lê, e uma posterior é aplicada aos índices novos.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        int id = Math.toIntExact(event.restauranteId());
+        Restaurante restaurante = event.restaurante();
+        if (event.operacao() == RestauranteAlteradoEvent.Operacao.EXCLUSAO || restaurante == null) {
+            indice.remover(id);
+            vocabulario.remover(id);
+        } else {
+            indice.indexar(id, restaurante.getNome(), restaurante.getEndereco(), restaurante.getTipoCozinha());
+            vocabulario.indexar(id, restaurante.getNome(), restaurante.getTipoCozinha());
+        }
+    }
+
+    /**
+     * Remonta os índices a partir do banco, se já tiverem sido carregados, trazendo as alterações
+     * das outras instâncias e descartando os restaurantes excluídos por elas.
+     */
+    public synchronized void recarregar() {
+        if (carregado) {
+            carregar();
+        }
+    }
+
+    private void carregarSeNecessario() {
+        if (carregado) {
+            return;
+        }
+        synchronized (this) {
+            if (!carregado) {
+                carregar();
+                carregado = true;
+            }
+        }
+    }
+
+    private void carregar() {
+        List<TextoRestaurante> textos = restauranteRepository.findTextosBusca();
+        IndiceTrigramas novoIndice = new IndiceTrigramas();
+        novoIndice.carregar(() -> textos, DOCUMENTO);
+        VocabularioAproximado novoVocabulario = new VocabularioAproximado();
+        novoVocabulario.carregar(textos, PALAVRAS);
+        indice = novoIndice;
+        vocabulario = novoVocabulario;
+    }
+}
@@ -0,0 +1,412 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * Índice invertido de trigramas para busca por substring, sem diferenciar acentos nem
+ * maiúsculas ({@link Restaurante#normalizarParaBusca}), em qualquer um dos campos de um documento.
+ * <p>
+ * Cada trigrama aponta para a lista ordenada dos documentos que o contêm, guardada como
+ * diferenças entre IDs consecutivos codificadas em varint (1 byte para diferenças menores que
+ * 128). A busca intersecta as listas dos trigramas do termo, da menor para a maior, e confirma os
+ * candidatos no texto, já que ter todos os trigramas não garante a substring. Termos com menos de
+ * três caracteres não têm trigramas e são verificados documento a documento.
+ */
+class IndiceTrigramas {
+    // Com poucos candidatos, conferir o texto custa menos do que percorrer as listas restantes
+    private static final int CANDIDATOS_PARA_VERIFICAR = 32;
+
+    private final Map<Long, ListaPostagens> postagens = new HashMap<>();
+    private final Map<Integer, String[]> textos = new HashMap<>();
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    /**
+     * Indexa o documento, substituindo a versão anterior se ele já estiver no índice.
+     */
+    void indexar(int id, String... campos) {
+        trava.writeLock().lock();
+        try {
+            indexarSemTrava(id, campos);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexa os documentos obtidos do fornecedor, que é chamado com a trava de escrita: alterações
+     * concorrentes esperam a carga terminar e são aplicadas por cima dela.
+     */
+    <T> void carregar(Supplier<? extends Collection<T>> documentos, Documento<T> documento) {
+        trava.writeLock().lock();
+        try {
+            for (T item : documentos.get()) {
+                indexarSemTrava(documento.id(item), documento.campos(item));
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    void remover(int id) {
+        trava.writeLock().lock();
+        try {
+            removerSemTrava(id);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return IDs, em ordem crescente, dos documentos com algum campo contendo o termo
+     */
+    int[] buscar(String termo) {
+        String normalizado = normalizar(termo);
+        trava.readLock().lock();
+        try {
+            if (normalizado.length() < 3) {
+                return varrer(normalizado);
+            }
+
+            List<ListaPostagens> listas = new ArrayList<>();
+            for (long trigrama : trigramas(normalizado)) {
+                ListaPostagens lista = postagens.get(trigrama);
+                if (lista == null) {
+                    return new int[0];
+                }
+                listas.add(lista);
+            }
+            listas.sort(Comparator.comparingInt(ListaPostagens::quantidade));
+
+            int[] candidatos = listas.get(0).decodificar();
+            int quantidade = candidatos.length;
+            for (int i = 1; i < listas.size() && quantidade > CANDIDATOS_PARA_VERIFICAR; i++) {
+                quantidade = listas.get(i).intersectar(candidatos, quantidade);
+            }
+
+            int confirmados = 0;
+            for (int i = 0; i < quantidade; i++) {
+                if (contem(textos.get(candidatos[i]), normalizado)) {
+                    candidatos[confirmados++] = candidatos[i];
+                }
+            }
+            return Arrays.copyOf(candidatos, confirmados);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    int documentos() {
+        trava.readLock().lock();
+        try {
+            return textos.size();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Bytes ocupados pelas listas de documentos, sem contar a estrutura dos mapas
+     */
+    long bytesPostagens() {
+        trava.readLock().lock();
+        try {
+            return postagens.values().stream().mapToLong(ListaPostagens::bytes).sum();
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    static String normalizar(String texto) {
+        return Restaurante.normalizarParaBusca(texto);
+    }
+
+    private void indexarSemTrava(int id, String[] campos) {
+        removerSemTrava(id);
+        String[] normalizados = new String[campos.length];
+        for (int i = 0; i < campos.length; i++) {
+            normalizados[i] = campos[i] != null ? normalizar(campos[i]) : null;
+        }
+        textos.put(id, normalizados);
+        for (long trigrama : trigramas(normalizados)) {
+            postagens.computeIfAbsent(trigrama, t -> new ListaPostagens()).adicionar(id);
+        }
+    }
+
+    private void removerSemTrava(int id) {
+        String[] anteriores = textos.remove(id);
+        if (anteriores == null) {
+            return;
+        }
+        for (long trigrama : trigramas(anteriores)) {
+            ListaPostagens lista = postagens.get(trigrama);
+            if (lista != null && lista.remover(id) == 0) {
+                postagens.remove(trigrama);
+            }
+        }
+    }
+
+    private int[] varrer(String termo) {
+        return textos.entrySet().stream()
+                .filter(entrada -> contem(entrada.getValue(), termo))
+                .mapToInt(Map.Entry::getKey)
+                .sorted()
+                .toArray();
+    }
+
+    private static boolean contem(String[] campos, String termo) {
+        for (String campo : campos) {
+            if (campo != null && campo.contains(termo)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Set<Long> trigramas(String... campos) {
+        Set<Long> trigramas = new HashSet<>();
+        for (String campo : campos) {
+            if (campo == null) {
+                continue;
+            }
+            for (int i = 0; i + 3 <= campo.length(); i++) {
+                trigramas.add(((long) campo.charAt(i) << 32) | ((long) campo.charAt(i + 1) << 16) | campo.charAt(i + 2));
+            }
+        }
+        return trigramas;
+    }
+
+    /**
+     * Como extrair o ID e os campos pesquisáveis de um documento carregado em lote.
+     */
+    interface Documento<T> {
+        int id(T item);
+
+        String[] campos(T item);
+    }
+
+    /**
+     * Lista ordenada de IDs, codificada como diferenças em varint. IDs crescentes, o caso comum
+     * de restaurantes recém-cadastrados, são acrescentados ao final sem decodificar a lista.
+     * <p>
+     * As demais alterações não recodificam a lista: remoções viram marcas e inserções fora de
+     * ordem ficam em um vetor ordenado à parte, ambos mesclados à parte codificada na leitura.
+     * Quando as pendências passam de um oitavo da lista (entre {@value #PENDENCIAS_MINIMAS} e
+     * {@value #PENDENCIAS_MAXIMAS}), a lista é recodificada de uma vez, então o custo de decodificar
+     * e recodificar é dividido entre muitas alterações.
+     * <p>
+     * {@link #adicionar} espera um ID ausente da lista e {@link #remover} um ID presente; o índice
+     * garante isso removendo a versão anterior do documento antes de indexá-lo de novo.
+     */
+    static final class ListaPostagens {
+        static final int PENDENCIAS_MINIMAS = 16;
+        static final int PENDENCIAS_MAXIMAS = 1024;
+        private static final int[] VAZIO = new int[0];
+
+        private byte[] dados = new byte[4];
+        private int bytes;
+        private int codificados;
+        private int ultimo;
+
+        private int[] removidos = VAZIO;
+        private int totalRemovidos;
+        private int[] inseridos = VAZIO;
+        private int totalInseridos;
+
+        int quantidade() {
+            return codificados - totalRemovidos + totalInseridos;
+        }
+
+        int bytes() {
+            return bytes + (removidos.length + inseridos.length) * Integer.BYTES;
+        }
+
+        void adicionar(int id) {
+            if (codificados == 0 || id > ultimo) {
+                acrescentar(codificados == 0 ? id : id - ultimo);
+                ultimo = id;
+                codificados++;
+                return;
+            }
+            int marca = Arrays.binarySearch(removidos, 0, totalRemovidos, id);
+            if (marca >= 0) {
+                // Ainda está na parte codificada: basta desfazer a remoção
+                totalRemovidos = retirar(removidos, totalRemovidos, marca);
+                return;
+            }
+            int posicao = Arrays.binarySearch(inseridos, 0, totalInseridos, id);
+            if (posicao >= 0 || id == ultimo) {
+                return;
+            }
+            inseridos = inserir(inseridos, totalInseridos++, -posicao - 1, id);
+            compactarSeNecessario();
+        }
+
+        /**
+         * @return Quantidade de IDs restantes na lista
+         */
+        int remover(int id) {
+            int posicao = Arrays.binarySearch(inseridos, 0, totalInseridos, id);
+            if (posicao >= 0) {
+                totalInseridos = retirar(inseridos, totalInseridos, posicao);
+                return quantidade();
+            }
+            int marca = Arrays.binarySearch(removidos, 0, totalRemovidos, id);
+            if (marca < 0) {
+                removidos = inserir(removidos, totalRemovidos++, -marca - 1, id);
+                compactarSeNecessario();
+            }
+            return quantidade();
+        }
+
+        int[] decodificar() {
+            return decodificar(Integer.MAX_VALUE);
+        }
+
+        /**
+         * @return Os {@code maximo} menores IDs da lista, em ordem crescente
+         */
+        int[] decodificar(int maximo) {
+            int[] ids = new int[Math.min(quantidade(), maximo)];
+            Cursor cursor = new Cursor();
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = cursor.proximo();
+            }
+            return ids;
+        }
+
+        /**
+         * Mantém no início de {@code candidatos} apenas os IDs presentes nesta lista, decodificando
+         * a lista uma única vez, em paralelo aos candidatos (ambos estão ordenados).
+         *
+         * @return Quantidade de candidatos mantidos
+         */
+        int intersectar(int[] candidatos, int quantidadeCandidatos) {
+            int mantidos = 0;
+            int c = 0;
+            Cursor cursor = new Cursor();
+            for (int atual = cursor.proximo(); atual >= 0 && c < quantidadeCandidatos; atual = cursor.proximo()) {
+                while (c < quantidadeCandidatos && candidatos[c] < atual) {
+                    c++;
+                }
+                if (c < quantidadeCandidatos && candidatos[c] == atual) {
+                    candidatos[mantidos++] = atual;
+                    c++;
+                }
+            }
+            return mantidos;
+        }
+
+        private void compactarSeNecessario() {
+            int limite = Math.clamp(codificados / 8, PENDENCIAS_MINIMAS, PENDENCIAS_MAXIMAS);
+            if (totalRemovidos + totalInseridos > limite) {
+                int[] ids = decodificar();
+                recodificar(ids, ids.length);
+            }
+        }
+
+        private void recodificar(int[] ids, int tamanho) {
+            dados = new byte[Math.max(4, tamanho + tamanho / 4)];
+            bytes = 0;
+            codificados = 0;
+            ultimo = 0;
+            removidos = VAZIO;
+            totalRemovidos = 0;
+            inseridos = VAZIO;
+            totalInseridos = 0;
+            for (int i = 0; i < tamanho; i++) {
+                acrescentar(i == 0 ? ids[i] : ids[i] - ids[i - 1]);
+                ultimo = ids[i];
+                codificados++;
+            }
+        }
+
+        private void acrescentar(int valor) {
+            if (bytes + 5 > dados.length) {
+                dados = Arrays.copyOf(dados, Math.max(dados.length * 2, bytes + 5));
+            }
+            while ((valor & ~0x7F) != 0) {
+                dados[bytes++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            dados[bytes++] = (byte) valor;
+        }
+
+        private static int[] inserir(int[] vetor, int tamanho, int posicao, int valor) {
+            int[] destino = tamanho < vetor.length ? vetor : Arrays.copyOf(vetor, Math.max(4, vetor.length * 2));
+            System.arraycopy(vetor, posicao, destino, posicao + 1, tamanho - posicao);
+            destino[posicao] = valor;
+            return destino;
+        }
+
+        private static int retirar(int[] vetor, int tamanho, int posicao) {
+            System.arraycopy(vetor, posicao + 1, vetor, posicao, tamanho - posicao - 1);
+            return tamanho - 1;
+        }
+
+        /**
+         * Percorre os IDs em ordem crescente, pulando os removidos da parte codificada e
+         * intercalando os inseridos fora de ordem.
+         */
+        private final class Cursor {
+            private int posicao;
+            private int lidos;
+            private int atual;
+            private int marca;
+            private int inserido;
+            private int codificado = -1;
+            private boolean pendente;
+
+            /**
+             * @return Próximo ID, ou -1 ao fim da lista
+             */
+            int proximo() {
+                if (!pendente) {
+                    codificado = lerCodificado();
+                    pendente = true;
+                }
+                if (inserido < totalInseridos && (codificado < 0 || inseridos[inserido] < codificado)) {
+                    return inseridos[inserido++];
+                }
+                pendente = false;
+                return codificado;
+            }
+
+            private int lerCodificado() {
+                while (lidos < codificados) {
+                    int valor = 0;
+                    int deslocamento = 0;
+                    byte b;
+                    do {
+                        b = dados[posicao++];
+                        valor |= (b & 0x7F) << deslocamento;
+                        deslocamento += 7;
+                    } while (b < 0);
+                    atual = lidos++ == 0 ? valor : atual + valor;
+
+                    while (marca < totalRemovidos && removidos[marca] < atual) {
+                        marca++;
+                    }
+                    if (marca < totalRemovidos && removidos[marca] == atual) {
+                        marca++;
+                        continue;
+                    }
+                    return atual;
+                }
+                return -1;
+            }
+        }
+    }
+}
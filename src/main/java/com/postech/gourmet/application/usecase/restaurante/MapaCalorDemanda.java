@@ -0,0 +1,19 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import java.time.LocalDate;
+
+/**
+ * Mapa de calor da demanda de um restaurante: matrizes [dia da semana][quarto de hora], com
+ * segunda-feira na linha 0 e 00:00 na coluna 0.
+ *
+ * @param inicio Primeiro dia da janela considerada
+ * @param fim    Último dia da janela considerada
+ */
+public record MapaCalorDemanda(
+        Long restauranteId,
+        LocalDate inicio,
+        LocalDate fim,
+        int[][] reservas,
+        int[][] cancelamentos,
+        int[][] naoComparecimentos) {
+}
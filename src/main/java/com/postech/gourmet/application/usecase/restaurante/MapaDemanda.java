@@ -0,0 +1,66 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.repositories.ContagemDemanda;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Contagens de demanda de um restaurante em memória: três matrizes 7×96 (reservas,
+ * cancelamentos e não comparecimentos) guardadas em um único vetor atômico, para que
+ * incrementos concorrentes não precisem de trava.
+ */
+class MapaDemanda {
+    static final int DIAS_DA_SEMANA = 7;
+    static final int QUARTOS_POR_DIA = 96;
+    static final int FAIXAS = DIAS_DA_SEMANA * QUARTOS_POR_DIA;
+
+    private static final int RESERVAS = 0;
+    private static final int CANCELAMENTOS = FAIXAS;
+    private static final int NAO_COMPARECIMENTOS = 2 * FAIXAS;
+
+    private final AtomicIntegerArray contagens = new AtomicIntegerArray(3 * FAIXAS);
+
+    static int faixa(LocalDateTime dataHora) {
+        return (dataHora.getDayOfWeek().getValue() - 1) * QUARTOS_POR_DIA
+                + dataHora.getHour() * 4 + dataHora.getMinute() / 15;
+    }
+
+    /**
+     * Soma (ou, com {@code sinal} negativo, subtrai) a contagem à sua faixa.
+     */
+    void somar(ContagemDemanda contagem, int sinal) {
+        int faixa = contagem.faixa();
+        if (contagem.reservas() != 0) {
+            contagens.addAndGet(RESERVAS + faixa, sinal * contagem.reservas());
+        }
+        if (contagem.cancelamentos() != 0) {
+            contagens.addAndGet(CANCELAMENTOS + faixa, sinal * contagem.cancelamentos());
+        }
+        if (contagem.naoComparecimentos() != 0) {
+            contagens.addAndGet(NAO_COMPARECIMENTOS + faixa, sinal * contagem.naoComparecimentos());
+        }
+    }
+
+    int[][] reservas() {
+        return matriz(RESERVAS);
+    }
+
+    int[][] cancelamentos() {
+        return matriz(CANCELAMENTOS);
+    }
+
+    int[][] naoComparecimentos() {
+        return matriz(NAO_COMPARECIMENTOS);
+    }
+
+    private int[][] matriz(int deslocamento) {
+        int[][] matriz = new int[DIAS_DA_SEMANA][QUARTOS_POR_DIA];
+        for (int dia = 0; dia < DIAS_DA_SEMANA; dia++) {
+            for (int quarto = 0; quarto < QUARTOS_POR_DIA; quarto++) {
+                matriz[dia][quarto] = contagens.get(deslocamento + dia * QUARTOS_POR_DIA + quarto);
+            }
+        }
+        return matriz;
+    }
+}
@@ -0,0 +1,256 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.ContagemDemanda;
+import com.postech.gourmet.domain.repositories.DemandaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Mapa de calor da demanda de cada restaurante: reservas, cancelamentos e não comparecimentos
+ * (reservas expiradas sem confirmação) dos últimos {@code janelaDias} dias, por dia da semana e
+ * quarto de hora do horário reservado.
+ * <p>
+ * A tabela {@code demanda_diaria} guarda as contagens por dia do evento e é atualizada na
+ * transação que altera a reserva. Cada restaurante consultado tem suas matrizes mantidas em
+ * memória, carregadas da tabela no primeiro acesso e atualizadas com as mesmas variações depois
+ * do commit, então a consulta não toca o banco.
+ * <p>
+ * Uma carga que se cruza com uma transação do mesmo restaurante não sabe se a leitura já viu a
+ * variação dela, que seria aplicada de novo (ou perdida) depois do commit. Por isso cada
+ * restaurante conta as transações em andamento e uma versão incrementada no início e no fim de
+ * cada uma; a matriz só fica em memória se não havia transação em andamento ao iniciar a leitura
+ * e a versão não mudou até o fim dela. Caso contrário é devolvida sem ser guardada.
+ * <p>
+ * A compactação diária remove da tabela os dias que saíram da janela e descarta as matrizes em
+ * memória, que são recarregadas da tabela no próximo acesso. A remoção é idempotente, então cada
+ * instância pode compactar: a que chegar depois não remove nada, mas também descarta as suas
+ * matrizes, que ainda contavam os dias removidos.
+ * <p>
+ * As variações em memória são só as da própria instância. Com várias instâncias
+ * ({@code gourmet.reservas.controle-concorrencia=postgres}) as reservas gravadas pelas outras
+ * chegam apenas pela tabela, então cada matriz vale por {@code validade} e é recarregada no
+ * primeiro acesso depois disso.
+ */
+@Service
+public class MapaDemandaUseCase {
+    private final DemandaRepository demandaRepository;
+    private final RestauranteRepository restauranteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int janelaDias;
+    private final long validadeNanos;
+
+    private final Map<Long, Carga> mapas = new ConcurrentHashMap<>();
+    private final Map<Long, Escritas> escritas = new ConcurrentHashMap<>();
+    // Carga e compactação não podem se intercalar: uma matriz carregada durante a compactação
+    // guardaria os dias removidos depois do descarte
+    private final Object trava = new Object();
+    private volatile LocalDate inicioJanela;
+
+    public MapaDemandaUseCase(
+            DemandaRepository demandaRepository,
+            RestauranteRepository restauranteRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${gourmet.demanda.janela-dias:90}") int janelaDias,
+            @Value("${gourmet.demanda.validade:5m}") Duration validade) {
+        if (janelaDias <= 0) {
+            throw new IllegalArgumentException("A janela do mapa de demanda deve ser positiva");
+        }
+        if (validade.isNegative()) {
+            throw new IllegalArgumentException("A validade do mapa de demanda não pode ser negativa");
+        }
+        this.demandaRepository = demandaRepository;
+        this.restauranteRepository = restauranteRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.janelaDias = janelaDias;
+        this.validadeNanos = validade.toNanos();
+        this.inicioJanela = inicioDaJanela(LocalDate.now());
+    }
+
+    /**
+     * @throws ResourceNotFoundException se o restaurante não existir
+     */
+    public MapaCalorDemanda consultar(Long restauranteId) {
+        Carga carga = mapas.get(restauranteId);
+        MapaDemanda mapa = carga != null && !carga.expirada() ? carga.mapa() : carregar(restauranteId);
+        LocalDate inicio = inicioJanela;
+        return new MapaCalorDemanda(
+                restauranteId,
+                inicio,
+                inicio.plusDays(janelaDias - 1L),
+                mapa.reservas(),
+                mapa.cancelamentos(),
+                mapa.naoComparecimentos());
+    }
+
+    /**
+     * Grava a variação na transação de quem publicou o evento e, depois do commit, aplica a
+     * mesma variação à matriz em memória, se o restaurante já estiver carregado. A transação
+     * conta como em andamento para o restaurante até terminar, com ou sem commit.
+     */
+    @EventListener
+    public void aoAlterarReserva(ReservaAlteradaEvent event) {
+        Reserva reserva = event.reserva();
+        if (reserva.getRestaurante() == null || reserva.getDataHora() == null) {
+            return;
+        }
+
+        ContagemDemanda variacao = variacao(event.operacao(), reserva.getRestaurante().getId(),
+                MapaDemanda.faixa(reserva.getDataHora()));
+        if (variacao == null) {
+            return;
+        }
+        Escritas escritasRestaurante = escritas.computeIfAbsent(variacao.restauranteId(), id -> new Escritas());
+        escritasRestaurante.iniciar();
+        demandaRepository.acumular(LocalDate.now(), variacao);
+        aoConcluir(confirmada -> {
+            if (confirmada) {
+                mapas.computeIfPresent(variacao.restauranteId(), (id, carga) -> {
+                    carga.mapa().somar(variacao, 1);
+                    return carga;
+                });
+            }
+            escritasRestaurante.concluir();
+        });
+    }
+
+    @EventListener
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        if (event.operacao() == RestauranteAlteradoEvent.Operacao.EXCLUSAO) {
+            demandaRepository.deleteByRestauranteId(event.restauranteId());
+            aoConcluir(confirmada -> {
+                if (confirmada) {
+                    mapas.remove(event.restauranteId());
+                }
+            });
+        }
+    }
+
+    /**
+     * Avança a janela até {@code hoje}: os dias que saíram dela são removidos da tabela e as
+     * matrizes carregadas são descartadas.
+     *
+     * @return Quantidade de registros diários removidos
+     */
+    public int compactar(LocalDate hoje) {
+        LocalDate novoInicio = inicioDaJanela(hoje);
+        synchronized (trava) {
+            LocalDate inicio = inicioJanela;
+            if (!novoInicio.isAfter(inicio)) {
+                return 0;
+            }
+
+            Integer removidos = transactionTemplate.execute(status -> demandaRepository.deleteAntesDe(novoInicio));
+            mapas.clear();
+            inicioJanela = novoInicio;
+            return removidos != null ? removidos : 0;
+        }
+    }
+
+    LocalDate getInicioJanela() {
+        return inicioJanela;
+    }
+
+    private MapaDemanda carregar(Long restauranteId) {
+        synchronized (trava) {
+            Carga carregada = mapas.get(restauranteId);
+            if (carregada != null && !carregada.expirada()) {
+                return carregada.mapa();
+            }
+            if (!restauranteRepository.existsById(restauranteId)) {
+                throw new ResourceNotFoundException("Restaurante não encontrado com ID: " + restauranteId);
+            }
+
+            Escritas escritasRestaurante = escritas.computeIfAbsent(restauranteId, id -> new Escritas());
+            long versao = escritasRestaurante.versao.get();
+            boolean semEscritas = escritasRestaurante.emAndamento.get() == 0;
+
+            long carregadaEm = System.nanoTime();
+            MapaDemanda mapa = new MapaDemanda();
+            demandaRepository.totalizar(restauranteId, inicioJanela).forEach(contagem -> mapa.somar(contagem, 1));
+            if (semEscritas) {
+                // Dentro do compute: uma variação que começar agora só é aplicada depois da publicação
+                mapas.compute(restauranteId, (id, atual) -> escritasRestaurante.versao.get() == versao
+                        ? new Carga(mapa, carregadaEm) : atual);
+            }
+            return mapa;
+        }
+    }
+
+    private LocalDate inicioDaJanela(LocalDate hoje) {
+        return hoje.minusDays(janelaDias - 1L);
+    }
+
+    private static ContagemDemanda variacao(ReservaAlteradaEvent.Operacao operacao, Long restauranteId, int faixa) {
+        return switch (operacao) {
+            case CRIACAO -> new ContagemDemanda(restauranteId, faixa, 1, 0, 0);
+            case CANCELAMENTO -> new ContagemDemanda(restauranteId, faixa, 0, 1, 0);
+            case EXPIRACAO -> new ContagemDemanda(restauranteId, faixa, 0, 0, 1);
+            case CONFIRMACAO -> null;
+        };
+    }
+
+    private static void aoConcluir(Consumer<Boolean> acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.accept(true);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                acao.accept(status == STATUS_COMMITTED);
+            }
+        });
+    }
+
+    private final class Carga {
+        private final MapaDemanda mapa;
+        private final long carregadaEm;
+
+        private Carga(MapaDemanda mapa, long carregadaEm) {
+            this.mapa = mapa;
+            this.carregadaEm = carregadaEm;
+        }
+
+        private MapaDemanda mapa() {
+            return mapa;
+        }
+
+        private boolean expirada() {
+            return System.nanoTime() - carregadaEm >= validadeNanos;
+        }
+    }
+
+    private static final class Escritas {
+        private final AtomicInteger emAndamento = new AtomicInteger();
+        private final AtomicLong versao = new AtomicLong();
+
+        private void iniciar() {
+            emAndamento.incrementAndGet();
+            versao.incrementAndGet();
+        }
+
+        // A versão muda antes de a transação deixar de contar como em andamento
+        private void concluir() {
+            versao.incrementAndGet();
+            emAndamento.decrementAndGet();
+        }
+    }
+}
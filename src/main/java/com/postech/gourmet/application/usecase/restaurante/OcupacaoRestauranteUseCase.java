@@ -0,0 +1,181 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.OcupacaoHoraria;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.OcupacaoHorariaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.TotalReservasPorHorario;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Mantém a tabela {@code ocupacao_horaria}, com os totais de reservas por restaurante, dia e hora,
+ * para que o painel de ocupação não precise agregar as reservas a cada consulta.
+ * <p>
+ * Os totais são atualizados de forma incremental, dentro da mesma transação que cria, confirma,
+ * cancela ou expira a reserva, ao receber o {@link ReservaAlteradaEvent}. A reconstrução recalcula
+ * a tabela a partir das reservas, um restaurante por vez em cada thread.
+ * <p>
+ * Reservas com mais de {@code gourmet.reservas.arquivamento.meses} meses podem já ter saído do
+ * banco para o arquivo frio (inclusive por outra instância), então a reconstrução só recalcula as
+ * horas posteriores a esse corte e mantém os totais anteriores, acumulados quando as reservas
+ * ainda estavam no banco.
+ */
+@Service
+public class OcupacaoRestauranteUseCase {
+    public static final int DIAS_MAXIMOS_CONSULTA = 92;
+
+    private final OcupacaoHorariaRepository ocupacaoHorariaRepository;
+    private final ReservaRepository reservaRepository;
+    private final RestauranteRepository restauranteRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int paralelismo;
+    private final int mesesArquivamento;
+
+    public OcupacaoRestauranteUseCase(
+            OcupacaoHorariaRepository ocupacaoHorariaRepository,
+            ReservaRepository reservaRepository,
+            RestauranteRepository restauranteRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${gourmet.ocupacao.reconstrucao.paralelismo:4}") int paralelismo,
+            @Value("${gourmet.reservas.arquivamento.meses:12}") int mesesArquivamento) {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("O paralelismo da reconstrução deve ser positivo");
+        }
+        if (mesesArquivamento <= 0) {
+            throw new IllegalArgumentException("Os meses até o arquivamento devem ser positivos");
+        }
+        this.ocupacaoHorariaRepository = ocupacaoHorariaRepository;
+        this.reservaRepository = reservaRepository;
+        this.restauranteRepository = restauranteRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.paralelismo = paralelismo;
+        this.mesesArquivamento = mesesArquivamento;
+    }
+
+    /**
+     * Retorna a ocupação do restaurante, hora a hora, entre as datas informadas (inclusivas).
+     * Horas sem reservas não aparecem no resultado.
+     *
+     * @throws ResourceNotFoundException se o restaurante não existir
+     * @throws InvalidRequestException   se o período for inválido ou maior que {@value #DIAS_MAXIMOS_CONSULTA} dias
+     */
+    public List<OcupacaoHoraria> consultarOcupacao(Long restauranteId, LocalDate de, LocalDate ate) {
+        if (de == null || ate == null || ate.isBefore(de)) {
+            throw new InvalidRequestException("A data final deve ser igual ou posterior à data inicial");
+        }
+        if (ChronoUnit.DAYS.between(de, ate) >= DIAS_MAXIMOS_CONSULTA) {
+            throw new InvalidRequestException("O período consultado deve ter no máximo " + DIAS_MAXIMOS_CONSULTA + " dias");
+        }
+        if (!restauranteRepository.existsById(restauranteId)) {
+            throw new ResourceNotFoundException("Restaurante não encontrado com ID: " + restauranteId);
+        }
+
+        return ocupacaoHorariaRepository.findByRestauranteIdAndDataBetween(restauranteId, de, ate);
+    }
+
+    /**
+     * Aplica a alteração da reserva aos totais. Executa de forma síncrona, na transação de quem
+     * publicou o evento: se a atualização falhar, a alteração da reserva também é desfeita.
+     */
+    @EventListener
+    public void aoAlterarReserva(ReservaAlteradaEvent event) {
+        Reserva reserva = event.reserva();
+        if (reserva.getRestaurante() == null || reserva.getDataHora() == null || reserva.getNumeroPessoas() == null) {
+            return;
+        }
+
+        OcupacaoHoraria variacao = new OcupacaoHoraria(
+                reserva.getRestaurante().getId(),
+                reserva.getDataHora().toLocalDate(),
+                reserva.getDataHora().getHour());
+        variacao.acumular(event.statusAnterior(), -1, -reserva.getNumeroPessoas());
+        variacao.acumular(reserva.getStatus(), 1, reserva.getNumeroPessoas());
+        if (!variacao.isVazia()) {
+            ocupacaoHorariaRepository.acumular(variacao);
+        }
+    }
+
+    @EventListener
+    public void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        if (event.operacao() == RestauranteAlteradoEvent.Operacao.EXCLUSAO) {
+            ocupacaoHorariaRepository.deleteByRestauranteId(event.restauranteId());
+        }
+    }
+
+    /**
+     * Recalcula a tabela a partir das reservas, nas horas que o arquivamento ainda não alcançou.
+     * Cada restaurante é uma partição independente, recalculada e gravada em sua própria
+     * transação; até {@code paralelismo} partições são processadas ao mesmo tempo.
+     * <p>
+     * Reservas alteradas durante a reconstrução de um restaurante podem não ser refletidas nele,
+     * então a reconstrução deve rodar em horários de pouco movimento.
+     *
+     * @return Quantidade de restaurantes reconstruídos
+     */
+    public int reconstruir() {
+        LocalDateTime desde = inicioReconstrucao(LocalDateTime.now());
+        List<Long> restauranteIds = restauranteRepository.findAllIds();
+        List<Future<?>> particoes = new ArrayList<>(restauranteIds.size());
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(paralelismo)) {
+            for (Long restauranteId : restauranteIds) {
+                particoes.add(executor.submit(() -> reconstruirRestaurante(restauranteId, desde)));
+            }
+            for (Future<?> particao : particoes) {
+                particao.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reconstrução da ocupação interrompida", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao reconstruir a ocupação", e.getCause());
+        }
+        return restauranteIds.size();
+    }
+
+    public boolean precisaReconstruir() {
+        return ocupacaoHorariaRepository.isEmpty();
+    }
+
+    /**
+     * O arquivamento remove reservas anteriores a {@code agora} menos os meses configurados; a hora
+     * seguinte a esse corte é a primeira que nenhuma execução do arquivamento pode ter alcançado.
+     */
+    LocalDateTime inicioReconstrucao(LocalDateTime agora) {
+        return agora.minusMonths(mesesArquivamento).truncatedTo(ChronoUnit.HOURS).plusHours(1);
+    }
+
+    void reconstruirRestaurante(Long restauranteId, LocalDateTime desde) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<LocalDateTime, OcupacaoHoraria> horas = new LinkedHashMap<>();
+            for (TotalReservasPorHorario total : reservaRepository.totalizarPorHorario(restauranteId, desde)) {
+                LocalDateTime hora = total.dataHora().truncatedTo(ChronoUnit.HOURS);
+                horas.computeIfAbsent(hora, h -> new OcupacaoHoraria(restauranteId, h.toLocalDate(), h.getHour()))
+                        .acumular(total.status(), total.reservas(), total.pessoas());
+            }
+            horas.values().removeIf(OcupacaoHoraria::isVazia);
+            ocupacaoHorariaRepository.substituir(restauranteId, desde, horas.values());
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+
+/**
+ * @param distanciaKm Distância em linha reta (grande círculo) até o ponto consultado
+ */
+public record RestauranteProximo(Restaurante restaurante, double distanciaKm) {
+}
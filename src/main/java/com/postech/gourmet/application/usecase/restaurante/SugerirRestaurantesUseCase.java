@@ -0,0 +1,120 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.AvaliacaoRegistradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.AvaliacaoRepository;
+import com.postech.gourmet.domain.repositories.NomeRestaurante;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.TotalAvaliacoes;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Sugestões de restaurantes para a caixa de busca, consultadas a cada tecla digitada.
+ * <p>
+ * As sugestões vêm de uma {@link ArvoreSugestoes} em memória, carregada do banco na primeira
+ * consulta e mantida a partir daí pelos cadastros, atualizações, exclusões e avaliações
+ * confirmados nesta instância. As alterações feitas por outras instâncias só chegam pela
+ * {@link #recarregar() recarga} periódica, que monta uma árvore nova e a troca pela atual.
+ * <p>
+ * Uma avaliação confirmada pouco antes da carga já está nos totais lidos do banco quando o seu
+ * evento chega, então o evento não soma a nota: relê os totais do restaurante e os substitui.
+ * Carga e releitura se excluem, e a releitura acontece depois do commit, então o valor final é
+ * o do banco em qualquer ordem. O mesmo vale para as alterações de restaurantes.
+ */
+@Service
+public class SugerirRestaurantesUseCase {
+    public static final int MAXIMO_SUGESTOES = ArvoreSugestoes.MAXIMO_SUGESTOES;
+
+    private final RestauranteRepository restauranteRepository;
+    private final AvaliacaoRepository avaliacaoRepository;
+    private volatile ArvoreSugestoes arvore = new ArvoreSugestoes();
+    private volatile boolean carregada;
+
+    public SugerirRestaurantesUseCase(RestauranteRepository restauranteRepository,
+                                      AvaliacaoRepository avaliacaoRepository) {
+        this.restauranteRepository = restauranteRepository;
+        this.avaliacaoRepository = avaliacaoRepository;
+    }
+
+    /**
+     * @return Até {@code limite} restaurantes cujo nome ou tipo de cozinha começa com o prefixo,
+     * sem diferenciar acentos nem maiúsculas, dos mais bem avaliados para os menos
+     * @throws InvalidRequestException se o limite não estiver entre 1 e {@value #MAXIMO_SUGESTOES}
+     */
+    public List<SugestaoRestaurante> sugerir(String prefixo, int limite) {
+        if (limite < 1 || limite > MAXIMO_SUGESTOES) {
+            throw new InvalidRequestException("O limite de sugestões deve estar entre 1 e " + MAXIMO_SUGESTOES);
+        }
+        if (prefixo == null || prefixo.isBlank()) {
+            return List.of();
+        }
+
+        carregarSeNecessario();
+        return arvore.sugerir(prefixo.stripLeading(), limite);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void aoAlterarRestaurante(RestauranteAlteradoEvent event) {
+        int id = Math.toIntExact(event.restauranteId());
+        Restaurante restaurante = event.restaurante();
+        if (event.operacao() == RestauranteAlteradoEvent.Operacao.EXCLUSAO || restaurante == null) {
+            arvore.remover(id);
+        } else {
+            arvore.indexar(id, restaurante.getNome(), restaurante.getTipoCozinha());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoRegistrarAvaliacao(AvaliacaoRegistradaEvent event) {
+        synchronized (this) {
+            // Antes da carga não há o que atualizar: a carga, posterior ao commit, lerá a avaliação
+            if (!carregada) {
+                return;
+            }
+            TotalAvaliacoes total = avaliacaoRepository.totalizarDoRestaurante(event.restauranteId())
+                    .orElse(new TotalAvaliacoes(event.restauranteId(), 0, 0));
+            arvore.definirAvaliacoes(Math.toIntExact(event.restauranteId()), total.quantidade(), total.somaNotas());
+        }
+    }
+
+    /**
+     * Remonta a árvore a partir do banco, se já tiver sido carregada, trazendo os restaurantes e
+     * avaliações das outras instâncias e descartando os restaurantes excluídos por elas.
+     */
+    public synchronized void recarregar() {
+        if (carregada) {
+            carregar();
+        }
+    }
+
+    private void carregarSeNecessario() {
+        if (carregada) {
+            return;
+        }
+        synchronized (this) {
+            if (!carregada) {
+                carregar();
+                carregada = true;
+            }
+        }
+    }
+
+    private void carregar() {
+        ArvoreSugestoes nova = new ArvoreSugestoes();
+        nova.carregar(() -> {
+            for (NomeRestaurante nome : restauranteRepository.findNomes()) {
+                nova.indexar(Math.toIntExact(nome.id()), nome.nome(), nome.tipoCozinha());
+            }
+            for (TotalAvaliacoes total : avaliacaoRepository.totalizarPorRestaurante()) {
+                nova.registrarAvaliacoes(Math.toIntExact(total.restauranteId()),
+                        total.quantidade(), total.somaNotas());
+            }
+        });
+        arvore = nova;
+    }
+}
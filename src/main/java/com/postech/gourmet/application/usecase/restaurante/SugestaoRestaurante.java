@@ -0,0 +1,7 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+/**
+ * @param mediaAvaliacoes Média das notas, ou nulo se o restaurante ainda não foi avaliado
+ */
+public record SugestaoRestaurante(Long id, String nome, String tipoCozinha, Double mediaAvaliacoes) {
+}
@@ -0,0 +1,428 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Vocabulário das palavras dos documentos, normalizadas por {@link Restaurante#normalizarParaBusca},
+ * para busca tolerante a erros de digitação.
+ * <p>
+ * As palavras distintas ficam em uma árvore de prefixos, e cada palavra aponta para a lista dos
+ * documentos que a contêm. A busca percorre a árvore calculando, a cada letra, uma linha da
+ * matriz de Levenshtein contra a palavra procurada, o que equivale a simular o autômato de
+ * Levenshtein sobre o vocabulário: prefixos comuns são calculados uma única vez, e um ramo é
+ * abandonado assim que toda a linha passa da tolerância, pois descer mais só aumenta a distância.
+ */
+class VocabularioAproximado {
+    // Mesmos limiares do "fuzziness AUTO" do Elasticsearch: palavras curtas toleram menos erros
+    private static final int TAMANHO_UMA_EDICAO = 3;
+    private static final int TAMANHO_DUAS_EDICOES = 6;
+    // Limites que mantêm o custo da pontuação previsível em termos longos ou muito comuns
+    static final int MAXIMO_PALAVRAS_TERMO = 5;
+    static final int MAXIMO_CORRESPONDENCIAS_PALAVRA = 32;
+
+    private final No raiz = new No();
+    private final Map<Integer, String[]> palavrasPorDocumento = new HashMap<>();
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+    private int palavras;
+
+    /**
+     * Indexa as palavras dos campos do documento, substituindo a versão anterior se ele já
+     * estiver no vocabulário.
+     */
+    void indexar(int id, String... campos) {
+        trava.writeLock().lock();
+        try {
+            indexarSemTrava(id, campos);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Indexa os documentos de uma só vez, com a trava de escrita.
+     */
+    <T> void carregar(Iterable<T> documentos, IndiceTrigramas.Documento<T> documento) {
+        trava.writeLock().lock();
+        try {
+            for (T item : documentos) {
+                indexarSemTrava(documento.id(item), documento.campos(item));
+            }
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    void remover(int id) {
+        trava.writeLock().lock();
+        try {
+            removerSemTrava(id);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Cada palavra do termo precisa corresponder a alguma palavra do documento, a até 0, 1 ou 2
+     * edições conforme o tamanho dela. Só as {@value #MAXIMO_PALAVRAS_TERMO} primeiras palavras do
+     * termo são consideradas, e cada uma usa no máximo as {@value #MAXIMO_CORRESPONDENCIAS_PALAVRA}
+     * palavras mais próximas do vocabulário.
+     *
+     * @param limite Quantidade máxima de documentos devolvidos
+     * @return Até {@code limite} IDs dos documentos encontrados, da menor para a maior soma de
+     * edições e, no empate, em ordem crescente
+     */
+    int[] buscar(String termo, int limite) {
+        String[] palavrasTermo = palavras(termo);
+        if (palavrasTermo.length == 0) {
+            return new int[0];
+        }
+        if (palavrasTermo.length > MAXIMO_PALAVRAS_TERMO) {
+            palavrasTermo = Arrays.copyOf(palavrasTermo, MAXIMO_PALAVRAS_TERMO);
+        }
+
+        trava.readLock().lock();
+        try {
+            // Com uma só palavra não há interseção, e a busca pode parar nos primeiros documentos;
+            // com várias, qualquer documento de uma palavra pode ser o que também tem as outras
+            int limitePalavra = palavrasTermo.length == 1 ? limite : Integer.MAX_VALUE;
+            Documentos resultado = null;
+            for (String palavra : palavrasTermo) {
+                Documentos proximos = documentosProximos(palavra, limitePalavra);
+                resultado = resultado == null ? proximos : resultado.intersectar(proximos);
+                if (resultado.quantidade == 0) {
+                    return new int[0];
+                }
+            }
+            return resultado.ordenarPorEdicoes(limite);
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return Palavras distintas com algum documento
+     */
+    int palavras() {
+        trava.readLock().lock();
+        try {
+            return palavras;
+        } finally {
+            trava.readLock().unlock();
+        }
+    }
+
+    static int edicoesToleradas(String palavra) {
+        if (palavra.length() >= TAMANHO_DUAS_EDICOES) {
+            return 2;
+        }
+        return palavra.length() >= TAMANHO_UMA_EDICAO ? 1 : 0;
+    }
+
+    /**
+     * Distância de Levenshtein com duas linhas da matriz de programação dinâmica.
+     */
+    static int distancia(String a, String b) {
+        int[] anterior = new int[b.length() + 1];
+        int[] atual = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            anterior[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            proximaLinha(anterior, atual, a.charAt(i - 1), b);
+            int[] troca = anterior;
+            anterior = atual;
+            atual = troca;
+        }
+        return anterior[b.length()];
+    }
+
+    /**
+     * Calcula em {@code atual} a linha da matriz de Levenshtein após acrescentar {@code letra} ao
+     * prefixo representado por {@code anterior}.
+     *
+     * @return Menor valor da linha
+     */
+    private static int proximaLinha(int[] anterior, int[] atual, char letra, String palavra) {
+        atual[0] = anterior[0] + 1;
+        int menor = atual[0];
+        for (int j = 1; j < atual.length; j++) {
+            int substituicao = anterior[j - 1] + (letra == palavra.charAt(j - 1) ? 0 : 1);
+            atual[j] = Math.min(substituicao, Math.min(anterior[j], atual[j - 1]) + 1);
+            menor = Math.min(menor, atual[j]);
+        }
+        return menor;
+    }
+
+    /**
+     * As palavras próximas são lidas da menor para a maior quantidade de edições, e a leitura para
+     * no fim do primeiro nível de edições em que já há {@code limite} documentos: os dos níveis
+     * seguintes ficariam depois deles. De cada palavra bastam os {@code limite} primeiros IDs,
+     * pois um documento com mais IDs menores na mesma palavra já teria {@code limite} documentos
+     * à sua frente.
+     *
+     * @return Documentos com alguma palavra próxima, em ordem de ID, com a menor quantidade de
+     * edições de cada um; com menos de {@code limite} documentos, todos os encontrados
+     */
+    private Documentos documentosProximos(String palavra, int limite) {
+        int tolerancia = edicoesToleradas(palavra);
+        List<Correspondencia> correspondencias = new ArrayList<>();
+        int[] primeira = new int[palavra.length() + 1];
+        for (int j = 0; j < primeira.length; j++) {
+            primeira[j] = j;
+        }
+        if (raiz.documentos != null && primeira[palavra.length()] <= tolerancia) {
+            correspondencias.add(new Correspondencia(raiz, primeira[palavra.length()]));
+        }
+        List<int[]> linhas = new ArrayList<>();
+        linhas.add(primeira);
+        percorrer(raiz, 1, palavra, tolerancia, linhas, correspondencias);
+
+        correspondencias.sort(Comparator.comparingInt(Correspondencia::edicoes));
+        if (correspondencias.size() > MAXIMO_CORRESPONDENCIAS_PALAVRA) {
+            correspondencias = correspondencias.subList(0, MAXIMO_CORRESPONDENCIAS_PALAVRA);
+        }
+
+        int[][] listas = new int[correspondencias.size()][];
+        int lidas = 0;
+        int total = 0;
+        while (lidas < correspondencias.size()) {
+            int edicoes = correspondencias.get(lidas).edicoes();
+            while (lidas < correspondencias.size() && correspondencias.get(lidas).edicoes() == edicoes) {
+                listas[lidas] = correspondencias.get(lidas).no().documentos.decodificar(limite);
+                total += listas[lidas++].length;
+            }
+            // Com menos IDs que o limite não é preciso contar os distintos para saber que faltam
+            if (total >= limite && lidas < correspondencias.size()) {
+                Documentos documentos = unir(correspondencias, listas, lidas, total);
+                if (documentos.quantidade >= limite) {
+                    return documentos;
+                }
+            }
+        }
+        return unir(correspondencias, listas, lidas, total);
+    }
+
+    /**
+     * @return Documentos das {@code lidas} primeiras correspondências, cada um com a menor
+     * quantidade de edições entre as palavras dele
+     */
+    private static Documentos unir(List<Correspondencia> correspondencias, int[][] listas, int lidas, int total) {
+        // Pares (ID, edições) num long: ordenados, o primeiro de cada ID tem a menor distância
+        long[] pares = new long[total];
+        int posicao = 0;
+        for (int i = 0; i < lidas; i++) {
+            for (int id : listas[i]) {
+                pares[posicao++] = ((long) id << 8) | correspondencias.get(i).edicoes();
+            }
+        }
+        if (lidas > 1) {
+            Arrays.sort(pares);
+        }
+
+        Documentos documentos = new Documentos(total);
+        for (long par : pares) {
+            int id = (int) (par >>> 8);
+            if (documentos.quantidade == 0 || documentos.ids[documentos.quantidade - 1] != id) {
+                documentos.ids[documentos.quantidade] = id;
+                documentos.edicoes[documentos.quantidade++] = (int) (par & 0xFF);
+            }
+        }
+        return documentos;
+    }
+
+    private static void percorrer(No no, int profundidade, String palavra, int tolerancia,
+                                  List<int[]> linhas, List<Correspondencia> correspondencias) {
+        if (linhas.size() <= profundidade) {
+            linhas.add(new int[palavra.length() + 1]);
+        }
+        int[] anterior = linhas.get(profundidade - 1);
+        int[] atual = linhas.get(profundidade);
+        for (int i = 0; i < no.letras.length; i++) {
+            int menor = proximaLinha(anterior, atual, no.letras[i], palavra);
+            if (menor > tolerancia) {
+                continue;
+            }
+            No filho = no.filhos[i];
+            if (filho.documentos != null && atual[palavra.length()] <= tolerancia) {
+                correspondencias.add(new Correspondencia(filho, atual[palavra.length()]));
+            }
+            percorrer(filho, profundidade + 1, palavra, tolerancia, linhas, correspondencias);
+        }
+    }
+
+    private void indexarSemTrava(int id, String[] campos) {
+        removerSemTrava(id);
+        String[] palavrasDocumento = Arrays.stream(campos)
+                .flatMap(campo -> Arrays.stream(palavras(campo)))
+                .distinct()
+                .toArray(String[]::new);
+        palavrasPorDocumento.put(id, palavrasDocumento);
+        for (String palavra : palavrasDocumento) {
+            No no = raiz;
+            for (int i = 0; i < palavra.length(); i++) {
+                no = no.filhoOuNovo(palavra.charAt(i));
+            }
+            if (no.documentos == null) {
+                no.documentos = new IndiceTrigramas.ListaPostagens();
+                palavras++;
+            }
+            no.documentos.adicionar(id);
+        }
+    }
+
+    private void removerSemTrava(int id) {
+        String[] palavrasDocumento = palavrasPorDocumento.remove(id);
+        if (palavrasDocumento == null) {
+            return;
+        }
+        for (String palavra : palavrasDocumento) {
+            No[] caminho = new No[palavra.length() + 1];
+            caminho[0] = raiz;
+            for (int i = 0; i < palavra.length(); i++) {
+                caminho[i + 1] = caminho[i].filho(palavra.charAt(i));
+            }
+            No no = caminho[palavra.length()];
+            if (no.documentos.remover(id) > 0) {
+                continue;
+            }
+            no.documentos = null;
+            palavras--;
+            // Poda os nós que ficaram sem palavras abaixo deles
+            for (int i = palavra.length(); i > 0 && caminho[i].vazio(); i--) {
+                caminho[i - 1].removerFilho(palavra.charAt(i - 1));
+            }
+        }
+    }
+
+    private static String[] palavras(String texto) {
+        if (texto == null) {
+            return new String[0];
+        }
+        return Arrays.stream(Restaurante.normalizarParaBusca(texto).split("[^\\p{L}\\p{N}]+"))
+                .filter(palavra -> !palavra.isEmpty())
+                .toArray(String[]::new);
+    }
+
+    private record Correspondencia(No no, int edicoes) {
+    }
+
+    /**
+     * IDs em ordem crescente com a quantidade de edições de cada um, em vetores paralelos.
+     */
+    private static final class Documentos {
+        private final int[] ids;
+        private final int[] edicoes;
+        private int quantidade;
+
+        private Documentos(int capacidade) {
+            ids = new int[capacidade];
+            edicoes = new int[capacidade];
+        }
+
+        /**
+         * @return Documentos presentes nos dois conjuntos, somando as edições
+         */
+        private Documentos intersectar(Documentos outros) {
+            Documentos comuns = new Documentos(Math.min(quantidade, outros.quantidade));
+            int i = 0;
+            int j = 0;
+            while (i < quantidade && j < outros.quantidade) {
+                if (ids[i] < outros.ids[j]) {
+                    i++;
+                } else if (ids[i] > outros.ids[j]) {
+                    j++;
+                } else {
+                    comuns.ids[comuns.quantidade] = ids[i];
+                    comuns.edicoes[comuns.quantidade++] = edicoes[i++] + outros.edicoes[j++];
+                }
+            }
+            return comuns;
+        }
+
+        /**
+         * Ordenação por contagem, estável: com poucas somas de edições possíveis, os IDs de
+         * mesma soma continuam em ordem crescente. Só os {@code limite} primeiros são guardados.
+         */
+        private int[] ordenarPorEdicoes(int limite) {
+            int maximo = 0;
+            for (int i = 0; i < quantidade; i++) {
+                maximo = Math.max(maximo, edicoes[i]);
+            }
+            int[] inicio = new int[maximo + 2];
+            for (int i = 0; i < quantidade; i++) {
+                inicio[edicoes[i] + 1]++;
+            }
+            for (int soma = 1; soma < inicio.length; soma++) {
+                inicio[soma] += inicio[soma - 1];
+            }
+            int[] ordenados = new int[Math.min(quantidade, limite)];
+            for (int i = 0; i < quantidade; i++) {
+                int posicao = inicio[edicoes[i]]++;
+                if (posicao < ordenados.length) {
+                    ordenados[posicao] = ids[i];
+                }
+            }
+            return ordenados;
+        }
+    }
+
+    private static final class No {
+        // Letras dos filhos em ordem, para a busca binária
+        private char[] letras = new char[0];
+        private No[] filhos = new No[0];
+        private IndiceTrigramas.ListaPostagens documentos;
+
+        private No filho(char letra) {
+            int posicao = Arrays.binarySearch(letras, letra);
+            return posicao >= 0 ? filhos[posicao] : null;
+        }
+
+        private No filhoOuNovo(char letra) {
+            int posicao = Arrays.binarySearch(letras, letra);
+            if (posicao >= 0) {
+                return filhos[posicao];
+            }
+            posicao = -posicao - 1;
+            No filho = new No();
+            char[] novasLetras = new char[letras.length + 1];
+            No[] novosFilhos = new No[filhos.length + 1];
+            System.arraycopy(letras, 0, novasLetras, 0, posicao);
+            System.arraycopy(filhos, 0, novosFilhos, 0, posicao);
+            novasLetras[posicao] = letra;
+            novosFilhos[posicao] = filho;
+            System.arraycopy(letras, posicao, novasLetras, posicao + 1, letras.length - posicao);
+            System.arraycopy(filhos, posicao, novosFilhos, posicao + 1, filhos.length - posicao);
+            letras = novasLetras;
+            filhos = novosFilhos;
+            return filho;
+        }
+
+        private void removerFilho(char letra) {
+            int posicao = Arrays.binarySearch(letras, letra);
+            if (posicao < 0) {
+                return;
+            }
+            char[] novasLetras = new char[letras.length - 1];
+            No[] novosFilhos = new No[filhos.length - 1];
+            System.arraycopy(letras, 0, novasLetras, 0, posicao);
+            System.arraycopy(filhos, 0, novosFilhos, 0, posicao);
+            System.arraycopy(letras, posicao + 1, novasLetras, posicao, novasLetras.length - posicao);
+            System.arraycopy(filhos, posicao + 1, novosFilhos, posicao, novosFilhos.length - posicao);
+            letras = novasLetras;
+            filhos = novosFilhos;
+        }
+
+        private boolean vazio() {
+            return documentos == null && filhos.length == 0;
+        }
+    }
+}
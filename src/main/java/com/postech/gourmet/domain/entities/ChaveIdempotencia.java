@@ -0,0 +1,56 @@
+package com.postech.gourmet.domain.entities;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de uma requisição de criação de reserva já processada, identificada pelo
+ * cabeçalho {@code Idempotency-Key} enviado pelo cliente.
+ */
+public class ChaveIdempotencia {
+    private String chave;
+    private Long reservaId;
+    private String impressao;
+    private LocalDateTime criadaEm;
+
+    public ChaveIdempotencia() {
+    }
+
+    public ChaveIdempotencia(String chave, Long reservaId, String impressao, LocalDateTime criadaEm) {
+        this.chave = chave;
+        this.reservaId = reservaId;
+        this.impressao = impressao;
+        this.criadaEm = criadaEm;
+    }
+
+    public String getChave() {
+        return chave;
+    }
+
+    public void setChave(String chave) {
+        this.chave = chave;
+    }
+
+    public Long getReservaId() {
+        return reservaId;
+    }
+
+    public void setReservaId(Long reservaId) {
+        this.reservaId = reservaId;
+    }
+
+    public String getImpressao() {
+        return impressao;
+    }
+
+    public void setImpressao(String impressao) {
+        this.impressao = impressao;
+    }
+
+    public LocalDateTime getCriadaEm() {
+        return criadaEm;
+    }
+
+    public void setCriadaEm(LocalDateTime criadaEm) {
+        this.criadaEm = criadaEm;
+    }
+}
@@ -0,0 +1,112 @@
+package com.postech.gourmet.domain.entities;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progresso gravado de um processamento em lotes, para que uma execução interrompida
+ * seja retomada do ponto em que parou.
+ */
+public class CheckpointProcesso {
+    private String nome;
+    private LocalDateTime corte;
+    private LocalDateTime ultimaDataHora;
+    private Long ultimoId;
+    private boolean emAndamento;
+    private long processados;
+    private LocalDateTime atualizadoEm;
+
+    public CheckpointProcesso() {
+    }
+
+    public CheckpointProcesso(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public LocalDateTime getCorte() {
+        return corte;
+    }
+
+    public void setCorte(LocalDateTime corte) {
+        this.corte = corte;
+    }
+
+    public LocalDateTime getUltimaDataHora() {
+        return ultimaDataHora;
+    }
+
+    public void setUltimaDataHora(LocalDateTime ultimaDataHora) {
+        this.ultimaDataHora = ultimaDataHora;
+    }
+
+    public Long getUltimoId() {
+        return ultimoId;
+    }
+
+    public void setUltimoId(Long ultimoId) {
+        this.ultimoId = ultimoId;
+    }
+
+    public boolean isEmAndamento() {
+        return emAndamento;
+    }
+
+    public void setEmAndamento(boolean emAndamento) {
+        this.emAndamento = emAndamento;
+    }
+
+    public long getProcessados() {
+        return processados;
+    }
+
+    public void setProcessados(long processados) {
+        this.processados = processados;
+    }
+
+    public LocalDateTime getAtualizadoEm() {
+        return atualizadoEm;
+    }
+
+    public void setAtualizadoEm(LocalDateTime atualizadoEm) {
+        this.atualizadoEm = atualizadoEm;
+    }
+
+    public void iniciar(LocalDateTime corte) {
+        this.corte = corte;
+        this.ultimaDataHora = null;
+        this.ultimoId = null;
+        this.processados = 0;
+        this.emAndamento = true;
+        this.atualizadoEm = LocalDateTime.now();
+    }
+
+    public void avancar(LocalDateTime dataHora, Long id, int quantidade) {
+        if (!emAndamento) {
+            throw new IllegalStateException("Não é possível avançar um processamento que não está em andamento");
+        }
+        this.ultimaDataHora = dataHora;
+        this.ultimoId = id;
+        this.processados += quantidade;
+        this.atualizadoEm = LocalDateTime.now();
+    }
+
+    public void finalizar() {
+        this.emAndamento = false;
+        this.atualizadoEm = LocalDateTime.now();
+    }
+
+    /**
+     * Instante até o qual tudo já foi processado: o corte, se a última execução terminou,
+     * ou a posição atual da execução em andamento.
+     */
+    public LocalDateTime processadoAte() {
+        return emAndamento ? ultimaDataHora : corte;
+    }
+}
@@ -0,0 +1,101 @@
+package com.postech.gourmet.domain.entities;
+
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+
+import java.time.LocalDateTime;
+
+/**
+ * Grupo aguardando a liberação de assentos em um horário lotado. Ao ser promovido,
+ * recebe uma reserva pendente, cujo ID fica registrado na entrada.
+ */
+public class EntradaListaEspera {
+    private Long id;
+    private Long restauranteId;
+    private Long usuarioId;
+    private LocalDateTime dataHora;
+    private Integer numeroPessoas;
+    private StatusListaEspera status;
+    private Long reservaId;
+    private LocalDateTime criadaEm;
+
+    public EntradaListaEspera() {
+        this.status = StatusListaEspera.AGUARDANDO;
+    }
+
+    public EntradaListaEspera(Long id, Long restauranteId, Long usuarioId, LocalDateTime dataHora,
+                              Integer numeroPessoas, StatusListaEspera status, Long reservaId,
+                              LocalDateTime criadaEm) {
+        this.id = id;
+        this.restauranteId = restauranteId;
+        this.usuarioId = usuarioId;
+        this.dataHora = dataHora;
+        this.numeroPessoas = numeroPessoas;
+        this.status = status;
+        this.reservaId = reservaId;
+        this.criadaEm = criadaEm;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public LocalDateTime getDataHora() {
+        return dataHora;
+    }
+
+    public void setDataHora(LocalDateTime dataHora) {
+        this.dataHora = dataHora;
+    }
+
+    public Integer getNumeroPessoas() {
+        return numeroPessoas;
+    }
+
+    public void setNumeroPessoas(Integer numeroPessoas) {
+        this.numeroPessoas = numeroPessoas;
+    }
+
+    public StatusListaEspera getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusListaEspera status) {
+        this.status = status;
+    }
+
+    public Long getReservaId() {
+        return reservaId;
+    }
+
+    public void setReservaId(Long reservaId) {
+        this.reservaId = reservaId;
+    }
+
+    public LocalDateTime getCriadaEm() {
+        return criadaEm;
+    }
+
+    public void setCriadaEm(LocalDateTime criadaEm) {
+        this.criadaEm = criadaEm;
+    }
+}
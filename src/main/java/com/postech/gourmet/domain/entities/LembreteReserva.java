@@ -0,0 +1,137 @@
+package com.postech.gourmet.domain.entities;
+
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lembrete de uma reserva aguardando envio na caixa de saída. Guarda os dados necessários para
+ * montar a mensagem, de modo que o envio não precisa consultar a reserva.
+ */
+public class LembreteReserva {
+    private Long id;
+    private Long reservaId;
+    private Long restauranteId;
+    private Long usuarioId;
+    private String cliente;
+    private LocalDateTime dataHoraReserva;
+    private TipoLembrete tipo;
+    private StatusLembrete status;
+    private LocalDateTime enviarEm;
+    private int tentativas;
+
+    public LembreteReserva() {
+        this.status = StatusLembrete.PENDENTE;
+    }
+
+    public LembreteReserva(Long id, Long reservaId, Long restauranteId, Long usuarioId, String cliente,
+                           LocalDateTime dataHoraReserva, TipoLembrete tipo, StatusLembrete status,
+                           LocalDateTime enviarEm, int tentativas) {
+        this.id = id;
+        this.reservaId = reservaId;
+        this.restauranteId = restauranteId;
+        this.usuarioId = usuarioId;
+        this.cliente = cliente;
+        this.dataHoraReserva = dataHoraReserva;
+        this.tipo = tipo;
+        this.status = status;
+        this.enviarEm = enviarEm;
+        this.tentativas = tentativas;
+    }
+
+    /**
+     * Lembrete pendente da reserva, a ser enviado com a antecedência do tipo.
+     */
+    public static LembreteReserva para(Reserva reserva, TipoLembrete tipo) {
+        LembreteReserva lembrete = new LembreteReserva();
+        lembrete.setReservaId(reserva.getId());
+        lembrete.setRestauranteId(reserva.getRestaurante() != null ? reserva.getRestaurante().getId() : null);
+        lembrete.setUsuarioId(reserva.getUsuario() != null ? reserva.getUsuario().getId() : null);
+        lembrete.setCliente(reserva.getCliente());
+        lembrete.setDataHoraReserva(reserva.getDataHora());
+        lembrete.setTipo(tipo);
+        lembrete.setEnviarEm(reserva.getDataHora().minus(tipo.getAntecedencia()));
+        return lembrete;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getReservaId() {
+        return reservaId;
+    }
+
+    public void setReservaId(Long reservaId) {
+        this.reservaId = reservaId;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public String getCliente() {
+        return cliente;
+    }
+
+    public void setCliente(String cliente) {
+        this.cliente = cliente;
+    }
+
+    public LocalDateTime getDataHoraReserva() {
+        return dataHoraReserva;
+    }
+
+    public void setDataHoraReserva(LocalDateTime dataHoraReserva) {
+        this.dataHoraReserva = dataHoraReserva;
+    }
+
+    public TipoLembrete getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(TipoLembrete tipo) {
+        this.tipo = tipo;
+    }
+
+    public StatusLembrete getStatus() {
+        return status;
+    }
+
+    public void setStatus(StatusLembrete status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getEnviarEm() {
+        return enviarEm;
+    }
+
+    public void setEnviarEm(LocalDateTime enviarEm) {
+        this.enviarEm = enviarEm;
+    }
+
+    public int getTentativas() {
+        return tentativas;
+    }
+
+    public void setTentativas(int tentativas) {
+        this.tentativas = tentativas;
+    }
+}
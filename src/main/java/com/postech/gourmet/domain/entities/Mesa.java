@@ -0,0 +1,54 @@
+package com.postech.gourmet.domain.entities;
+
+/**
+ * Mesa de um restaurante. Mesas combináveis podem ser juntadas para acomodar grupos
+ * maiores que qualquer mesa isolada.
+ */
+public class Mesa {
+    private Long id;
+    private Long restauranteId;
+    private Integer lugares;
+    private boolean combinavel;
+
+    public Mesa() {
+    }
+
+    public Mesa(Long id, Long restauranteId, Integer lugares, boolean combinavel) {
+        this.id = id;
+        this.restauranteId = restauranteId;
+        this.lugares = lugares;
+        this.combinavel = combinavel;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public Integer getLugares() {
+        return lugares;
+    }
+
+    public void setLugares(Integer lugares) {
+        this.lugares = lugares;
+    }
+
+    public boolean isCombinavel() {
+        return combinavel;
+    }
+
+    public void setCombinavel(boolean combinavel) {
+        this.combinavel = combinavel;
+    }
+}
@@ -0,0 +1,116 @@
+package com.postech.gourmet.domain.entities;
+
+import com.postech.gourmet.domain.enums.StatusReserva;
+
+import java.time.LocalDate;
+
+/**
+ * Totais de reservas de um restaurante em uma hora de um dia. Reservas pendentes e
+ * confirmadas (incluindo as já concluídas) são contadas separadamente; canceladas não contam.
+ */
+public class OcupacaoHoraria {
+    private Long restauranteId;
+    private LocalDate data;
+    private int hora;
+    private int reservasPendentes;
+    private int pessoasPendentes;
+    private int reservasConfirmadas;
+    private int pessoasConfirmadas;
+
+    public OcupacaoHoraria() {
+    }
+
+    public OcupacaoHoraria(Long restauranteId, LocalDate data, int hora) {
+        this.restauranteId = restauranteId;
+        this.data = data;
+        this.hora = hora;
+    }
+
+    /**
+     * Soma reservas e pessoas aos totais do status informado. Valores negativos
+     * descontam; status que não ocupam assentos são ignorados.
+     */
+    public void acumular(StatusReserva status, int reservas, int pessoas) {
+        if (status == null) {
+            return;
+        }
+        switch (status) {
+            case PENDENTE -> {
+                this.reservasPendentes += reservas;
+                this.pessoasPendentes += pessoas;
+            }
+            case CONFIRMADA, CONCLUIDA -> {
+                this.reservasConfirmadas += reservas;
+                this.pessoasConfirmadas += pessoas;
+            }
+            case CANCELADA -> {
+                // Reservas canceladas não ocupam assentos
+            }
+        }
+    }
+
+    public boolean isVazia() {
+        return reservasPendentes == 0 && pessoasPendentes == 0
+                && reservasConfirmadas == 0 && pessoasConfirmadas == 0;
+    }
+
+    public int getPessoas() {
+        return pessoasPendentes + pessoasConfirmadas;
+    }
+
+    public Long getRestauranteId() {
+        return restauranteId;
+    }
+
+    public void setRestauranteId(Long restauranteId) {
+        this.restauranteId = restauranteId;
+    }
+
+    public LocalDate getData() {
+        return data;
+    }
+
+    public void setData(LocalDate data) {
+        this.data = data;
+    }
+
+    public int getHora() {
+        return hora;
+    }
+
+    public void setHora(int hora) {
+        this.hora = hora;
+    }
+
+    public int getReservasPendentes() {
+        return reservasPendentes;
+    }
+
+    public void setReservasPendentes(int reservasPendentes) {
+        this.reservasPendentes = reservasPendentes;
+    }
+
+    public int getPessoasPendentes() {
+        return pessoasPendentes;
+    }
+
+    public void setPessoasPendentes(int pessoasPendentes) {
+        this.pessoasPendentes = pessoasPendentes;
+    }
+
+    public int getReservasConfirmadas() {
+        return reservasConfirmadas;
+    }
+
+    public void setReservasConfirmadas(int reservasConfirmadas) {
+        this.reservasConfirmadas = reservasConfirmadas;
+    }
+
+    public int getPessoasConfirmadas() {
+        return pessoasConfirmadas;
+    }
+
+    public void setPessoasConfirmadas(int pessoasConfirmadas) {
+        this.pessoasConfirmadas = pessoasConfirmadas;
+    }
+}
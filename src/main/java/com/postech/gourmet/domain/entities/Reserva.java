@@ -12,6 +12,7 @@ public class Reserva {
     private Usuario usuario;
     private StatusReserva status;
     private Integer numeroPessoas;
+    private LocalDateTime criadaEm;
 
     public Reserva() {
         this.status = StatusReserva.PENDENTE;
@@ -85,6 +86,14 @@ public class Reserva {
         this.numeroPessoas = numeroPessoas;
     }
 
+    public LocalDateTime getCriadaEm() {
+        return criadaEm;
+    }
+
+    public void setCriadaEm(LocalDateTime criadaEm) {
+        this.criadaEm = criadaEm;
+    }
+
     public void confirmar() {
         if (this.status == StatusReserva.PENDENTE) {
             this.status = StatusReserva.CONFIRMADA;
@@ -1,19 +1,26 @@
 package com.postech.gourmet.domain.entities;
 
+import java.text.Normalizer;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 public class Restaurante {
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+
     private Long id;
     private String nome;
     private String endereco;
     private String telefone;
     private String tipoCozinha;
     private Integer capacidade;
+    private Double latitude;
+    private Double longitude;
     private Map<DayOfWeek, HorarioFuncionamento> horariosFuncionamento;
     private List<Avaliacao> avaliacoes;
     private List<Reserva> reservas;
@@ -67,6 +74,24 @@ public class Restaurante {
         return soma / this.avaliacoes.size();
     }
 
+    /**
+     * Define a localização do restaurante; latitude e longitude são informadas juntas ou omitidas.
+     */
+    public void definirLocalizacao(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("Latitude e longitude devem ser informadas juntas");
+        }
+        if (latitude != null && (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180)) {
+            throw new IllegalArgumentException("Latitude deve estar entre -90 e 90 e longitude entre -180 e 180");
+        }
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    public boolean temLocalizacao() {
+        return latitude != null && longitude != null;
+    }
+
     public void adicionarAvaliacao(Avaliacao avaliacao) {
         if (this.avaliacoes == null) {
             this.avaliacoes = new ArrayList<>();
@@ -75,6 +100,23 @@ public class Restaurante {
         this.avaliacoes.add(avaliacao);
     }
 
+    /**
+     * Forma do texto usada na busca de restaurantes: sem acentos e em minúsculas, de modo que
+     * "sao paulo" encontre "São Paulo" e "acai" encontre "Açaí".
+     */
+    public static String normalizarParaBusca(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        boolean ascii = true;
+        for (int i = 0; i < texto.length() && ascii; i++) {
+            ascii = texto.charAt(i) < 0x80;
+        }
+        String semAcentos = ascii ? texto
+                : MARCAS_DIACRITICAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.toLowerCase(Locale.ROOT);
+    }
+
     public Long getId() {
         return id;
     }
@@ -123,6 +165,22 @@ public class Restaurante {
         this.capacidade = capacidade;
     }
 
+    public Double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(Double latitude) {
+        this.latitude = latitude;
+    }
+
+    public Double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(Double longitude) {
+        this.longitude = longitude;
+    }
+
     public Map<DayOfWeek, HorarioFuncionamento> getHorariosFuncionamento() {
         return horariosFuncionamento;
     }
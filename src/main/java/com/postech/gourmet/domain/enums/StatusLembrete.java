@@ -0,0 +1,8 @@
+package com.postech.gourmet.domain.enums;
+
+public enum StatusLembrete {
+    PENDENTE,
+    ENVIADO,
+    CANCELADO,
+    FALHOU
+}
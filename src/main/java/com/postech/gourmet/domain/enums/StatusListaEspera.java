@@ -0,0 +1,7 @@
+package com.postech.gourmet.domain.enums;
+
+public enum StatusListaEspera {
+    AGUARDANDO,
+    PROMOVIDA,
+    CANCELADA
+}
@@ -0,0 +1,18 @@
+package com.postech.gourmet.domain.enums;
+
+import java.time.Duration;
+
+public enum TipoLembrete {
+    VINTE_E_QUATRO_HORAS(Duration.ofHours(24)),
+    DUAS_HORAS(Duration.ofHours(2));
+
+    private final Duration antecedencia;
+
+    TipoLembrete(Duration antecedencia) {
+        this.antecedencia = antecedencia;
+    }
+
+    public Duration getAntecedencia() {
+        return antecedencia;
+    }
+}
@@ -0,0 +1,14 @@
+package com.postech.gourmet.domain.events;
+
+import java.time.LocalDateTime;
+
+/**
+ * Publicado quando assentos retidos por um bloqueio temporário voltam a ficar livres sem que
+ * uma reserva os ocupe: o bloqueio foi liberado pelo cliente ou venceu.
+ *
+ * @param restauranteId ID do restaurante
+ * @param dataHora      Data/hora do bloqueio
+ * @param numeroPessoas Assentos devolvidos
+ */
+public record AssentosLiberadosEvent(Long restauranteId, LocalDateTime dataHora, int numeroPessoas) {
+}
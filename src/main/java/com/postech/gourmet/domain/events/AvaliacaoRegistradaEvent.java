@@ -0,0 +1,11 @@
+package com.postech.gourmet.domain.events;
+
+/**
+ * Publicado quando um restaurante recebe uma avaliação, para que rankings mantidos em memória
+ * possam atualizar a média do restaurante sem consultar o banco.
+ *
+ * @param restauranteId ID do restaurante avaliado
+ * @param nota          Nota da avaliação, de 1 a 5
+ */
+public record AvaliacaoRegistradaEvent(Long restauranteId, int nota) {
+}
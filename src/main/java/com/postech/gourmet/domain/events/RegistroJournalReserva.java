@@ -0,0 +1,55 @@
+package com.postech.gourmet.domain.events;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Alteração de reserva gravada no journal de auditoria.
+ *
+ * @param sequencia      Posição do registro no journal (atribuída na gravação)
+ * @param tipo           Tipo da alteração
+ * @param reservaId      ID da reserva alterada
+ * @param restauranteId  ID do restaurante (nulo nas conclusões, feitas sem carregar a reserva)
+ * @param dataHora       Data e hora da reserva
+ * @param numeroPessoas  Quantidade de pessoas (nula nas conclusões)
+ * @param statusAnterior Status antes da alteração (nulo na criação)
+ * @param status         Status após a alteração
+ * @param registradoEm   Momento em que a alteração foi registrada
+ */
+public record RegistroJournalReserva(long sequencia, Tipo tipo, Long reservaId, Long restauranteId,
+                                     LocalDateTime dataHora, Integer numeroPessoas,
+                                     StatusReserva statusAnterior, StatusReserva status, Instant registradoEm) {
+
+    /**
+     * A posição de cada constante faz parte do formato gravado em disco: novos tipos só
+     * podem ser acrescentados ao final.
+     */
+    public enum Tipo {
+        CRIACAO,
+        CONFIRMACAO,
+        CANCELAMENTO,
+        EXPIRACAO,
+        CONCLUSAO
+    }
+
+    public static RegistroJournalReserva de(ReservaAlteradaEvent event) {
+        Reserva reserva = event.reserva();
+        return new RegistroJournalReserva(-1, Tipo.valueOf(event.operacao().name()), reserva.getId(),
+                reserva.getRestaurante() != null ? reserva.getRestaurante().getId() : null,
+                reserva.getDataHora(), reserva.getNumeroPessoas(), event.statusAnterior(), reserva.getStatus(),
+                Instant.now());
+    }
+
+    public static RegistroJournalReserva conclusao(Long reservaId, LocalDateTime dataHora) {
+        return new RegistroJournalReserva(-1, Tipo.CONCLUSAO, reservaId, null, dataHora, null,
+                StatusReserva.CONFIRMADA, StatusReserva.CONCLUIDA, Instant.now());
+    }
+
+    public RegistroJournalReserva comSequencia(long novaSequencia) {
+        return new RegistroJournalReserva(novaSequencia, tipo, reservaId, restauranteId, dataHora, numeroPessoas,
+                statusAnterior, status, registradoEm);
+    }
+}
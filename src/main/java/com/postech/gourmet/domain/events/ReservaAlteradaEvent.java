@@ -0,0 +1,38 @@
+package com.postech.gourmet.domain.events;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+
+/**
+ * Publicado sempre que uma reserva é criada ou muda de status, para que estruturas
+ * mantidas em memória possam se atualizar.
+ *
+ * @param operacao       Tipo da alteração realizada
+ * @param reserva        Estado da reserva após a alteração
+ * @param statusAnterior Status da reserva antes da alteração (nulo na criação)
+ */
+public record ReservaAlteradaEvent(Operacao operacao, Reserva reserva, StatusReserva statusAnterior) {
+
+    public enum Operacao {
+        CRIACAO,
+        CONFIRMACAO,
+        CANCELAMENTO,
+        EXPIRACAO
+    }
+
+    public static ReservaAlteradaEvent criacao(Reserva reserva) {
+        return new ReservaAlteradaEvent(Operacao.CRIACAO, reserva, null);
+    }
+
+    public static ReservaAlteradaEvent confirmacao(Reserva reserva) {
+        return new ReservaAlteradaEvent(Operacao.CONFIRMACAO, reserva, StatusReserva.PENDENTE);
+    }
+
+    public static ReservaAlteradaEvent cancelamento(Reserva reserva, StatusReserva statusAnterior) {
+        return new ReservaAlteradaEvent(Operacao.CANCELAMENTO, reserva, statusAnterior);
+    }
+
+    public static ReservaAlteradaEvent expiracao(Reserva reserva) {
+        return new ReservaAlteradaEvent(Operacao.EXPIRACAO, reserva, StatusReserva.PENDENTE);
+    }
+}
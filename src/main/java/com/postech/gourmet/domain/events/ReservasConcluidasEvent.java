@@ -0,0 +1,14 @@
+package com.postech.gourmet.domain.events;
+
+import com.postech.gourmet.domain.repositories.CursorReserva;
+
+import java.util.List;
+
+/**
+ * Publicado a cada lote de reservas marcadas como CONCLUIDA. A conclusão é feita por um único
+ * UPDATE, sem carregar as reservas, então o evento traz apenas (dataHora, id) de cada uma.
+ *
+ * @param reservas Reservas concluídas no lote
+ */
+public record ReservasConcluidasEvent(List<CursorReserva> reservas) {
+}
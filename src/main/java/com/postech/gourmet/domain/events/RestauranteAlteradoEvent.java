@@ -0,0 +1,32 @@
+package com.postech.gourmet.domain.events;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+
+/**
+ * Publicado sempre que um restaurante é cadastrado, atualizado ou excluído,
+ * para que estruturas mantidas em memória possam se atualizar.
+ *
+ * @param operacao      Tipo da alteração realizada
+ * @param restauranteId ID do restaurante alterado
+ * @param restaurante   Estado do restaurante após a alteração (nulo na exclusão)
+ */
+public record RestauranteAlteradoEvent(Operacao operacao, Long restauranteId, Restaurante restaurante) {
+
+    public enum Operacao {
+        CADASTRO,
+        ATUALIZACAO,
+        EXCLUSAO
+    }
+
+    public static RestauranteAlteradoEvent cadastro(Restaurante restaurante) {
+        return new RestauranteAlteradoEvent(Operacao.CADASTRO, restaurante.getId(), restaurante);
+    }
+
+    public static RestauranteAlteradoEvent atualizacao(Restaurante restaurante) {
+        return new RestauranteAlteradoEvent(Operacao.ATUALIZACAO, restaurante.getId(), restaurante);
+    }
+
+    public static RestauranteAlteradoEvent exclusao(Long restauranteId) {
+        return new RestauranteAlteradoEvent(Operacao.EXCLUSAO, restauranteId, null);
+    }
+}
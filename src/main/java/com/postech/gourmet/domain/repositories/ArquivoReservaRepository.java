@@ -0,0 +1,23 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.Reserva;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Arquivo frio das reservas antigas, mantido fora do banco transacional. Apenas acréscimo:
+ * reservas arquivadas não são mais alteradas.
+ */
+public interface ArquivoReservaRepository {
+
+    /**
+     * Grava as reservas em um novo segmento do arquivo. Só retorna depois de o segmento estar
+     * em disco, para que as reservas possam ser removidas do banco em seguida.
+     */
+    void arquivar(List<Reserva> reservas);
+
+    Optional<Reserva> findById(Long id);
+
+    List<Reserva> findByUsuarioId(Long usuarioId);
+}
@@ -15,4 +15,14 @@ public interface AvaliacaoRepository {
     List<Avaliacao> findByUsuarioId(Long usuarioId);
 
     Double calcularMediaAvaliacoesPorRestaurante(Long restauranteId);
+
+    /**
+     * @return Totais das avaliações de cada restaurante avaliado
+     */
+    List<TotalAvaliacoes> totalizarPorRestaurante();
+
+    /**
+     * @return Totais das avaliações do restaurante, vazio se ele não tiver avaliações
+     */
+    Optional<TotalAvaliacoes> totalizarDoRestaurante(Long restauranteId);
 }
\ No newline at end of file
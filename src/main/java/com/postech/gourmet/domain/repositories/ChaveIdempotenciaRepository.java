@@ -0,0 +1,24 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.ChaveIdempotencia;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ChaveIdempotenciaRepository {
+    /**
+     * Insere a chave sem nunca sobrescrever um registro existente: uma chave repetida
+     * viola a chave primária e falha.
+     */
+    void inserir(ChaveIdempotencia chave);
+
+    Optional<ChaveIdempotencia> findByChave(String chave);
+
+    int deleteByCriadaEmBefore(LocalDateTime limite);
+
+    /**
+     * Remove a chave apenas se ela for anterior ao limite, liberando-a para um novo uso antes
+     * da limpeza periódica.
+     */
+    int deleteByChaveAndCriadaEmBefore(String chave, LocalDateTime limite);
+}
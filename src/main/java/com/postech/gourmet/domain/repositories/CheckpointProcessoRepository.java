@@ -0,0 +1,11 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+
+import java.util.Optional;
+
+public interface CheckpointProcessoRepository {
+    CheckpointProcesso save(CheckpointProcesso checkpoint);
+
+    Optional<CheckpointProcesso> findByNome(String nome);
+}
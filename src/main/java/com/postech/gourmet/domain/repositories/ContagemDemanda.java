@@ -0,0 +1,12 @@
+package com.postech.gourmet.domain.repositories;
+
+/**
+ * Reservas, cancelamentos e não comparecimentos de um restaurante em uma faixa de 15 minutos
+ * da semana ({@code diaDaSemana * 96 + quartoDeHora}, com segunda-feira = 0).
+ */
+public record ContagemDemanda(Long restauranteId, int faixa, int reservas, int cancelamentos, int naoComparecimentos) {
+
+    public boolean isVazia() {
+        return reservas == 0 && cancelamentos == 0 && naoComparecimentos == 0;
+    }
+}
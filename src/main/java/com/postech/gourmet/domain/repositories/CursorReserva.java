@@ -0,0 +1,16 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.Reserva;
+
+import java.time.LocalDateTime;
+
+/**
+ * Posição na listagem de reservas ordenada por (dataHora, id). A próxima página começa
+ * na primeira reserva estritamente posterior a esta posição.
+ */
+public record CursorReserva(LocalDateTime dataHora, Long id) {
+
+    public static CursorReserva apos(Reserva reserva) {
+        return new CursorReserva(reserva.getDataHora(), reserva.getId());
+    }
+}
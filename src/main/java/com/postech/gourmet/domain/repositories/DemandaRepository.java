@@ -0,0 +1,27 @@
+package com.postech.gourmet.domain.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Contagens diárias de demanda por faixa da semana, base do mapa de calor de cada restaurante.
+ */
+public interface DemandaRepository {
+    /**
+     * Soma a variação às contagens da faixa no dia, criando o registro se ainda não existir.
+     * A operação é atômica no banco, então atualizações concorrentes não se perdem.
+     */
+    void acumular(LocalDate dia, ContagemDemanda variacao);
+
+    /**
+     * Soma, por faixa, as contagens do restaurante a partir do dia informado (inclusivo).
+     */
+    List<ContagemDemanda> totalizar(Long restauranteId, LocalDate de);
+
+    /**
+     * @return Quantidade de registros diários removidos
+     */
+    int deleteAntesDe(LocalDate limite);
+
+    void deleteByRestauranteId(Long restauranteId);
+}
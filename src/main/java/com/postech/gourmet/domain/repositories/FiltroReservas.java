@@ -0,0 +1,16 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.enums.StatusReserva;
+
+import java.time.LocalDateTime;
+
+/**
+ * Filtros opcionais da listagem de reservas. Campos nulos não restringem a consulta;
+ * o período é semiaberto: {@code de <= dataHora < ate}.
+ */
+public record FiltroReservas(Long restauranteId, StatusReserva status, LocalDateTime de, LocalDateTime ate) {
+
+    public static FiltroReservas semFiltros() {
+        return new FiltroReservas(null, null, null, null);
+    }
+}
@@ -0,0 +1,33 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.events.RegistroJournalReserva;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Journal de auditoria das alterações de reserva, apenas de acréscimo e fora do banco
+ * transacional.
+ */
+public interface JournalReservaRepository {
+
+    /**
+     * Acrescenta o registro ao fim do journal. A sequência do registro recebido é ignorada.
+     *
+     * @return Futuro completado com a sequência atribuída quando o registro estiver gravado em disco
+     */
+    CompletableFuture<Long> registrar(RegistroJournalReserva registro);
+
+    /**
+     * Entrega ao consumidor, em ordem, até {@code limite} registros já gravados em disco a
+     * partir da sequência informada.
+     *
+     * @return Sequência seguinte ao último registro entregue, para continuar a leitura
+     */
+    long reproduzir(long aPartirDe, int limite, Consumer<RegistroJournalReserva> consumidor);
+
+    /**
+     * Sequência que o próximo registro gravado em disco receberá.
+     */
+    long proximaSequencia();
+}
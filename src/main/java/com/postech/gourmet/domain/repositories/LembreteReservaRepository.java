@@ -0,0 +1,47 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Caixa de saída dos lembretes de reserva.
+ */
+public interface LembreteReservaRepository {
+    List<LembreteReserva> saveAll(List<LembreteReserva> lembretes);
+
+    Set<TipoLembrete> findTiposByReservaId(Long reservaId);
+
+    /**
+     * Reserva para esta instância até {@code limite} lembretes pendentes vencidos em {@code agora}.
+     * As linhas são lidas com SELECT ... FOR UPDATE SKIP LOCKED, de modo que instâncias concorrentes
+     * pegam lotes distintos, e ficam invisíveis às demais até {@code arrendarAte}: se o envio não
+     * for registrado até lá, por queda da instância, o lembrete volta a ser despachado.
+     * Deve ser chamado dentro de uma transação.
+     */
+    List<LembreteReserva> reservarVencidos(LocalDateTime agora, LocalDateTime arrendarAte, int limite);
+
+    /**
+     * Altera, em um único UPDATE, o status dos lembretes que ainda estão pendentes.
+     *
+     * @return Quantidade de lembretes alterados
+     */
+    int atualizarStatus(Collection<Long> ids, StatusLembrete novoStatus);
+
+    /**
+     * Devolve lembretes pendentes à fila para uma nova tentativa em {@code quando}.
+     */
+    int reagendar(Collection<Long> ids, LocalDateTime quando);
+
+    /**
+     * Cancela os lembretes ainda pendentes da reserva.
+     *
+     * @return Quantidade de lembretes cancelados
+     */
+    int cancelarPendentes(Long reservaId);
+}
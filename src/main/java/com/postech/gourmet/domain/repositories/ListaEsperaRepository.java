@@ -0,0 +1,28 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ListaEsperaRepository {
+    EntradaListaEspera save(EntradaListaEspera entrada);
+
+    Optional<EntradaListaEspera> findById(Long id);
+
+    /**
+     * Entradas ainda aguardando para horários a partir do limite, na ordem de chegada.
+     */
+    List<EntradaListaEspera> findAguardandoAPartirDe(LocalDateTime limite);
+
+    /**
+     * Altera o status apenas se a entrada ainda estiver no status esperado.
+     *
+     * @return Quantidade de entradas alteradas (0 ou 1)
+     */
+    int atualizarStatus(Long id, StatusListaEspera statusAtual, StatusListaEspera novoStatus);
+
+    void registrarReserva(Long id, Long reservaId);
+}
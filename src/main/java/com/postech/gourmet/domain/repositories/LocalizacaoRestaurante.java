@@ -0,0 +1,7 @@
+package com.postech.gourmet.domain.repositories;
+
+/**
+ * Coordenadas de um restaurante, carregadas sem os demais dados da entidade.
+ */
+public record LocalizacaoRestaurante(Long id, double latitude, double longitude) {
+}
@@ -0,0 +1,27 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.Mesa;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface MesaRepository {
+    List<Mesa> findByRestauranteId(Long restauranteId);
+
+    /**
+     * Substitui todas as mesas do restaurante pelas informadas.
+     *
+     * @return Mesas gravadas, com os IDs gerados
+     */
+    List<Mesa> substituir(Long restauranteId, List<Mesa> mesas);
+
+    void registrarAlocacao(Long reservaId, Collection<Long> mesaIds);
+
+    List<Long> findMesaIdsByReservaId(Long reservaId);
+
+    /**
+     * IDs das mesas alocadas a reservas pendentes ou confirmadas do restaurante no período.
+     */
+    List<Long> findMesaIdsOcupadas(Long restauranteId, LocalDateTime inicio, LocalDateTime fim);
+}
@@ -0,0 +1,7 @@
+package com.postech.gourmet.domain.repositories;
+
+/**
+ * Nome e tipo de cozinha de um restaurante, carregados sem os demais dados da entidade.
+ */
+public record NomeRestaurante(Long id, String nome, String tipoCozinha) {
+}
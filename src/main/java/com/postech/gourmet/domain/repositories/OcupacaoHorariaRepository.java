@@ -0,0 +1,31 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.entities.OcupacaoHoraria;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OcupacaoHorariaRepository {
+    /**
+     * Soma os valores informados aos totais da hora, criando o registro se ainda não existir.
+     * A operação é atômica no banco, então atualizações concorrentes da mesma hora não se perdem.
+     */
+    void acumular(OcupacaoHoraria variacao);
+
+    /**
+     * @return Horas com reservas do restaurante entre as datas (inclusivas), em ordem cronológica
+     */
+    List<OcupacaoHoraria> findByRestauranteIdAndDataBetween(Long restauranteId, LocalDate de, LocalDate ate);
+
+    /**
+     * Descarta os totais do restaurante a partir da hora de {@code desde} e grava os informados
+     * no lugar. As horas anteriores são mantidas.
+     */
+    void substituir(Long restauranteId, LocalDateTime desde, Collection<OcupacaoHoraria> ocupacoes);
+
+    void deleteByRestauranteId(Long restauranteId);
+
+    boolean isEmpty();
+}
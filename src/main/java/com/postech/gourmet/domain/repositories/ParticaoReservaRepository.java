@@ -0,0 +1,28 @@
+package com.postech.gourmet.domain.repositories;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Partições mensais (por data da reserva) da tabela de reservas, nos bancos em que ela foi
+ * convertida em tabela particionada.
+ */
+public interface ParticaoReservaRepository {
+
+    boolean isParticionada();
+
+    /**
+     * Cria a partição do mês, se ainda não existir, movendo para ela as reservas do mês que
+     * estejam na partição padrão.
+     *
+     * @return {@code true} se a partição foi criada
+     */
+    boolean criarParticao(YearMonth mes);
+
+    /**
+     * Remove as partições mensais vazias anteriores ao mês informado, esvaziadas pelo arquivamento.
+     *
+     * @return Meses cujas partições foram removidas
+     */
+    List<YearMonth> removerParticoesVaziasAntes(YearMonth mes);
+}
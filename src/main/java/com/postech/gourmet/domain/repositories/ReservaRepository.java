@@ -1,13 +1,20 @@
 package com.postech.gourmet.domain.repositories;
 
 import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface ReservaRepository {
     Reserva save(Reserva reserva);
 
+    List<Reserva> saveAll(List<Reserva> reservas);
+
     Optional<Reserva> findById(Long id);
 
     List<Reserva> findAll();
@@ -17,4 +24,84 @@ public interface ReservaRepository {
     void deleteById(Long id);
 
     List<Reserva> findByUsuarioId(Long usuarioId);
+
+    /**
+     * Reservas do restaurante com data em [inicio, fim), em ordem de (dataHora, id). Restaurante e
+     * usuário vêm apenas com o ID preenchido.
+     */
+    List<Reserva> findByRestauranteIdAndDataHoraBetween(Long restauranteId, LocalDateTime inicio, LocalDateTime fim);
+
+    /**
+     * Como {@link #findByRestauranteIdAndDataHoraBetween}, apenas com as reservas nos status informados.
+     */
+    List<Reserva> findByRestauranteIdAndDataHoraBetweenAndStatusIn(
+            Long restauranteId, LocalDateTime inicio, LocalDateTime fim, Collection<StatusReserva> status);
+
+    List<Reserva> buscarPagina(FiltroReservas filtro, CursorReserva apos, int limite);
+
+    Stream<List<Reserva>> paginar(FiltroReservas filtro, int tamanhoPagina);
+
+    /**
+     * Percorre todas as reservas por um cursor no servidor. Deve ser consumido dentro de uma
+     * transação e fechado ao final.
+     */
+    Stream<Reserva> streamAll();
+
+    /**
+     * Percorre as reservas com o status informado, carregando apenas as colunas da própria reserva.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     */
+    Stream<Reserva> streamByStatus(StatusReserva status);
+
+    /**
+     * Busca apenas (dataHora, id) das reservas no status informado com data anterior a {@code antes},
+     * em ordem de (dataHora, id) e a partir do cursor, sem carregar as reservas.
+     */
+    List<CursorReserva> buscarChavesPorStatusAntesDe(
+            StatusReserva status, LocalDateTime antes, CursorReserva apos, int limite);
+
+    /**
+     * Bloqueia para atualização (SELECT ... FOR UPDATE), em uma única consulta, as reservas
+     * informadas em qualquer status. IDs inexistentes são ignorados. As linhas são travadas
+     * em ordem de ID, como em {@link #travarPorStatus}, para que lotes sobrepostos não se
+     * bloqueiem mutuamente.
+     */
+    List<Reserva> travarPorIds(Collection<Long> ids);
+
+    /**
+     * Bloqueia para atualização (SELECT ... FOR UPDATE) as reservas informadas que ainda estão
+     * no status esperado, até o fim da transação corrente, em ordem de ID.
+     */
+    List<Reserva> travarPorStatus(Collection<Long> ids, StatusReserva status);
+
+    /**
+     * Altera o status das reservas informadas em um único UPDATE, ignorando as que já não
+     * estão em {@code statusAtual}.
+     *
+     * @return Quantidade de reservas alteradas
+     */
+    int atualizarStatus(Collection<Long> ids, StatusReserva statusAtual, StatusReserva novoStatus);
+
+    /**
+     * Busca, em ordem de ID, reservas nos status informados com data anterior a {@code antes},
+     * já com restaurante e usuário carregados, para serem arquivadas.
+     */
+    List<Reserva> buscarParaArquivar(Collection<StatusReserva> status, LocalDateTime antes, int limite);
+
+    /**
+     * Remove as reservas do banco em um único DELETE, depois de arquivadas.
+     *
+     * @return Quantidade de reservas removidas
+     */
+    int excluirPorIds(Collection<Long> ids);
+
+    int somarPessoasAtivasNoPeriodo(Long restauranteId, LocalDateTime inicio, LocalDateTime fim);
+
+    Map<LocalDateTime, Integer> somarPessoasAtivasPorHorario(Long restauranteId, LocalDateTime inicio, LocalDateTime fim);
+
+    /**
+     * Agrupa as reservas do restaurante a partir de {@code desde} por horário e status, sem
+     * carregá-las.
+     */
+    List<TotalReservasPorHorario> totalizarPorHorario(Long restauranteId, LocalDateTime desde);
 }
\ No newline at end of file
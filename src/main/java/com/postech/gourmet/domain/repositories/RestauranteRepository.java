@@ -2,6 +2,7 @@ package com.postech.gourmet.domain.repositories;
 
 import com.postech.gourmet.domain.entities.Restaurante;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,10 +12,34 @@ public interface RestauranteRepository {
 
     Optional<Restaurante> findById(Long id);
 
+    List<Restaurante> findAllById(Collection<Long> ids);
+
     boolean existsById(Long id);
 
     List<Restaurante> findAll();
 
+    /**
+     * @return Os {@code limite} restaurantes de menor ID, em ordem de ID
+     */
+    List<Restaurante> findPrimeiros(int limite);
+
+    List<Long> findAllIds();
+
+    /**
+     * @return Nome, endereço e tipo de cozinha de todos os restaurantes, para montar o índice de busca
+     */
+    List<TextoRestaurante> findTextosBusca();
+
+    /**
+     * @return Nome e tipo de cozinha de todos os restaurantes, para montar as sugestões de busca
+     */
+    List<NomeRestaurante> findNomes();
+
+    /**
+     * @return Coordenadas dos restaurantes com localização, para montar o índice geográfico
+     */
+    List<LocalizacaoRestaurante> findLocalizacoes();
+
     void deleteById(Long id);
 
     List<Restaurante> findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(
@@ -23,4 +48,11 @@ public interface RestauranteRepository {
     List<Restaurante> findByNomeContaining(String nome);
 
     boolean existsByNomeAndEndereco(String nome, String endereco);
+
+    /**
+     * Preenche as colunas normalizadas de busca de restaurantes gravados antes de elas existirem.
+     *
+     * @return Quantidade de restaurantes preenchidos, no máximo {@code limite}
+     */
+    int preencherCamposBusca(int limite);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.postech.gourmet.domain.repositories;
+
+/**
+ * Campos pesquisáveis de um restaurante, carregados sem os horários e coleções da entidade.
+ */
+public record TextoRestaurante(Long id, String nome, String endereco, String tipoCozinha) {
+}
@@ -0,0 +1,7 @@
+package com.postech.gourmet.domain.repositories;
+
+/**
+ * Quantidade e soma das notas das avaliações de um restaurante.
+ */
+public record TotalAvaliacoes(Long restauranteId, long quantidade, long somaNotas) {
+}
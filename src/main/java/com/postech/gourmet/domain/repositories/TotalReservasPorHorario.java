@@ -0,0 +1,11 @@
+package com.postech.gourmet.domain.repositories;
+
+import com.postech.gourmet.domain.enums.StatusReserva;
+
+import java.time.LocalDateTime;
+
+/**
+ * Quantidade de reservas e de pessoas de um restaurante em um horário, por status.
+ */
+public record TotalReservasPorHorario(LocalDateTime dataHora, StatusReserva status, int reservas, int pessoas) {
+}
@@ -2,6 +2,8 @@ package com.postech.gourmet.domain.repositories;
 
 import com.postech.gourmet.domain.entities.Usuario;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UsuarioRepository {
@@ -9,6 +11,8 @@ public interface UsuarioRepository {
 
     Optional<Usuario> findById(Long id);
 
+    List<Usuario> findAllById(Collection<Long> ids);
+
     boolean existsById(Long id);
 
     boolean existsByEmail(String email);
@@ -2,6 +2,7 @@ package com.postech.gourmet.gateways;
 
 import com.postech.gourmet.domain.entities.Avaliacao;
 import com.postech.gourmet.domain.repositories.AvaliacaoRepository;
+import com.postech.gourmet.domain.repositories.TotalAvaliacoes;
 import com.postech.gourmet.gateways.data.AvaliacaoData;
 import com.postech.gourmet.gateways.data.RestauranteData;
 import com.postech.gourmet.gateways.data.UsuarioData;
@@ -51,6 +52,16 @@ public class AvaliacaoRepositoryImpl implements AvaliacaoRepository {
         return jpaAvaliacaoRepository.calcularMediaAvaliacoesPorRestaurante(restauranteId);
     }
 
+    @Override
+    public List<TotalAvaliacoes> totalizarPorRestaurante() {
+        return jpaAvaliacaoRepository.totalizarPorRestaurante();
+    }
+
+    @Override
+    public Optional<TotalAvaliacoes> totalizarDoRestaurante(Long restauranteId) {
+        return jpaAvaliacaoRepository.totalizarDoRestaurante(restauranteId);
+    }
+
     private AvaliacaoData convertToData(Avaliacao avaliacao) {
         AvaliacaoData data = new AvaliacaoData();
         data.setId(avaliacao.getId());
@@ -0,0 +1,40 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.entities.ChaveIdempotencia;
+import com.postech.gourmet.domain.repositories.ChaveIdempotenciaRepository;
+import com.postech.gourmet.gateways.data.ChaveIdempotenciaData;
+import com.postech.gourmet.gateways.jpa.JpaChaveIdempotenciaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public class ChaveIdempotenciaRepositoryImpl implements ChaveIdempotenciaRepository {
+    private final JpaChaveIdempotenciaRepository jpaChaveIdempotenciaRepository;
+
+    public ChaveIdempotenciaRepositoryImpl(JpaChaveIdempotenciaRepository jpaChaveIdempotenciaRepository) {
+        this.jpaChaveIdempotenciaRepository = jpaChaveIdempotenciaRepository;
+    }
+
+    @Override
+    public void inserir(ChaveIdempotencia chave) {
+        jpaChaveIdempotenciaRepository.inserir(
+                chave.getChave(), chave.getReservaId(), chave.getImpressao(), chave.getCriadaEm());
+    }
+
+    @Override
+    public Optional<ChaveIdempotencia> findByChave(String chave) {
+        return jpaChaveIdempotenciaRepository.findById(chave).map(ChaveIdempotenciaData::toDomain);
+    }
+
+    @Override
+    public int deleteByCriadaEmBefore(LocalDateTime limite) {
+        return jpaChaveIdempotenciaRepository.deleteByCriadaEmBefore(limite);
+    }
+
+    @Override
+    public int deleteByChaveAndCriadaEmBefore(String chave, LocalDateTime limite) {
+        return jpaChaveIdempotenciaRepository.deleteByChaveAndCriadaEmBefore(chave, limite);
+    }
+}
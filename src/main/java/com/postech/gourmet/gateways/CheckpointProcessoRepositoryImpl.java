@@ -0,0 +1,37 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+import com.postech.gourmet.domain.repositories.CheckpointProcessoRepository;
+import com.postech.gourmet.gateways.data.CheckpointProcessoData;
+import com.postech.gourmet.gateways.jpa.JpaCheckpointProcessoRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public class CheckpointProcessoRepositoryImpl implements CheckpointProcessoRepository {
+    private final JpaCheckpointProcessoRepository jpaCheckpointProcessoRepository;
+
+    public CheckpointProcessoRepositoryImpl(JpaCheckpointProcessoRepository jpaCheckpointProcessoRepository) {
+        this.jpaCheckpointProcessoRepository = jpaCheckpointProcessoRepository;
+    }
+
+    @Override
+    public CheckpointProcesso save(CheckpointProcesso checkpoint) {
+        CheckpointProcessoData data = CheckpointProcessoData.builder()
+                .nome(checkpoint.getNome())
+                .corte(checkpoint.getCorte())
+                .ultimaDataHora(checkpoint.getUltimaDataHora())
+                .ultimoId(checkpoint.getUltimoId())
+                .emAndamento(checkpoint.isEmAndamento())
+                .processados(checkpoint.getProcessados())
+                .atualizadoEm(checkpoint.getAtualizadoEm())
+                .build();
+        return jpaCheckpointProcessoRepository.save(data).toDomain();
+    }
+
+    @Override
+    public Optional<CheckpointProcesso> findByNome(String nome) {
+        return jpaCheckpointProcessoRepository.findById(nome).map(CheckpointProcessoData::toDomain);
+    }
+}
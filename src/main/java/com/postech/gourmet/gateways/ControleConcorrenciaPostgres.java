@@ -0,0 +1,53 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.application.usecase.reserva.ChaveSlot;
+import com.postech.gourmet.application.usecase.reserva.ControleConcorrenciaReservas;
+import com.postech.gourmet.application.usecase.reserva.InventarioAssentos;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.ZoneOffset;
+import java.util.function.Supplier;
+
+/**
+ * Usa travas consultivas do PostgreSQL ({@code pg_advisory_xact_lock}) para serializar
+ * reservas de um mesmo slot entre várias instâncias da aplicação. A trava é liberada
+ * pelo próprio banco ao fim da transação.
+ * <p>
+ * Como o inventário em memória de cada instância não enxerga as reservas feitas pelas
+ * demais, o slot é recarregado do banco depois que a trava é obtida.
+ */
+@Component
+@ConditionalOnProperty(name = "gourmet.reservas.controle-concorrencia", havingValue = "postgres")
+public class ControleConcorrenciaPostgres implements ControleConcorrenciaReservas {
+    private final JdbcTemplate jdbcTemplate;
+    private final InventarioAssentos inventarioAssentos;
+
+    public ControleConcorrenciaPostgres(JdbcTemplate jdbcTemplate, InventarioAssentos inventarioAssentos) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.inventarioAssentos = inventarioAssentos;
+    }
+
+    @Override
+    public <T> T executarComTrava(ChaveSlot chave, Supplier<T> acao) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Travas consultivas do PostgreSQL exigem uma transação ativa");
+        }
+
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", rs -> null,
+                chaveRestaurante(chave), chaveHorario(chave));
+        inventarioAssentos.recarregarSlot(chave);
+        return acao.get();
+    }
+
+    static int chaveRestaurante(ChaveSlot chave) {
+        long id = chave.restauranteId();
+        return (int) (id ^ (id >>> 32));
+    }
+
+    static int chaveHorario(ChaveSlot chave) {
+        return (int) (chave.inicio().toEpochSecond(ZoneOffset.UTC) / 60);
+    }
+}
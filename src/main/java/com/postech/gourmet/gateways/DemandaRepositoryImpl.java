@@ -0,0 +1,93 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.repositories.ContagemDemanda;
+import com.postech.gourmet.domain.repositories.DemandaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public class DemandaRepositoryImpl implements DemandaRepository {
+    private static final String ACUMULAR_POSTGRES = """
+            INSERT INTO demanda_diaria (restaurante_id, dia, faixa, reservas, cancelamentos, nao_comparecimentos)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT (restaurante_id, dia, faixa) DO UPDATE SET
+                reservas = demanda_diaria.reservas + EXCLUDED.reservas,
+                cancelamentos = demanda_diaria.cancelamentos + EXCLUDED.cancelamentos,
+                nao_comparecimentos = demanda_diaria.nao_comparecimentos + EXCLUDED.nao_comparecimentos
+            """;
+
+    private static final String ACUMULAR_MERGE = """
+            MERGE INTO demanda_diaria d
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS INTEGER),
+                           CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER)))
+                AS v (restaurante_id, dia, faixa, reservas, cancelamentos, nao_comparecimentos)
+            ON d.restaurante_id = v.restaurante_id AND d.dia = v.dia AND d.faixa = v.faixa
+            WHEN MATCHED THEN UPDATE SET
+                reservas = d.reservas + v.reservas,
+                cancelamentos = d.cancelamentos + v.cancelamentos,
+                nao_comparecimentos = d.nao_comparecimentos + v.nao_comparecimentos
+            WHEN NOT MATCHED THEN INSERT (restaurante_id, dia, faixa, reservas, cancelamentos, nao_comparecimentos)
+                VALUES (v.restaurante_id, v.dia, v.faixa, v.reservas, v.cancelamentos, v.nao_comparecimentos)
+            """;
+
+    private static final RowMapper<ContagemDemanda> MAPEADOR = (rs, linha) -> new ContagemDemanda(
+            rs.getLong("restaurante_id"),
+            rs.getInt("faixa"),
+            rs.getInt("reservas"),
+            rs.getInt("cancelamentos"),
+            rs.getInt("nao_comparecimentos"));
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String acumular;
+
+    public DemandaRepositoryImpl(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.acumular = isPostgres(dataSource) ? ACUMULAR_POSTGRES : ACUMULAR_MERGE;
+    }
+
+    @Override
+    public void acumular(LocalDate dia, ContagemDemanda variacao) {
+        jdbcTemplate.update(acumular, variacao.restauranteId(), Date.valueOf(dia), variacao.faixa(),
+                variacao.reservas(), variacao.cancelamentos(), variacao.naoComparecimentos());
+    }
+
+    @Override
+    public List<ContagemDemanda> totalizar(Long restauranteId, LocalDate de) {
+        return jdbcTemplate.query("""
+                        SELECT restaurante_id, faixa, SUM(reservas) AS reservas, SUM(cancelamentos) AS cancelamentos,
+                               SUM(nao_comparecimentos) AS nao_comparecimentos
+                        FROM demanda_diaria
+                        WHERE restaurante_id = ? AND dia >= ?
+                        GROUP BY restaurante_id, faixa
+                        """,
+                MAPEADOR, restauranteId, Date.valueOf(de));
+    }
+
+    @Override
+    public int deleteAntesDe(LocalDate limite) {
+        return jdbcTemplate.update("DELETE FROM demanda_diaria WHERE dia < ?", Date.valueOf(limite));
+    }
+
+    @Override
+    public void deleteByRestauranteId(Long restauranteId) {
+        jdbcTemplate.update("DELETE FROM demanda_diaria WHERE restaurante_id = ?", restauranteId);
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String banco = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(banco);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Não foi possível identificar o banco de dados", e);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+import com.postech.gourmet.domain.repositories.LembreteReservaRepository;
+import com.postech.gourmet.gateways.data.LembreteReservaData;
+import com.postech.gourmet.gateways.jpa.JpaLembreteReservaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Repository
+public class LembreteReservaRepositoryImpl implements LembreteReservaRepository {
+    private final JpaLembreteReservaRepository jpaLembreteReservaRepository;
+
+    public LembreteReservaRepositoryImpl(JpaLembreteReservaRepository jpaLembreteReservaRepository) {
+        this.jpaLembreteReservaRepository = jpaLembreteReservaRepository;
+    }
+
+    @Override
+    public List<LembreteReserva> saveAll(List<LembreteReserva> lembretes) {
+        List<LembreteReservaData> dados = lembretes.stream()
+                .map(lembrete -> LembreteReservaData.builder()
+                        .id(lembrete.getId())
+                        .reservaId(lembrete.getReservaId())
+                        .restauranteId(lembrete.getRestauranteId())
+                        .usuarioId(lembrete.getUsuarioId())
+                        .cliente(lembrete.getCliente())
+                        .dataHoraReserva(lembrete.getDataHoraReserva())
+                        .tipo(lembrete.getTipo().name())
+                        .status(lembrete.getStatus() != null ? lembrete.getStatus().name() : StatusLembrete.PENDENTE.name())
+                        .enviarEm(lembrete.getEnviarEm())
+                        .tentativas(lembrete.getTentativas())
+                        .build())
+                .toList();
+        return jpaLembreteReservaRepository.saveAll(dados)
+                .stream()
+                .map(LembreteReservaData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Set<TipoLembrete> findTiposByReservaId(Long reservaId) {
+        return jpaLembreteReservaRepository.findTiposByReservaId(reservaId)
+                .stream()
+                .map(TipoLembrete::valueOf)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(TipoLembrete.class)));
+    }
+
+    @Override
+    public List<LembreteReserva> reservarVencidos(LocalDateTime agora, LocalDateTime arrendarAte, int limite) {
+        List<LembreteReserva> vencidos = jpaLembreteReservaRepository
+                .travarVencidos(StatusLembrete.PENDENTE.name(), agora, Limit.of(limite))
+                .stream()
+                .map(LembreteReservaData::toDomain)
+                .toList();
+        if (!vencidos.isEmpty()) {
+            jpaLembreteReservaRepository.arrendar(vencidos.stream().map(LembreteReserva::getId).toList(), arrendarAte);
+            vencidos.forEach(lembrete -> lembrete.setTentativas(lembrete.getTentativas() + 1));
+        }
+        return vencidos;
+    }
+
+    @Override
+    public int atualizarStatus(Collection<Long> ids, StatusLembrete novoStatus) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaLembreteReservaRepository.atualizarStatus(ids, StatusLembrete.PENDENTE.name(), novoStatus.name());
+    }
+
+    @Override
+    public int reagendar(Collection<Long> ids, LocalDateTime quando) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaLembreteReservaRepository.reagendar(ids, StatusLembrete.PENDENTE.name(), quando);
+    }
+
+    @Override
+    public int cancelarPendentes(Long reservaId) {
+        return jpaLembreteReservaRepository.atualizarStatusPorReserva(
+                reservaId, StatusLembrete.PENDENTE.name(), StatusLembrete.CANCELADO.name());
+    }
+}
@@ -0,0 +1,59 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+import com.postech.gourmet.domain.repositories.ListaEsperaRepository;
+import com.postech.gourmet.gateways.data.EntradaListaEsperaData;
+import com.postech.gourmet.gateways.jpa.JpaListaEsperaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class ListaEsperaRepositoryImpl implements ListaEsperaRepository {
+    private final JpaListaEsperaRepository jpaListaEsperaRepository;
+
+    public ListaEsperaRepositoryImpl(JpaListaEsperaRepository jpaListaEsperaRepository) {
+        this.jpaListaEsperaRepository = jpaListaEsperaRepository;
+    }
+
+    @Override
+    public EntradaListaEspera save(EntradaListaEspera entrada) {
+        EntradaListaEsperaData data = EntradaListaEsperaData.builder()
+                .id(entrada.getId())
+                .restauranteId(entrada.getRestauranteId())
+                .usuarioId(entrada.getUsuarioId())
+                .dataHora(entrada.getDataHora())
+                .numeroPessoas(entrada.getNumeroPessoas())
+                .status(entrada.getStatus() != null ? entrada.getStatus().name() : StatusListaEspera.AGUARDANDO.name())
+                .reservaId(entrada.getReservaId())
+                .criadaEm(entrada.getCriadaEm() != null ? entrada.getCriadaEm() : LocalDateTime.now())
+                .build();
+        return jpaListaEsperaRepository.save(data).toDomain();
+    }
+
+    @Override
+    public Optional<EntradaListaEspera> findById(Long id) {
+        return jpaListaEsperaRepository.findById(id).map(EntradaListaEsperaData::toDomain);
+    }
+
+    @Override
+    public List<EntradaListaEspera> findAguardandoAPartirDe(LocalDateTime limite) {
+        return jpaListaEsperaRepository.findByStatusAPartirDe(StatusListaEspera.AGUARDANDO.name(), limite)
+                .stream()
+                .map(EntradaListaEsperaData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int atualizarStatus(Long id, StatusListaEspera statusAtual, StatusListaEspera novoStatus) {
+        return jpaListaEsperaRepository.atualizarStatus(id, statusAtual.name(), novoStatus.name());
+    }
+
+    @Override
+    public void registrarReserva(Long id, Long reservaId) {
+        jpaListaEsperaRepository.registrarReserva(id, reservaId);
+    }
+}
@@ -0,0 +1,69 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.gateways.data.AlocacaoMesaData;
+import com.postech.gourmet.gateways.data.MesaData;
+import com.postech.gourmet.gateways.jpa.JpaAlocacaoMesaRepository;
+import com.postech.gourmet.gateways.jpa.JpaMesaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class MesaRepositoryImpl implements MesaRepository {
+    private static final List<String> STATUS_ATIVOS = List.of(
+            StatusReserva.PENDENTE.name(), StatusReserva.CONFIRMADA.name());
+
+    private final JpaMesaRepository jpaMesaRepository;
+    private final JpaAlocacaoMesaRepository jpaAlocacaoMesaRepository;
+
+    public MesaRepositoryImpl(JpaMesaRepository jpaMesaRepository, JpaAlocacaoMesaRepository jpaAlocacaoMesaRepository) {
+        this.jpaMesaRepository = jpaMesaRepository;
+        this.jpaAlocacaoMesaRepository = jpaAlocacaoMesaRepository;
+    }
+
+    @Override
+    public List<Mesa> findByRestauranteId(Long restauranteId) {
+        return jpaMesaRepository.findByRestauranteIdOrderById(restauranteId)
+                .stream()
+                .map(MesaData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Mesa> substituir(Long restauranteId, List<Mesa> mesas) {
+        jpaMesaRepository.deleteByRestauranteId(restauranteId);
+        List<MesaData> dados = mesas.stream()
+                .map(mesa -> MesaData.builder()
+                        .restauranteId(restauranteId)
+                        .lugares(mesa.getLugares())
+                        .combinavel(mesa.isCombinavel())
+                        .build())
+                .toList();
+        return jpaMesaRepository.saveAll(dados)
+                .stream()
+                .map(MesaData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void registrarAlocacao(Long reservaId, Collection<Long> mesaIds) {
+        jpaAlocacaoMesaRepository.saveAll(mesaIds.stream()
+                .map(mesaId -> new AlocacaoMesaData(reservaId, mesaId))
+                .toList());
+    }
+
+    @Override
+    public List<Long> findMesaIdsByReservaId(Long reservaId) {
+        return jpaAlocacaoMesaRepository.findMesaIdsByReservaId(reservaId);
+    }
+
+    @Override
+    public List<Long> findMesaIdsOcupadas(Long restauranteId, LocalDateTime inicio, LocalDateTime fim) {
+        return jpaAlocacaoMesaRepository.findMesaIdsOcupadas(restauranteId, inicio, fim, STATUS_ATIVOS);
+    }
+}
@@ -0,0 +1,135 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.entities.OcupacaoHoraria;
+import com.postech.gourmet.domain.repositories.OcupacaoHorariaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public class OcupacaoHorariaRepositoryImpl implements OcupacaoHorariaRepository {
+    // PostgreSQL: INSERT ... ON CONFLICT é atômico mesmo quando duas transações criam a mesma hora
+    private static final String ACUMULAR_POSTGRES = """
+            INSERT INTO ocupacao_horaria (restaurante_id, data, hora, reservas_pendentes, pessoas_pendentes,
+                                          reservas_confirmadas, pessoas_confirmadas)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (restaurante_id, data, hora) DO UPDATE SET
+                reservas_pendentes = ocupacao_horaria.reservas_pendentes + EXCLUDED.reservas_pendentes,
+                pessoas_pendentes = ocupacao_horaria.pessoas_pendentes + EXCLUDED.pessoas_pendentes,
+                reservas_confirmadas = ocupacao_horaria.reservas_confirmadas + EXCLUDED.reservas_confirmadas,
+                pessoas_confirmadas = ocupacao_horaria.pessoas_confirmadas + EXCLUDED.pessoas_confirmadas
+            """;
+
+    // Demais bancos (H2): MERGE do SQL padrão
+    private static final String ACUMULAR_MERGE = """
+            MERGE INTO ocupacao_horaria o
+            USING (VALUES (CAST(? AS BIGINT), CAST(? AS DATE), CAST(? AS INTEGER),
+                           CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER), CAST(? AS INTEGER)))
+                AS v (restaurante_id, data, hora, reservas_pendentes, pessoas_pendentes,
+                      reservas_confirmadas, pessoas_confirmadas)
+            ON o.restaurante_id = v.restaurante_id AND o.data = v.data AND o.hora = v.hora
+            WHEN MATCHED THEN UPDATE SET
+                reservas_pendentes = o.reservas_pendentes + v.reservas_pendentes,
+                pessoas_pendentes = o.pessoas_pendentes + v.pessoas_pendentes,
+                reservas_confirmadas = o.reservas_confirmadas + v.reservas_confirmadas,
+                pessoas_confirmadas = o.pessoas_confirmadas + v.pessoas_confirmadas
+            WHEN NOT MATCHED THEN INSERT (restaurante_id, data, hora, reservas_pendentes, pessoas_pendentes,
+                                         reservas_confirmadas, pessoas_confirmadas)
+                VALUES (v.restaurante_id, v.data, v.hora, v.reservas_pendentes, v.pessoas_pendentes,
+                        v.reservas_confirmadas, v.pessoas_confirmadas)
+            """;
+
+    private static final String INSERIR = """
+            INSERT INTO ocupacao_horaria (restaurante_id, data, hora, reservas_pendentes, pessoas_pendentes,
+                                          reservas_confirmadas, pessoas_confirmadas)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final RowMapper<OcupacaoHoraria> MAPEADOR = (rs, linha) -> {
+        OcupacaoHoraria ocupacao = new OcupacaoHoraria(
+                rs.getLong("restaurante_id"), rs.getDate("data").toLocalDate(), rs.getInt("hora"));
+        ocupacao.setReservasPendentes(rs.getInt("reservas_pendentes"));
+        ocupacao.setPessoasPendentes(rs.getInt("pessoas_pendentes"));
+        ocupacao.setReservasConfirmadas(rs.getInt("reservas_confirmadas"));
+        ocupacao.setPessoasConfirmadas(rs.getInt("pessoas_confirmadas"));
+        return ocupacao;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String acumular;
+
+    public OcupacaoHorariaRepositoryImpl(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.acumular = isPostgres(dataSource) ? ACUMULAR_POSTGRES : ACUMULAR_MERGE;
+    }
+
+    @Override
+    public void acumular(OcupacaoHoraria variacao) {
+        jdbcTemplate.update(acumular, parametros(variacao));
+    }
+
+    @Override
+    public List<OcupacaoHoraria> findByRestauranteIdAndDataBetween(Long restauranteId, LocalDate de, LocalDate ate) {
+        return jdbcTemplate.query("""
+                        SELECT * FROM ocupacao_horaria
+                        WHERE restaurante_id = ? AND data BETWEEN ? AND ?
+                        ORDER BY data, hora
+                        """,
+                MAPEADOR, restauranteId, Date.valueOf(de), Date.valueOf(ate));
+    }
+
+    @Override
+    public void substituir(Long restauranteId, LocalDateTime desde, Collection<OcupacaoHoraria> ocupacoes) {
+        Date dia = Date.valueOf(desde.toLocalDate());
+        jdbcTemplate.update("""
+                        DELETE FROM ocupacao_horaria
+                        WHERE restaurante_id = ? AND (data > ? OR (data = ? AND hora >= ?))
+                        """,
+                restauranteId, dia, dia, desde.getHour());
+        List<Object[]> linhas = new ArrayList<>(ocupacoes.size());
+        ocupacoes.forEach(ocupacao -> linhas.add(parametros(ocupacao)));
+        jdbcTemplate.batchUpdate(INSERIR, linhas);
+    }
+
+    @Override
+    public void deleteByRestauranteId(Long restauranteId) {
+        jdbcTemplate.update("DELETE FROM ocupacao_horaria WHERE restaurante_id = ?", restauranteId);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT 1 FROM ocupacao_horaria FETCH FIRST 1 ROWS ONLY").isEmpty();
+    }
+
+    private static Object[] parametros(OcupacaoHoraria ocupacao) {
+        return new Object[]{
+                ocupacao.getRestauranteId(),
+                Date.valueOf(ocupacao.getData()),
+                ocupacao.getHora(),
+                ocupacao.getReservasPendentes(),
+                ocupacao.getPessoasPendentes(),
+                ocupacao.getReservasConfirmadas(),
+                ocupacao.getPessoasConfirmadas()
+        };
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String banco = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(banco);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Não foi possível identificar o banco de dados", e);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.repositories.ParticaoReservaRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Mantém as partições mensais de {@code reserva} no PostgreSQL. A conversão da tabela em tabela
+ * particionada é feita uma única vez pelo script {@code db/postgres/particionar-reserva.sql};
+ * em outros bancos, ou antes da conversão, todas as operações são ignoradas.
+ * <p>
+ * O PostgreSQL recusa criar uma partição cujo intervalo já tem linhas na partição padrão. Nesse
+ * caso a padrão é desanexada, a partição do mês é criada, as linhas do intervalo são movidas para
+ * ela e a padrão é anexada de volta, tudo na mesma transação. A criação é serializada por uma
+ * trava consultiva, então várias instâncias podem preparar as partições ao mesmo tempo.
+ */
+@Repository
+public class ParticaoReservaRepositoryImpl implements ParticaoReservaRepository {
+    private static final Pattern NOME_PARTICAO = Pattern.compile("reserva_p(\\d{4})_(\\d{2})");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean postgres;
+
+    public ParticaoReservaRepositoryImpl(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.postgres = isPostgres(dataSource);
+    }
+
+    @Override
+    public boolean isParticionada() {
+        return postgres && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('reserva'))",
+                Boolean.class));
+    }
+
+    @Override
+    @Transactional
+    public boolean criarParticao(YearMonth mes) {
+        if (!isParticionada()) {
+            return false;
+        }
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext('reserva_particoes'))", rs -> null);
+        String nome = nome(mes);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, nome))) {
+            return false;
+        }
+
+        // DDL não aceita parâmetros; o nome e os limites vêm apenas do mês
+        String inicio = "'" + mes.atDay(1) + "'";
+        String fim = "'" + mes.plusMonths(1).atDay(1) + "'";
+        String criar = "CREATE TABLE " + nome + " PARTITION OF reserva FOR VALUES FROM (" + inicio + ") TO (" + fim + ")";
+        String padrao = particaoPadrao();
+        if (padrao == null || Boolean.FALSE.equals(jdbcTemplate.queryForObject("SELECT EXISTS (SELECT 1 FROM " + padrao
+                + " WHERE data_hora >= " + inicio + " AND data_hora < " + fim + ")", Boolean.class))) {
+            jdbcTemplate.execute(criar);
+            return true;
+        }
+
+        // Sem a padrão anexada, o INSERT pela tabela pai cai na partição recém-criada
+        jdbcTemplate.execute("ALTER TABLE reserva DETACH PARTITION " + padrao);
+        jdbcTemplate.execute(criar);
+        jdbcTemplate.execute("INSERT INTO reserva SELECT * FROM " + padrao
+                + " WHERE data_hora >= " + inicio + " AND data_hora < " + fim);
+        jdbcTemplate.execute("DELETE FROM " + padrao + " WHERE data_hora >= " + inicio + " AND data_hora < " + fim);
+        jdbcTemplate.execute("ALTER TABLE reserva ATTACH PARTITION " + padrao + " DEFAULT");
+        return true;
+    }
+
+    @Override
+    public List<YearMonth> removerParticoesVaziasAntes(YearMonth mes) {
+        if (!isParticionada()) {
+            return List.of();
+        }
+        List<String> particoes = jdbcTemplate.queryForList("""
+                        SELECT c.relname FROM pg_inherits i
+                        JOIN pg_class c ON c.oid = i.inhrelid
+                        WHERE i.inhparent = to_regclass('reserva')
+                        """,
+                String.class);
+
+        List<YearMonth> removidas = new ArrayList<>();
+        for (String particao : particoes) {
+            Matcher nome = NOME_PARTICAO.matcher(particao);
+            if (!nome.matches()) {
+                continue;
+            }
+            YearMonth mesParticao = YearMonth.of(Integer.parseInt(nome.group(1)), Integer.parseInt(nome.group(2)));
+            if (mesParticao.isBefore(mes) && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT NOT EXISTS (SELECT 1 FROM " + particao + ")", Boolean.class))) {
+                jdbcTemplate.execute("DROP TABLE " + particao);
+                removidas.add(mesParticao);
+            }
+        }
+        return removidas;
+    }
+
+    private String particaoPadrao() {
+        return jdbcTemplate.query("""
+                        SELECT c.relname FROM pg_partitioned_table p
+                        JOIN pg_class c ON c.oid = p.partdefid
+                        WHERE p.partrelid = to_regclass('reserva')
+                        """,
+                rs -> rs.next() ? rs.getString(1) : null);
+    }
+
+    static String nome(YearMonth mes) {
+        return String.format("reserva_p%04d_%02d", mes.getYear(), mes.getMonthValue());
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String banco = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(banco);
+        } catch (MetaDataAccessException e) {
+            throw new IllegalStateException("Não foi possível identificar o banco de dados", e);
+        }
+    }
+}
@@ -2,22 +2,47 @@ package com.postech.gourmet.gateways;
 
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.ArquivoReservaRepository;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.FiltroReservas;
 import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.TotalReservasPorHorario;
 import com.postech.gourmet.gateways.data.ReservaData;
+import com.postech.gourmet.gateways.data.ReservaResumo;
 import com.postech.gourmet.gateways.data.RestauranteData;
 import com.postech.gourmet.gateways.data.UsuarioData;
 import com.postech.gourmet.gateways.jpa.JpaReservaRepository;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 public class ReservaRepositoryImpl implements ReservaRepository {
+    private static final List<String> STATUS_ATIVOS = List.of(
+            StatusReserva.PENDENTE.name(), StatusReserva.CONFIRMADA.name());
+
+    private static final Sort ORDEM_CURSOR = Sort.by("dataHora", "id");
+
     private final JpaReservaRepository jpaReservaRepository;
+    private final ArquivoReservaRepository arquivoReservaRepository;
 
-    public ReservaRepositoryImpl(JpaReservaRepository jpaReservaRepository) {
+    public ReservaRepositoryImpl(JpaReservaRepository jpaReservaRepository,
+                                 ArquivoReservaRepository arquivoReservaRepository) {
         this.jpaReservaRepository = jpaReservaRepository;
+        this.arquivoReservaRepository = arquivoReservaRepository;
     }
 
     @Override
@@ -26,9 +51,26 @@ public class ReservaRepositoryImpl implements ReservaRepository {
         return jpaReservaRepository.save(data).toDomain();
     }
 
+    @Override
+    public List<Reserva> saveAll(List<Reserva> reservas) {
+        List<ReservaData> dados = reservas.stream()
+                .map(this::convertToData)
+                .toList();
+        // Com IDs de sequência, o Hibernate agrupa os inserts em lotes JDBC (hibernate.jdbc.batch_size)
+        List<Reserva> salvas = jpaReservaRepository.saveAll(dados)
+                .stream()
+                .map(ReservaData::toDomain)
+                .toList();
+        jpaReservaRepository.flush();
+        return salvas;
+    }
+
     @Override
     public Optional<Reserva> findById(Long id) {
-        return jpaReservaRepository.findById(id).map(ReservaData::toDomain);
+        // Reservas antigas já arquivadas não estão mais no banco
+        return jpaReservaRepository.findById(id)
+                .map(ReservaData::toDomain)
+                .or(() -> arquivoReservaRepository.findById(id));
     }
 
     @Override
@@ -51,18 +93,197 @@ public class ReservaRepositoryImpl implements ReservaRepository {
 
     @Override
     public List<Reserva> findByUsuarioId(Long usuarioId) {
-        return jpaReservaRepository.findByUsuarioId(usuarioId)
+        List<Reserva> reservas = new ArrayList<>(jpaReservaRepository.findByUsuarioId(usuarioId)
                 .stream()
                 .map(ReservaData::toDomain)
+                .toList());
+        // Uma reserva arquivada cuja remoção do banco falhou aparece nos dois: vale a do banco
+        Set<Long> noBanco = reservas.stream().map(Reserva::getId).collect(Collectors.toSet());
+        arquivoReservaRepository.findByUsuarioId(usuarioId).stream()
+                .filter(reserva -> !noBanco.contains(reserva.getId()))
+                .forEach(reservas::add);
+        return reservas;
+    }
+
+    @Override
+    public List<Reserva> findByRestauranteIdAndDataHoraBetween(
+            Long restauranteId, LocalDateTime inicio, LocalDateTime fim) {
+        return jpaReservaRepository.findByRestauranteIdAndDataHoraBetween(restauranteId, inicio, fim)
+                .stream()
+                .map(ReservaResumo::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Reserva> findByRestauranteIdAndDataHoraBetweenAndStatusIn(
+            Long restauranteId, LocalDateTime inicio, LocalDateTime fim, Collection<StatusReserva> status) {
+        if (status.isEmpty()) {
+            return List.of();
+        }
+        return jpaReservaRepository.findByRestauranteIdAndDataHoraBetweenAndStatusIn(
+                        restauranteId, inicio, fim, status.stream().map(StatusReserva::name).toList())
+                .stream()
+                .map(ReservaResumo::toDomain)
                 .toList();
     }
 
+    @Override
+    public List<Reserva> buscarPagina(FiltroReservas filtro, CursorReserva apos, int limite) {
+        Specification<ReservaData> especificacao = filtrar(filtro).and(posteriorA(apos));
+        // project() carrega restaurante e usuário na mesma consulta (entity graph), evitando N+1
+        return jpaReservaRepository.findBy(especificacao, consulta -> consulta
+                        .sortBy(ORDEM_CURSOR)
+                        .limit(limite)
+                        .project("restaurante", "usuario")
+                        .all())
+                .stream()
+                .map(ReservaData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Stream<List<Reserva>> paginar(FiltroReservas filtro, int tamanhoPagina) {
+        // Cada página é buscada sob demanda a partir do cursor da anterior;
+        // uma página incompleta indica que não há mais reservas
+        return Stream.iterate(
+                buscarPagina(filtro, null, tamanhoPagina),
+                pagina -> !pagina.isEmpty(),
+                pagina -> pagina.size() < tamanhoPagina
+                        ? List.of()
+                        : buscarPagina(filtro, CursorReserva.apos(pagina.get(pagina.size() - 1)), tamanhoPagina));
+    }
+
+    @Override
+    public Stream<Reserva> streamAll() {
+        return jpaReservaRepository.streamResumos().map(ReservaResumo::toDomain);
+    }
+
+    @Override
+    public Stream<Reserva> streamByStatus(StatusReserva status) {
+        return jpaReservaRepository.streamResumosPorStatus(status.name()).map(ReservaResumo::toDomain);
+    }
+
+    @Override
+    public List<CursorReserva> buscarChavesPorStatusAntesDe(
+            StatusReserva status, LocalDateTime antes, CursorReserva apos, int limite) {
+        if (apos == null) {
+            return jpaReservaRepository.buscarChavesPorStatusAntesDe(status.name(), antes, Limit.of(limite));
+        }
+        return jpaReservaRepository.buscarChavesPorStatusAntesDeApos(
+                status.name(), antes, apos.dataHora(), apos.id(), Limit.of(limite));
+    }
+
+    @Override
+    public List<Reserva> travarPorIds(Collection<Long> ids) {
+        return jpaReservaRepository.travarPorIds(ids)
+                .stream()
+                .map(ReservaRepositoryImpl::semCarregarAssociacoes)
+                .toList();
+    }
+
+    @Override
+    public List<Reserva> travarPorStatus(Collection<Long> ids, StatusReserva status) {
+        return jpaReservaRepository.travarPorIdsEStatus(ids, status.name())
+                .stream()
+                .map(ReservaRepositoryImpl::semCarregarAssociacoes)
+                .toList();
+    }
+
+    @Override
+    public int atualizarStatus(Collection<Long> ids, StatusReserva statusAtual, StatusReserva novoStatus) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaReservaRepository.atualizarStatus(ids, statusAtual.name(), novoStatus.name());
+    }
+
+    @Override
+    public List<Reserva> buscarParaArquivar(Collection<StatusReserva> status, LocalDateTime antes, int limite) {
+        return jpaReservaRepository.buscarParaArquivar(
+                        status.stream().map(StatusReserva::name).toList(), antes, Limit.of(limite))
+                .stream()
+                .map(ReservaData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public int excluirPorIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jpaReservaRepository.excluirPorIds(ids);
+    }
+
+    @Override
+    public int somarPessoasAtivasNoPeriodo(Long restauranteId, LocalDateTime inicio, LocalDateTime fim) {
+        Long total = jpaReservaRepository.somarPessoasPorRestauranteEPeriodo(
+                restauranteId, inicio, fim, STATUS_ATIVOS);
+        return total != null ? total.intValue() : 0;
+    }
+
+    @Override
+    public Map<LocalDateTime, Integer> somarPessoasAtivasPorHorario(
+            Long restauranteId, LocalDateTime inicio, LocalDateTime fim) {
+        Map<LocalDateTime, Integer> totais = new HashMap<>();
+        for (Object[] linha : jpaReservaRepository.somarPessoasPorRestauranteAgrupadoPorHorario(
+                restauranteId, inicio, fim, STATUS_ATIVOS)) {
+            totais.put((LocalDateTime) linha[0], ((Number) linha[1]).intValue());
+        }
+        return totais;
+    }
+
+    @Override
+    public List<TotalReservasPorHorario> totalizarPorHorario(Long restauranteId, LocalDateTime desde) {
+        return jpaReservaRepository.totalizarPorHorarioEStatus(restauranteId, desde)
+                .stream()
+                .map(linha -> new TotalReservasPorHorario(
+                        (LocalDateTime) linha[0],
+                        StatusReserva.valueOf((String) linha[1]),
+                        ((Number) linha[2]).intValue(),
+                        ((Number) linha[3]).intValue()))
+                .toList();
+    }
+
+    private static Specification<ReservaData> filtrar(FiltroReservas filtro) {
+        return (root, query, cb) -> {
+            List<Predicate> predicados = new ArrayList<>();
+            if (filtro.restauranteId() != null) {
+                predicados.add(cb.equal(root.get("restaurante").get("id"), filtro.restauranteId()));
+            }
+            if (filtro.status() != null) {
+                predicados.add(cb.equal(root.get("status"), filtro.status().name()));
+            }
+            if (filtro.de() != null) {
+                predicados.add(cb.greaterThanOrEqualTo(root.get("dataHora"), filtro.de()));
+            }
+            if (filtro.ate() != null) {
+                predicados.add(cb.lessThan(root.get("dataHora"), filtro.ate()));
+            }
+            return cb.and(predicados.toArray(Predicate[]::new));
+        };
+    }
+
+    private static Specification<ReservaData> posteriorA(CursorReserva cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            // (dataHora, id) > (:dataHora, :id)
+            return cb.or(
+                    cb.greaterThan(root.get("dataHora"), cursor.dataHora()),
+                    cb.and(
+                            cb.equal(root.get("dataHora"), cursor.dataHora()),
+                            cb.greaterThan(root.get("id"), cursor.id())));
+        };
+    }
+
     private ReservaData convertToData(Reserva reserva) {
         ReservaData data = new ReservaData();
         data.setId(reserva.getId());
         data.setCliente(reserva.getCliente());
         data.setDataHora(reserva.getDataHora());
         data.setNumeroPessoas(reserva.getNumeroPessoas());
+        data.setCriadaEm(reserva.getCriadaEm() != null ? reserva.getCriadaEm() : LocalDateTime.now());
 
         if (reserva.getStatus() != null) {
             data.setStatus(reserva.getStatus().toString());
@@ -85,4 +306,17 @@ public class ReservaRepositoryImpl implements ReservaRepository {
 
         return data;
     }
+
+    // Não usa toDomain: só os IDs das associações são lidos, sem inicializar os proxies
+    private static Reserva semCarregarAssociacoes(ReservaData data) {
+        return new ReservaResumo(
+                data.getId(),
+                data.getCliente(),
+                data.getDataHora(),
+                data.getNumeroPessoas(),
+                data.getStatus(),
+                data.getRestaurante() != null ? data.getRestaurante().getId() : null,
+                data.getUsuario() != null ? data.getUsuario().getId() : null,
+                data.getCriadaEm()).toDomain();
+    }
 }
\ No newline at end of file
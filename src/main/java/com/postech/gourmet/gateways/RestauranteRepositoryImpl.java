@@ -1,11 +1,17 @@
 package com.postech.gourmet.gateways;
 
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.repositories.LocalizacaoRestaurante;
+import com.postech.gourmet.domain.repositories.NomeRestaurante;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.TextoRestaurante;
 import com.postech.gourmet.gateways.data.RestauranteData;
 import com.postech.gourmet.gateways.jpa.JpaRestauranteRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +34,42 @@ public class RestauranteRepositoryImpl implements RestauranteRepository {
         return jpaRestauranteRepository.findById(id).map(RestauranteData::toDomain);
     }
 
+    @Override
+    public List<Restaurante> findAllById(Collection<Long> ids) {
+        return jpaRestauranteRepository.findAllById(ids)
+                .stream()
+                .map(RestauranteData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Restaurante> findPrimeiros(int limite) {
+        return jpaRestauranteRepository.findAll(PageRequest.of(0, limite, Sort.by("id")))
+                .stream()
+                .map(RestauranteData::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findAllIds() {
+        return jpaRestauranteRepository.findAllIds();
+    }
+
+    @Override
+    public List<TextoRestaurante> findTextosBusca() {
+        return jpaRestauranteRepository.findTextosBusca();
+    }
+
+    @Override
+    public List<NomeRestaurante> findNomes() {
+        return jpaRestauranteRepository.findNomes();
+    }
+
+    @Override
+    public List<LocalizacaoRestaurante> findLocalizacoes() {
+        return jpaRestauranteRepository.findLocalizacoes();
+    }
+
     @Override
     public boolean existsById(Long id) {
         return jpaRestauranteRepository.existsById(id);
@@ -68,6 +110,14 @@ public class RestauranteRepositoryImpl implements RestauranteRepository {
         return jpaRestauranteRepository.existsByNomeAndEndereco(nome, endereco);
     }
 
+    @Override
+    public int preencherCamposBusca(int limite) {
+        List<RestauranteData> pendentes = jpaRestauranteRepository.findSemCamposBusca(PageRequest.of(0, limite));
+        pendentes.forEach(RestauranteData::normalizarCamposBusca);
+        jpaRestauranteRepository.saveAll(pendentes);
+        return pendentes.size();
+    }
+
     private RestauranteData convertToData(Restaurante restaurante) {
         RestauranteData data = new RestauranteData();
         data.setId(restaurante.getId());
@@ -76,6 +126,8 @@ public class RestauranteRepositoryImpl implements RestauranteRepository {
         data.setTelefone(restaurante.getTelefone());
         data.setTipoCozinha(restaurante.getTipoCozinha());
         data.setCapacidade(restaurante.getCapacidade());
+        data.setLatitude(restaurante.getLatitude());
+        data.setLongitude(restaurante.getLongitude());
 
         return data;
     }
@@ -6,6 +6,8 @@ import com.postech.gourmet.gateways.data.UsuarioData;
 import com.postech.gourmet.gateways.jpa.JpaUsuarioRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -33,6 +35,14 @@ public class UsuarioRepositoryImpl implements UsuarioRepository {
         return jpaUsuarioRepository.findById(id).map(UsuarioData::toDomain);
     }
 
+    @Override
+    public List<Usuario> findAllById(Collection<Long> ids) {
+        return jpaUsuarioRepository.findAllById(ids)
+                .stream()
+                .map(UsuarioData::toDomain)
+                .toList();
+    }
+
     @Override
     public boolean existsById(Long id) {
         return jpaUsuarioRepository.existsById(id);
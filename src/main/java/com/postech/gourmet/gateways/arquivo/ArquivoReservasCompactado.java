@@ -0,0 +1,113 @@
+package com.postech.gourmet.gateways.arquivo;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.repositories.ArquivoReservaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Arquivo de reservas em segmentos imutáveis e comprimidos ({@link SegmentoArquivoReservas}),
+ * um por lote arquivado. Os índices de todos os segmentos são carregados ao iniciar.
+ * <p>
+ * Se a remoção do banco falhar depois de um segmento ser gravado, o próximo lote grava as mesmas
+ * reservas de novo; as buscas devolvem apenas a cópia mais recente de cada uma.
+ */
+@Slf4j
+@Repository
+public class ArquivoReservasCompactado implements ArquivoReservaRepository {
+    private final Path diretorio;
+    private final List<SegmentoArquivoReservas> segmentos = new CopyOnWriteArrayList<>();
+    private long proximoSegmento;
+
+    public ArquivoReservasCompactado(@Value("${gourmet.reservas.arquivamento.diretorio:data/arquivo}") Path diretorio) {
+        this.diretorio = diretorio;
+        try {
+            Files.createDirectories(diretorio);
+            try (Stream<Path> arquivos = Files.list(diretorio)) {
+                for (Path arquivo : arquivos.filter(arquivo -> arquivo.getFileName().toString()
+                        .endsWith(SegmentoArquivoReservas.EXTENSAO)).sorted().toList()) {
+                    segmentos.add(SegmentoArquivoReservas.abrir(arquivo));
+                    proximoSegmento = numero(arquivo) + 1;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Não foi possível abrir o arquivo de reservas em " + diretorio, e);
+        }
+        log.info("Arquivo de reservas aberto em {}: {} segmento(s)", diretorio, segmentos.size());
+    }
+
+    @Override
+    public synchronized void arquivar(List<Reserva> reservas) {
+        if (reservas.isEmpty()) {
+            return;
+        }
+        Path arquivo = diretorio.resolve(String.format("reservas-%012d%s", proximoSegmento, SegmentoArquivoReservas.EXTENSAO));
+        try {
+            segmentos.add(SegmentoArquivoReservas.gravar(arquivo, reservas));
+            proximoSegmento++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o segmento " + arquivo, e);
+        }
+    }
+
+    @Override
+    public Optional<Reserva> findById(Long id) {
+        // Do segmento mais novo para o mais antigo: uma reserva arquivada duas vezes vale pela última cópia
+        for (int i = segmentos.size() - 1; i >= 0; i--) {
+            SegmentoArquivoReservas segmento = segmentos.get(i);
+            if (segmento.podeConter(id)) {
+                Optional<Reserva> reserva = ler(segmento, () -> segmento.findById(id));
+                if (reserva.isPresent()) {
+                    return reserva;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public List<Reserva> findByUsuarioId(Long usuarioId) {
+        List<Reserva> reservas = new ArrayList<>();
+        Set<Long> vistas = new HashSet<>();
+        for (int i = segmentos.size() - 1; i >= 0; i--) {
+            SegmentoArquivoReservas segmento = segmentos.get(i);
+            for (Reserva reserva : ler(segmento, () -> segmento.findByUsuarioId(usuarioId))) {
+                if (vistas.add(reserva.getId())) {
+                    reservas.add(reserva);
+                }
+            }
+        }
+        return reservas;
+    }
+
+    private static long numero(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return Long.parseLong(nome.substring("reservas-".length(), nome.length() - SegmentoArquivoReservas.EXTENSAO.length()));
+    }
+
+    private static <T> T ler(SegmentoArquivoReservas segmento, Leitura<T> leitura) {
+        try {
+            return leitura.executar();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o segmento " + segmento.arquivo(), e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Leitura<T> {
+        T executar() throws IOException;
+    }
+}
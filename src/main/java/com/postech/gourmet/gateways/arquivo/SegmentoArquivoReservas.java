@@ -0,0 +1,352 @@
+package com.postech.gourmet.gateways.arquivo;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusReserva;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Segmento imutável do arquivo de reservas.
+ * <p>
+ * As reservas são gravadas em ordem de ID, em blocos de até {@value #RESERVAS_POR_BLOCO}
+ * comprimidos com Deflate. O rodapé guarda um índice esparso, com o primeiro e o último ID de
+ * cada bloco e sua posição no arquivo, e, para cada usuário, os blocos em que ele aparece. Os
+ * índices ficam em memória; uma busca por ID lê e descomprime um único bloco.
+ * <pre>
+ * cabeçalho: int MAGICO, byte versão
+ * blocos:    bytes comprimidos
+ * rodapé:    int blocos; por bloco: long primeiroId, long ultimoId, long posição, int tamanho
+ *            int usuários; por usuário: long usuarioId, int blocos, int[] blocos
+ * final:     long posição do rodapé, int MAGICO
+ * </pre>
+ */
+final class SegmentoArquivoReservas {
+    static final int RESERVAS_POR_BLOCO = 256;
+    static final String EXTENSAO = ".arq";
+
+    private static final int MAGICO = 0x47524131; // "GRA1"
+    private static final byte VERSAO = 1;
+    private static final long NULO = Long.MIN_VALUE;
+    private static final StatusReserva[] STATUS = StatusReserva.values();
+
+    private final Path arquivo;
+    private final long[] primeirosIds;
+    private final long[] ultimosIds;
+    private final long[] posicoes;
+    private final int[] tamanhos;
+    private final Map<Long, int[]> blocosPorUsuario;
+
+    private SegmentoArquivoReservas(Path arquivo, long[] primeirosIds, long[] ultimosIds, long[] posicoes,
+                                    int[] tamanhos, Map<Long, int[]> blocosPorUsuario) {
+        this.arquivo = arquivo;
+        this.primeirosIds = primeirosIds;
+        this.ultimosIds = ultimosIds;
+        this.posicoes = posicoes;
+        this.tamanhos = tamanhos;
+        this.blocosPorUsuario = blocosPorUsuario;
+    }
+
+    /**
+     * Grava as reservas em um arquivo temporário, força-o para o disco e só então o move para
+     * o nome definitivo: um segmento visível está sempre completo.
+     */
+    static SegmentoArquivoReservas gravar(Path arquivo, List<Reserva> reservas) throws IOException {
+        List<Reserva> ordenadas = new ArrayList<>(reservas);
+        ordenadas.sort(Comparator.comparing(Reserva::getId));
+        int blocos = (ordenadas.size() + RESERVAS_POR_BLOCO - 1) / RESERVAS_POR_BLOCO;
+        long[] primeirosIds = new long[blocos];
+        long[] ultimosIds = new long[blocos];
+        long[] posicoes = new long[blocos];
+        int[] tamanhos = new int[blocos];
+        Map<Long, List<Integer>> usuarios = new LinkedHashMap<>();
+
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             ContadorSaida contador = new ContadorSaida(new BufferedOutputStream(Channels.newOutputStream(canal)));
+             DataOutputStream saida = new DataOutputStream(contador)) {
+            saida.writeInt(MAGICO);
+            saida.writeByte(VERSAO);
+
+            for (int bloco = 0; bloco < blocos; bloco++) {
+                List<Reserva> doBloco = ordenadas.subList(bloco * RESERVAS_POR_BLOCO,
+                        Math.min(ordenadas.size(), (bloco + 1) * RESERVAS_POR_BLOCO));
+                byte[] comprimido = comprimir(doBloco);
+                primeirosIds[bloco] = doBloco.get(0).getId();
+                ultimosIds[bloco] = doBloco.get(doBloco.size() - 1).getId();
+                posicoes[bloco] = contador.escritos;
+                tamanhos[bloco] = comprimido.length;
+                saida.write(comprimido);
+                for (Reserva reserva : doBloco) {
+                    if (reserva.getUsuario() != null) {
+                        List<Integer> blocosDoUsuario = usuarios.computeIfAbsent(reserva.getUsuario().getId(), id -> new ArrayList<>());
+                        if (blocosDoUsuario.isEmpty() || blocosDoUsuario.get(blocosDoUsuario.size() - 1) != bloco) {
+                            blocosDoUsuario.add(bloco);
+                        }
+                    }
+                }
+            }
+
+            long rodape = contador.escritos;
+            saida.writeInt(blocos);
+            for (int bloco = 0; bloco < blocos; bloco++) {
+                saida.writeLong(primeirosIds[bloco]);
+                saida.writeLong(ultimosIds[bloco]);
+                saida.writeLong(posicoes[bloco]);
+                saida.writeInt(tamanhos[bloco]);
+            }
+            saida.writeInt(usuarios.size());
+            for (Map.Entry<Long, List<Integer>> usuario : usuarios.entrySet()) {
+                saida.writeLong(usuario.getKey());
+                saida.writeInt(usuario.getValue().size());
+                for (int bloco : usuario.getValue()) {
+                    saida.writeInt(bloco);
+                }
+            }
+            saida.writeLong(rodape);
+            saida.writeInt(MAGICO);
+            saida.flush();
+            canal.force(true);
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.ATOMIC_MOVE);
+
+        Map<Long, int[]> blocosPorUsuario = new HashMap<>();
+        usuarios.forEach((usuarioId, lista) ->
+                blocosPorUsuario.put(usuarioId, lista.stream().mapToInt(Integer::intValue).toArray()));
+        return new SegmentoArquivoReservas(arquivo, primeirosIds, ultimosIds, posicoes, tamanhos, blocosPorUsuario);
+    }
+
+    /**
+     * Abre um segmento existente, carregando apenas o rodapé.
+     */
+    static SegmentoArquivoReservas abrir(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            ByteBuffer fim = ler(canal, canal.size() - 12, 12);
+            long rodape = fim.getLong();
+            if (fim.getInt() != MAGICO) {
+                throw new IOException("Segmento de arquivo inválido: " + arquivo);
+            }
+
+            DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(
+                    ler(canal, rodape, (int) (canal.size() - 12 - rodape)).array()));
+            int blocos = entrada.readInt();
+            long[] primeirosIds = new long[blocos];
+            long[] ultimosIds = new long[blocos];
+            long[] posicoes = new long[blocos];
+            int[] tamanhos = new int[blocos];
+            for (int bloco = 0; bloco < blocos; bloco++) {
+                primeirosIds[bloco] = entrada.readLong();
+                ultimosIds[bloco] = entrada.readLong();
+                posicoes[bloco] = entrada.readLong();
+                tamanhos[bloco] = entrada.readInt();
+            }
+            int usuarios = entrada.readInt();
+            Map<Long, int[]> blocosPorUsuario = new HashMap<>(usuarios * 2);
+            for (int i = 0; i < usuarios; i++) {
+                long usuarioId = entrada.readLong();
+                int[] blocosDoUsuario = new int[entrada.readInt()];
+                for (int j = 0; j < blocosDoUsuario.length; j++) {
+                    blocosDoUsuario[j] = entrada.readInt();
+                }
+                blocosPorUsuario.put(usuarioId, blocosDoUsuario);
+            }
+            return new SegmentoArquivoReservas(arquivo, primeirosIds, ultimosIds, posicoes, tamanhos, blocosPorUsuario);
+        }
+    }
+
+    Path arquivo() {
+        return arquivo;
+    }
+
+    boolean podeConter(long id) {
+        return primeirosIds.length > 0 && id >= primeirosIds[0] && id <= ultimosIds[ultimosIds.length - 1];
+    }
+
+    Optional<Reserva> findById(long id) throws IOException {
+        int posicao = Arrays.binarySearch(primeirosIds, id);
+        int bloco = posicao >= 0 ? posicao : -posicao - 2;
+        if (bloco < 0 || id > ultimosIds[bloco]) {
+            return Optional.empty();
+        }
+        return lerBloco(bloco).stream().filter(reserva -> reserva.getId() == id).findFirst();
+    }
+
+    List<Reserva> findByUsuarioId(long usuarioId) throws IOException {
+        List<Reserva> reservas = new ArrayList<>();
+        for (int bloco : blocosPorUsuario.getOrDefault(usuarioId, new int[0])) {
+            for (Reserva reserva : lerBloco(bloco)) {
+                if (reserva.getUsuario() != null && reserva.getUsuario().getId() == usuarioId) {
+                    reservas.add(reserva);
+                }
+            }
+        }
+        return reservas;
+    }
+
+    private List<Reserva> lerBloco(int bloco) throws IOException {
+        byte[] comprimido;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            comprimido = ler(canal, posicoes[bloco], tamanhos[bloco]).array();
+        }
+
+        DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(descomprimir(comprimido)));
+        int quantidade = entrada.readInt();
+        List<Reserva> reservas = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            reservas.add(lerReserva(entrada));
+        }
+        return reservas;
+    }
+
+    private static byte[] comprimir(List<Reserva> reservas) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DataOutputStream saida = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+            saida.writeInt(reservas.size());
+            for (Reserva reserva : reservas) {
+                escreverReserva(saida, reserva);
+            }
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] descomprimir(byte[] comprimido) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(comprimido);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(comprimido.length * 4);
+            byte[] buffer = new byte[8192];
+            while (!inflater.finished()) {
+                int lidos = inflater.inflate(buffer);
+                if (lidos == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new EOFException("Bloco comprimido incompleto");
+                }
+                bytes.write(buffer, 0, lidos);
+            }
+            return bytes.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Bloco comprimido inválido", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void escreverReserva(DataOutputStream saida, Reserva reserva) throws IOException {
+        saida.writeLong(reserva.getId());
+        saida.writeUTF(reserva.getCliente() != null ? reserva.getCliente() : "");
+        saida.writeLong(reserva.getDataHora() != null ? reserva.getDataHora().toInstant(ZoneOffset.UTC).toEpochMilli() : NULO);
+        saida.writeByte(reserva.getStatus() != null ? reserva.getStatus().ordinal() : -1);
+        saida.writeInt(reserva.getNumeroPessoas() != null ? reserva.getNumeroPessoas() : -1);
+        saida.writeLong(reserva.getCriadaEm() != null ? reserva.getCriadaEm().toInstant(ZoneOffset.UTC).toEpochMilli() : NULO);
+        Restaurante restaurante = reserva.getRestaurante();
+        saida.writeLong(restaurante != null ? restaurante.getId() : NULO);
+        saida.writeUTF(restaurante != null && restaurante.getNome() != null ? restaurante.getNome() : "");
+        Usuario usuario = reserva.getUsuario();
+        saida.writeLong(usuario != null ? usuario.getId() : NULO);
+        saida.writeUTF(usuario != null && usuario.getNome() != null ? usuario.getNome() : "");
+    }
+
+    private static Reserva lerReserva(DataInputStream entrada) throws IOException {
+        long id = entrada.readLong();
+        String cliente = entrada.readUTF();
+        LocalDateTime dataHora = dataHora(entrada.readLong());
+        byte status = entrada.readByte();
+        int numeroPessoas = entrada.readInt();
+        LocalDateTime criadaEm = dataHora(entrada.readLong());
+
+        // Reservas arquivadas já aconteceram; o construtor não rejeita datas passadas
+        Reserva reserva = new Reserva(id, cliente, dataHora, null, null);
+        reserva.setStatus(status >= 0 && status < STATUS.length ? STATUS[status] : null);
+        reserva.setNumeroPessoas(numeroPessoas >= 0 ? numeroPessoas : null);
+        reserva.setCriadaEm(criadaEm);
+
+        long restauranteId = entrada.readLong();
+        String restauranteNome = entrada.readUTF();
+        if (restauranteId != NULO) {
+            Restaurante restaurante = new Restaurante();
+            restaurante.setId(restauranteId);
+            restaurante.setNome(restauranteNome);
+            reserva.setRestaurante(restaurante);
+        }
+        long usuarioId = entrada.readLong();
+        String usuarioNome = entrada.readUTF();
+        if (usuarioId != NULO) {
+            Usuario usuario = new Usuario();
+            usuario.setId(usuarioId);
+            usuario.setNome(usuarioNome);
+            reserva.setUsuario(usuario);
+        }
+        return reserva;
+    }
+
+    private static LocalDateTime dataHora(long epochMillis) {
+        return epochMillis != NULO ? LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC) : null;
+    }
+
+    private static ByteBuffer ler(FileChannel canal, long posicao, int tamanho) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(tamanho);
+        while (buffer.hasRemaining()) {
+            if (canal.read(buffer, posicao + buffer.position()) < 0) {
+                throw new EOFException("Segmento de arquivo truncado");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Conta os bytes escritos, para registrar no índice a posição de cada bloco.
+     */
+    private static final class ContadorSaida extends FilterOutputStream {
+        private long escritos;
+
+        private ContadorSaida(OutputStream destino) {
+            super(destino);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            escritos++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            escritos += len;
+        }
+    }
+}
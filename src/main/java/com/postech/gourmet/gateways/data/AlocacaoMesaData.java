@@ -0,0 +1,34 @@
+package com.postech.gourmet.gateways.data;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Mesa ocupada por uma reserva. Sem chaves estrangeiras: trocar o layout de mesas do
+ * restaurante não precisa apagar o histórico das reservas.
+ */
+@Entity
+@Table(name = "alocacao_mesa")
+@IdClass(AlocacaoMesaData.Chave.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlocacaoMesaData {
+    @Id
+    private Long reservaId;
+
+    @Id
+    private Long mesaId;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private Long reservaId;
+        private Long mesaId;
+    }
+}
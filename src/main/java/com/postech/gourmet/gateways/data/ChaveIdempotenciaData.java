@@ -0,0 +1,36 @@
+package com.postech.gourmet.gateways.data;
+
+import com.postech.gourmet.domain.entities.ChaveIdempotencia;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "chave_idempotencia", indexes = {
+        @Index(name = "idx_chave_idempotencia_criada_em", columnList = "criada_em")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChaveIdempotenciaData {
+    @Id
+    private String chave;
+
+    @Column(nullable = false)
+    private Long reservaId;
+
+    @Column(nullable = false, length = 64)
+    private String impressao;
+
+    @Column(nullable = false)
+    private LocalDateTime criadaEm;
+
+    public ChaveIdempotencia toDomain() {
+        return new ChaveIdempotencia(this.chave, this.reservaId, this.impressao, this.criadaEm);
+    }
+}
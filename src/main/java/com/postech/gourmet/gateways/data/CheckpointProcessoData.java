@@ -0,0 +1,39 @@
+package com.postech.gourmet.gateways.data;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "checkpoint_processo")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CheckpointProcessoData {
+    @Id
+    private String nome;
+
+    private LocalDateTime corte;
+    private LocalDateTime ultimaDataHora;
+    private Long ultimoId;
+    private boolean emAndamento;
+    private long processados;
+    private LocalDateTime atualizadoEm;
+
+    public CheckpointProcesso toDomain() {
+        CheckpointProcesso checkpoint = new CheckpointProcesso(this.nome);
+        checkpoint.setCorte(this.corte);
+        checkpoint.setUltimaDataHora(this.ultimaDataHora);
+        checkpoint.setUltimoId(this.ultimoId);
+        checkpoint.setEmAndamento(this.emAndamento);
+        checkpoint.setProcessados(this.processados);
+        checkpoint.setAtualizadoEm(this.atualizadoEm);
+        return checkpoint;
+    }
+}
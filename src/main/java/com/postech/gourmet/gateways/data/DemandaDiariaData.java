@@ -0,0 +1,49 @@
+package com.postech.gourmet.gateways.data;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Mapeamento da tabela {@code demanda_diaria}. As leituras e escritas são feitas com SQL em
+ * {@link com.postech.gourmet.gateways.DemandaRepositoryImpl}, para que os incrementos sejam
+ * atômicos no banco; a entidade define o esquema da tabela.
+ */
+@Entity
+@Table(name = "demanda_diaria", indexes = {
+        // Compactação: remove os dias que saíram da janela, de todos os restaurantes
+        @Index(name = "idx_demanda_diaria_dia", columnList = "dia")
+})
+@IdClass(DemandaDiariaData.Chave.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DemandaDiariaData {
+    @Id
+    private Long restauranteId;
+
+    @Id
+    private LocalDate dia;
+
+    @Id
+    private Integer faixa;
+
+    private int reservas;
+    private int cancelamentos;
+    private int naoComparecimentos;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private Long restauranteId;
+        private LocalDate dia;
+        private Integer faixa;
+    }
+}
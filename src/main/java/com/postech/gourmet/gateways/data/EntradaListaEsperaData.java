@@ -0,0 +1,51 @@
+package com.postech.gourmet.gateways.data;
+
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "lista_espera", indexes = {
+        // Carga das filas na inicialização: apenas entradas aguardando, em ordem de chegada
+        @Index(name = "idx_lista_espera_status_data_hora", columnList = "status, data_hora")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EntradaListaEsperaData {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long restauranteId;
+
+    @Column(nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false)
+    private LocalDateTime dataHora;
+
+    @Column(nullable = false)
+    private Integer numeroPessoas;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    private Long reservaId;
+
+    @Column(nullable = false)
+    private LocalDateTime criadaEm;
+
+    public EntradaListaEspera toDomain() {
+        return new EntradaListaEspera(this.id, this.restauranteId, this.usuarioId, this.dataHora,
+                this.numeroPessoas, StatusListaEspera.valueOf(this.status), this.reservaId, this.criadaEm);
+    }
+}
@@ -0,0 +1,59 @@
+package com.postech.gourmet.gateways.data;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "lembrete_reserva",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lembrete_reserva_tipo", columnNames = {"reserva_id", "tipo"}),
+        indexes = {
+                // Busca dos lembretes vencidos pelo despachante, na ordem de envio
+                @Index(name = "idx_lembrete_status_enviar_em", columnList = "status, enviar_em")
+        })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LembreteReservaData {
+    // Sequência em blocos, como em ReservaData, para que os lembretes de um lote sejam inseridos juntos
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "lembrete_reserva_seq")
+    @SequenceGenerator(name = "lembrete_reserva_seq", sequenceName = "lembrete_reserva_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long reservaId;
+
+    private Long restauranteId;
+    private Long usuarioId;
+    private String cliente;
+
+    @Column(nullable = false)
+    private LocalDateTime dataHoraReserva;
+
+    @Column(nullable = false, length = 30)
+    private String tipo;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private LocalDateTime enviarEm;
+
+    @Column(nullable = false)
+    private int tentativas;
+
+    public LembreteReserva toDomain() {
+        return new LembreteReserva(this.id, this.reservaId, this.restauranteId, this.usuarioId, this.cliente,
+                this.dataHoraReserva, TipoLembrete.valueOf(this.tipo), StatusLembrete.valueOf(this.status),
+                this.enviarEm, this.tentativas);
+    }
+}
@@ -0,0 +1,35 @@
+package com.postech.gourmet.gateways.data;
+
+import com.postech.gourmet.domain.entities.Mesa;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "mesa", indexes = {
+        @Index(name = "idx_mesa_restaurante", columnList = "restaurante_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MesaData {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long restauranteId;
+
+    @Column(nullable = false)
+    private Integer lugares;
+
+    @Column(nullable = false)
+    private boolean combinavel;
+
+    public Mesa toDomain() {
+        return new Mesa(this.id, this.restauranteId, this.lugares, this.combinavel);
+    }
+}
@@ -0,0 +1,47 @@
+package com.postech.gourmet.gateways.data;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Mapeamento da tabela {@code ocupacao_horaria}. As leituras e escritas são feitas com SQL em
+ * {@link com.postech.gourmet.gateways.OcupacaoHorariaRepositoryImpl}, para que os incrementos
+ * sejam atômicos no banco; a entidade define o esquema da tabela.
+ */
+@Entity
+@Table(name = "ocupacao_horaria")
+@IdClass(OcupacaoHorariaData.Chave.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OcupacaoHorariaData {
+    @Id
+    private Long restauranteId;
+
+    @Id
+    private LocalDate data;
+
+    @Id
+    private Integer hora;
+
+    private int reservasPendentes;
+    private int pessoasPendentes;
+    private int reservasConfirmadas;
+    private int pessoasConfirmadas;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Chave implements Serializable {
+        private Long restauranteId;
+        private LocalDate data;
+        private Integer hora;
+    }
+}
@@ -13,20 +13,31 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "reserva")
+@Table(name = "reserva", indexes = {
+        // Acompanham a ordenação (data_hora, id) da listagem paginada por cursor
+        @Index(name = "idx_reserva_data_hora_id", columnList = "data_hora, id"),
+        @Index(name = "idx_reserva_status_data_hora_id", columnList = "status, data_hora, id"),
+        // Listagem por restaurante e agenda do restaurante em um intervalo: o status depois do id
+        // mantém a ordenação do cursor e ainda filtra a agenda sem visitar a tabela
+        @Index(name = "idx_reserva_restaurante_data_hora_id_status", columnList = "restaurante_id, data_hora, id, status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ReservaData {
+    // IDs por sequência com alocação em blocos permitem que o Hibernate agrupe inserts em lote;
+    // com IDENTITY cada insert precisaria ir ao banco sozinho para obter a chave gerada
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reserva_seq")
+    @SequenceGenerator(name = "reserva_seq", sequenceName = "reserva_seq", allocationSize = 50)
     private Long id;
 
     private String cliente;
     private LocalDateTime dataHora;
     private String status;
     private Integer numeroPessoas;
+    private LocalDateTime criadaEm;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "restaurante_id")
@@ -38,11 +49,10 @@ public class ReservaData {
 
 
     public Reserva toDomain() {
-        Reserva reserva = new Reserva();
-        reserva.setId(this.id);
-        reserva.setCliente(this.cliente);
-        reserva.setDataHora(this.dataHora);
+        // Reservas já realizadas também são lidas; o construtor não rejeita datas passadas
+        Reserva reserva = new Reserva(this.id, this.cliente, this.dataHora, null, null);
         reserva.setNumeroPessoas(this.numeroPessoas);
+        reserva.setCriadaEm(this.criadaEm);
 
         if (this.status != null) {
             try {
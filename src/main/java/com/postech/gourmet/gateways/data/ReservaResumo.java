@@ -0,0 +1,50 @@
+package com.postech.gourmet.gateways.data;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusReserva;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projeção das colunas de uma reserva, sem entidades gerenciadas. Usada em leituras longas,
+ * em que carregar {@link ReservaData} faria o contexto de persistência crescer a cada linha.
+ */
+public record ReservaResumo(
+        Long id,
+        String cliente,
+        LocalDateTime dataHora,
+        Integer numeroPessoas,
+        String status,
+        Long restauranteId,
+        Long usuarioId,
+        LocalDateTime criadaEm) {
+
+    public Reserva toDomain() {
+        Reserva reserva = new Reserva(id, cliente, dataHora, null, null);
+        reserva.setNumeroPessoas(numeroPessoas);
+        reserva.setCriadaEm(criadaEm);
+        if (status != null) {
+            try {
+                reserva.setStatus(StatusReserva.valueOf(status));
+            } catch (IllegalArgumentException e) {
+                reserva.setStatus(StatusReserva.PENDENTE);
+            }
+        }
+
+        if (restauranteId != null) {
+            Restaurante restaurante = new Restaurante();
+            restaurante.setId(restauranteId);
+            reserva.setRestaurante(restaurante);
+        }
+
+        if (usuarioId != null) {
+            Usuario usuario = new Usuario();
+            usuario.setId(usuarioId);
+            reserva.setUsuario(usuario);
+        }
+
+        return reserva;
+    }
+}
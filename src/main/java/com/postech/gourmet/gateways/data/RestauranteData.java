@@ -21,7 +21,13 @@ import java.util.Map;
 
 @Slf4j
 @Entity
-@Table(name = "restaurante")
+@Table(name = "restaurante", indexes = {
+        // Busca por prefixo; a busca por substring no PostgreSQL usa os índices pg_trgm de
+        // db/postgres/busca-restaurante.sql
+        @Index(name = "idx_restaurante_nome_normalizado", columnList = "nome_normalizado"),
+        @Index(name = "idx_restaurante_endereco_normalizado", columnList = "endereco_normalizado"),
+        @Index(name = "idx_restaurante_tipo_cozinha_normalizado", columnList = "tipo_cozinha_normalizado")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -36,6 +42,14 @@ public class RestauranteData {
     private String telefone;
     private String tipoCozinha;
     private Integer capacidade;
+    private Double latitude;
+    private Double longitude;
+
+    // Cópias sem acentos e em minúsculas, mantidas na gravação e usadas pela busca por termo
+    private String nomeNormalizado;
+    private String enderecoNormalizado;
+    private String tipoCozinhaNormalizado;
+
     @OneToMany(mappedBy = "restaurante", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ReservaData> reservas = new ArrayList<>();
 
@@ -45,6 +59,14 @@ public class RestauranteData {
     @Column(columnDefinition = "TEXT")
     private String horariosFuncionamentoJson;
 
+    @PrePersist
+    @PreUpdate
+    public void normalizarCamposBusca() {
+        this.nomeNormalizado = Restaurante.normalizarParaBusca(this.nome);
+        this.enderecoNormalizado = Restaurante.normalizarParaBusca(this.endereco);
+        this.tipoCozinhaNormalizado = Restaurante.normalizarParaBusca(this.tipoCozinha);
+    }
+
     public Restaurante toDomain() {
         Restaurante restaurante = new Restaurante();
         restaurante.setId(this.id);
@@ -53,6 +75,8 @@ public class RestauranteData {
         restaurante.setTelefone(this.telefone);
         restaurante.setTipoCozinha(this.tipoCozinha);
         restaurante.setCapacidade(this.capacidade);
+        restaurante.setLatitude(this.latitude);
+        restaurante.setLongitude(this.longitude);
 
 
         restaurante.setAvaliacoes(new ArrayList<>());
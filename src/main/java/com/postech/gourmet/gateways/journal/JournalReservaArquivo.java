@@ -0,0 +1,325 @@
+package com.postech.gourmet.gateways.journal;
+
+import com.postech.gourmet.domain.events.RegistroJournalReserva;
+import com.postech.gourmet.domain.repositories.JournalReservaRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Journal gravado em arquivos de segmento mapeados em memória.
+ * <p>
+ * Uma única thread escreve: ela retira da fila todos os registros pendentes, copia-os para o
+ * segmento ativo e força as páginas para o disco uma única vez por lote (group commit), então
+ * o custo da sincronização é dividido entre as requisições que chegaram juntas. Quando o
+ * segmento enche, um novo arquivo é criado, nomeado pela primeira sequência que ele guarda.
+ * <p>
+ * Ao iniciar, o último segmento é percorrido até o primeiro registro inválido, que passa a ser
+ * a próxima posição de escrita. A leitura mapeia os segmentos apenas para leitura e nunca passa
+ * do que já foi forçado para o disco.
+ * <p>
+ * O diretório pertence a um único processo: um lock exclusivo no arquivo {@value #ARQUIVO_TRAVA}
+ * é obtido antes da recuperação e mantido até o escritor parar. Uma segunda instância apontada
+ * para o mesmo diretório falha ao iniciar em vez de sobrescrever os segmentos da primeira.
+ * <p>
+ * Se a gravação de um lote falhar, o journal volta ao último registro durável: descarta os
+ * segmentos abertos depois dele, invalida o que o lote chegou a escrever e tenta o lote de novo,
+ * até {@value #TENTATIVAS} vezes. Esgotadas as tentativas, o lote é recusado, mas o journal segue
+ * aceitando registros; a falha fica visível em {@link #ultimaFalha()} até a próxima gravação bem
+ * sucedida.
+ */
+@Slf4j
+@Repository
+public class JournalReservaArquivo implements JournalReservaRepository {
+    static final int MAXIMO_LOTE = 1024;
+    static final String ARQUIVO_TRAVA = "journal.lock";
+    static final int TENTATIVAS = 3;
+    private static final long PAUSA_ENTRE_TENTATIVAS_MS = 50;
+
+    private final Path diretorio;
+    private final int registrosPorSegmento;
+    private final NavigableMap<Long, Path> segmentos = new ConcurrentSkipListMap<>();
+    private final BlockingQueue<Pendente> fila = new LinkedBlockingQueue<>();
+    private final Thread escritor;
+
+    private FileChannel canalTrava;
+    private FileLock trava;
+
+    private SegmentoJournal ativo;
+    private long proximaSequencia;
+    private volatile long sequenciaDuravel;
+    private volatile boolean encerrado;
+    private volatile Exception ultimaFalha;
+    private boolean precisaRestaurar;
+
+    public JournalReservaArquivo(
+            @Value("${gourmet.journal.diretorio:data/journal}") Path diretorio,
+            @Value("${gourmet.journal.registros-por-segmento:1048576}") int registrosPorSegmento) {
+        if (registrosPorSegmento <= 0 || registrosPorSegmento > Integer.MAX_VALUE / SegmentoJournal.TAMANHO_REGISTRO) {
+            throw new IllegalArgumentException("Quantidade de registros por segmento inválida: " + registrosPorSegmento);
+        }
+        this.diretorio = diretorio;
+        this.registrosPorSegmento = registrosPorSegmento;
+
+        try {
+            travarDiretorio();
+            recuperar();
+        } catch (IOException e) {
+            liberarDiretorio();
+            throw new UncheckedIOException("Não foi possível abrir o journal de reservas em " + diretorio, e);
+        } catch (RuntimeException e) {
+            liberarDiretorio();
+            throw e;
+        }
+
+        this.escritor = Thread.ofPlatform().name("journal-reservas").daemon().start(this::escrever);
+    }
+
+    @Override
+    public CompletableFuture<Long> registrar(RegistroJournalReserva registro) {
+        CompletableFuture<Long> futuro = new CompletableFuture<>();
+        if (encerrado) {
+            futuro.completeExceptionally(new IllegalStateException("O journal de reservas foi encerrado"));
+            return futuro;
+        }
+        fila.add(new Pendente(registro, futuro));
+        return futuro;
+    }
+
+    @Override
+    public long reproduzir(long aPartirDe, int limite, Consumer<RegistroJournalReserva> consumidor) {
+        long fim = sequenciaDuravel;
+        long sequencia = Math.max(aPartirDe, segmentos.firstKey());
+        long entregues = 0;
+
+        for (Path arquivo : segmentos.tailMap(segmentos.floorKey(sequencia), true).values()) {
+            if (sequencia >= fim || entregues >= limite) {
+                break;
+            }
+            try (SegmentoJournal segmento = SegmentoJournal.abrirParaLeitura(arquivo)) {
+                sequencia = Math.max(sequencia, segmento.primeiraSequencia());
+                for (; sequencia < Math.min(fim, segmento.fim()) && entregues < limite; sequencia++, entregues++) {
+                    RegistroJournalReserva registro = segmento.ler(sequencia);
+                    if (registro == null) {
+                        throw new IllegalStateException("Registro corrompido no journal de reservas: " + sequencia);
+                    }
+                    consumidor.accept(registro);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Falha ao ler o segmento " + arquivo, e);
+            }
+        }
+        return sequencia;
+    }
+
+    @Override
+    public long proximaSequencia() {
+        return sequenciaDuravel;
+    }
+
+    /**
+     * @return Falha da última gravação, se o último lote foi recusado; vazio depois de uma
+     * gravação bem sucedida
+     */
+    public Optional<Exception> ultimaFalha() {
+        return Optional.ofNullable(ultimaFalha);
+    }
+
+    public boolean isEncerrado() {
+        return encerrado;
+    }
+
+    /**
+     * Grava os registros que ainda estão na fila e fecha o segmento ativo.
+     */
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        encerrado = true;
+        fila.add(Pendente.FIM);
+        escritor.join();
+    }
+
+    private void travarDiretorio() throws IOException {
+        Files.createDirectories(diretorio);
+        canalTrava = FileChannel.open(diretorio.resolve(ARQUIVO_TRAVA),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            trava = canalTrava.tryLock();
+        } catch (OverlappingFileLockException e) {
+            trava = null;
+        }
+        if (trava == null) {
+            throw new IllegalStateException("O journal de reservas em " + diretorio
+                    + " já está em uso por outra instância");
+        }
+    }
+
+    private void liberarDiretorio() {
+        try {
+            if (trava != null) {
+                trava.release();
+            }
+            if (canalTrava != null) {
+                canalTrava.close();
+            }
+        } catch (IOException e) {
+            log.warn("Falha ao liberar o lock do journal de reservas em {}", diretorio, e);
+        }
+    }
+
+    private void recuperar() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            arquivos.filter(arquivo -> arquivo.getFileName().toString().endsWith(SegmentoJournal.EXTENSAO))
+                    .forEach(arquivo -> segmentos.put(SegmentoJournal.primeiraSequencia(arquivo), arquivo));
+        }
+
+        if (segmentos.isEmpty()) {
+            abrirSegmento(0);
+            return;
+        }
+
+        // Segmentos anteriores só são deixados para trás quando cheios; apenas o último pode estar pela metade
+        Map.Entry<Long, Path> ultimo = segmentos.lastEntry();
+        ativo = SegmentoJournal.abrirParaEscrita(ultimo.getValue(), ultimo.getKey(), registrosPorSegmento);
+        proximaSequencia = ativo.primeiraSequencia() + ativo.contarValidos();
+        sequenciaDuravel = proximaSequencia;
+        log.info("Journal de reservas aberto em {}: {} segmento(s), próxima sequência {}",
+                diretorio, segmentos.size(), proximaSequencia);
+    }
+
+    private void abrirSegmento(long primeiraSequencia) throws IOException {
+        Path arquivo = SegmentoJournal.arquivo(diretorio, primeiraSequencia);
+        ativo = SegmentoJournal.abrirParaEscrita(arquivo, primeiraSequencia, registrosPorSegmento);
+        segmentos.put(primeiraSequencia, arquivo);
+        proximaSequencia = primeiraSequencia;
+    }
+
+    private void escrever() {
+        List<Pendente> lote = new ArrayList<>(MAXIMO_LOTE);
+        boolean fim = false;
+        while (!fim) {
+            try {
+                lote.add(fila.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            fila.drainTo(lote, MAXIMO_LOTE - 1);
+            fim = lote.remove(Pendente.FIM);
+            if (!lote.isEmpty()) {
+                gravar(lote);
+            }
+            lote.clear();
+        }
+
+        // Registros que chegaram após o encerramento não serão gravados
+        fila.forEach(pendente -> pendente.futuro().completeExceptionally(
+                new IllegalStateException("O journal de reservas foi encerrado")));
+        try {
+            ativo.close();
+        } catch (IOException e) {
+            log.warn("Falha ao fechar o segmento ativo do journal de reservas", e);
+        }
+        liberarDiretorio();
+    }
+
+    private void gravar(List<Pendente> lote) {
+        Exception falha = null;
+        for (int tentativa = 1; tentativa <= TENTATIVAS; tentativa++) {
+            try {
+                if (precisaRestaurar) {
+                    restaurar();
+                }
+                long primeira = gravarLote(lote);
+                // Limpa a falha antes de liberar quem espera, que já pode consultar o health
+                ultimaFalha = null;
+                for (int i = 0; i < lote.size(); i++) {
+                    lote.get(i).futuro().complete(primeira + i);
+                }
+                return;
+            } catch (IOException | RuntimeException e) {
+                falha = e;
+                precisaRestaurar = true;
+                log.warn("Falha ao gravar {} registro(s) no journal de reservas (tentativa {} de {}): {}",
+                        lote.size(), tentativa, TENTATIVAS, e.getMessage());
+            }
+            try {
+                Thread.sleep(PAUSA_ENTRE_TENTATIVAS_MS * tentativa);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        ultimaFalha = falha;
+        log.error("Lote de {} registro(s) recusado pelo journal de reservas", lote.size(), falha);
+        Exception causa = falha;
+        lote.forEach(pendente -> pendente.futuro().completeExceptionally(causa));
+    }
+
+    private long gravarLote(List<Pendente> lote) throws IOException {
+        long primeira = proximaSequencia;
+        for (Pendente pendente : lote) {
+            if (proximaSequencia == ativo.fim()) {
+                ativo.forcar();
+                ativo.close();
+                abrirSegmento(proximaSequencia);
+            }
+            ativo.escrever(pendente.registro().comSequencia(proximaSequencia++));
+        }
+        ativo.forcar();
+
+        sequenciaDuravel = proximaSequencia;
+        return primeira;
+    }
+
+    /**
+     * Volta a escrita para logo após o último registro durável: parte de um lote que falhou pode
+     * ter chegado ao disco, e sem isso ficaria entre os registros confirmados depois dele.
+     */
+    private void restaurar() throws IOException {
+        try {
+            ativo.close();
+        } catch (IOException e) {
+            log.warn("Falha ao fechar o segmento ativo do journal de reservas", e);
+        }
+        long base = segmentos.floorKey(sequenciaDuravel);
+        NavigableMap<Long, Path> posteriores = segmentos.tailMap(base, false);
+        for (Path arquivo : posteriores.values()) {
+            Files.deleteIfExists(arquivo);
+        }
+        posteriores.clear();
+
+        ativo = SegmentoJournal.abrirParaEscrita(segmentos.get(base), base, registrosPorSegmento);
+        ativo.invalidar(sequenciaDuravel, proximaSequencia);
+        ativo.forcar();
+        proximaSequencia = sequenciaDuravel;
+        precisaRestaurar = false;
+        log.info("Journal de reservas restaurado na sequência {}", proximaSequencia);
+    }
+
+    private record Pendente(RegistroJournalReserva registro, CompletableFuture<Long> futuro) {
+        private static final Pendente FIM = new Pendente(null, null);
+    }
+}
@@ -0,0 +1,30 @@
+package com.postech.gourmet.gateways.journal;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * Expõe em {@code /actuator/health} (componente {@code journalReserva}) se o journal de auditoria
+ * está gravando: fica fora do ar enquanto o último lote tiver sido recusado ou depois do
+ * encerramento, pois as alterações de reserva continuam sendo aceitas sem chegar ao journal.
+ */
+@Component
+public class JournalReservaHealthIndicator implements HealthIndicator {
+    private final JournalReservaArquivo journal;
+
+    public JournalReservaHealthIndicator(JournalReservaArquivo journal) {
+        this.journal = journal;
+    }
+
+    @Override
+    public Health health() {
+        if (journal.isEncerrado()) {
+            return Health.down().withDetail("motivo", "Journal encerrado").build();
+        }
+        return journal.ultimaFalha()
+                .map(falha -> Health.down().withDetail("motivo", "Último lote recusado")
+                        .withDetail("erro", String.valueOf(falha.getMessage())).build())
+                .orElseGet(() -> Health.up().withDetail("proximaSequencia", journal.proximaSequencia()).build());
+    }
+}
@@ -0,0 +1,211 @@
+package com.postech.gourmet.gateways.journal;
+
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.RegistroJournalReserva;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.zip.CRC32C;
+
+/**
+ * Arquivo do journal mapeado em memória, com espaço para uma quantidade fixa de registros.
+ * <p>
+ * Cada registro ocupa {@value #TAMANHO_REGISTRO} bytes, então a posição de uma sequência no
+ * arquivo é calculada diretamente. Layout (big-endian):
+ * <pre>
+ *  0  int   CRC32C dos bytes 4..63
+ *  4  byte  versão do formato
+ *  5  byte  tipo ({@link RegistroJournalReserva.Tipo#ordinal()})
+ *  6  byte  status anterior (ordinal + 1; 0 = nulo)
+ *  7  byte  status (ordinal + 1)
+ *  8  long  sequência
+ * 16  long  registrado em (epoch millis)
+ * 24  long  ID da reserva
+ * 32  long  ID do restaurante (Long.MIN_VALUE = nulo)
+ * 40  long  data/hora da reserva (epoch millis em UTC; Long.MIN_VALUE = nula)
+ * 48  int   número de pessoas (-1 = nulo)
+ * 52  12 bytes reservados
+ * </pre>
+ * Espaço ainda não escrito contém zeros e é rejeitado pela versão e pelo CRC, o que marca o fim
+ * do journal após uma queda.
+ */
+final class SegmentoJournal implements Closeable {
+    static final int TAMANHO_REGISTRO = 64;
+    static final String EXTENSAO = ".journal";
+
+    private static final byte VERSAO = 1;
+    private static final RegistroJournalReserva.Tipo[] TIPOS = RegistroJournalReserva.Tipo.values();
+    private static final StatusReserva[] STATUS = StatusReserva.values();
+
+    private final long primeiraSequencia;
+    private final int capacidade;
+    private final FileChannel canal;
+    private final MappedByteBuffer buffer;
+
+    private SegmentoJournal(long primeiraSequencia, int capacidade, FileChannel canal, MappedByteBuffer buffer) {
+        this.primeiraSequencia = primeiraSequencia;
+        this.capacidade = capacidade;
+        this.canal = canal;
+        this.buffer = buffer;
+    }
+
+    static Path arquivo(Path diretorio, long primeiraSequencia) {
+        return diretorio.resolve(String.format("%020d%s", primeiraSequencia, EXTENSAO));
+    }
+
+    static long primeiraSequencia(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        return Long.parseLong(nome.substring(0, nome.length() - EXTENSAO.length()));
+    }
+
+    /**
+     * Mapeia o segmento para escrita, criando o arquivo com espaço para {@code capacidade}
+     * registros se ele ainda não existir.
+     */
+    static SegmentoJournal abrirParaEscrita(Path arquivo, long primeiraSequencia, int capacidade) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            // Um segmento já existente mantém a capacidade com que foi criado
+            long tamanho = Math.max(canal.size(), (long) capacidade * TAMANHO_REGISTRO);
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+            return new SegmentoJournal(primeiraSequencia, (int) (tamanho / TAMANHO_REGISTRO), canal, buffer);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    static SegmentoJournal abrirParaLeitura(Path arquivo) throws IOException {
+        FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            long tamanho = canal.size() - canal.size() % TAMANHO_REGISTRO;
+            MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_ONLY, 0, tamanho);
+            return new SegmentoJournal(primeiraSequencia(arquivo), (int) (tamanho / TAMANHO_REGISTRO), canal, buffer);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    long primeiraSequencia() {
+        return primeiraSequencia;
+    }
+
+    /**
+     * Sequência seguinte à última que cabe neste segmento.
+     */
+    long fim() {
+        return primeiraSequencia + capacidade;
+    }
+
+    /**
+     * Quantidade de registros válidos no início do segmento. Tudo o que vem depois do primeiro
+     * registro inválido é descartado, inclusive restos de um lote interrompido por uma queda.
+     */
+    int contarValidos() {
+        int validos = 0;
+        while (validos < capacidade && ler(primeiraSequencia + validos) != null) {
+            validos++;
+        }
+        return validos;
+    }
+
+    void escrever(RegistroJournalReserva registro) {
+        int posicao = posicao(registro.sequencia());
+        buffer.put(posicao + 4, VERSAO);
+        buffer.put(posicao + 5, (byte) registro.tipo().ordinal());
+        buffer.put(posicao + 6, codificar(registro.statusAnterior()));
+        buffer.put(posicao + 7, codificar(registro.status()));
+        buffer.putLong(posicao + 8, registro.sequencia());
+        buffer.putLong(posicao + 16, registro.registradoEm().toEpochMilli());
+        buffer.putLong(posicao + 24, registro.reservaId());
+        buffer.putLong(posicao + 32, registro.restauranteId() != null ? registro.restauranteId() : Long.MIN_VALUE);
+        buffer.putLong(posicao + 40, registro.dataHora() != null
+                ? registro.dataHora().toInstant(ZoneOffset.UTC).toEpochMilli()
+                : Long.MIN_VALUE);
+        buffer.putInt(posicao + 48, registro.numeroPessoas() != null ? registro.numeroPessoas() : -1);
+        for (int i = 52; i < TAMANHO_REGISTRO; i++) {
+            buffer.put(posicao + i, (byte) 0);
+        }
+        buffer.putInt(posicao, crc(posicao));
+    }
+
+    /**
+     * @return O registro da sequência, ou {@code null} se a posição não contiver um registro válido
+     */
+    RegistroJournalReserva ler(long sequencia) {
+        int posicao = posicao(sequencia);
+        if (buffer.get(posicao + 4) != VERSAO
+                || buffer.getLong(posicao + 8) != sequencia
+                || buffer.getInt(posicao) != crc(posicao)) {
+            return null;
+        }
+
+        long restauranteId = buffer.getLong(posicao + 32);
+        long dataHora = buffer.getLong(posicao + 40);
+        int numeroPessoas = buffer.getInt(posicao + 48);
+        return new RegistroJournalReserva(
+                sequencia,
+                TIPOS[buffer.get(posicao + 5)],
+                buffer.getLong(posicao + 24),
+                restauranteId != Long.MIN_VALUE ? restauranteId : null,
+                dataHora != Long.MIN_VALUE
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(dataHora), ZoneOffset.UTC)
+                        : null,
+                numeroPessoas >= 0 ? numeroPessoas : null,
+                decodificar(buffer.get(posicao + 6)),
+                decodificar(buffer.get(posicao + 7)),
+                Instant.ofEpochMilli(buffer.getLong(posicao + 16)));
+    }
+
+    /**
+     * Marca como inválidos os registros das sequências entre {@code de} (inclusive) e {@code ate}
+     * (exclusive), para que restos de um lote que falhou não sejam lidos nem recuperados.
+     */
+    void invalidar(long de, long ate) {
+        for (long sequencia = de; sequencia < Math.min(ate, fim()); sequencia++) {
+            buffer.put(posicao(sequencia) + 4, (byte) 0);
+        }
+    }
+
+    /**
+     * Grava em disco as páginas alteradas do segmento.
+     */
+    void forcar() {
+        buffer.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private int posicao(long sequencia) {
+        if (sequencia < primeiraSequencia || sequencia >= fim()) {
+            throw new IllegalArgumentException("Sequência " + sequencia + " fora do segmento " + primeiraSequencia);
+        }
+        return (int) (sequencia - primeiraSequencia) * TAMANHO_REGISTRO;
+    }
+
+    private int crc(int posicao) {
+        CRC32C crc = new CRC32C();
+        crc.update(buffer.slice(posicao + 4, TAMANHO_REGISTRO - 4));
+        return (int) crc.getValue();
+    }
+
+    private static byte codificar(StatusReserva status) {
+        return status != null ? (byte) (status.ordinal() + 1) : 0;
+    }
+
+    private static StatusReserva decodificar(byte codigo) {
+        return codigo > 0 && codigo <= STATUS.length ? STATUS[codigo - 1] : null;
+    }
+}
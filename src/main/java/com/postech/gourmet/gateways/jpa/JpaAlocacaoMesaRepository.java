@@ -0,0 +1,25 @@
+package com.postech.gourmet.gateways.jpa;
+
+import com.postech.gourmet.gateways.data.AlocacaoMesaData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaAlocacaoMesaRepository extends JpaRepository<AlocacaoMesaData, AlocacaoMesaData.Chave> {
+
+    @Query("SELECT a.mesaId FROM AlocacaoMesaData a WHERE a.reservaId = :reservaId ORDER BY a.mesaId")
+    List<Long> findMesaIdsByReservaId(@Param("reservaId") Long reservaId);
+
+    @Query("SELECT a.mesaId FROM AlocacaoMesaData a, ReservaData r " +
+            "WHERE r.id = a.reservaId AND r.restaurante.id = :restauranteId " +
+            "AND r.dataHora >= :inicio AND r.dataHora < :fim AND r.status IN :status")
+    List<Long> findMesaIdsOcupadas(
+            @Param("restauranteId") Long restauranteId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("status") Collection<String> status);
+}
@@ -1,11 +1,13 @@
 package com.postech.gourmet.gateways.jpa;
 
+import com.postech.gourmet.domain.repositories.TotalAvaliacoes;
 import com.postech.gourmet.gateways.data.AvaliacaoData;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface JpaAvaliacaoRepository extends JpaRepository<AvaliacaoData, Long> {
     List<AvaliacaoData> findByRestauranteId(Long restauranteId);
@@ -14,4 +16,12 @@ public interface JpaAvaliacaoRepository extends JpaRepository<AvaliacaoData, Lon
 
     @Query("SELECT AVG(a.nota) FROM AvaliacaoData a WHERE a.restaurante.id = :restauranteId")
     Double calcularMediaAvaliacoesPorRestaurante(@Param("restauranteId") Long restauranteId);
+
+    @Query("SELECT new com.postech.gourmet.domain.repositories.TotalAvaliacoes(a.restaurante.id, COUNT(a), SUM(a.nota)) " +
+            "FROM AvaliacaoData a GROUP BY a.restaurante.id")
+    List<TotalAvaliacoes> totalizarPorRestaurante();
+
+    @Query("SELECT new com.postech.gourmet.domain.repositories.TotalAvaliacoes(a.restaurante.id, COUNT(a), SUM(a.nota)) " +
+            "FROM AvaliacaoData a WHERE a.restaurante.id = :restauranteId GROUP BY a.restaurante.id")
+    Optional<TotalAvaliacoes> totalizarDoRestaurante(@Param("restauranteId") Long restauranteId);
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.postech.gourmet.gateways.jpa;
+
+import com.postech.gourmet.gateways.data.ChaveIdempotenciaData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface JpaChaveIdempotenciaRepository extends JpaRepository<ChaveIdempotenciaData, String> {
+
+    // INSERT explícito: save() faria merge e sobrescreveria uma chave gravada por outra requisição
+    @Modifying
+    @Query(value = "INSERT INTO chave_idempotencia (chave, reserva_id, impressao, criada_em) " +
+            "VALUES (:chave, :reservaId, :impressao, :criadaEm)", nativeQuery = true)
+    void inserir(
+            @Param("chave") String chave,
+            @Param("reservaId") Long reservaId,
+            @Param("impressao") String impressao,
+            @Param("criadaEm") LocalDateTime criadaEm);
+
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotenciaData c WHERE c.criadaEm < :limite")
+    int deleteByCriadaEmBefore(@Param("limite") LocalDateTime limite);
+
+    @Modifying
+    @Query("DELETE FROM ChaveIdempotenciaData c WHERE c.chave = :chave AND c.criadaEm < :limite")
+    int deleteByChaveAndCriadaEmBefore(@Param("chave") String chave, @Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,7 @@
+package com.postech.gourmet.gateways.jpa;
+
+import com.postech.gourmet.gateways.data.CheckpointProcessoData;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JpaCheckpointProcessoRepository extends JpaRepository<CheckpointProcessoData, String> {
+}
@@ -0,0 +1,60 @@
+package com.postech.gourmet.gateways.jpa;
+
+import com.postech.gourmet.gateways.data.LembreteReservaData;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface JpaLembreteReservaRepository extends JpaRepository<LembreteReservaData, Long> {
+
+    @Query("SELECT l.tipo FROM LembreteReservaData l WHERE l.reservaId = :reservaId")
+    List<String> findTiposByReservaId(@Param("reservaId") Long reservaId);
+
+    // Tempo de espera -2 é o SKIP LOCKED do Hibernate: linhas já travadas por outra instância são puladas
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT l FROM LembreteReservaData l WHERE l.status = :status AND l.enviarEm <= :agora " +
+            "ORDER BY l.enviarEm, l.id")
+    List<LembreteReservaData> travarVencidos(
+            @Param("status") String status,
+            @Param("agora") LocalDateTime agora,
+            Limit limite);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LembreteReservaData l SET l.enviarEm = :ate, l.tentativas = l.tentativas + 1 WHERE l.id IN :ids")
+    int arrendar(@Param("ids") Collection<Long> ids, @Param("ate") LocalDateTime ate);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LembreteReservaData l SET l.status = :novoStatus " +
+            "WHERE l.id IN :ids AND l.status = :statusAtual")
+    int atualizarStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("statusAtual") String statusAtual,
+            @Param("novoStatus") String novoStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LembreteReservaData l SET l.status = :novoStatus " +
+            "WHERE l.reservaId = :reservaId AND l.status = :statusAtual")
+    int atualizarStatusPorReserva(
+            @Param("reservaId") Long reservaId,
+            @Param("statusAtual") String statusAtual,
+            @Param("novoStatus") String novoStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE LembreteReservaData l SET l.enviarEm = :quando WHERE l.id IN :ids AND l.status = :status")
+    int reagendar(
+            @Param("ids") Collection<Long> ids,
+            @Param("status") String status,
+            @Param("quando") LocalDateTime quando);
+}
@@ -0,0 +1,32 @@
+package com.postech.gourmet.gateways.jpa;
+
+import com.postech.gourmet.gateways.data.EntradaListaEsperaData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JpaListaEsperaRepository extends JpaRepository<EntradaListaEsperaData, Long> {
+
+    @Query("SELECT e FROM EntradaListaEsperaData e WHERE e.status = :status AND e.dataHora >= :limite " +
+            "ORDER BY e.criadaEm, e.id")
+    List<EntradaListaEsperaData> findByStatusAPartirDe(
+            @Param("status") String status,
+            @Param("limite") LocalDateTime limite);
+
+    // Condicional: outra instância pode ter promovido ou cancelado a entrada nesse meio tempo
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EntradaListaEsperaData e SET e.status = :novoStatus " +
+            "WHERE e.id = :id AND e.status = :statusAtual")
+    int atualizarStatus(
+            @Param("id") Long id,
+            @Param("statusAtual") String statusAtual,
+            @Param("novoStatus") String novoStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE EntradaListaEsperaData e SET e.reservaId = :reservaId WHERE e.id = :id")
+    void registrarReserva(@Param("id") Long id, @Param("reservaId") Long reservaId);
+}
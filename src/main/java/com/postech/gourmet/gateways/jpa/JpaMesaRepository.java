@@ -0,0 +1,18 @@
+package com.postech.gourmet.gateways.jpa;
+
+import com.postech.gourmet.gateways.data.MesaData;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JpaMesaRepository extends JpaRepository<MesaData, Long> {
+
+    List<MesaData> findByRestauranteIdOrderById(Long restauranteId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MesaData m WHERE m.restauranteId = :restauranteId")
+    int deleteByRestauranteId(@Param("restauranteId") Long restauranteId);
+}
@@ -1,10 +1,143 @@
 package com.postech.gourmet.gateways.jpa;
 
+import com.postech.gourmet.domain.repositories.CursorReserva;
 import com.postech.gourmet.gateways.data.ReservaData;
+import com.postech.gourmet.gateways.data.ReservaResumo;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
-public interface JpaReservaRepository extends JpaRepository<ReservaData, Long> {
+public interface JpaReservaRepository extends JpaRepository<ReservaData, Long>, JpaSpecificationExecutor<ReservaData> {
     List<ReservaData> findByUsuarioId(Long usuarioId);
-}
\ No newline at end of file
+
+    // r.restaurante.id e r.usuario.id são lidos das chaves estrangeiras, sem join nem proxies
+    @Query("SELECT new com.postech.gourmet.gateways.data.ReservaResumo(" +
+            "r.id, r.cliente, r.dataHora, r.numeroPessoas, r.status, r.restaurante.id, r.usuario.id, r.criadaEm) " +
+            "FROM ReservaData r " +
+            "WHERE r.restaurante.id = :restauranteId " +
+            "AND r.dataHora >= :inicio AND r.dataHora < :fim " +
+            "ORDER BY r.dataHora, r.id")
+    List<ReservaResumo> findByRestauranteIdAndDataHoraBetween(
+            @Param("restauranteId") Long restauranteId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim);
+
+    @Query("SELECT new com.postech.gourmet.gateways.data.ReservaResumo(" +
+            "r.id, r.cliente, r.dataHora, r.numeroPessoas, r.status, r.restaurante.id, r.usuario.id, r.criadaEm) " +
+            "FROM ReservaData r " +
+            "WHERE r.restaurante.id = :restauranteId " +
+            "AND r.dataHora >= :inicio AND r.dataHora < :fim " +
+            "AND r.status IN :status " +
+            "ORDER BY r.dataHora, r.id")
+    List<ReservaResumo> findByRestauranteIdAndDataHoraBetweenAndStatusIn(
+            @Param("restauranteId") Long restauranteId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("status") Collection<String> status);
+
+    @Query("SELECT COALESCE(SUM(r.numeroPessoas), 0) FROM ReservaData r " +
+            "WHERE r.restaurante.id = :restauranteId " +
+            "AND r.dataHora >= :inicio AND r.dataHora < :fim " +
+            "AND r.status IN :status")
+    Long somarPessoasPorRestauranteEPeriodo(
+            @Param("restauranteId") Long restauranteId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("status") Collection<String> status);
+
+    @Query("SELECT r.dataHora, r.status, COUNT(r), SUM(r.numeroPessoas) FROM ReservaData r " +
+            "WHERE r.restaurante.id = :restauranteId AND r.dataHora >= :desde " +
+            "GROUP BY r.dataHora, r.status")
+    List<Object[]> totalizarPorHorarioEStatus(@Param("restauranteId") Long restauranteId,
+                                              @Param("desde") LocalDateTime desde);
+
+    @Query("SELECT r.dataHora, SUM(r.numeroPessoas) FROM ReservaData r " +
+            "WHERE r.restaurante.id = :restauranteId " +
+            "AND r.dataHora >= :inicio AND r.dataHora < :fim " +
+            "AND r.status IN :status " +
+            "GROUP BY r.dataHora")
+    List<Object[]> somarPessoasPorRestauranteAgrupadoPorHorario(
+            @Param("restauranteId") Long restauranteId,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim,
+            @Param("status") Collection<String> status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.postech.gourmet.gateways.data.ReservaResumo(" +
+            "r.id, r.cliente, r.dataHora, r.numeroPessoas, r.status, rest.id, u.id, r.criadaEm) " +
+            "FROM ReservaData r LEFT JOIN r.restaurante rest LEFT JOIN r.usuario u " +
+            "ORDER BY r.id")
+    Stream<ReservaResumo> streamResumos();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.postech.gourmet.gateways.data.ReservaResumo(" +
+            "r.id, r.cliente, r.dataHora, r.numeroPessoas, r.status, rest.id, u.id, r.criadaEm) " +
+            "FROM ReservaData r LEFT JOIN r.restaurante rest LEFT JOIN r.usuario u " +
+            "WHERE r.status = :status")
+    Stream<ReservaResumo> streamResumosPorStatus(@Param("status") String status);
+
+    // Ordenadas por ID, lotes concorrentes bloqueiam as linhas na mesma ordem e não entram em impasse
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReservaData r WHERE r.id IN :ids ORDER BY r.id")
+    List<ReservaData> travarPorIds(@Param("ids") Collection<Long> ids);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM ReservaData r WHERE r.id IN :ids AND r.status = :status ORDER BY r.id")
+    List<ReservaData> travarPorIdsEStatus(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ReservaData r SET r.status = :novoStatus WHERE r.id IN :ids AND r.status = :statusAtual")
+    int atualizarStatus(
+            @Param("ids") Collection<Long> ids,
+            @Param("statusAtual") String statusAtual,
+            @Param("novoStatus") String novoStatus);
+
+    @Query("SELECT new com.postech.gourmet.domain.repositories.CursorReserva(r.dataHora, r.id) " +
+            "FROM ReservaData r " +
+            "WHERE r.status = :status AND r.dataHora < :antes " +
+            "ORDER BY r.dataHora, r.id")
+    List<CursorReserva> buscarChavesPorStatusAntesDe(
+            @Param("status") String status,
+            @Param("antes") LocalDateTime antes,
+            Limit limite);
+
+    @Query("SELECT new com.postech.gourmet.domain.repositories.CursorReserva(r.dataHora, r.id) " +
+            "FROM ReservaData r " +
+            "WHERE r.status = :status AND r.dataHora < :antes " +
+            "AND (r.dataHora > :dataHora OR (r.dataHora = :dataHora AND r.id > :id)) " +
+            "ORDER BY r.dataHora, r.id")
+    List<CursorReserva> buscarChavesPorStatusAntesDeApos(
+            @Param("status") String status,
+            @Param("antes") LocalDateTime antes,
+            @Param("dataHora") LocalDateTime dataHora,
+            @Param("id") Long id,
+            Limit limite);
+
+    @Query("SELECT r FROM ReservaData r LEFT JOIN FETCH r.restaurante LEFT JOIN FETCH r.usuario " +
+            "WHERE r.status IN :status AND r.dataHora < :antes " +
+            "ORDER BY r.id")
+    List<ReservaData> buscarParaArquivar(
+            @Param("status") Collection<String> status,
+            @Param("antes") LocalDateTime antes,
+            Limit limite);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM ReservaData r WHERE r.id IN :ids")
+    int excluirPorIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,6 +1,11 @@
 package com.postech.gourmet.gateways.jpa;
 
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.repositories.LocalizacaoRestaurante;
+import com.postech.gourmet.domain.repositories.NomeRestaurante;
+import com.postech.gourmet.domain.repositories.TextoRestaurante;
 import com.postech.gourmet.gateways.data.RestauranteData;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,12 +16,41 @@ public interface JpaRestauranteRepository extends JpaRepository<RestauranteData,
 
     List<RestauranteData> findByNomeContaining(String nome);
 
+    /**
+     * Busca o termo nas colunas normalizadas, normalizando o termo uma única vez por consulta.
+     */
+    default List<RestauranteData> findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(String termo) {
+        return findByTermoNormalizado(Restaurante.normalizarParaBusca(termo));
+    }
+
+    @Query("SELECT r FROM RestauranteData r " +
+            "WHERE r.nomeNormalizado LIKE CONCAT('%', :termo, '%') " +
+            "OR r.enderecoNormalizado LIKE CONCAT('%', :termo, '%') " +
+            "OR r.tipoCozinhaNormalizado LIKE CONCAT('%', :termo, '%')")
+    List<RestauranteData> findByTermoNormalizado(@Param("termo") String termo);
+
     @Query("SELECT r FROM RestauranteData r " +
-            "WHERE LOWER(r.nome) LIKE LOWER(CONCAT('%', :termo, '%')) " +
-            "OR LOWER(r.endereco) LIKE LOWER(CONCAT('%', :termo, '%')) " +
-            "OR LOWER(r.tipoCozinha) LIKE LOWER(CONCAT('%', :termo, '%'))")
-    List<RestauranteData> findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(
-            @Param("termo") String termo);
+            "WHERE (r.nomeNormalizado IS NULL AND r.nome IS NOT NULL) " +
+            "OR (r.enderecoNormalizado IS NULL AND r.endereco IS NOT NULL) " +
+            "OR (r.tipoCozinhaNormalizado IS NULL AND r.tipoCozinha IS NOT NULL) " +
+            "ORDER BY r.id")
+    List<RestauranteData> findSemCamposBusca(Pageable pagina);
+
+    @Query("SELECT r.id FROM RestauranteData r ORDER BY r.id")
+    List<Long> findAllIds();
+
+    @Query("SELECT new com.postech.gourmet.domain.repositories.TextoRestaurante(" +
+            "r.id, r.nomeNormalizado, r.enderecoNormalizado, r.tipoCozinhaNormalizado) " +
+            "FROM RestauranteData r")
+    List<TextoRestaurante> findTextosBusca();
+
+    @Query("SELECT new com.postech.gourmet.domain.repositories.NomeRestaurante(r.id, r.nome, r.tipoCozinha) " +
+            "FROM RestauranteData r")
+    List<NomeRestaurante> findNomes();
+
+    @Query("SELECT new com.postech.gourmet.domain.repositories.LocalizacaoRestaurante(r.id, r.latitude, r.longitude) " +
+            "FROM RestauranteData r WHERE r.latitude IS NOT NULL AND r.longitude IS NOT NULL")
+    List<LocalizacaoRestaurante> findLocalizacoes();
 
     boolean existsByNomeAndEndereco(String nome, String endereco);
 }
\ No newline at end of file
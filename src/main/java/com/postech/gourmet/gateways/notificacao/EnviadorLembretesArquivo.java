@@ -0,0 +1,47 @@
+package com.postech.gourmet.gateways.notificacao;
+
+import com.postech.gourmet.application.usecase.reserva.EnviadorLembretes;
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Acrescenta cada lembrete como uma linha CSV em um arquivo local, para testes e ambientes de
+ * homologação em que as mensagens precisam ser conferidas.
+ */
+@Component
+@ConditionalOnProperty(name = "gourmet.lembretes.enviador", havingValue = "arquivo")
+public class EnviadorLembretesArquivo implements EnviadorLembretes {
+    private final Path arquivo;
+
+    public EnviadorLembretesArquivo(@Value("${gourmet.lembretes.arquivo:data/lembretes.csv}") Path arquivo) {
+        this.arquivo = arquivo;
+    }
+
+    @Override
+    public synchronized void enviar(LembreteReserva lembrete) {
+        String linha = String.join(",",
+                String.valueOf(lembrete.getId()),
+                String.valueOf(lembrete.getReservaId()),
+                lembrete.getTipo().name(),
+                String.valueOf(lembrete.getUsuarioId()),
+                String.valueOf(lembrete.getDataHoraReserva())) + "\n";
+        try {
+            if (arquivo.getParent() != null) {
+                Files.createDirectories(arquivo.getParent());
+            }
+            Files.writeString(arquivo, linha, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar lembrete em " + arquivo, e);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.postech.gourmet.gateways.notificacao;
+
+import com.postech.gourmet.application.usecase.reserva.EnviadorLembretes;
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Apenas registra os lembretes no log, enquanto não há um canal de entrega real configurado.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gourmet.lembretes.enviador", havingValue = "log", matchIfMissing = true)
+public class EnviadorLembretesLog implements EnviadorLembretes {
+
+    @Override
+    public void enviar(LembreteReserva lembrete) {
+        log.info("Lembrete {} da reserva {} para o usuário {}: {} em {}",
+                lembrete.getTipo(), lembrete.getReservaId(), lembrete.getUsuarioId(),
+                lembrete.getCliente(), lembrete.getDataHoraReserva());
+    }
+}
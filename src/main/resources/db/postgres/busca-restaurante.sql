@@ -0,0 +1,22 @@
+-- Índices da busca de restaurantes por termo nas colunas normalizadas (PostgreSQL).
+-- As colunas são criadas pela aplicação (ddl-auto) e preenchidas por ela ao subir;
+-- executar este script depois disso. No H2 ficam apenas os índices B-tree da entidade.
+--
+-- LIKE '%termo%' só usa índice com trigramas (pg_trgm); LIKE 'termo%' usa os índices
+-- text_pattern_ops independentemente da collation do banco.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_restaurante_nome_normalizado_trgm
+    ON restaurante USING gin (nome_normalizado gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_restaurante_endereco_normalizado_trgm
+    ON restaurante USING gin (endereco_normalizado gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_restaurante_tipo_cozinha_normalizado_trgm
+    ON restaurante USING gin (tipo_cozinha_normalizado gin_trgm_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_restaurante_nome_normalizado_prefixo
+    ON restaurante (nome_normalizado text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_restaurante_endereco_normalizado_prefixo
+    ON restaurante (endereco_normalizado text_pattern_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_restaurante_tipo_cozinha_normalizado_prefixo
+    ON restaurante (tipo_cozinha_normalizado text_pattern_ops);
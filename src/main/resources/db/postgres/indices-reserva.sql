@@ -0,0 +1,13 @@
+-- Troca os índices (restaurante_id, data_hora, id) e (restaurante_id, data_hora, status) da
+-- tabela reserva pelo índice único (restaurante_id, data_hora, id, status) (PostgreSQL).
+-- Com ddl-auto=update o Hibernate cria o índice novo, mas não remove os antigos, que
+-- continuariam pesando em cada escrita na tabela.
+--
+-- Pode ser executado de novo sem risco. Em uma tabela particionada, os índices de cada
+-- partição acompanham o da tabela.
+
+CREATE INDEX IF NOT EXISTS idx_reserva_restaurante_data_hora_id_status
+    ON reserva (restaurante_id, data_hora, id, status);
+
+DROP INDEX IF EXISTS idx_reserva_restaurante_data_hora_id;
+DROP INDEX IF EXISTS idx_reserva_restaurante_data_hora_status;
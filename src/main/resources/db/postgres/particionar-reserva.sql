@@ -0,0 +1,56 @@
+-- Converte a tabela reserva em tabela particionada por mês de data_hora (PostgreSQL 12+).
+-- Executar uma única vez, com a aplicação parada. Depois disso, as partições dos meses
+-- seguintes são criadas pela própria aplicação (AgendadorParticoesReservas).
+--
+-- A chave primária de uma tabela particionada precisa incluir a coluna de partição, então
+-- passa a ser (id, data_hora). Os IDs continuam únicos: vêm todos da sequência reserva_seq.
+
+BEGIN;
+
+ALTER TABLE reserva RENAME TO reserva_legada;
+
+CREATE TABLE reserva (
+    id             BIGINT       NOT NULL,
+    cliente        VARCHAR(255),
+    data_hora      TIMESTAMP(6) NOT NULL,
+    status         VARCHAR(255),
+    numero_pessoas INTEGER,
+    criada_em      TIMESTAMP(6),
+    restaurante_id BIGINT REFERENCES restaurante (id),
+    usuario_id     BIGINT REFERENCES usuario (id),
+    PRIMARY KEY (id, data_hora)
+) PARTITION BY RANGE (data_hora);
+
+-- Uma partição por mês já ocupado, mais uma partição padrão para datas fora delas
+DO $$
+DECLARE
+    mes DATE;
+BEGIN
+    FOR mes IN
+        SELECT generate_series(
+                       date_trunc('month', COALESCE(MIN(data_hora), now())),
+                       date_trunc('month', GREATEST(COALESCE(MAX(data_hora), now()), now())) + INTERVAL '3 months',
+                       INTERVAL '1 month')::date
+        FROM reserva_legada
+    LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF reserva FOR VALUES FROM (%L) TO (%L)',
+                       'reserva_p' || to_char(mes, 'YYYY_MM'), mes, (mes + INTERVAL '1 month')::date);
+    END LOOP;
+END $$;
+
+CREATE TABLE reserva_padrao PARTITION OF reserva DEFAULT;
+
+INSERT INTO reserva (id, cliente, data_hora, status, numero_pessoas, criada_em, restaurante_id, usuario_id)
+SELECT id, cliente, data_hora, status, numero_pessoas, criada_em, restaurante_id, usuario_id
+FROM reserva_legada;
+
+-- Índices declarados em ReservaData, mais o de usuario_id usado pelo histórico do usuário;
+-- declarados na tabela particionada, são criados em cada partição
+CREATE INDEX idx_reserva_data_hora_id ON reserva (data_hora, id);
+CREATE INDEX idx_reserva_status_data_hora_id ON reserva (status, data_hora, id);
+CREATE INDEX idx_reserva_restaurante_data_hora_id_status ON reserva (restaurante_id, data_hora, id, status);
+CREATE INDEX idx_reserva_usuario_id ON reserva (usuario_id);
+
+DROP TABLE reserva_legada;
+
+COMMIT;
@@ -0,0 +1,12 @@
+-- Avança a sequência reserva_seq para além do maior ID já gravado (PostgreSQL).
+-- Executar uma vez em bancos criados quando reserva.id ainda era IDENTITY, antes de subir a
+-- versão que gera os IDs pela sequência: com ddl-auto=update o Hibernate criaria a sequência
+-- começando em 1 e o primeiro insert colidiria com uma reserva existente.
+--
+-- Pode ser executado de novo sem risco: a sequência nunca volta para trás.
+
+CREATE SEQUENCE IF NOT EXISTS reserva_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('reserva_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM reserva) + 1,
+        (SELECT last_value FROM reserva_seq)));
@@ -1,13 +1,25 @@
 package com.postech.gourmet;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.test.context.ActiveProfiles;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 @ActiveProfiles("test")
 class GourmetApplicationTests {
+    @Autowired
+    private ThreadPoolTaskScheduler agendador;
+
     @Test
     void contextLoads() {
     }
-}
\ No newline at end of file
+
+    @Test
+    void deveAgendarTarefasEmVariasThreads() {
+        assertTrue(agendador.getScheduledThreadPoolExecutor().getCorePoolSize() > 1);
+    }
+}
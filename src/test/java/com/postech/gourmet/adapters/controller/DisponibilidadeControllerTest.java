@@ -0,0 +1,52 @@
+package com.postech.gourmet.adapters.controller;
+
+import com.postech.gourmet.adapters.dto.BuscaDisponibilidadeDTO;
+import com.postech.gourmet.adapters.dto.ResultadoBuscaDisponibilidadeDTO;
+import com.postech.gourmet.application.usecase.reserva.BuscarDisponibilidadeUseCase;
+import com.postech.gourmet.application.usecase.reserva.DisponibilidadeRestaurante;
+import com.postech.gourmet.application.usecase.reserva.ResultadoBuscaDisponibilidade;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DisponibilidadeControllerTest {
+
+    @Mock
+    private BuscarDisponibilidadeUseCase buscarDisponibilidadeUseCase;
+
+    @InjectMocks
+    private DisponibilidadeController disponibilidadeController;
+
+    @Test
+    void testBuscarDisponibilidade() {
+        LocalDateTime dataHora = LocalDateTime.now().plusDays(1).withNano(0);
+        BuscaDisponibilidadeDTO buscaDTO = new BuscaDisponibilidadeDTO();
+        buscaDTO.setRestauranteIds(List.of(1L, 2L));
+        buscaDTO.setDataHora(dataHora);
+        buscaDTO.setNumeroPessoas(4);
+        when(buscarDisponibilidadeUseCase.buscar(List.of(1L, 2L), null, dataHora, 4))
+                .thenReturn(new ResultadoBuscaDisponibilidade(List.of(
+                        new DisponibilidadeRestaurante(1L, "Restaurante A", DisponibilidadeRestaurante.Situacao.DISPONIVEL, 6),
+                        new DisponibilidadeRestaurante(2L, "Restaurante B", DisponibilidadeRestaurante.Situacao.PRAZO_ESGOTADO, null)),
+                        false));
+
+        ResponseEntity<ResultadoBuscaDisponibilidadeDTO> response = disponibilidadeController.buscarDisponibilidade(buscaDTO);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(response.getBody().isCompleta());
+        assertEquals("DISPONIVEL", response.getBody().getRestaurantes().get(0).getSituacao());
+        assertEquals(6, response.getBody().getRestaurantes().get(0).getAssentosLivres());
+        assertEquals("PRAZO_ESGOTADO", response.getBody().getRestaurantes().get(1).getSituacao());
+    }
+}
@@ -1,27 +1,56 @@
 package com.postech.gourmet.adapters.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.postech.gourmet.adapters.dto.BloqueioAssentosDTO;
+import com.postech.gourmet.adapters.dto.EntradaListaEsperaDTO;
+import com.postech.gourmet.adapters.dto.PaginaReservasDTO;
 import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.adapters.dto.ResultadoAlteracaoStatusDTO;
+import com.postech.gourmet.adapters.dto.ResultadoImportacaoDTO;
+import com.postech.gourmet.adapters.mapper.Converter;
 import com.postech.gourmet.adapters.mapper.EntityMapper;
+import com.postech.gourmet.application.usecase.reserva.AlterarStatusEmLoteUseCase;
+import com.postech.gourmet.application.usecase.reserva.BloqueioAssentos;
+import com.postech.gourmet.application.usecase.reserva.ExportarReservasUseCase;
 import com.postech.gourmet.application.usecase.reserva.GerenciarReservaUseCase;
+import com.postech.gourmet.application.usecase.reserva.PaginaReservas;
+import com.postech.gourmet.application.usecase.reserva.ImportarReservasUseCase;
+import com.postech.gourmet.application.usecase.reserva.ListaEsperaUseCase;
+import com.postech.gourmet.application.usecase.reserva.ReservaIdempotenteUseCase;
+import com.postech.gourmet.application.usecase.reserva.ResultadoAlteracaoStatus;
+import com.postech.gourmet.application.usecase.reserva.ResultadoImportacao;
+import com.postech.gourmet.application.usecase.reserva.ResultadoReservaIdempotente;
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
 import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.FiltroReservas;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -31,9 +60,27 @@ class ReservaControllerTest {
     @Mock
     private GerenciarReservaUseCase gerenciarReservaUseCase;
 
+    @Mock
+    private ImportarReservasUseCase importarReservasUseCase;
+
+    @Mock
+    private ExportarReservasUseCase exportarReservasUseCase;
+
+    @Mock
+    private ReservaIdempotenteUseCase reservaIdempotenteUseCase;
+
+    @Mock
+    private ListaEsperaUseCase listaEsperaUseCase;
+
+    @Mock
+    private AlterarStatusEmLoteUseCase alterarStatusEmLoteUseCase;
+
     @Mock
     private EntityMapper entityMapper;
 
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
     @InjectMocks
     private ReservaController reservaController;
 
@@ -77,7 +124,7 @@ class ReservaControllerTest {
         when(gerenciarReservaUseCase.novaReserva(any(ReservaDTO.class))).thenReturn(reserva);
         when(entityMapper.mapTo(any(Reserva.class), eq(ReservaDTO.class))).thenReturn(reservaDTO);
 
-        ResponseEntity<ReservaDTO> response = reservaController.reservar(reservaDTO);
+        ResponseEntity<ReservaDTO> response = reservaController.reservar(null, reservaDTO);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals(reservaDTO, response.getBody());
@@ -86,19 +133,102 @@ class ReservaControllerTest {
     }
 
     @Test
-    void testListarReservas() {
-        List<Reserva> reservas = Arrays.asList(reserva);
-        List<ReservaDTO> reservaDTOs = Arrays.asList(reservaDTO);
+    void testReservarComChaveIdempotencia() {
+        when(reservaIdempotenteUseCase.reservar("chave-1", reservaDTO))
+                .thenReturn(new ResultadoReservaIdempotente(reserva, false));
+        when(entityMapper.mapTo(any(Reserva.class), eq(ReservaDTO.class))).thenReturn(reservaDTO);
 
-        when(gerenciarReservaUseCase.listarReservas()).thenReturn(reservas);
-        when(entityMapper.mapToList(anyList(), eq(ReservaDTO.class))).thenReturn(reservaDTOs);
+        ResponseEntity<ReservaDTO> response = reservaController.reservar("chave-1", reservaDTO);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(reservaDTO, response.getBody());
+        assertEquals("false", response.getHeaders().getFirst(ReservaController.IDEMPOTENT_REPLAYED));
+        verify(gerenciarReservaUseCase, never()).novaReserva(any());
+    }
+
+    @Test
+    void testReservarRepetidaDevolveReservaOriginal() {
+        when(reservaIdempotenteUseCase.reservar("chave-1", reservaDTO))
+                .thenReturn(new ResultadoReservaIdempotente(reserva, true));
+        when(entityMapper.mapTo(any(Reserva.class), eq(ReservaDTO.class))).thenReturn(reservaDTO);
+
+        ResponseEntity<ReservaDTO> response = reservaController.reservar("chave-1", reservaDTO);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(reservaDTO, response.getBody());
+        assertEquals("true", response.getHeaders().getFirst(ReservaController.IDEMPOTENT_REPLAYED));
+    }
+
+    @Test
+    void testBloquearAssentos() {
+        BloqueioAssentos bloqueio = new BloqueioAssentos(
+                "bloqueio-1", 1L, 1L, dataFutura, 2, LocalDateTime.now().plusMinutes(2));
+        when(gerenciarReservaUseCase.bloquearAssentos(reservaDTO)).thenReturn(bloqueio);
+
+        ResponseEntity<BloqueioAssentosDTO> response = reservaController.bloquearAssentos(reservaDTO);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("bloqueio-1", response.getBody().getId());
+        assertEquals(dataFutura, response.getBody().getDataHora());
+        assertEquals(bloqueio.expiraEm(), response.getBody().getExpiraEm());
+    }
+
+    @Test
+    void testConverterBloqueio() {
+        when(gerenciarReservaUseCase.converterBloqueio("bloqueio-1", 1L)).thenReturn(reserva);
+        when(entityMapper.mapTo(reserva, ReservaDTO.class)).thenReturn(reservaDTO);
+
+        ResponseEntity<ReservaDTO> response = reservaController.converterBloqueio("bloqueio-1", 1L);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(reservaDTO, response.getBody());
+    }
+
+    @Test
+    void testLiberarBloqueio() {
+        ResponseEntity<Void> response = reservaController.liberarBloqueio("bloqueio-1", 1L);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(gerenciarReservaUseCase).liberarBloqueio("bloqueio-1", 1L);
+    }
+
+    @Test
+    void testEntrarListaEspera() {
+        EntradaListaEspera entrada = new EntradaListaEspera(
+                7L, 1L, 1L, dataFutura, 2, StatusListaEspera.AGUARDANDO, null, LocalDateTime.now());
+        when(listaEsperaUseCase.entrar(reservaDTO)).thenReturn(entrada);
+
+        ResponseEntity<EntradaListaEsperaDTO> response = reservaController.entrarListaEspera(reservaDTO);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(7L, response.getBody().getId());
+        assertEquals("AGUARDANDO", response.getBody().getStatus());
+    }
 
-        ResponseEntity<List<ReservaDTO>> response = reservaController.listarReservas();
+    @Test
+    void testSairListaEspera() {
+        ResponseEntity<Void> response = reservaController.sairListaEspera(7L, 1L);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(listaEsperaUseCase).sair(7L, 1L);
+    }
+
+    @Test
+    void testListarReservas() {
+        PaginaReservas pagina = new PaginaReservas(List.of(reserva), new CursorReserva(dataFutura, 1L));
+        when(gerenciarReservaUseCase.listarReservas(any(FiltroReservas.class), isNull(), eq(1))).thenReturn(pagina);
+
+        ResponseEntity<PaginaReservasDTO> response =
+                reservaController.listarReservas(1L, StatusReserva.PENDENTE, null, null, null, 1);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(reservaDTOs, response.getBody());
-        verify(gerenciarReservaUseCase).listarReservas();
-        verify(entityMapper).mapToList(reservas, ReservaDTO.class);
+        assertEquals(1, response.getBody().getReservas().size());
+        assertEquals(reserva.getId(), response.getBody().getReservas().get(0).getId());
+        assertEquals(new CursorReserva(dataFutura, 1L),
+                Converter.toCursorReserva(response.getBody().getProximoCursor()));
+        verify(gerenciarReservaUseCase).listarReservas(
+                new FiltroReservas(1L, StatusReserva.PENDENTE, null, null), null, 1);
     }
 
     @Test
@@ -141,6 +271,33 @@ class ReservaControllerTest {
         verify(entityMapper).mapTo(reserva, ReservaDTO.class);
     }
 
+    @Test
+    void testConfirmarReservasEmLote() {
+        when(alterarStatusEmLoteUseCase.confirmarReservas(List.of(1L, 2L))).thenReturn(List.of(
+                ResultadoAlteracaoStatus.alterada(reserva),
+                ResultadoAlteracaoStatus.recusada(2L, "Apenas reservas pendentes podem ser confirmadas")));
+
+        ResponseEntity<List<ResultadoAlteracaoStatusDTO>> response = reservaController.confirmarReservas(List.of(1L, 2L));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getBody().get(0).isSucesso());
+        assertEquals(reserva.getId(), response.getBody().get(0).getReserva().getId());
+        assertFalse(response.getBody().get(1).isSucesso());
+        assertEquals(2L, response.getBody().get(1).getReservaId());
+        assertNull(response.getBody().get(1).getReserva());
+    }
+
+    @Test
+    void testCancelarReservasEmLote() {
+        when(alterarStatusEmLoteUseCase.cancelarReservas(List.of(3L)))
+                .thenReturn(List.of(ResultadoAlteracaoStatus.recusada(3L, "Reserva não encontrada com ID: 3")));
+
+        ResponseEntity<List<ResultadoAlteracaoStatusDTO>> response = reservaController.cancelarReservas(List.of(3L));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Reserva não encontrada com ID: 3", response.getBody().get(0).getErro());
+    }
+
     @Test
     void testBuscarReservaPorId() {
         when(gerenciarReservaUseCase.buscarReservaPorId(anyLong())).thenReturn(reserva);
@@ -153,4 +310,98 @@ class ReservaControllerTest {
         verify(gerenciarReservaUseCase).buscarReservaPorId(1L);
         verify(entityMapper).mapTo(reserva, ReservaDTO.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testImportarLote() {
+        when(importarReservasUseCase.importarReservas(anyList())).thenReturn(List.of(
+                ResultadoImportacao.criada(0, reserva),
+                ResultadoImportacao.recusada(1, "Usuário não encontrado")));
+
+        ResponseEntity<List<ResultadoImportacaoDTO>> response =
+                reservaController.importarLote(List.of(reservaDTO, reservaDTO));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        assertTrue(response.getBody().get(0).isSucesso());
+        assertEquals(reserva.getId(), response.getBody().get(0).getReserva().getId());
+        assertFalse(response.getBody().get(1).isSucesso());
+        assertEquals("Usuário não encontrado", response.getBody().get(1).getErro());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testImportarLoteNdjson() throws Exception {
+        String corpo = objectMapper.writeValueAsString(reservaDTO) + "\n\n{linha inválida}\n";
+        when(importarReservasUseCase.importarReservas(anyList())).thenAnswer(invocation -> {
+            List<ReservaDTO> itens = invocation.getArgument(0);
+            return List.of(
+                    ResultadoImportacao.criada(0, reserva),
+                    ResultadoImportacao.recusada(1, itens.get(1) == null ? "Item mal formatado" : "?"));
+        });
+
+        ResponseEntity<List<ResultadoImportacaoDTO>> response = reservaController.importarLoteNdjson(
+                new ByteArrayInputStream(corpo.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("Item mal formatado", response.getBody().get(1).getErro());
+        verify(importarReservasUseCase).importarReservas(argThat(itens ->
+                itens.size() == 2 && dataFutura.equals(itens.get(0).getDataHora())));
+    }
+
+    @Test
+    void testListarReservasComCursorInvalido() {
+        assertThrows(InvalidRequestException.class,
+                () -> reservaController.listarReservas(null, null, null, null, "nao-e-um-cursor", null));
+        verifyNoInteractions(gerenciarReservaUseCase);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void exportar(Reserva... reservas) {
+        when(exportarReservasUseCase.exportarReservas(any())).thenAnswer(invocation -> {
+            Consumer<Reserva> consumidor = invocation.getArgument(0);
+            for (Reserva r : reservas) {
+                consumidor.accept(r);
+            }
+            return (long) reservas.length;
+        });
+    }
+
+    @Test
+    void testExportarReservasNdjson() throws Exception {
+        exportar(reserva, reserva);
+
+        ResponseEntity<StreamingResponseBody> response = reservaController.exportarReservas("ndjson");
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        response.getBody().writeTo(saida);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(response.getHeaders().getContentType().isCompatibleWith(
+                MediaType.parseMediaType(ReservaController.APPLICATION_NDJSON_VALUE)));
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, linhas.length);
+        ReservaDTO lida = objectMapper.readValue(linhas[0], ReservaDTO.class);
+        assertEquals(reserva.getId(), lida.getId());
+        assertEquals(1L, lida.getRestauranteId());
+        assertEquals("PENDENTE", lida.getStatus());
+    }
+
+    @Test
+    void testExportarReservasCsv() throws Exception {
+        reserva.setCliente("Silva, Maria \"Mari\"");
+        exportar(reserva);
+
+        ResponseEntity<StreamingResponseBody> response = reservaController.exportarReservas("CSV");
+        ByteArrayOutputStream saida = new ByteArrayOutputStream();
+        response.getBody().writeTo(saida);
+
+        String[] linhas = saida.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("id,cliente,dataHora,numeroPessoas,restauranteId,usuarioId,status", linhas[0]);
+        assertEquals("1,\"Silva, Maria \"\"Mari\"\"\"," + dataFutura + ",2,1,1,PENDENTE", linhas[1]);
+    }
+
+    @Test
+    void testExportarReservasFormatoInvalido() {
+        assertThrows(InvalidRequestException.class, () -> reservaController.exportarReservas("xml"));
+        verifyNoInteractions(exportarReservasUseCase);
+    }
+}
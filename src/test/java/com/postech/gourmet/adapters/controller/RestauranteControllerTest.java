@@ -1,10 +1,29 @@
 package com.postech.gourmet.adapters.controller;
 
+import com.postech.gourmet.adapters.dto.MapaDemandaDTO;
+import com.postech.gourmet.adapters.dto.MesaDTO;
+import com.postech.gourmet.adapters.dto.OcupacaoHorariaDTO;
 import com.postech.gourmet.adapters.dto.RestauranteDTO;
+import com.postech.gourmet.adapters.dto.RestauranteProximoDTO;
+import com.postech.gourmet.adapters.dto.SlotDisponivelDTO;
+import com.postech.gourmet.adapters.dto.SugestaoRestauranteDTO;
 import com.postech.gourmet.adapters.mapper.EntityMapper;
+import com.postech.gourmet.application.usecase.reserva.ConsultarDisponibilidadeUseCase;
+import com.postech.gourmet.application.usecase.reserva.SlotDisponivel;
 import com.postech.gourmet.application.usecase.restaurante.BuscarRestauranteUseCase;
+import com.postech.gourmet.application.usecase.restaurante.BuscarRestaurantesProximosUseCase;
 import com.postech.gourmet.application.usecase.restaurante.CadastroRestauranteUseCase;
+import com.postech.gourmet.application.usecase.restaurante.GerenciarMesasUseCase;
+import com.postech.gourmet.application.usecase.restaurante.MapaCalorDemanda;
+import com.postech.gourmet.application.usecase.restaurante.MapaDemandaUseCase;
+import com.postech.gourmet.application.usecase.restaurante.OcupacaoRestauranteUseCase;
+import com.postech.gourmet.application.usecase.restaurante.RestauranteProximo;
+import com.postech.gourmet.application.usecase.restaurante.SugerirRestaurantesUseCase;
+import com.postech.gourmet.application.usecase.restaurante.SugestaoRestaurante;
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.OcupacaoHoraria;
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.enums.StatusReserva;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,6 +34,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 
@@ -31,6 +51,24 @@ class RestauranteControllerTest {
     @Mock
     private BuscarRestauranteUseCase buscarRestauranteUseCase;
 
+    @Mock
+    private ConsultarDisponibilidadeUseCase consultarDisponibilidadeUseCase;
+
+    @Mock
+    private OcupacaoRestauranteUseCase ocupacaoRestauranteUseCase;
+
+    @Mock
+    private GerenciarMesasUseCase gerenciarMesasUseCase;
+
+    @Mock
+    private MapaDemandaUseCase mapaDemandaUseCase;
+
+    @Mock
+    private SugerirRestaurantesUseCase sugerirRestaurantesUseCase;
+
+    @Mock
+    private BuscarRestaurantesProximosUseCase buscarRestaurantesProximosUseCase;
+
     @Mock
     private EntityMapper entityMapper;
 
@@ -76,7 +114,7 @@ class RestauranteControllerTest {
         when(buscarRestauranteUseCase.buscarRestaurantes(anyString())).thenReturn(restaurantes);
         when(entityMapper.mapToList(anyList(), eq(RestauranteDTO.class))).thenReturn(restauranteDTOs);
 
-        ResponseEntity<List<RestauranteDTO>> response = restauranteController.buscarRestaurantes("termo");
+        ResponseEntity<List<RestauranteDTO>> response = restauranteController.buscarRestaurantes("termo", false, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(restauranteDTOs, response.getBody());
@@ -84,6 +122,21 @@ class RestauranteControllerTest {
         verify(entityMapper).mapToList(restaurantes, RestauranteDTO.class);
     }
 
+    @Test
+    void testBuscarRestaurantesAproximado() {
+        List<Restaurante> restaurantes = Arrays.asList(restaurante);
+        List<RestauranteDTO> restauranteDTOs = Arrays.asList(restauranteDTO);
+
+        when(buscarRestauranteUseCase.buscarRestaurantesAproximado("churascaria", 20)).thenReturn(restaurantes);
+        when(entityMapper.mapToList(anyList(), eq(RestauranteDTO.class))).thenReturn(restauranteDTOs);
+
+        ResponseEntity<List<RestauranteDTO>> response = restauranteController.buscarRestaurantes("churascaria", true, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(restauranteDTOs, response.getBody());
+        verify(buscarRestauranteUseCase, never()).buscarRestaurantes(anyString());
+    }
+
     @Test
     void testBuscarRestaurantePorId() {
         when(buscarRestauranteUseCase.buscarRestaurantePorId(anyLong())).thenReturn(restaurante);
@@ -132,4 +185,100 @@ class RestauranteControllerTest {
         assertNull(response.getBody());
         verify(cadastroRestauranteUseCase).excluirRestaurante(1L);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testConsultarDisponibilidade() {
+        LocalDate dia = LocalDate.now().plusDays(1);
+        when(consultarDisponibilidadeUseCase.buscarSlotsDisponiveis(1L, dia, dia, 2))
+                .thenReturn(List.of(new SlotDisponivel(dia.atTime(20, 0), 8)));
+
+        ResponseEntity<List<SlotDisponivelDTO>> response =
+                restauranteController.consultarDisponibilidade(1L, dia, dia, 2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(dia.atTime(20, 0), response.getBody().get(0).getDataHora());
+        assertEquals(8, response.getBody().get(0).getAssentosLivres());
+    }
+
+    @Test
+    void testConsultarOcupacao() {
+        LocalDate dia = LocalDate.now();
+        OcupacaoHoraria ocupacao = new OcupacaoHoraria(1L, dia, 20);
+        ocupacao.acumular(StatusReserva.PENDENTE, 1, 2);
+        ocupacao.acumular(StatusReserva.CONFIRMADA, 2, 6);
+        when(ocupacaoRestauranteUseCase.consultarOcupacao(1L, dia, dia)).thenReturn(List.of(ocupacao));
+
+        ResponseEntity<List<OcupacaoHorariaDTO>> response = restauranteController.consultarOcupacao(1L, dia, dia);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        OcupacaoHorariaDTO dto = response.getBody().get(0);
+        assertEquals(dia, dto.getData());
+        assertEquals(20, dto.getHora());
+        assertEquals(1, dto.getReservasPendentes());
+        assertEquals(2, dto.getReservasConfirmadas());
+        assertEquals(8, dto.getPessoas());
+    }
+
+    @Test
+    void testConsultarDemanda() {
+        LocalDate hoje = LocalDate.now();
+        int[][] reservas = new int[7][96];
+        reservas[4][80] = 12;
+        when(mapaDemandaUseCase.consultar(1L)).thenReturn(
+                new MapaCalorDemanda(1L, hoje.minusDays(89), hoje, reservas, new int[7][96], new int[7][96]));
+
+        ResponseEntity<MapaDemandaDTO> response = restauranteController.consultarDemanda(1L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(hoje.minusDays(89), response.getBody().getInicio());
+        assertEquals(12, response.getBody().getReservas()[4][80]);
+        assertEquals(0, response.getBody().getCancelamentos()[4][80]);
+    }
+
+    @Test
+    void testSugerirRestaurantes() {
+        when(sugerirRestaurantesUseCase.sugerir("can", 5)).thenReturn(List.of(
+                new SugestaoRestaurante(2L, "Cantina da Nona", "Italiana", 4.5),
+                new SugestaoRestaurante(7L, "Cantinho Mineiro", "Mineira", null)));
+
+        ResponseEntity<List<SugestaoRestauranteDTO>> response = restauranteController.sugerirRestaurantes("can", 5);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(2, response.getBody().size());
+        assertEquals("Cantina da Nona", response.getBody().get(0).getNome());
+        assertEquals(4.5, response.getBody().get(0).getMediaAvaliacoes());
+        assertNull(response.getBody().get(1).getMediaAvaliacoes());
+    }
+
+    @Test
+    void testBuscarRestaurantesProximos() {
+        restaurante.definirLocalizacao(-23.5614, -46.6559);
+        when(buscarRestaurantesProximosUseCase.buscarProximos(-23.56, -46.65, 2, 20))
+                .thenReturn(List.of(new RestauranteProximo(restaurante, 0.71)));
+
+        ResponseEntity<List<RestauranteProximoDTO>> response =
+                restauranteController.buscarRestaurantesProximos(-23.56, -46.65, 2, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals(restaurante.getId(), response.getBody().get(0).getId());
+        assertEquals(-23.5614, response.getBody().get(0).getLatitude());
+        assertEquals(0.71, response.getBody().get(0).getDistanciaKm());
+    }
+
+    @Test
+    void testDefinirMesas() {
+        MesaDTO mesaDTO = new MesaDTO();
+        mesaDTO.setLugares(4);
+        mesaDTO.setCombinavel(true);
+        when(gerenciarMesasUseCase.definirMesas(eq(1L), anyList())).thenReturn(List.of(new Mesa(10L, 1L, 4, true)));
+
+        ResponseEntity<List<MesaDTO>> response = restauranteController.definirMesas(1L, List.of(mesaDTO));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(10L, response.getBody().get(0).getId());
+        assertEquals(4, response.getBody().get(0).getLugares());
+        assertTrue(response.getBody().get(0).isCombinavel());
+    }
+}
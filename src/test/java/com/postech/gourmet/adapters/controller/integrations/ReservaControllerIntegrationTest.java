@@ -1,13 +1,18 @@
 package com.postech.gourmet.adapters.controller.integrations;
 
 import com.postech.gourmet.adapters.controller.ReservaController;
+import com.postech.gourmet.adapters.dto.PaginaReservasDTO;
 import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.adapters.mapper.Converter;
 import com.postech.gourmet.adapters.mapper.EntityMapper;
 import com.postech.gourmet.application.usecase.reserva.GerenciarReservaUseCase;
+import com.postech.gourmet.application.usecase.reserva.PaginaReservas;
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
 import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.FiltroReservas;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -78,7 +83,7 @@ class ReservaControllerIntegrationTest {
         when(gerenciarReservaUseCase.novaReserva(any(ReservaDTO.class))).thenReturn(reserva);
         when(entityMapper.mapTo(any(Reserva.class), eq(ReservaDTO.class))).thenReturn(reservaDTO);
 
-        ResponseEntity<ReservaDTO> response = reservaController.reservar(reservaDTO);
+        ResponseEntity<ReservaDTO> response = reservaController.reservar(null, reservaDTO);
 
         assertEquals(HttpStatus.CREATED, response.getStatusCode());
         assertEquals(reservaDTO, response.getBody());
@@ -88,18 +93,19 @@ class ReservaControllerIntegrationTest {
 
     @Test
     void testListarReservas() {
-        List<Reserva> reservas = Arrays.asList(reserva);
-        List<ReservaDTO> reservaDTOs = Arrays.asList(reservaDTO);
-
-        when(gerenciarReservaUseCase.listarReservas()).thenReturn(reservas);
-        when(entityMapper.mapToList(anyList(), eq(ReservaDTO.class))).thenReturn(reservaDTOs);
+        PaginaReservas pagina = new PaginaReservas(List.of(reserva), new CursorReserva(dataFutura, 1L));
+        when(gerenciarReservaUseCase.listarReservas(any(FiltroReservas.class), isNull(), eq(1))).thenReturn(pagina);
 
-        ResponseEntity<List<ReservaDTO>> response = reservaController.listarReservas();
+        ResponseEntity<PaginaReservasDTO> response =
+                reservaController.listarReservas(1L, StatusReserva.PENDENTE, null, null, null, 1);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(reservaDTOs, response.getBody());
-        verify(gerenciarReservaUseCase).listarReservas();
-        verify(entityMapper).mapToList(reservas, ReservaDTO.class);
+        assertEquals(1, response.getBody().getReservas().size());
+        assertEquals(reserva.getId(), response.getBody().getReservas().get(0).getId());
+        assertEquals(new CursorReserva(dataFutura, 1L),
+                Converter.toCursorReserva(response.getBody().getProximoCursor()));
+        verify(gerenciarReservaUseCase).listarReservas(
+                new FiltroReservas(1L, StatusReserva.PENDENTE, null, null), null, 1);
     }
 
     @Test
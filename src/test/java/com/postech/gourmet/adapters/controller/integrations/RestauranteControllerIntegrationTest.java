@@ -77,7 +77,7 @@ class RestauranteControllerIntegrationTest {
         when(buscarRestauranteUseCase.buscarRestaurantes(anyString())).thenReturn(restaurantes);
         when(entityMapper.mapToList(anyList(), eq(RestauranteDTO.class))).thenReturn(restauranteDTOs);
 
-        ResponseEntity<List<RestauranteDTO>> response = restauranteController.buscarRestaurantes("termo");
+        ResponseEntity<List<RestauranteDTO>> response = restauranteController.buscarRestaurantes("termo", false, 20);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(restauranteDTOs, response.getBody());
@@ -0,0 +1,42 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AgendadorArquivamentoReservasTest {
+
+    @Mock
+    private ArquivarReservasUseCase arquivarReservasUseCase;
+
+    @Test
+    @DisplayName("Deve arquivar lotes até esgotar e depois remover as partições vazias")
+    void deveArquivarAteEsgotar() {
+        when(arquivarReservasUseCase.arquivarProximoLote(any())).thenReturn(5000, 120, 0);
+        when(arquivarReservasUseCase.removerParticoesArquivadas(any())).thenReturn(List.of());
+
+        new AgendadorArquivamentoReservas(arquivarReservasUseCase, "local").executar();
+
+        verify(arquivarReservasUseCase, times(3)).arquivarProximoLote(any());
+        verify(arquivarReservasUseCase).removerParticoesArquivadas(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar o arquivamento com várias instâncias")
+    void deveRecusarVariasInstancias() {
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> new AgendadorArquivamentoReservas(arquivarReservasUseCase, "postgres"));
+
+        assertTrue(erro.getMessage().contains("gourmet.reservas.arquivamento.habilitado=false"));
+        verifyNoInteractions(arquivarReservasUseCase);
+    }
+}
@@ -0,0 +1,82 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AgendadorConclusaoReservasTest {
+
+    @Mock
+    private ConcluirReservasUseCase concluirReservasUseCase;
+
+    private MeterRegistry meterRegistry;
+    private AgendadorConclusaoReservas agendador;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        agendador = new AgendadorConclusaoReservas(concluirReservasUseCase, meterRegistry, Duration.ZERO);
+    }
+
+    private CheckpointProcesso checkpoint(LocalDateTime corte, long processados, boolean emAndamento) {
+        CheckpointProcesso checkpoint = new CheckpointProcesso(ConcluirReservasUseCase.NOME_PROCESSO);
+        checkpoint.iniciar(corte);
+        checkpoint.setProcessados(processados);
+        checkpoint.setUltimaDataHora(corte.minusDays(1));
+        checkpoint.setEmAndamento(emAndamento);
+        return checkpoint;
+    }
+
+    @Test
+    @DisplayName("Deve processar lotes até o fim e publicar as métricas da execução")
+    void deveProcessarLotesEPublicarMetricas() throws Exception {
+        LocalDateTime corte = LocalDateTime.now().minusHours(3);
+        when(concluirReservasUseCase.iniciarExecucao(any())).thenReturn(checkpoint(corte, 0, true));
+        when(concluirReservasUseCase.concluirProximoLote()).thenReturn(
+                checkpoint(corte, 1000, true),
+                checkpoint(corte, 1500, false));
+
+        agendador.executar();
+
+        verify(concluirReservasUseCase, times(2)).concluirProximoLote();
+        assertEquals(1500, meterRegistry.get("gourmet.reservas.conclusao.reservas").counter().count());
+        assertEquals(1, meterRegistry.get("gourmet.reservas.conclusao.execucao").timer().count());
+        assertTrue(meterRegistry.get("gourmet.reservas.conclusao.taxa").gauge().value() > 0);
+        double atraso = meterRegistry.get("gourmet.reservas.conclusao.atraso").gauge().value();
+        assertEquals(Duration.ofHours(3).toSeconds(), atraso, 5);
+    }
+
+    @Test
+    @DisplayName("Deve calcular o atraso pelo checkpoint gravado antes da primeira execução")
+    void deveCalcularAtrasoPeloCheckpointGravado() {
+        LocalDateTime corte = LocalDateTime.now().minusHours(5);
+        when(concluirReservasUseCase.consultarCheckpoint()).thenReturn(Optional.of(checkpoint(corte, 0, false)));
+
+        double atraso = meterRegistry.get("gourmet.reservas.conclusao.atraso").gauge().value();
+
+        assertEquals(Duration.ofHours(5).toSeconds(), atraso, 5);
+    }
+
+    @Test
+    @DisplayName("Deve informar atraso desconhecido quando o processo nunca rodou")
+    void deveInformarAtrasoDesconhecido() {
+        when(concluirReservasUseCase.consultarCheckpoint()).thenReturn(Optional.empty());
+
+        assertTrue(Double.isNaN(meterRegistry.get("gourmet.reservas.conclusao.atraso").gauge().value()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.repositories.LembreteReservaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AgendarLembretesReservaTest {
+
+    @Mock
+    private LembreteReservaRepository lembreteReservaRepository;
+
+    @InjectMocks
+    private AgendarLembretesReserva agendarLembretesReserva;
+
+    @SuppressWarnings("unchecked")
+    private final ArgumentCaptor<List<LembreteReserva>> captor = ArgumentCaptor.forClass(List.class);
+
+    @Test
+    @DisplayName("Deve agendar os lembretes de 24h e 2h de uma nova reserva")
+    void deveAgendarLembretesDeNovaReserva() {
+        LocalDateTime dataHora = LocalDateTime.now().plusDays(3).withNano(0);
+        Reserva reserva = new Reserva(7L, "Cliente", dataHora, null, null);
+
+        agendarLembretesReserva.aoAlterarReserva(ReservaAlteradaEvent.criacao(reserva));
+
+        verify(lembreteReservaRepository).saveAll(captor.capture());
+        verify(lembreteReservaRepository, never()).findTiposByReservaId(any());
+        assertEquals(List.of(dataHora.minusHours(24), dataHora.minusHours(2)),
+                captor.getValue().stream().map(LembreteReserva::getEnviarEm).toList());
+    }
+
+    @Test
+    @DisplayName("Na confirmação, deve criar apenas lembretes ausentes e ainda no futuro")
+    void deveCompletarLembretesNaConfirmacao() {
+        Reserva reserva = new Reserva(8L, "Cliente", LocalDateTime.now().plusHours(5), null, null);
+        reserva.setStatus(StatusReserva.CONFIRMADA);
+        when(lembreteReservaRepository.findTiposByReservaId(8L)).thenReturn(Set.of());
+
+        agendarLembretesReserva.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(reserva));
+
+        verify(lembreteReservaRepository).saveAll(captor.capture());
+        assertEquals(List.of(TipoLembrete.DUAS_HORAS), captor.getValue().stream().map(LembreteReserva::getTipo).toList());
+
+        when(lembreteReservaRepository.findTiposByReservaId(8L)).thenReturn(Set.of(TipoLembrete.DUAS_HORAS));
+        agendarLembretesReserva.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(reserva));
+        verifyNoMoreInteractions(lembreteReservaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar os lembretes pendentes de reservas canceladas")
+    void deveCancelarLembretesDeReservaCancelada() {
+        Reserva reserva = new Reserva(9L, "Cliente", LocalDateTime.now().plusDays(1), null, null);
+
+        agendarLembretesReserva.aoAlterarReserva(ReservaAlteradaEvent.cancelamento(reserva, StatusReserva.PENDENTE));
+
+        verify(lembreteReservaRepository).cancelarPendentes(9L);
+        verify(lembreteReservaRepository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,118 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlocadorMesasTest {
+
+    @Mock
+    private MesaRepository mesaRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    private AlocadorMesas alocadorMesas;
+    private ChaveSlot slot;
+
+    @BeforeEach
+    void setUp() {
+        InventarioAssentos inventarioAssentos = new InventarioAssentos(restauranteRepository, reservaRepository, 30);
+        alocadorMesas = new AlocadorMesas(mesaRepository, inventarioAssentos, 3);
+        slot = new ChaveSlot(1L, LocalDateTime.now().plusDays(1).withHour(20).withMinute(0).withSecond(0).withNano(0));
+    }
+
+    @Test
+    @DisplayName("Não deve usar mesas quando o restaurante não tem mesas cadastradas")
+    void naoDeveUsarMesasSemCadastro() {
+        when(mesaRepository.findByRestauranteId(1L)).thenReturn(List.of());
+
+        assertFalse(alocadorMesas.usaMesas(1L));
+        assertTrue(alocadorMesas.podeAlocar(slot, 50));
+    }
+
+    @Test
+    @DisplayName("Deve montar o slot a partir das mesas já alocadas no banco")
+    void deveMontarSlotAPartirDoBanco() {
+        when(mesaRepository.findByRestauranteId(1L)).thenReturn(List.of(
+                new Mesa(1L, 1L, 4, false), new Mesa(2L, 1L, 4, false)));
+        when(mesaRepository.findMesaIdsOcupadas(eq(1L), eq(slot.inicio()), any())).thenReturn(List.of(1L));
+
+        assertEquals(List.of(2L), alocadorMesas.alocar(slot, 3).stream().map(Mesa::getId).toList());
+        assertFalse(alocadorMesas.podeAlocar(slot, 1));
+    }
+
+    @Test
+    @DisplayName("Deve descartar os slots passados e montá-los de novo do banco no próximo acesso")
+    void deveDescartarSlotsPassados() {
+        when(mesaRepository.findByRestauranteId(1L)).thenReturn(List.of(new Mesa(1L, 1L, 4, false)));
+        when(mesaRepository.findMesaIdsOcupadas(eq(1L), eq(slot.inicio()), any())).thenReturn(List.of());
+        alocadorMesas.alocar(slot, 4);
+        assertFalse(alocadorMesas.podeAlocar(slot, 1));
+
+        assertEquals(0, alocadorMesas.descartarSlotsAnteriores(slot.inicio()));
+        assertEquals(1, alocadorMesas.descartarSlotsAnteriores(slot.inicio().plusMinutes(1)));
+
+        // Sem a alocação gravada, o slot volta do banco com a mesa livre
+        assertTrue(alocadorMesas.podeAlocar(slot, 4));
+        verify(mesaRepository, times(2)).findByRestauranteId(1L);
+        verify(mesaRepository, times(2)).findMesaIdsOcupadas(eq(1L), eq(slot.inicio()), any());
+    }
+
+    @Test
+    @DisplayName("Deve liberar as mesas da reserva cancelada")
+    void deveLiberarMesasDaReservaCancelada() {
+        when(mesaRepository.findByRestauranteId(1L)).thenReturn(List.of(new Mesa(1L, 1L, 4, false)));
+        when(mesaRepository.findMesaIdsOcupadas(eq(1L), eq(slot.inicio()), any())).thenReturn(List.of());
+        when(mesaRepository.findMesaIdsByReservaId(10L)).thenReturn(List.of(1L));
+        alocadorMesas.alocar(slot, 4);
+
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(1L);
+        Reserva reserva = new Reserva();
+        reserva.setId(10L);
+        reserva.setRestaurante(restaurante);
+        reserva.setDataHora(slot.inicio().plusMinutes(10));
+        alocadorMesas.aoAlterarReserva(ReservaAlteradaEvent.cancelamento(reserva, StatusReserva.CONFIRMADA));
+
+        assertEquals(1, alocadorMesas.mesasLivres(slot));
+    }
+
+    @Test
+    @DisplayName("Deve recarregar as mesas após a troca de layout do restaurante")
+    void deveRecarregarMesasAposTrocaDeLayout() {
+        when(mesaRepository.findByRestauranteId(1L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(new Mesa(1L, 1L, 4, false)));
+        assertFalse(alocadorMesas.usaMesas(1L));
+
+        alocadorMesas.aoAlterarRestaurante(RestauranteAlteradoEvent.exclusao(1L));
+
+        assertTrue(alocadorMesas.usaMesas(1L));
+        verify(mesaRepository, times(2)).findByRestauranteId(1L);
+    }
+}
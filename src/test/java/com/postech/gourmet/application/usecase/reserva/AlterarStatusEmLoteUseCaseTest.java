@@ -0,0 +1,119 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlterarStatusEmLoteUseCaseTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private InventarioAssentos inventarioAssentos;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AlterarStatusEmLoteUseCase alterarStatusEmLoteUseCase;
+    private Restaurante restaurante;
+    private LocalDateTime amanha;
+
+    @BeforeEach
+    void setUp() {
+        alterarStatusEmLoteUseCase = new AlterarStatusEmLoteUseCase(reservaRepository, inventarioAssentos, eventPublisher);
+        restaurante = new Restaurante();
+        restaurante.setId(1L);
+        amanha = LocalDateTime.now().plusDays(1);
+    }
+
+    private Reserva reserva(Long id, LocalDateTime dataHora, StatusReserva status) {
+        Reserva reserva = new Reserva(id, "Cliente " + id, dataHora, restaurante, null);
+        reserva.setNumeroPessoas(2);
+        reserva.setStatus(status);
+        return reserva;
+    }
+
+    @Test
+    @DisplayName("Deve confirmar as pendentes em um único UPDATE e informar o resultado de cada ID")
+    void deveConfirmarPendentesEmLote() {
+        when(reservaRepository.travarPorIds(new LinkedHashSet<>(List.of(1L, 2L, 3L, 4L)))).thenReturn(List.of(
+                reserva(1L, amanha, StatusReserva.PENDENTE),
+                reserva(2L, amanha, StatusReserva.CONFIRMADA),
+                reserva(4L, amanha, StatusReserva.PENDENTE)));
+
+        List<ResultadoAlteracaoStatus> resultados = alterarStatusEmLoteUseCase.confirmarReservas(List.of(1L, 2L, 3L, 4L, 1L));
+
+        assertEquals(List.of(1L, 2L, 3L, 4L), resultados.stream().map(ResultadoAlteracaoStatus::reservaId).toList());
+        assertEquals(List.of(true, false, false, true), resultados.stream().map(ResultadoAlteracaoStatus::isAlterada).toList());
+        assertEquals(StatusReserva.CONFIRMADA, resultados.get(0).reserva().getStatus());
+        assertEquals("Apenas reservas pendentes podem ser confirmadas", resultados.get(1).erro());
+        assertEquals("Reserva não encontrada com ID: 3", resultados.get(2).erro());
+
+        verify(reservaRepository).atualizarStatus(List.of(1L, 4L), StatusReserva.PENDENTE, StatusReserva.CONFIRMADA);
+        verify(reservaRepository, never()).save(any());
+        verify(eventPublisher, times(2)).publishEvent(any(ReservaAlteradaEvent.class));
+        verifyNoInteractions(inventarioAssentos);
+    }
+
+    @Test
+    @DisplayName("Deve cancelar pendentes e confirmadas com um UPDATE por status de origem e liberar os assentos")
+    void deveCancelarEmLote() {
+        when(reservaRepository.travarPorIds(any())).thenReturn(List.of(
+                reserva(1L, amanha, StatusReserva.PENDENTE),
+                reserva(2L, amanha, StatusReserva.CONFIRMADA),
+                reserva(3L, amanha, StatusReserva.CANCELADA),
+                reserva(4L, LocalDateTime.now().minusHours(1), StatusReserva.CONFIRMADA),
+                reserva(5L, amanha, StatusReserva.CONCLUIDA)));
+        List<ReservaAlteradaEvent> eventos = new ArrayList<>();
+        doAnswer(invocation -> eventos.add(invocation.getArgument(0)))
+                .when(eventPublisher).publishEvent(any(ReservaAlteradaEvent.class));
+
+        List<ResultadoAlteracaoStatus> resultados = alterarStatusEmLoteUseCase.cancelarReservas(List.of(1L, 2L, 3L, 4L, 5L));
+
+        assertEquals(List.of(true, true, false, false, false), resultados.stream().map(ResultadoAlteracaoStatus::isAlterada).toList());
+        assertEquals("Esta reserva já está cancelada", resultados.get(2).erro());
+        assertEquals("Não é possível cancelar uma reserva no passado", resultados.get(3).erro());
+        assertNotNull(resultados.get(4).erro());
+
+        verify(reservaRepository).atualizarStatus(List.of(1L), StatusReserva.PENDENTE, StatusReserva.CANCELADA);
+        verify(reservaRepository).atualizarStatus(List.of(2L), StatusReserva.CONFIRMADA, StatusReserva.CANCELADA);
+        verify(inventarioAssentos, times(2)).liberar(1L, amanha, 2);
+        assertEquals(List.of(StatusReserva.PENDENTE, StatusReserva.CONFIRMADA),
+                eventos.stream().map(ReservaAlteradaEvent::statusAnterior).toList());
+        assertTrue(eventos.stream().allMatch(evento -> evento.operacao() == ReservaAlteradaEvent.Operacao.CANCELAMENTO));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lotes vazios, com IDs nulos ou acima do limite")
+    void deveRejeitarLotesInvalidos() {
+        List<Long> grande = LongStream.rangeClosed(1, AlterarStatusEmLoteUseCase.MAXIMO_ITENS_POR_LOTE + 1).boxed().toList();
+
+        assertThrows(InvalidRequestException.class, () -> alterarStatusEmLoteUseCase.confirmarReservas(List.of()));
+        assertThrows(InvalidRequestException.class, () -> alterarStatusEmLoteUseCase.cancelarReservas(Arrays.asList(1L, null)));
+        assertThrows(InvalidRequestException.class, () -> alterarStatusEmLoteUseCase.confirmarReservas(grande));
+        verifyNoInteractions(reservaRepository);
+    }
+}
@@ -0,0 +1,90 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.ArquivoReservaRepository;
+import com.postech.gourmet.domain.repositories.ParticaoReservaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArquivarReservasUseCaseTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private ArquivoReservaRepository arquivoReservaRepository;
+
+    @Mock
+    private ParticaoReservaRepository particaoReservaRepository;
+
+    private ArquivarReservasUseCase arquivarReservasUseCase;
+    private final LocalDateTime agora = LocalDateTime.of(2025, 6, 10, 4, 0);
+
+    @BeforeEach
+    void setUp() {
+        arquivarReservasUseCase = new ArquivarReservasUseCase(
+                reservaRepository, arquivoReservaRepository, particaoReservaRepository, 12, 2, 100);
+    }
+
+    @Test
+    @DisplayName("Deve gravar o lote no arquivo antes de removê-lo do banco")
+    void deveArquivarAntesDeRemover() {
+        Reserva reserva = new Reserva(8L, "Cliente", agora.minusMonths(13), null, null);
+        when(reservaRepository.buscarParaArquivar(ArquivarReservasUseCase.STATUS_ARQUIVAVEIS, agora.minusMonths(12), 100))
+                .thenReturn(List.of(reserva));
+
+        assertEquals(1, arquivarReservasUseCase.arquivarProximoLote(agora));
+
+        InOrder ordem = inOrder(arquivoReservaRepository, reservaRepository);
+        ordem.verify(arquivoReservaRepository).arquivar(List.of(reserva));
+        ordem.verify(reservaRepository).excluirPorIds(List.of(8L));
+    }
+
+    @Test
+    @DisplayName("Não deve arquivar nada quando não há reservas antigas")
+    void naoDeveArquivarSemReservas() {
+        when(reservaRepository.buscarParaArquivar(any(), any(), anyInt())).thenReturn(List.of());
+
+        assertEquals(0, arquivarReservasUseCase.arquivarProximoLote(agora));
+        verifyNoInteractions(arquivoReservaRepository);
+        verify(reservaRepository, never()).excluirPorIds(any());
+    }
+
+    @Test
+    @DisplayName("Deve criar as partições do mês corrente e dos meses seguintes configurados")
+    void deveCriarParticoesAFrente() {
+        when(particaoReservaRepository.criarParticao(YearMonth.of(2025, 6))).thenReturn(false);
+        when(particaoReservaRepository.criarParticao(YearMonth.of(2025, 7))).thenReturn(true);
+        when(particaoReservaRepository.criarParticao(YearMonth.of(2025, 8))).thenReturn(true);
+
+        assertEquals(2, arquivarReservasUseCase.prepararParticoes(agora));
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas partições anteriores ao mês do corte")
+    void deveRemoverParticoesAnterioresAoCorte() {
+        when(particaoReservaRepository.removerParticoesVaziasAntes(YearMonth.of(2024, 6)))
+                .thenReturn(List.of(YearMonth.of(2024, 4)));
+
+        assertEquals(List.of(YearMonth.of(2024, 4)), arquivarReservasUseCase.removerParticoesArquivadas(agora));
+        assertTrue(ArquivarReservasUseCase.STATUS_ARQUIVAVEIS.containsAll(
+                List.of(StatusReserva.CONCLUIDA, StatusReserva.CANCELADA)));
+    }
+}
@@ -0,0 +1,124 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.RegistroJournalReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.ReservasConcluidasEvent;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.JournalReservaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditoriaReservasTest {
+
+    @Mock
+    private JournalReservaRepository journalReservaRepository;
+
+    @InjectMocks
+    private AuditoriaReservas auditoriaReservas;
+
+    @Test
+    @DisplayName("Deve registrar no journal o cancelamento com o status anterior")
+    void deveRegistrarCancelamento() {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(3L);
+        Reserva reserva = new Reserva();
+        reserva.setId(7L);
+        reserva.setRestaurante(restaurante);
+        reserva.setDataHora(LocalDateTime.now().plusDays(1).withNano(0));
+        reserva.setNumeroPessoas(4);
+        reserva.setStatus(StatusReserva.CANCELADA);
+        when(journalReservaRepository.registrar(any())).thenReturn(CompletableFuture.completedFuture(0L));
+
+        auditoriaReservas.aoAlterarReserva(ReservaAlteradaEvent.cancelamento(reserva, StatusReserva.CONFIRMADA));
+
+        ArgumentCaptor<RegistroJournalReserva> captor = ArgumentCaptor.forClass(RegistroJournalReserva.class);
+        verify(journalReservaRepository).registrar(captor.capture());
+        RegistroJournalReserva registro = captor.getValue();
+        assertEquals(RegistroJournalReserva.Tipo.CANCELAMENTO, registro.tipo());
+        assertEquals(3L, registro.restauranteId());
+        assertEquals(StatusReserva.CONFIRMADA, registro.statusAnterior());
+        assertEquals(StatusReserva.CANCELADA, registro.status());
+    }
+
+    @Test
+    @DisplayName("Deve registrar cada reserva concluída sem propagar falhas do journal")
+    void deveRegistrarConclusoesSemPropagarFalhas() {
+        when(journalReservaRepository.registrar(any()))
+                .thenReturn(CompletableFuture.completedFuture(0L))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("disco cheio")));
+
+        assertDoesNotThrow(() -> auditoriaReservas.aoConcluirReservas(new ReservasConcluidasEvent(List.of(
+                new CursorReserva(LocalDateTime.of(2025, 6, 9, 20, 0), 1L),
+                new CursorReserva(LocalDateTime.of(2025, 6, 9, 21, 0), 2L)))));
+
+        verify(journalReservaRepository, times(2)).registrar(argThat(registro ->
+                registro.tipo() == RegistroJournalReserva.Tipo.CONCLUSAO && registro.status() == StatusReserva.CONCLUIDA));
+    }
+
+    @Test
+    @DisplayName("Deve entregar ao journal as alterações da transação juntas e só após o commit")
+    void deveRegistrarAlteracoesDaTransacaoAposCommit() {
+        when(journalReservaRepository.registrar(any())).thenReturn(CompletableFuture.completedFuture(0L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            auditoriaReservas.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(reserva(7L)));
+            auditoriaReservas.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(reserva(8L)));
+
+            verifyNoInteractions(journalReservaRepository);
+            List<TransactionSynchronization> sincronizacoes = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, sincronizacoes.size());
+            sincronizacoes.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(journalReservaRepository, times(2)).registrar(any());
+    }
+
+    @Test
+    @DisplayName("Não deve registrar no journal as alterações de uma transação desfeita")
+    void naoDeveRegistrarAlteracoesDesfeitas() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            auditoriaReservas.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(reserva(7L)));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verifyNoInteractions(journalReservaRepository);
+    }
+
+    private Reserva reserva(Long id) {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(3L);
+        Reserva reserva = new Reserva();
+        reserva.setId(id);
+        reserva.setRestaurante(restaurante);
+        reserva.setDataHora(LocalDateTime.now().plusDays(1).withNano(0));
+        reserva.setNumeroPessoas(2);
+        reserva.setStatus(StatusReserva.CONFIRMADA);
+        return reserva;
+    }
+}
@@ -0,0 +1,143 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.application.usecase.reserva.DisponibilidadeRestaurante.Situacao;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuscarDisponibilidadeUseCaseTest {
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    private InventarioAssentos inventarioAssentos;
+    private LocalDateTime dataHora;
+
+    @BeforeEach
+    void setUp() {
+        dataHora = LocalDateTime.now().plusDays(2).withHour(20).withMinute(0).withSecond(0).withNano(0);
+        inventarioAssentos = new InventarioAssentos(restauranteRepository, reservaRepository, 30);
+    }
+
+    @Test
+    @DisplayName("Deve verificar todos os restaurantes carregando-os em uma única consulta")
+    void deveVerificarRestaurantesEmLote() {
+        Restaurante aberto = restaurante(1L, 10, true);
+        Restaurante lotado = restaurante(2L, 4, true);
+        Restaurante fechado = restaurante(3L, 10, false);
+        when(restauranteRepository.findAllById(anyCollection())).thenReturn(List.of(aberto, lotado, fechado));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(2);
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(2L), any(), any())).thenReturn(2);
+
+        ResultadoBuscaDisponibilidade resultado = useCase(Duration.ofSeconds(5))
+                .buscar(List.of(1L, 2L, 3L, 99L), null, dataHora, 4);
+
+        assertTrue(resultado.completa());
+        assertEquals(List.of(Situacao.DISPONIVEL, Situacao.SEM_ASSENTOS, Situacao.FECHADO, Situacao.NAO_ENCONTRADO),
+                resultado.restaurantes().stream().map(DisponibilidadeRestaurante::situacao).toList());
+        assertEquals(8, resultado.restaurantes().get(0).assentosLivres());
+        verify(restauranteRepository).findAllById(anyCollection());
+        verify(restauranteRepository, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("Deve devolver resultados parciais quando o prazo se esgota")
+    void deveDevolverResultadosParciaisNoPrazo() {
+        when(restauranteRepository.findAllById(anyCollection()))
+                .thenReturn(List.of(restaurante(1L, 10, true), restaurante(2L, 10, true)));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(0);
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(2L), any(), any())).thenAnswer(invocacao -> {
+            Thread.sleep(5_000);
+            return 0;
+        });
+
+        long inicio = System.nanoTime();
+        ResultadoBuscaDisponibilidade resultado = useCase(Duration.ofMillis(300))
+                .buscar(List.of(1L, 2L), null, dataHora, 2);
+
+        assertTrue(Duration.ofNanos(System.nanoTime() - inicio).toMillis() < 3_000);
+        assertFalse(resultado.completa());
+        assertEquals(Situacao.DISPONIVEL, resultado.restaurantes().get(0).situacao());
+        assertEquals(Situacao.PRAZO_ESGOTADO, resultado.restaurantes().get(1).situacao());
+        assertEquals("Restaurante 2", resultado.restaurantes().get(1).nome());
+    }
+
+    @Test
+    @DisplayName("Deve buscar os restaurantes pelo termo quando não há IDs")
+    void deveBuscarPorTermo() {
+        Restaurante restaurante = restaurante(1L, 10, true);
+        when(restauranteRepository.findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining("Italiana",
+                "Italiana", "Italiana")).thenReturn(List.of(restaurante));
+        when(restauranteRepository.findAllById(List.of(1L))).thenReturn(List.of(restaurante));
+
+        ResultadoBuscaDisponibilidade resultado = useCase(Duration.ofSeconds(5))
+                .buscar(Collections.emptyList(), "Italiana", dataHora, 2);
+
+        assertEquals(1, resultado.restaurantes().size());
+        assertTrue(resultado.restaurantes().get(0).isDisponivel());
+    }
+
+    @Test
+    @DisplayName("Deve considerar fechado o horário exato após o fechamento, mesmo dentro de um slot aberto")
+    void deveUsarHorarioExatoParaAbertura() {
+        Restaurante restaurante = restaurante(1L, 10, false);
+        restaurante.definirHorarioFuncionamento(dataHora.getDayOfWeek(), LocalTime.of(11, 0), LocalTime.of(20, 0));
+        when(restauranteRepository.findAllById(anyCollection())).thenReturn(List.of(restaurante));
+
+        ResultadoBuscaDisponibilidade resultado = useCase(Duration.ofSeconds(5))
+                .buscar(List.of(1L), null, dataHora.plusMinutes(15), 2);
+
+        assertEquals(Situacao.FECHADO, resultado.restaurantes().get(0).situacao());
+        verifyNoInteractions(reservaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve recusar buscas sem restaurantes ou com restaurantes demais")
+    void deveRecusarBuscasInvalidas() {
+        BuscarDisponibilidadeUseCase useCase = useCase(Duration.ofSeconds(5));
+        List<Long> ids = LongStream.rangeClosed(1, BuscarDisponibilidadeUseCase.MAXIMO_RESTAURANTES + 1).boxed().toList();
+
+        assertThrows(InvalidRequestException.class, () -> useCase.buscar(null, " ", dataHora, 2));
+        assertThrows(InvalidRequestException.class, () -> useCase.buscar(ids, null, dataHora, 2));
+        assertThrows(InvalidRequestException.class, () -> useCase.buscar(List.of(1L), null, dataHora.minusDays(5), 2));
+        assertThrows(InvalidRequestException.class, () -> useCase.buscar(List.of(1L), null, dataHora, 0));
+        verifyNoInteractions(restauranteRepository);
+    }
+
+    private BuscarDisponibilidadeUseCase useCase(Duration prazo) {
+        return new BuscarDisponibilidadeUseCase(inventarioAssentos, restauranteRepository, prazo, 4);
+    }
+
+    private Restaurante restaurante(Long id, int capacidade, boolean abertoNoDia) {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(id);
+        restaurante.setNome("Restaurante " + id);
+        restaurante.setCapacidade(capacidade);
+        if (abertoNoDia) {
+            restaurante.definirHorarioFuncionamento(dataHora.getDayOfWeek(), LocalTime.of(11, 0), LocalTime.of(23, 0));
+        }
+        return restaurante;
+    }
+}
@@ -0,0 +1,80 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheExpiravelTest {
+
+    private final AtomicLong relogio = new AtomicLong();
+
+    @Test
+    @DisplayName("Deve devolver a entrada dentro da validade e descartá-la depois")
+    void deveRespeitarValidade() {
+        CacheExpiravel<String, Long> cache = new CacheExpiravel<>(10, Duration.ofSeconds(5), relogio::get);
+        cache.guardar("a", 1L);
+
+        relogio.set(Duration.ofSeconds(4).toNanos());
+        assertEquals(Optional.of(1L), cache.buscar("a"));
+
+        relogio.set(Duration.ofSeconds(5).toNanos());
+        assertEquals(Optional.empty(), cache.buscar("a"));
+        assertEquals(0, cache.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada mais antiga ao exceder a capacidade")
+    void deveRespeitarCapacidade() {
+        CacheExpiravel<String, Long> cache = new CacheExpiravel<>(2, Duration.ofMinutes(1), relogio::get);
+        cache.guardar("a", 1L);
+        cache.guardar("b", 2L);
+        cache.guardar("c", 3L);
+
+        assertEquals(2, cache.tamanho());
+        assertTrue(cache.buscar("a").isEmpty());
+        assertEquals(Optional.of(2L), cache.buscar("b"));
+        assertEquals(Optional.of(3L), cache.buscar("c"));
+    }
+
+    @Test
+    @DisplayName("Deve remover as entradas vencidas ao guardar uma nova")
+    void deveRemoverVencidasAoGuardar() {
+        CacheExpiravel<String, Long> cache = new CacheExpiravel<>(10, Duration.ofSeconds(5), relogio::get);
+        cache.guardar("a", 1L);
+        cache.guardar("b", 2L);
+
+        relogio.set(Duration.ofSeconds(6).toNanos());
+        cache.guardar("c", 3L);
+
+        assertEquals(1, cache.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar capacidade não positiva")
+    void deveRejeitarCapacidadeInvalida() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheExpiravel<>(0, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o prazo menor informado ao guardar")
+    void deveRespeitarPrazoMenor() {
+        CacheExpiravel<String, Long> cache = new CacheExpiravel<>(10, Duration.ofSeconds(5), relogio::get);
+        cache.guardar("a", 1L, Duration.ofSeconds(2));
+        cache.guardar("b", 2L, Duration.ofMinutes(1));
+        cache.guardar("c", 3L, Duration.ZERO);
+
+        relogio.set(Duration.ofSeconds(2).toNanos());
+        assertEquals(Optional.empty(), cache.buscar("a"));
+        assertEquals(Optional.of(2L), cache.buscar("b"));
+        assertEquals(Optional.empty(), cache.buscar("c"));
+
+        // O prazo maior que o padrão é reduzido a ele
+        relogio.set(Duration.ofSeconds(5).toNanos());
+        assertEquals(Optional.empty(), cache.buscar("b"));
+    }
+}
@@ -0,0 +1,153 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservasConcluidasEvent;
+import com.postech.gourmet.domain.repositories.CheckpointProcessoRepository;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcluirReservasUseCaseTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private CheckpointProcessoRepository checkpointRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ConcluirReservasUseCase concluirReservasUseCase;
+    private LocalDateTime agora;
+
+    @BeforeEach
+    void setUp() {
+        concluirReservasUseCase = new ConcluirReservasUseCase(
+                reservaRepository, checkpointRepository, eventPublisher, Duration.ofHours(3), 2);
+        agora = LocalDateTime.of(2025, 6, 10, 12, 0);
+        when(checkpointRepository.save(any(CheckpointProcesso.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    private CheckpointProcesso emAndamento() {
+        CheckpointProcesso checkpoint = new CheckpointProcesso(ConcluirReservasUseCase.NOME_PROCESSO);
+        checkpoint.iniciar(agora.minusHours(3));
+        return checkpoint;
+    }
+
+    @Test
+    @DisplayName("Deve iniciar nova execução com corte no passado")
+    void deveIniciarNovaExecucao() {
+        when(checkpointRepository.findByNome(ConcluirReservasUseCase.NOME_PROCESSO)).thenReturn(Optional.empty());
+
+        CheckpointProcesso checkpoint = concluirReservasUseCase.iniciarExecucao(agora);
+
+        assertTrue(checkpoint.isEmAndamento());
+        assertEquals(agora.minusHours(3), checkpoint.getCorte());
+        assertNull(checkpoint.getUltimoId());
+    }
+
+    @Test
+    @DisplayName("Deve retomar execução interrompida a partir do checkpoint")
+    void deveRetomarExecucaoInterrompida() {
+        CheckpointProcesso interrompido = emAndamento();
+        interrompido.avancar(agora.minusDays(2), 40L, 2);
+        when(checkpointRepository.findByNome(ConcluirReservasUseCase.NOME_PROCESSO)).thenReturn(Optional.of(interrompido));
+
+        CheckpointProcesso checkpoint = concluirReservasUseCase.iniciarExecucao(agora.plusHours(1));
+
+        assertEquals(agora.minusHours(3), checkpoint.getCorte());
+        assertEquals(40L, checkpoint.getUltimoId());
+        assertEquals(2, checkpoint.getProcessados());
+    }
+
+    @Test
+    @DisplayName("Deve concluir um lote completo e gravar o cursor sem finalizar")
+    void deveConcluirLoteCompleto() {
+        CheckpointProcesso checkpoint = emAndamento();
+        checkpoint.avancar(agora.minusDays(3), 5L, 2);
+        when(checkpointRepository.findByNome(ConcluirReservasUseCase.NOME_PROCESSO)).thenReturn(Optional.of(checkpoint));
+        List<CursorReserva> chaves = List.of(
+                new CursorReserva(agora.minusDays(2), 7L),
+                new CursorReserva(agora.minusDays(1), 9L));
+        when(reservaRepository.buscarChavesPorStatusAntesDe(StatusReserva.CONFIRMADA, agora.minusHours(3),
+                new CursorReserva(agora.minusDays(3), 5L), 2)).thenReturn(chaves);
+        when(reservaRepository.atualizarStatus(List.of(7L, 9L), StatusReserva.CONFIRMADA, StatusReserva.CONCLUIDA))
+                .thenReturn(2);
+
+        CheckpointProcesso resultado = concluirReservasUseCase.concluirProximoLote();
+
+        assertTrue(resultado.isEmAndamento());
+        assertEquals(9L, resultado.getUltimoId());
+        assertEquals(agora.minusDays(1), resultado.getUltimaDataHora());
+        assertEquals(4, resultado.getProcessados());
+        verify(checkpointRepository).save(resultado);
+        verify(eventPublisher).publishEvent(new ReservasConcluidasEvent(chaves));
+    }
+
+    @Test
+    @DisplayName("Deve avisar apenas as reservas concluídas quando alguma foi cancelada antes do UPDATE")
+    void deveAvisarSomenteReservasConcluidas() {
+        when(checkpointRepository.findByNome(ConcluirReservasUseCase.NOME_PROCESSO)).thenReturn(Optional.of(emAndamento()));
+        CursorReserva concluida = new CursorReserva(agora.minusDays(2), 7L);
+        when(reservaRepository.buscarChavesPorStatusAntesDe(eq(StatusReserva.CONFIRMADA), any(), isNull(), anyInt()))
+                .thenReturn(List.of(concluida, new CursorReserva(agora.minusDays(1), 9L)));
+        when(reservaRepository.atualizarStatus(List.of(7L, 9L), StatusReserva.CONFIRMADA, StatusReserva.CONCLUIDA))
+                .thenReturn(1);
+        Reserva reserva = new Reserva();
+        reserva.setId(7L);
+        when(reservaRepository.travarPorStatus(List.of(7L, 9L), StatusReserva.CONCLUIDA)).thenReturn(List.of(reserva));
+
+        concluirReservasUseCase.concluirProximoLote();
+
+        verify(eventPublisher).publishEvent(new ReservasConcluidasEvent(List.of(concluida)));
+    }
+
+    @Test
+    @DisplayName("Deve finalizar a execução quando o lote vier incompleto")
+    void deveFinalizarComLoteIncompleto() {
+        when(checkpointRepository.findByNome(ConcluirReservasUseCase.NOME_PROCESSO)).thenReturn(Optional.of(emAndamento()));
+        when(reservaRepository.buscarChavesPorStatusAntesDe(eq(StatusReserva.CONFIRMADA), any(), isNull(), anyInt()))
+                .thenReturn(List.of(new CursorReserva(agora.minusDays(1), 3L)));
+        when(reservaRepository.atualizarStatus(List.of(3L), StatusReserva.CONFIRMADA, StatusReserva.CONCLUIDA))
+                .thenReturn(1);
+
+        CheckpointProcesso resultado = concluirReservasUseCase.concluirProximoLote();
+
+        assertFalse(resultado.isEmAndamento());
+        assertEquals(1, resultado.getProcessados());
+        assertEquals(agora.minusHours(3), resultado.processadoAte());
+    }
+
+    @Test
+    @DisplayName("Deve finalizar sem atualizar quando não houver reservas a concluir")
+    void deveFinalizarSemReservas() {
+        when(checkpointRepository.findByNome(ConcluirReservasUseCase.NOME_PROCESSO)).thenReturn(Optional.of(emAndamento()));
+        when(reservaRepository.buscarChavesPorStatusAntesDe(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        CheckpointProcesso resultado = concluirReservasUseCase.concluirProximoLote();
+
+        assertFalse(resultado.isEmAndamento());
+        verify(reservaRepository, never()).atualizarStatus(any(), any(), any());
+    }
+}
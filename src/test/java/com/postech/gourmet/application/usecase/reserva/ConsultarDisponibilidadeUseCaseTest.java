@@ -0,0 +1,114 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConsultarDisponibilidadeUseCaseTest {
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    private ConsultarDisponibilidadeUseCase consultarDisponibilidadeUseCase;
+    private Restaurante restaurante;
+    private LocalDate dia;
+
+    @BeforeEach
+    void setUp() {
+        InventarioAssentos inventarioAssentos = new InventarioAssentos(restauranteRepository, reservaRepository, 30);
+        consultarDisponibilidadeUseCase = new ConsultarDisponibilidadeUseCase(inventarioAssentos);
+
+        dia = LocalDate.now().plusDays(5);
+
+        restaurante = new Restaurante();
+        restaurante.setId(1L);
+        restaurante.setCapacidade(10);
+        restaurante.definirHorarioFuncionamento(dia.getDayOfWeek(), LocalTime.of(19, 0), LocalTime.of(21, 0));
+    }
+
+    @Test
+    @DisplayName("Deve retornar apenas os slots abertos com assentos suficientes")
+    void deveRetornarSlotsAbertosComAssentosSuficientes() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(reservaRepository.somarPessoasAtivasPorHorario(eq(1L), any(), any()))
+                .thenReturn(Map.of(dia.atTime(19, 40), 8, dia.atTime(20, 0), 3));
+
+        List<SlotDisponivel> slots = consultarDisponibilidadeUseCase.buscarSlotsDisponiveis(1L, dia, dia, 4);
+
+        assertEquals(List.of(
+                new SlotDisponivel(dia.atTime(19, 0), 10),
+                new SlotDisponivel(dia.atTime(20, 0), 7),
+                new SlotDisponivel(dia.atTime(20, 30), 10),
+                new SlotDisponivel(dia.atTime(21, 0), 10)
+        ), slots);
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco uma única vez para todo o período")
+    void deveConsultarBancoUmaUnicaVezParaTodoPeriodo() {
+        DayOfWeek outroDia = dia.plusDays(1).getDayOfWeek();
+        restaurante.definirHorarioFuncionamento(outroDia, LocalTime.of(12, 0), LocalTime.of(14, 0));
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(reservaRepository.somarPessoasAtivasPorHorario(eq(1L), any(), any())).thenReturn(Map.of());
+
+        List<SlotDisponivel> slots = consultarDisponibilidadeUseCase.buscarSlotsDisponiveis(1L, dia, dia.plusDays(6), 2);
+
+        assertEquals(10, slots.size());
+        verify(reservaRepository, times(1)).somarPessoasAtivasPorHorario(eq(1L), any(), any());
+        verify(reservaRepository, never()).somarPessoasAtivasNoPeriodo(any(), any(), any());
+        verify(restauranteRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve retornar lista vazia quando a capacidade é menor que o número de pessoas")
+    void deveRetornarVazioQuandoCapacidadeInsuficiente() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+
+        List<SlotDisponivel> slots = consultarDisponibilidadeUseCase.buscarSlotsDisponiveis(1L, dia, dia, 11);
+
+        assertTrue(slots.isEmpty());
+        verifyNoInteractions(reservaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período maior que o permitido")
+    void deveRejeitarPeriodoMaiorQuePermitido() {
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> consultarDisponibilidadeUseCase.buscarSlotsDisponiveis(1L, dia, dia.plusDays(31), 2)
+        );
+        assertEquals("O período consultado não pode ultrapassar 31 dias", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar data final anterior à inicial")
+    void deveRejeitarDataFinalAnteriorInicial() {
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> consultarDisponibilidadeUseCase.buscarSlotsDisponiveis(1L, dia, dia.minusDays(1), 2)
+        );
+        assertEquals("A data final deve ser igual ou posterior à data inicial", exception.getMessage());
+    }
+}
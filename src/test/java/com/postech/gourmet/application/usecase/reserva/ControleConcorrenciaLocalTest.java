@@ -0,0 +1,66 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ControleConcorrenciaLocalTest {
+
+    private final ControleConcorrenciaLocal controleConcorrencia = new ControleConcorrenciaLocal();
+    private final LocalDateTime inicio = LocalDateTime.of(2030, 1, 1, 20, 0);
+
+    @Test
+    @DisplayName("Não deve bloquear slots de restaurantes diferentes")
+    void naoDeveBloquearRestaurantesDiferentes() throws Exception {
+        CountDownLatch dentroDaTrava = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        Future<?> primeira = executor.submit(() -> controleConcorrencia.executarComTrava(new ChaveSlot(1L, inicio), () -> {
+            dentroDaTrava.countDown();
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+
+        assertTrue(dentroDaTrava.await(5, TimeUnit.SECONDS));
+        String resultado = controleConcorrencia.executarComTrava(new ChaveSlot(2L, inicio), () -> "executou");
+        assertEquals("executou", resultado);
+
+        liberar.countDown();
+        primeira.get(5, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve descartar a trava quando não há mais threads utilizando o slot")
+    void deveDescartarTravaSemUso() {
+        controleConcorrencia.executarComTrava(new ChaveSlot(1L, inicio), () -> null);
+
+        assertEquals(0, controleConcorrencia.travasAtivas());
+    }
+
+    @Test
+    @DisplayName("Deve liberar a trava mesmo quando a ação lança exceção")
+    void deveLiberarTravaQuandoAcaoFalha() {
+        ChaveSlot chave = new ChaveSlot(1L, inicio);
+
+        assertThrows(IllegalStateException.class, () -> controleConcorrencia.executarComTrava(chave, () -> {
+            throw new IllegalStateException("falha");
+        }));
+
+        assertEquals(0, controleConcorrencia.travasAtivas());
+        assertEquals("ok", controleConcorrencia.executarComTrava(chave, () -> "ok"));
+    }
+}
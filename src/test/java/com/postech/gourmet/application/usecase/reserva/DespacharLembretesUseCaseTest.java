@@ -0,0 +1,106 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+import com.postech.gourmet.domain.repositories.LembreteReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DespacharLembretesUseCaseTest {
+
+    @Mock
+    private LembreteReservaRepository lembreteReservaRepository;
+
+    @Mock
+    private EnviadorLembretes enviadorLembretes;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DespacharLembretesUseCase despacharLembretesUseCase;
+    private final LocalDateTime agora = LocalDateTime.of(2025, 6, 10, 18, 0);
+
+    @BeforeEach
+    void setUp() {
+        despacharLembretesUseCase = new DespacharLembretesUseCase(lembreteReservaRepository, enviadorLembretes,
+                transactionManager, 3, 2, Duration.ofMinutes(5), 3, Duration.ofMinutes(1));
+    }
+
+    private LembreteReserva lembrete(long id, LocalDateTime dataHoraReserva, int tentativas) {
+        return new LembreteReserva(id, id * 10, 1L, 2L, "Cliente", dataHoraReserva, TipoLembrete.DUAS_HORAS,
+                StatusLembrete.PENDENTE, dataHoraReserva.minusHours(2), tentativas);
+    }
+
+    @Test
+    @DisplayName("Deve registrar entregues, obsoletos, reagendados e esgotados com um UPDATE por desfecho")
+    void deveRegistrarDesfechosDoLote() throws InterruptedException {
+        LembreteReserva entregue = lembrete(1L, agora.plusHours(2), 1);
+        LembreteReserva obsoleto = lembrete(2L, agora.minusMinutes(1), 1);
+        LembreteReserva falhou = lembrete(3L, agora.plusHours(2), 2);
+        LembreteReserva esgotado = lembrete(4L, agora.plusHours(2), 3);
+        when(lembreteReservaRepository.reservarVencidos(agora, agora.plusMinutes(5), 3))
+                .thenReturn(List.of(entregue, obsoleto, falhou, esgotado));
+        // Leniente: os envios ocorrem em outras threads e recebem também lembretes sem stub
+        lenient().doThrow(new IllegalStateException("canal fora do ar")).when(enviadorLembretes).enviar(falhou);
+        lenient().doThrow(new IllegalStateException("canal fora do ar")).when(enviadorLembretes).enviar(esgotado);
+
+        DespacharLembretesUseCase.ResultadoLote resultado = despacharLembretesUseCase.despacharLote(agora);
+
+        assertEquals(new DespacharLembretesUseCase.ResultadoLote(4, 1), resultado);
+        verify(enviadorLembretes, never()).enviar(obsoleto);
+        verify(lembreteReservaRepository).atualizarStatus(List.of(1L), StatusLembrete.ENVIADO);
+        verify(lembreteReservaRepository).atualizarStatus(List.of(2L), StatusLembrete.CANCELADO);
+        verify(lembreteReservaRepository).atualizarStatus(List.of(4L), StatusLembrete.FALHOU);
+        verify(lembreteReservaRepository).reagendar(List.of(3L), agora.plusMinutes(2));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve reservar lotes até esgotar os vencidos")
+    void deveDespacharAteEsgotar() throws InterruptedException {
+        when(lembreteReservaRepository.reservarVencidos(eq(agora), any(), anyInt())).thenReturn(
+                List.of(lembrete(1L, agora.plusHours(2), 1), lembrete(2L, agora.plusHours(2), 1), lembrete(3L, agora.plusHours(2), 1)),
+                List.of(lembrete(4L, agora.plusHours(2), 1)));
+
+        assertEquals(4, despacharLembretesUseCase.despacharVencidos(agora));
+        verify(lembreteReservaRepository, times(2)).reservarVencidos(eq(agora), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Não deve ultrapassar o paralelismo configurado")
+    void deveLimitarEnviosSimultaneos() throws InterruptedException {
+        AtomicInteger emAndamento = new AtomicInteger();
+        AtomicInteger maximo = new AtomicInteger();
+        doAnswer(invocation -> {
+            maximo.accumulateAndGet(emAndamento.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            emAndamento.decrementAndGet();
+            return null;
+        }).when(enviadorLembretes).enviar(any());
+        when(lembreteReservaRepository.reservarVencidos(eq(agora), any(), anyInt())).thenReturn(List.of(
+                lembrete(1L, agora.plusHours(2), 1), lembrete(2L, agora.plusHours(2), 1), lembrete(3L, agora.plusHours(2), 1)));
+
+        despacharLembretesUseCase.despacharLote(agora);
+
+        verify(enviadorLembretes, times(3)).enviar(any());
+        assertTrue(maximo.get() <= 2, "Envios simultâneos: " + maximo.get());
+    }
+}
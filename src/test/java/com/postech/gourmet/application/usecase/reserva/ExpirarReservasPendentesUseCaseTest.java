@@ -0,0 +1,116 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExpirarReservasPendentesUseCaseTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private InventarioAssentos inventarioAssentos;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ExpirarReservasPendentesUseCase expirarReservasPendentesUseCase;
+    private Restaurante restaurante;
+    private LocalDateTime agora;
+
+    @BeforeEach
+    void setUp() {
+        expirarReservasPendentesUseCase = new ExpirarReservasPendentesUseCase(
+                reservaRepository, inventarioAssentos, eventPublisher, Duration.ofMinutes(30));
+        restaurante = new Restaurante();
+        restaurante.setId(1L);
+        agora = LocalDateTime.now();
+    }
+
+    private Reserva pendente(Long id, LocalDateTime criadaEm) {
+        Reserva reserva = new Reserva(id, "Cliente", agora.plusDays(2), restaurante, null);
+        reserva.setNumeroPessoas(2);
+        reserva.setCriadaEm(criadaEm);
+        return reserva;
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir a agenda a partir das reservas pendentes do banco")
+    void deveReconstruirAgenda() {
+        when(reservaRepository.streamByStatus(StatusReserva.PENDENTE)).thenReturn(Stream.of(
+                pendente(1L, agora.minusMinutes(40)),
+                pendente(2L, agora.minusMinutes(10)),
+                pendente(3L, null)));
+
+        assertEquals(3, expirarReservasPendentesUseCase.reconstruirAgenda());
+
+        assertEquals(List.of(1L), expirarReservasPendentesUseCase.coletarVencidas(agora));
+        assertEquals(List.of(2L), expirarReservasPendentesUseCase.coletarVencidas(agora.plusMinutes(21)));
+        assertEquals(List.of(3L), expirarReservasPendentesUseCase.coletarVencidas(agora.plusMinutes(31)));
+    }
+
+    @Test
+    @DisplayName("Deve agendar reservas criadas e desagendar as confirmadas ou canceladas")
+    void deveAcompanharEventosDeReserva() {
+        expirarReservasPendentesUseCase.aoAlterarReserva(ReservaAlteradaEvent.criacao(pendente(1L, agora)));
+        expirarReservasPendentesUseCase.aoAlterarReserva(ReservaAlteradaEvent.criacao(pendente(2L, agora)));
+        expirarReservasPendentesUseCase.aoAlterarReserva(ReservaAlteradaEvent.criacao(pendente(3L, agora)));
+        expirarReservasPendentesUseCase.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(pendente(2L, agora)));
+        expirarReservasPendentesUseCase.aoAlterarReserva(ReservaAlteradaEvent.cancelamento(pendente(3L, agora), StatusReserva.PENDENTE));
+
+        assertEquals(1, expirarReservasPendentesUseCase.reservasAgendadas());
+        assertTrue(expirarReservasPendentesUseCase.coletarVencidas(agora.plusMinutes(29)).isEmpty());
+        assertEquals(List.of(1L), expirarReservasPendentesUseCase.coletarVencidas(agora.plusMinutes(30).plusSeconds(1)));
+    }
+
+    @Test
+    @DisplayName("Deve cancelar em lote as reservas ainda pendentes e liberar os assentos")
+    void deveExpirarLote() {
+        Reserva primeira = pendente(1L, agora.minusHours(1));
+        Reserva segunda = pendente(2L, agora.minusHours(1));
+        when(reservaRepository.travarPorStatus(List.of(1L, 2L, 3L), StatusReserva.PENDENTE))
+                .thenReturn(List.of(primeira, segunda));
+        when(reservaRepository.atualizarStatus(List.of(1L, 2L), StatusReserva.PENDENTE, StatusReserva.CANCELADA))
+                .thenReturn(2);
+
+        int expiradas = expirarReservasPendentesUseCase.expirarLote(List.of(1L, 2L, 3L));
+
+        assertEquals(2, expiradas);
+        assertEquals(StatusReserva.CANCELADA, primeira.getStatus());
+        verify(inventarioAssentos, times(2)).liberar(1L, primeira.getDataHora(), 2);
+        verify(eventPublisher).publishEvent(ReservaAlteradaEvent.expiracao(primeira));
+        verify(eventPublisher).publishEvent(ReservaAlteradaEvent.expiracao(segunda));
+    }
+
+    @Test
+    @DisplayName("Não deve atualizar nada quando nenhuma reserva do lote continua pendente")
+    void naoDeveAtualizarQuandoNenhumaPendente() {
+        when(reservaRepository.travarPorStatus(anyCollection(), any())).thenReturn(List.of());
+
+        assertEquals(0, expirarReservasPendentesUseCase.expirarLote(List.of(1L)));
+
+        verify(reservaRepository, never()).atualizarStatus(anyCollection(), any(), any());
+        verifyNoInteractions(inventarioAssentos, eventPublisher);
+    }
+}
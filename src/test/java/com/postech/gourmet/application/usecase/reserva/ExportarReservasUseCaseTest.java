@@ -0,0 +1,58 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ExportarReservasUseCaseTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @InjectMocks
+    private ExportarReservasUseCase exportarReservasUseCase;
+
+    @Test
+    @DisplayName("Deve entregar cada reserva ao consumidor e fechar o cursor")
+    void deveEntregarReservasEFecharCursor() {
+        Reserva primeira = new Reserva(1L, "Cliente 1", LocalDateTime.now().minusDays(1), null, null);
+        Reserva segunda = new Reserva(2L, "Cliente 2", LocalDateTime.now().plusDays(1), null, null);
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(reservaRepository.streamAll()).thenReturn(Stream.of(primeira, segunda).onClose(() -> fechado.set(true)));
+
+        List<Reserva> recebidas = new ArrayList<>();
+        long total = exportarReservasUseCase.exportarReservas(recebidas::add);
+
+        assertEquals(2, total);
+        assertEquals(List.of(primeira, segunda), recebidas);
+        assertTrue(fechado.get());
+    }
+
+    @Test
+    @DisplayName("Deve fechar o cursor quando o consumidor falhar")
+    void deveFecharCursorQuandoConsumidorFalhar() {
+        AtomicBoolean fechado = new AtomicBoolean();
+        when(reservaRepository.streamAll()).thenReturn(
+                Stream.of(new Reserva()).onClose(() -> fechado.set(true)));
+
+        assertThrows(IllegalStateException.class, () -> exportarReservasUseCase.exportarReservas(reserva -> {
+            throw new IllegalStateException("conexão encerrada");
+        }));
+        assertTrue(fechado.get());
+    }
+}
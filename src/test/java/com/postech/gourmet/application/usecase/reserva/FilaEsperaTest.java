@@ -0,0 +1,99 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FilaEsperaTest {
+
+    private FilaEspera fila;
+
+    @BeforeEach
+    void setUp() {
+        fila = new FilaEspera(10);
+    }
+
+    @Test
+    @DisplayName("Deve retirar o grupo mais antigo entre os que cabem nos lugares livres")
+    void deveRetirarGrupoMaisAntigoQueCabe() {
+        fila.adicionar(entrada(1L, 6));
+        fila.adicionar(entrada(2L, 4));
+        fila.adicionar(entrada(3L, 2));
+        fila.adicionar(entrada(4L, 4));
+
+        assertEquals(2L, fila.retirarPrimeiroQueCabe(5).entrada().getId());
+        assertEquals(3L, fila.retirarPrimeiroQueCabe(5).entrada().getId());
+        assertEquals(4L, fila.retirarPrimeiroQueCabe(5).entrada().getId());
+        assertNull(fila.retirarPrimeiroQueCabe(5));
+        assertEquals(1, fila.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve manter a ordem de chegada dentro do mesmo tamanho de grupo")
+    void deveManterOrdemDeChegadaNoMesmoTamanho() {
+        fila.adicionar(entrada(1L, 3));
+        fila.adicionar(entrada(2L, 3));
+        fila.adicionar(entrada(3L, 3));
+
+        assertEquals(1L, fila.retirarPrimeiroQueCabe(3).entrada().getId());
+        assertEquals(2L, fila.retirarPrimeiroQueCabe(3).entrada().getId());
+        assertEquals(3L, fila.retirarPrimeiroQueCabe(3).entrada().getId());
+        assertTrue(fila.isVazia());
+    }
+
+    @Test
+    @DisplayName("Deve ignorar entradas removidas da fila")
+    void deveIgnorarEntradasRemovidas() {
+        fila.adicionar(entrada(1L, 2));
+        fila.adicionar(entrada(2L, 2));
+        fila.remover(1L);
+
+        assertEquals(1, fila.tamanho());
+        assertEquals(2L, fila.retirarPrimeiroQueCabe(10).entrada().getId());
+        assertNull(fila.retirarPrimeiroQueCabe(10));
+    }
+
+    @Test
+    @DisplayName("Deve devolver posições retiradas ao início da fila")
+    void deveDevolverPosicoesAoInicio() {
+        fila.adicionar(entrada(1L, 2));
+        fila.adicionar(entrada(2L, 2));
+        fila.adicionar(entrada(3L, 1));
+
+        FilaEspera.Posicao primeira = fila.retirarPrimeiroQueCabe(2);
+        FilaEspera.Posicao segunda = fila.retirarPrimeiroQueCabe(2);
+        fila.devolver(segunda);
+        fila.devolver(primeira);
+
+        assertEquals(3, fila.tamanho());
+        assertEquals(1L, fila.retirarPrimeiroQueCabe(2).entrada().getId());
+        assertEquals(2L, fila.retirarPrimeiroQueCabe(2).entrada().getId());
+        assertEquals(3L, fila.retirarPrimeiroQueCabe(2).entrada().getId());
+    }
+
+    @Test
+    @DisplayName("Não deve retirar nada sem lugares livres")
+    void naoDeveRetirarSemLugaresLivres() {
+        fila.adicionar(entrada(1L, 1));
+
+        assertNull(fila.retirarPrimeiroQueCabe(0));
+        assertEquals(1, fila.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar grupos maiores que o limite da fila")
+    void deveRejeitarGrupoMaiorQueLimite() {
+        assertThrows(IllegalArgumentException.class, () -> fila.adicionar(entrada(1L, 11)));
+    }
+
+    private static EntradaListaEspera entrada(Long id, int numeroPessoas) {
+        return new EntradaListaEspera(id, 1L, id, LocalDateTime.now().plusDays(1), numeroPessoas,
+                StatusListaEspera.AGUARDANDO, null, LocalDateTime.now());
+    }
+}
@@ -1,12 +1,16 @@
 package com.postech.gourmet.application.usecase.reserva;
 
 import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.Mesa;
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
 import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
 import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.FiltroReservas;
 import com.postech.gourmet.domain.repositories.ReservaRepository;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
 import com.postech.gourmet.domain.repositories.UsuarioRepository;
@@ -18,6 +22,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -27,6 +32,7 @@ import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +47,21 @@ class GerenciarReservaUseCaseTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private InventarioAssentos inventarioAssentos;
+
+    @Mock
+    private RegistroBloqueios registroBloqueios;
+
+    @Mock
+    private AlocadorMesas alocadorMesas;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ControleConcorrenciaLocal controleConcorrencia = new ControleConcorrenciaLocal();
+
     @Spy
     @InjectMocks
     private GerenciarReservaUseCase gerenciarReservaUseCase;
@@ -93,6 +114,8 @@ class GerenciarReservaUseCaseTest {
         when(restauranteRepository.findById(anyLong())).thenReturn(Optional.of(restaurante));
         when(usuarioRepository.findById(anyLong())).thenReturn(Optional.of(usuario));
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reservaEsperada);
+        ChaveSlot slot = new ChaveSlot(restaurante.getId(), dataHoraFutura);
+        when(inventarioAssentos.chave(restaurante.getId(), dataHoraFutura)).thenReturn(slot);
 
         doReturn(true).when(gerenciarReservaUseCase).verificarDisponibilidade(
                 eq(reservaDTO.getRestauranteId()),
@@ -116,7 +139,44 @@ class GerenciarReservaUseCaseTest {
                 eq(reservaDTO.getDataHora()),
                 eq(reservaDTO.getNumeroPessoas())
         );
-        verify(reservaRepository).save(any(Reserva.class));
+        verify(controleConcorrencia).executarComTrava(eq(slot), any());
+        verify(inventarioAssentos).ocupar(restaurante.getId(), reservaDTO.getDataHora(), reservaDTO.getNumeroPessoas());
+        verify(reservaRepository).save(argThat(reserva -> reserva.getCriadaEm() != null));
+        verify(eventPublisher).publishEvent(ReservaAlteradaEvent.criacao(reservaEsperada));
+    }
+
+    @Test
+    @DisplayName("Deve colocar a reserva em uma mesa quando o restaurante usa mesas")
+    void deveColocarReservaEmMesa() {
+        when(restauranteRepository.findById(anyLong())).thenReturn(Optional.of(restaurante));
+        when(usuarioRepository.findById(anyLong())).thenReturn(Optional.of(usuario));
+        when(reservaRepository.save(any(Reserva.class))).thenReturn(reservaEsperada);
+        ChaveSlot slot = new ChaveSlot(restaurante.getId(), dataHoraFutura);
+        when(inventarioAssentos.chave(restaurante.getId(), dataHoraFutura)).thenReturn(slot);
+        doReturn(true).when(gerenciarReservaUseCase).verificarDisponibilidade(any(), any(), any());
+        List<Mesa> mesas = List.of(new Mesa(7L, 1L, 2, false));
+        when(alocadorMesas.usaMesas(restaurante.getId())).thenReturn(true);
+        when(alocadorMesas.alocar(slot, 2)).thenReturn(mesas);
+
+        gerenciarReservaUseCase.novaReserva(reservaDTO);
+
+        verify(alocadorMesas).registrar(reservaEsperada, mesas);
+    }
+
+    @Test
+    @DisplayName("Deve recusar a reserva quando nenhuma mesa comporta o grupo")
+    void deveRecusarReservaSemMesa() {
+        when(restauranteRepository.findById(anyLong())).thenReturn(Optional.of(restaurante));
+        when(usuarioRepository.findById(anyLong())).thenReturn(Optional.of(usuario));
+        ChaveSlot slot = new ChaveSlot(restaurante.getId(), dataHoraFutura);
+        when(inventarioAssentos.chave(restaurante.getId(), dataHoraFutura)).thenReturn(slot);
+        doReturn(true).when(gerenciarReservaUseCase).verificarDisponibilidade(any(), any(), any());
+        when(alocadorMesas.usaMesas(restaurante.getId())).thenReturn(true);
+        when(alocadorMesas.alocar(slot, 2)).thenReturn(List.of());
+
+        assertThrows(InvalidRequestException.class, () -> gerenciarReservaUseCase.novaReserva(reservaDTO));
+        verify(inventarioAssentos, never()).ocupar(any(), any(), anyInt());
+        verify(reservaRepository, never()).save(any());
     }
 
     @Test
@@ -206,19 +266,57 @@ class GerenciarReservaUseCaseTest {
     }
 
     @Test
-    @DisplayName("Deve listar todas as reservas")
-    void deveListarTodasAsReservas() {
+    @DisplayName("Deve listar a primeira página de reservas com cursor para a próxima")
+    void deveListarPrimeiraPaginaComCursor() {
+        Reserva segunda = new Reserva(2L, "Cliente Teste", dataHoraFutura.plusHours(1), restaurante, usuario);
+        Reserva terceira = new Reserva(3L, "Cliente Teste", dataHoraFutura.plusHours(2), restaurante, usuario);
+        FiltroReservas filtro = new FiltroReservas(1L, StatusReserva.PENDENTE, null, null);
+        when(reservaRepository.buscarPagina(filtro, null, 3))
+                .thenReturn(Arrays.asList(reservaEsperada, segunda, terceira));
+
+        PaginaReservas pagina = gerenciarReservaUseCase.listarReservas(filtro, null, 2);
+
+        assertEquals(List.of(reservaEsperada, segunda), pagina.reservas());
+        assertEquals(new CursorReserva(segunda.getDataHora(), 2L), pagina.proximoCursor());
+        verify(reservaRepository, never()).findAll();
+    }
 
-        List<Reserva> reservas = Arrays.asList(reservaEsperada);
-        when(reservaRepository.findAll()).thenReturn(reservas);
+    @Test
+    @DisplayName("Deve retornar a última página sem cursor")
+    void deveRetornarUltimaPaginaSemCursor() {
+        CursorReserva cursor = new CursorReserva(dataHoraFutura.minusHours(1), 10L);
+        when(reservaRepository.buscarPagina(FiltroReservas.semFiltros(), cursor,
+                GerenciarReservaUseCase.TAMANHO_PAGINA_PADRAO + 1))
+                .thenReturn(List.of(reservaEsperada));
 
-        List<Reserva> resultado = gerenciarReservaUseCase.listarReservas();
+        PaginaReservas pagina = gerenciarReservaUseCase.listarReservas(FiltroReservas.semFiltros(), cursor, null);
 
+        assertEquals(List.of(reservaEsperada), pagina.reservas());
+        assertNull(pagina.proximoCursor());
+    }
 
-        assertNotNull(resultado);
-        assertEquals(1, resultado.size());
-        assertEquals(reservaEsperada, resultado.get(0));
-        verify(reservaRepository, times(1)).findAll();
+    @Test
+    @DisplayName("Deve rejeitar limite fora do intervalo permitido")
+    void deveRejeitarLimiteInvalido() {
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> gerenciarReservaUseCase.listarReservas(FiltroReservas.semFiltros(), null,
+                        GerenciarReservaUseCase.TAMANHO_PAGINA_MAXIMO + 1)
+        );
+        assertEquals("O limite deve estar entre 1 e 500", exception.getMessage());
+        verify(reservaRepository, never()).buscarPagina(any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período com data final anterior à inicial")
+    void deveRejeitarPeriodoInvertido() {
+        FiltroReservas filtro = new FiltroReservas(null, null, dataHoraFutura, dataHoraFutura.minusDays(1));
+
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> gerenciarReservaUseCase.listarReservas(filtro, null, 10)
+        );
+        assertEquals("A data final deve ser posterior à data inicial", exception.getMessage());
     }
 
     @Test
@@ -259,7 +357,7 @@ class GerenciarReservaUseCaseTest {
     @DisplayName("Deve confirmar reserva com sucesso")
     void deveConfirmarReservaComSucesso() {
 
-        when(reservaRepository.findById(anyLong())).thenReturn(Optional.of(reservaEsperada));
+        when(reservaRepository.travarPorIds(List.of(reservaEsperada.getId()))).thenReturn(List.of(reservaEsperada));
         when(reservaRepository.save(any(Reserva.class))).thenReturn(reservaEsperada);
 
         Reserva resultado = gerenciarReservaUseCase.confirmarReserva(reservaEsperada.getId());
@@ -267,15 +365,17 @@ class GerenciarReservaUseCaseTest {
 
         assertNotNull(resultado);
         assertEquals(StatusReserva.CONFIRMADA, resultado.getStatus());
-        verify(reservaRepository, times(1)).findById(reservaEsperada.getId());
+        verify(reservaRepository, times(1)).travarPorIds(List.of(reservaEsperada.getId()));
+        verify(reservaRepository, never()).findById(anyLong());
         verify(reservaRepository, times(1)).save(reservaEsperada);
+        verify(eventPublisher).publishEvent(ReservaAlteradaEvent.confirmacao(reservaEsperada));
     }
 
     @Test
     @DisplayName("Deve lançar exceção ao confirmar reserva inexistente")
     void deveLancarExcecaoAoConfirmarReservaInexistente() {
 
-        when(reservaRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(reservaRepository.travarPorIds(List.of(999L))).thenReturn(List.of());
 
 
         ResourceNotFoundException exception = assertThrows(
@@ -283,7 +383,7 @@ class GerenciarReservaUseCaseTest {
                 () -> gerenciarReservaUseCase.confirmarReserva(999L)
         );
         assertEquals("Reserva não encontrada com ID: 999", exception.getMessage());
-        verify(reservaRepository, times(1)).findById(999L);
+        verify(reservaRepository, times(1)).travarPorIds(List.of(999L));
         verify(reservaRepository, never()).save(any(Reserva.class));
     }
 
@@ -292,7 +392,7 @@ class GerenciarReservaUseCaseTest {
     void deveLancarExcecaoAoConfirmarReservaNaoPendente() {
 
         reservaEsperada.setStatus(StatusReserva.CONFIRMADA);
-        when(reservaRepository.findById(anyLong())).thenReturn(Optional.of(reservaEsperada));
+        when(reservaRepository.travarPorIds(List.of(reservaEsperada.getId()))).thenReturn(List.of(reservaEsperada));
 
 
         InvalidRequestException exception = assertThrows(
@@ -300,8 +400,25 @@ class GerenciarReservaUseCaseTest {
                 () -> gerenciarReservaUseCase.confirmarReserva(reservaEsperada.getId())
         );
         assertEquals("Apenas reservas pendentes podem ser confirmadas", exception.getMessage());
-        verify(reservaRepository, times(1)).findById(reservaEsperada.getId());
+        verify(reservaRepository, times(1)).travarPorIds(List.of(reservaEsperada.getId()));
+        verify(reservaRepository, never()).save(any(Reserva.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar confirmação de reserva expirada por outra transação")
+    void deveRecusarConfirmacaoDeReservaExpirada() {
+        // A expiração bloqueou a linha primeiro; a leitura com trava só volta depois do commit dela
+        reservaEsperada.setStatus(StatusReserva.CANCELADA);
+        when(reservaRepository.travarPorIds(List.of(reservaEsperada.getId()))).thenReturn(List.of(reservaEsperada));
+
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> gerenciarReservaUseCase.confirmarReserva(reservaEsperada.getId())
+        );
+        assertEquals("Apenas reservas pendentes podem ser confirmadas", exception.getMessage());
+        assertEquals(StatusReserva.CANCELADA, reservaEsperada.getStatus());
         verify(reservaRepository, never()).save(any(Reserva.class));
+        verifyNoInteractions(eventPublisher);
     }
 
     @Test
@@ -334,47 +451,171 @@ class GerenciarReservaUseCaseTest {
     }
 
     @Test
-    @DisplayName("Deve verificar disponibilidade com sucesso")
+    @DisplayName("Deve cancelar reserva e devolver os assentos ao inventário")
+    void deveCancelarReservaEDevolverAssentos() {
+        when(reservaRepository.travarPorIds(List.of(reservaEsperada.getId()))).thenReturn(List.of(reservaEsperada));
+        when(usuarioRepository.findById(anyLong())).thenReturn(Optional.of(usuario));
+        when(inventarioAssentos.chave(restaurante.getId(), dataHoraFutura))
+                .thenReturn(new ChaveSlot(restaurante.getId(), dataHoraFutura));
+
+        gerenciarReservaUseCase.cancelarReserva(reservaEsperada.getId(), usuario.getId());
+
+        assertEquals(StatusReserva.CANCELADA, reservaEsperada.getStatus());
+        verify(controleConcorrencia).executarComTrava(eq(new ChaveSlot(restaurante.getId(), dataHoraFutura)), any());
+        verify(inventarioAssentos).liberar(restaurante.getId(), dataHoraFutura, 2);
+        verify(reservaRepository).save(reservaEsperada);
+        verify(reservaRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(ReservaAlteradaEvent.cancelamento(reservaEsperada, StatusReserva.PENDENTE));
+    }
+
+    @Test
+    @DisplayName("Deve recusar cancelamento de reserva já cancelada por outra transação sem devolver assentos")
+    void deveRecusarCancelamentoConcorrente() {
+        // A leitura com trava só termina depois do commit do outro cancelamento e já traz o novo status
+        reservaEsperada.setStatus(StatusReserva.CANCELADA);
+        when(reservaRepository.travarPorIds(List.of(reservaEsperada.getId()))).thenReturn(List.of(reservaEsperada));
+        when(usuarioRepository.findById(anyLong())).thenReturn(Optional.of(usuario));
+
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> gerenciarReservaUseCase.cancelarReserva(reservaEsperada.getId(), usuario.getId())
+        );
+        assertEquals("Esta reserva já está cancelada", exception.getMessage());
+        verify(inventarioAssentos, never()).liberar(anyLong(), any(), anyInt());
+        verify(reservaRepository, never()).save(any(Reserva.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao cancelar reserva inexistente")
+    void deveLancarExcecaoAoCancelarReservaInexistente() {
+        when(reservaRepository.travarPorIds(List.of(999L))).thenReturn(List.of());
+
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> gerenciarReservaUseCase.cancelarReserva(999L, usuario.getId())
+        );
+        assertEquals("Reserva não encontrada com ID: 999", exception.getMessage());
+        verify(inventarioAssentos, never()).liberar(anyLong(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Deve impedir cancelamento por usuário que não é dono da reserva")
+    void deveImpedirCancelamentoPorOutroUsuario() {
+        Usuario outroUsuario = new Usuario();
+        outroUsuario.setId(2L);
+        when(reservaRepository.travarPorIds(List.of(reservaEsperada.getId()))).thenReturn(List.of(reservaEsperada));
+        when(usuarioRepository.findById(anyLong())).thenReturn(Optional.of(outroUsuario));
+
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> gerenciarReservaUseCase.cancelarReserva(reservaEsperada.getId(), 2L)
+        );
+        assertEquals("Usuário sem permissão para cancelar esta reserva", exception.getMessage());
+        verify(inventarioAssentos, never()).liberar(anyLong(), any(), anyInt());
+        verify(reservaRepository, never()).save(any(Reserva.class));
+    }
+
+    @Test
+    @DisplayName("Deve verificar disponibilidade consultando o inventário de assentos")
     void deveVerificarDisponibilidadeComSucesso() {
 
-        when(restauranteRepository.findById(anyLong())).thenReturn(Optional.of(restaurante));
+        when(inventarioAssentos.possuiDisponibilidade(restaurante.getId(), dataHoraFutura, 2)).thenReturn(true);
 
         boolean resultado = gerenciarReservaUseCase.verificarDisponibilidade(
                 restaurante.getId(), dataHoraFutura, 2);
 
 
         assertTrue(resultado);
-        verify(restauranteRepository, times(1)).findById(restaurante.getId());
+        verify(restauranteRepository, never()).findById(anyLong());
     }
 
     @Test
-    @DisplayName("Deve retornar falso quando capacidade é menor que número de pessoas")
-    void deveRetornarFalsoQuandoCapacidadeMenorQueNumeroPessoas() {
+    @DisplayName("Deve retornar falso quando o inventário não possui assentos suficientes")
+    void deveRetornarFalsoQuandoInventarioSemAssentos() {
 
-        restaurante.setCapacidade(1);
-        when(restauranteRepository.findById(anyLong())).thenReturn(Optional.of(restaurante));
+        when(inventarioAssentos.possuiDisponibilidade(restaurante.getId(), dataHoraFutura, 2)).thenReturn(false);
 
         boolean resultado = gerenciarReservaUseCase.verificarDisponibilidade(
                 restaurante.getId(), dataHoraFutura, 2);
 
 
         assertFalse(resultado);
-        verify(restauranteRepository, times(1)).findById(restaurante.getId());
     }
 
     @Test
-    @DisplayName("Deve lançar exceção ao verificar disponibilidade de restaurante inexistente")
-    void deveLancarExcecaoAoVerificarDisponibilidadeDeRestauranteInexistente() {
+    @DisplayName("Deve bloquear assentos quando houver disponibilidade")
+    void deveBloquearAssentos() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(usuarioRepository.existsById(1L)).thenReturn(true);
+        when(inventarioAssentos.chave(1L, dataHoraFutura)).thenReturn(new ChaveSlot(1L, dataHoraFutura));
+        doReturn(true).when(gerenciarReservaUseCase).verificarDisponibilidade(1L, dataHoraFutura, 2);
+        BloqueioAssentos bloqueio = bloqueio(1L);
+        when(registroBloqueios.registrar(eq(1L), eq(1L), eq(dataHoraFutura), eq(2), any())).thenReturn(bloqueio);
+
+        assertEquals(bloqueio, gerenciarReservaUseCase.bloquearAssentos(reservaDTO));
+        verify(inventarioAssentos, never()).ocupar(anyLong(), any(), anyInt());
+        verifyNoInteractions(reservaRepository);
+    }
 
-        when(restauranteRepository.findById(anyLong())).thenReturn(Optional.empty());
+    @Test
+    @DisplayName("Não deve bloquear assentos sem disponibilidade")
+    void naoDeveBloquearSemDisponibilidade() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(usuarioRepository.existsById(1L)).thenReturn(true);
+        when(inventarioAssentos.chave(1L, dataHoraFutura)).thenReturn(new ChaveSlot(1L, dataHoraFutura));
+        doReturn(false).when(gerenciarReservaUseCase).verificarDisponibilidade(1L, dataHoraFutura, 2);
+
+        assertThrows(InvalidRequestException.class, () -> gerenciarReservaUseCase.bloquearAssentos(reservaDTO));
+        verifyNoInteractions(registroBloqueios);
+    }
 
+    @Test
+    @DisplayName("Deve converter o bloqueio em reserva sem verificar a disponibilidade novamente")
+    void deveConverterBloqueioEmReserva() {
+        BloqueioAssentos bloqueio = bloqueio(1L);
+        when(registroBloqueios.buscar(eq(bloqueio.id()), any())).thenReturn(Optional.of(bloqueio));
+        when(registroBloqueios.retirar(eq(bloqueio.id()), any())).thenReturn(Optional.of(bloqueio));
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario));
+        when(inventarioAssentos.chave(1L, dataHoraFutura)).thenReturn(new ChaveSlot(1L, dataHoraFutura));
+        when(reservaRepository.save(any(Reserva.class))).thenReturn(reservaEsperada);
 
-        ResourceNotFoundException exception = assertThrows(
-                ResourceNotFoundException.class,
-                () -> gerenciarReservaUseCase.verificarDisponibilidade(
-                        999L, dataHoraFutura, 2)
-        );
-        assertEquals("Restaurante não encontrado com ID: 999", exception.getMessage());
-        verify(restauranteRepository, times(1)).findById(999L);
+        Reserva resultado = gerenciarReservaUseCase.converterBloqueio(bloqueio.id(), 1L);
+
+        assertEquals(reservaEsperada, resultado);
+        verify(gerenciarReservaUseCase, never()).verificarDisponibilidade(any(), any(), any());
+        verify(inventarioAssentos).ocupar(1L, dataHoraFutura, 2);
+        verify(eventPublisher).publishEvent(ReservaAlteradaEvent.criacao(reservaEsperada));
+    }
+
+    @Test
+    @DisplayName("Deve recusar a conversão de bloqueio expirado ou de outro usuário")
+    void deveRecusarConversaoInvalida() {
+        BloqueioAssentos bloqueio = bloqueio(2L);
+        when(registroBloqueios.buscar(eq("inexistente"), any())).thenReturn(Optional.empty());
+        when(registroBloqueios.buscar(eq(bloqueio.id()), any())).thenReturn(Optional.of(bloqueio));
+
+        assertThrows(ResourceNotFoundException.class,
+                () -> gerenciarReservaUseCase.converterBloqueio("inexistente", 1L));
+        assertThrows(InvalidRequestException.class,
+                () -> gerenciarReservaUseCase.converterBloqueio(bloqueio.id(), 1L));
+        verify(registroBloqueios, never()).retirar(any(), any());
+        verifyNoInteractions(reservaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve liberar o bloqueio do próprio usuário")
+    void deveLiberarBloqueio() {
+        BloqueioAssentos bloqueio = bloqueio(1L);
+        when(registroBloqueios.buscar(eq(bloqueio.id()), any())).thenReturn(Optional.of(bloqueio));
+
+        gerenciarReservaUseCase.liberarBloqueio(bloqueio.id(), 1L);
+
+        verify(registroBloqueios).liberar(bloqueio.id());
+    }
+
+    private BloqueioAssentos bloqueio(Long usuarioId) {
+        return new BloqueioAssentos("bloqueio-1", 1L, usuarioId, dataHoraFutura, 2, LocalDateTime.now().plusMinutes(2));
     }
-}
\ No newline at end of file
+}
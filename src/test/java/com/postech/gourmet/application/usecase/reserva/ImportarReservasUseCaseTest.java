@@ -0,0 +1,212 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportarReservasUseCaseTest {
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private MesaRepository mesaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AlocadorMesas alocadorMesas;
+    private ImportarReservasUseCase importarReservasUseCase;
+    private LocalDateTime dataHora;
+
+    @BeforeEach
+    void setUp() {
+        InventarioAssentos inventarioAssentos = new InventarioAssentos(restauranteRepository, reservaRepository, 30);
+        alocadorMesas = new AlocadorMesas(mesaRepository, inventarioAssentos, 3);
+        importarReservasUseCase = new ImportarReservasUseCase(reservaRepository, usuarioRepository,
+                inventarioAssentos, alocadorMesas, new ControleConcorrenciaLocal(), eventPublisher);
+
+        dataHora = LocalDateTime.now().plusDays(3).withHour(20).withMinute(0).withSecond(0).withNano(0);
+    }
+
+    private void prepararRepositorios() {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(1L);
+        restaurante.setNome("Restaurante Teste");
+        restaurante.setCapacidade(6);
+        restaurante.definirHorarioFuncionamento(dataHora.getDayOfWeek(), LocalTime.of(11, 0), LocalTime.of(23, 0));
+
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setNome("Usuário Teste");
+
+        AtomicLong ids = new AtomicLong();
+        when(restauranteRepository.findAllById(anyCollection())).thenReturn(List.of(restaurante));
+        when(usuarioRepository.findAllById(anyCollection())).thenReturn(List.of(usuario));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(any(), any(), any())).thenReturn(0);
+        when(reservaRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Reserva> reservas = invocation.getArgument(0);
+            reservas.forEach(r -> r.setId(ids.incrementAndGet()));
+            return reservas;
+        });
+    }
+
+    private ReservaDTO item(Long restauranteId, LocalDateTime dataHora, Integer pessoas) {
+        ReservaDTO dto = new ReservaDTO();
+        dto.setRestauranteId(restauranteId);
+        dto.setUsuarioId(1L);
+        dto.setDataHora(dataHora);
+        dto.setNumeroPessoas(pessoas);
+        return dto;
+    }
+
+    @Test
+    @DisplayName("Deve criar as reservas válidas e reportar as recusadas na ordem do lote")
+    void deveCriarValidasEReportarRecusadas() {
+        prepararRepositorios();
+
+        List<ReservaDTO> lote = Arrays.asList(
+                item(1L, dataHora, 4),
+                item(99L, dataHora, 2),
+                null,
+                item(1L, dataHora.plusMinutes(10), 3),
+                item(1L, dataHora.plusMinutes(20), 2),
+                item(1L, dataHora.minusDays(10), 2)
+        );
+
+        List<ResultadoImportacao> resultados = importarReservasUseCase.importarReservas(lote);
+
+        assertEquals(6, resultados.size());
+        assertTrue(resultados.get(0).isCriada());
+        assertEquals("Restaurante não encontrado", resultados.get(1).erro());
+        assertEquals("Item mal formatado", resultados.get(2).erro());
+        assertEquals("Restaurante sem disponibilidade para esta data/hora", resultados.get(3).erro());
+        assertTrue(resultados.get(4).isCriada());
+        assertEquals("Não é possível fazer reservas para datas passadas", resultados.get(5).erro());
+        for (int i = 0; i < resultados.size(); i++) {
+            assertEquals(i, resultados.get(i).indice());
+        }
+
+        verify(reservaRepository, times(1)).saveAll(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(ReservaAlteradaEvent.class));
+        verify(restauranteRepository, never()).findById(any());
+        verify(usuarioRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve consultar restaurantes e usuários uma única vez por lote")
+    void deveConsultarRestaurantesEUsuariosUmaVez() {
+        prepararRepositorios();
+        List<ReservaDTO> lote = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            lote.add(item(1L, dataHora.plusHours(i % 3 - 2), 1));
+        }
+
+        List<ResultadoImportacao> resultados = importarReservasUseCase.importarReservas(lote);
+
+        assertTrue(resultados.stream().allMatch(ResultadoImportacao::isCriada));
+        verify(restauranteRepository, times(1)).findAllById(anyCollection());
+        verify(usuarioRepository, times(1)).findAllById(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Deve alocar as mesas de cada item e recusar o grupo que não cabe em nenhuma mesa")
+    void deveAlocarMesasERecusarGrupoSemMesa() {
+        prepararRepositorios();
+        prepararMesas();
+
+        List<ResultadoImportacao> resultados = importarReservasUseCase.importarReservas(List.of(
+                item(1L, dataHora, 4),
+                item(1L, dataHora, 2)));
+
+        assertTrue(resultados.get(0).isCriada());
+        assertEquals("Nenhuma mesa disponível para o grupo nesta data/hora", resultados.get(1).erro());
+        verify(mesaRepository, times(1)).registrarAlocacao(any(), any());
+        verify(mesaRepository).registrarAlocacao(1L, List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Deve devolver as mesas alocadas quando a importação for desfeita")
+    void deveLiberarMesasAoDesfazerImportacao() {
+        prepararRepositorios();
+        prepararMesas();
+        ChaveSlot slot = new ChaveSlot(1L, dataHora);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(importarReservasUseCase.importarReservas(List.of(item(1L, dataHora, 4))).get(0).isCriada());
+            assertFalse(alocadorMesas.podeAlocar(slot, 4));
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertTrue(alocadorMesas.podeAlocar(slot, 4));
+    }
+
+    // Uma mesa de 4 lugares e outra de 1, que não se combinam
+    private void prepararMesas() {
+        when(mesaRepository.findByRestauranteId(1L)).thenReturn(List.of(
+                new Mesa(1L, 1L, 4, false), new Mesa(2L, 1L, 1, false)));
+        when(mesaRepository.findMesaIdsOcupadas(eq(1L), eq(dataHora), any())).thenReturn(List.of());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote vazio")
+    void deveRejeitarLoteVazio() {
+        InvalidRequestException exception = assertThrows(
+                InvalidRequestException.class,
+                () -> importarReservasUseCase.importarReservas(Collections.emptyList())
+        );
+        assertEquals("O lote de reservas está vazio", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar lote maior que o permitido")
+    void deveRejeitarLoteMaiorQuePermitido() {
+        List<ReservaDTO> lote = Collections.nCopies(ImportarReservasUseCase.MAXIMO_ITENS_POR_LOTE + 1, item(1L, dataHora, 1));
+
+        assertThrows(InvalidRequestException.class, () -> importarReservasUseCase.importarReservas(lote));
+        verifyNoInteractions(reservaRepository);
+    }
+}
@@ -0,0 +1,183 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventarioAssentosTest {
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    private InventarioAssentos inventarioAssentos;
+    private Restaurante restaurante;
+    private LocalDateTime dataHora;
+
+    @BeforeEach
+    void setUp() {
+        inventarioAssentos = new InventarioAssentos(restauranteRepository, reservaRepository, 30);
+        dataHora = LocalDateTime.now().plusDays(2).withHour(20).withMinute(10).withSecond(0).withNano(0);
+
+        restaurante = new Restaurante();
+        restaurante.setId(1L);
+        restaurante.setCapacidade(10);
+        restaurante.definirHorarioFuncionamento(dataHora.getDayOfWeek(), LocalTime.of(11, 0), LocalTime.of(23, 0));
+    }
+
+    @Test
+    @DisplayName("Deve truncar a data/hora para o início do slot")
+    void deveTruncarDataHoraParaInicioDoSlot() {
+        ChaveSlot chave = inventarioAssentos.chave(1L, dataHora);
+
+        assertEquals(dataHora.withMinute(0), chave.inicio());
+        assertEquals(chave, inventarioAssentos.chave(1L, dataHora.withMinute(29)));
+        assertNotEquals(chave, inventarioAssentos.chave(1L, dataHora.withMinute(30)));
+    }
+
+    @Test
+    @DisplayName("Deve considerar assentos já reservados ao verificar disponibilidade")
+    void deveConsiderarAssentosJaReservados() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(6);
+
+        assertTrue(inventarioAssentos.possuiDisponibilidade(1L, dataHora, 4));
+        assertFalse(inventarioAssentos.possuiDisponibilidade(1L, dataHora, 5));
+    }
+
+    @Test
+    @DisplayName("Deve carregar restaurante e slot do banco apenas uma vez")
+    void deveCarregarRestauranteESlotApenasUmaVez() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(0);
+
+        inventarioAssentos.possuiDisponibilidade(1L, dataHora, 2);
+        inventarioAssentos.ocupar(1L, dataHora, 8);
+        boolean resultado = inventarioAssentos.possuiDisponibilidade(1L, dataHora, 3);
+
+        assertFalse(resultado);
+        assertEquals(8, inventarioAssentos.assentosOcupados(1L, dataHora));
+        verify(restauranteRepository, times(1)).findById(1L);
+        verify(reservaRepository, times(1)).somarPessoasAtivasNoPeriodo(eq(1L), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver assentos ao liberar uma reserva")
+    void deveDevolverAssentosAoLiberar() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(10);
+
+        assertFalse(inventarioAssentos.possuiDisponibilidade(1L, dataHora, 1));
+
+        inventarioAssentos.liberar(1L, dataHora, 4);
+
+        assertEquals(4, inventarioAssentos.assentosLivres(1L, dataHora));
+        assertTrue(inventarioAssentos.possuiDisponibilidade(1L, dataHora, 4));
+    }
+
+    @Test
+    @DisplayName("Deve descontar assentos bloqueados da disponibilidade até o desbloqueio")
+    void deveDescontarAssentosBloqueados() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(4);
+
+        inventarioAssentos.bloquear(1L, dataHora, 3);
+        inventarioAssentos.bloquear(1L, dataHora.plusMinutes(5), 2);
+
+        assertEquals(5, inventarioAssentos.assentosBloqueados(1L, dataHora));
+        assertEquals(1, inventarioAssentos.assentosLivres(1L, dataHora));
+        assertFalse(inventarioAssentos.possuiDisponibilidade(1L, dataHora, 2));
+
+        inventarioAssentos.desbloquear(1L, dataHora, 3);
+        inventarioAssentos.desbloquear(1L, dataHora, 2);
+
+        assertEquals(0, inventarioAssentos.assentosBloqueados(1L, dataHora));
+        assertEquals(6, inventarioAssentos.assentosLivres(1L, dataHora));
+    }
+
+    @Test
+    @DisplayName("Deve retornar falso quando o restaurante está fechado")
+    void deveRetornarFalsoQuandoRestauranteFechado() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+
+        assertFalse(inventarioAssentos.possuiDisponibilidade(1L, dataHora.withHour(8), 2));
+        verify(reservaRepository, never()).somarPessoasAtivasNoPeriodo(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar o restaurante após uma atualização")
+    void deveRecarregarRestauranteAposAtualizacao() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+
+        inventarioAssentos.restaurante(1L);
+        inventarioAssentos.aoAlterarRestaurante(RestauranteAlteradoEvent.atualizacao(restaurante));
+        inventarioAssentos.restaurante(1L);
+
+        verify(restauranteRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve descartar slots passados e recarregá-los do banco no próximo acesso")
+    void deveDescartarSlotsPassados() {
+        LocalDateTime passado = dataHora.minusDays(5);
+        LocalDateTime inicioPassado = passado.withMinute(0);
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(0);
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(1L, inicioPassado, inicioPassado.plusMinutes(30)))
+                .thenReturn(0, 3);
+        inventarioAssentos.ocupar(1L, dataHora, 4);
+        inventarioAssentos.ocupar(1L, passado, 2);
+        inventarioAssentos.bloquear(1L, passado, 1);
+
+        assertEquals(1, inventarioAssentos.descartarSlotsAnteriores(dataHora.minusDays(1)));
+
+        assertEquals(4, inventarioAssentos.assentosOcupados(1L, dataHora));
+        assertEquals(0, inventarioAssentos.assentosBloqueados(1L, passado));
+        assertEquals(3, inventarioAssentos.assentosOcupados(1L, passado));
+        verify(reservaRepository, times(2)).somarPessoasAtivasNoPeriodo(1L, inicioPassado, inicioPassado.plusMinutes(30));
+    }
+
+    @Test
+    @DisplayName("Deve descartar o restaurante que ficou sem slots em memória")
+    void deveDescartarRestauranteSemSlots() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(0);
+        inventarioAssentos.possuiDisponibilidade(1L, dataHora, 2);
+        inventarioAssentos.gradeAbertura(1L);
+
+        assertEquals(1, inventarioAssentos.descartarSlotsAnteriores(dataHora.plusDays(1)));
+        assertTrue(inventarioAssentos.possuiDisponibilidade(1L, dataHora, 2));
+
+        verify(restauranteRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção para restaurante inexistente")
+    void deveLancarExcecaoParaRestauranteInexistente() {
+        when(restauranteRepository.findById(999L)).thenReturn(Optional.empty());
+
+        ResourceNotFoundException exception = assertThrows(
+                ResourceNotFoundException.class,
+                () -> inventarioAssentos.possuiDisponibilidade(999L, dataHora, 2)
+        );
+        assertEquals("Restaurante não encontrado com ID: 999", exception.getMessage());
+    }
+}
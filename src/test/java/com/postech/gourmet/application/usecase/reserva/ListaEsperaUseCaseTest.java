@@ -0,0 +1,265 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.AssentosLiberadosEvent;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.ListaEsperaRepository;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListaEsperaUseCaseTest {
+
+    @Mock
+    private ListaEsperaRepository listaEsperaRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private MesaRepository mesaRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private UsuarioRepository usuarioRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InventarioAssentos inventarioAssentos;
+    private ListaEsperaUseCase listaEsperaUseCase;
+    private LocalDateTime dataHora;
+    private final AtomicLong proximoId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        dataHora = LocalDateTime.now().plusDays(2).withHour(20).withMinute(0).withSecond(0).withNano(0);
+
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(1L);
+        restaurante.setNome("Restaurante Teste");
+        restaurante.setCapacidade(4);
+        restaurante.definirHorarioFuncionamento(dataHora.getDayOfWeek(), LocalTime.of(11, 0), LocalTime.of(23, 0));
+        lenient().when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+
+        inventarioAssentos = new InventarioAssentos(restauranteRepository, reservaRepository, 30);
+        listaEsperaUseCase = new ListaEsperaUseCase(listaEsperaRepository, reservaRepository, usuarioRepository,
+                inventarioAssentos, new ControleConcorrenciaLocal(), new AlocadorMesas(mesaRepository, inventarioAssentos, 3),
+                eventPublisher, transactionManager, 10);
+    }
+
+    @Test
+    @DisplayName("Deve colocar o grupo na fila quando o horário está lotado")
+    void deveColocarGrupoNaFila() {
+        lotarSlot();
+        aceitarEntradas();
+
+        EntradaListaEspera entrada = listaEsperaUseCase.entrar(pedido(1L, 2));
+
+        assertEquals(StatusListaEspera.AGUARDANDO, entrada.getStatus());
+        assertNotNull(entrada.getId());
+        assertEquals(1, listaEsperaUseCase.entradasAguardando());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a lista de espera quando ainda há assentos para o grupo")
+    void deveRecusarQuandoHaAssentos() {
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(2);
+        when(usuarioRepository.existsById(1L)).thenReturn(true);
+
+        assertThrows(InvalidRequestException.class, () -> listaEsperaUseCase.entrar(pedido(1L, 2)));
+        verify(listaEsperaRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Deve recusar grupos maiores que o limite da lista de espera")
+    void deveRecusarGrupoMaiorQueLimite() {
+        assertThrows(InvalidRequestException.class, () -> listaEsperaUseCase.entrar(pedido(1L, 11)));
+    }
+
+    @Test
+    @DisplayName("Deve promover o grupo mais antigo que cabe nos assentos liberados pelo cancelamento")
+    void devePromoverGrupoMaisAntigoQueCabe() {
+        lotarSlot();
+        aceitarEntradas();
+        listaEsperaUseCase.entrar(pedido(1L, 4));
+        EntradaListaEspera segunda = listaEsperaUseCase.entrar(pedido(2L, 2));
+        listaEsperaUseCase.entrar(pedido(3L, 2));
+
+        when(usuarioRepository.findById(2L)).thenReturn(Optional.of(usuario(2L)));
+        when(listaEsperaRepository.atualizarStatus(segunda.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.PROMOVIDA))
+                .thenReturn(1);
+        when(reservaRepository.save(any(Reserva.class))).thenAnswer(invocation -> {
+            Reserva reserva = invocation.getArgument(0);
+            reserva.setId(100L);
+            return reserva;
+        });
+
+        cancelar(2);
+
+        ArgumentCaptor<Reserva> captor = ArgumentCaptor.forClass(Reserva.class);
+        verify(reservaRepository).save(captor.capture());
+        assertEquals(2L, captor.getValue().getUsuario().getId());
+        assertEquals(StatusReserva.PENDENTE, captor.getValue().getStatus());
+        assertEquals(2, captor.getValue().getNumeroPessoas());
+        verify(listaEsperaRepository).registrarReserva(segunda.getId(), 100L);
+        verify(eventPublisher).publishEvent(any(ReservaAlteradaEvent.class));
+        assertEquals(0, inventarioAssentos.assentosLivres(1L, dataHora));
+        assertEquals(2, listaEsperaUseCase.entradasAguardando());
+    }
+
+    @Test
+    @DisplayName("Deve passar ao próximo grupo quando a entrada já não está aguardando no banco")
+    void devePassarAoProximoGrupoQuandoEntradaMudou() {
+        lotarSlot();
+        aceitarEntradas();
+        EntradaListaEspera primeira = listaEsperaUseCase.entrar(pedido(1L, 2));
+        EntradaListaEspera segunda = listaEsperaUseCase.entrar(pedido(2L, 2));
+
+        when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario(1L)));
+        when(usuarioRepository.findById(2L)).thenReturn(Optional.of(usuario(2L)));
+        when(listaEsperaRepository.atualizarStatus(primeira.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.PROMOVIDA))
+                .thenReturn(0);
+        when(listaEsperaRepository.atualizarStatus(segunda.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.PROMOVIDA))
+                .thenReturn(1);
+        when(reservaRepository.save(any(Reserva.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<Reserva> promovidas = listaEsperaUseCase.promover(inventarioAssentos.chave(1L, dataHora));
+        assertTrue(promovidas.isEmpty());
+
+        cancelar(2);
+
+        verify(reservaRepository).save(argThat(reserva -> reserva.getUsuario().getId().equals(2L)));
+        assertEquals(0, listaEsperaUseCase.entradasAguardando());
+    }
+
+    @Test
+    @DisplayName("Deve promover o grupo com os assentos de um bloqueio liberado, em transação própria")
+    void devePromoverComAssentosDeBloqueioLiberado() {
+        lotarSlot();
+        aceitarEntradas();
+        EntradaListaEspera entrada = listaEsperaUseCase.entrar(pedido(1L, 2));
+
+        when(usuarioRepository.findById(1L)).thenReturn(Optional.of(usuario(1L)));
+        when(listaEsperaRepository.atualizarStatus(entrada.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.PROMOVIDA))
+                .thenReturn(1);
+        when(reservaRepository.save(any(Reserva.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // O bloqueio devolveu 2 assentos do slot lotado
+        inventarioAssentos.liberar(1L, dataHora, 2);
+        listaEsperaUseCase.aoLiberarAssentos(new AssentosLiberadosEvent(1L, dataHora, 2));
+
+        verify(reservaRepository).save(argThat(reserva -> reserva.getUsuario().getId().equals(1L)));
+        verify(transactionManager).getTransaction(any());
+        verify(transactionManager).commit(any());
+        assertEquals(0, listaEsperaUseCase.entradasAguardando());
+    }
+
+    @Test
+    @DisplayName("Não deve abrir transação ao liberar bloqueio de um slot sem fila")
+    void naoDeveAbrirTransacaoSemFila() {
+        listaEsperaUseCase.aoLiberarAssentos(new AssentosLiberadosEvent(1L, dataHora, 2));
+
+        verifyNoInteractions(transactionManager, listaEsperaRepository, reservaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve retirar o grupo da fila ao sair da lista de espera")
+    void deveRetirarGrupoAoSair() {
+        lotarSlot();
+        aceitarEntradas();
+        EntradaListaEspera entrada = listaEsperaUseCase.entrar(pedido(1L, 2));
+        when(listaEsperaRepository.findById(entrada.getId())).thenReturn(Optional.of(entrada));
+        when(listaEsperaRepository.atualizarStatus(entrada.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.CANCELADA))
+                .thenReturn(1);
+
+        listaEsperaUseCase.sair(entrada.getId(), 1L);
+
+        assertEquals(0, listaEsperaUseCase.entradasAguardando());
+    }
+
+    @Test
+    @DisplayName("Não deve permitir que outro usuário retire o grupo da fila")
+    void naoDevePermitirSaidaPorOutroUsuario() {
+        EntradaListaEspera entrada = new EntradaListaEspera(5L, 1L, 1L, dataHora, 2,
+                StatusListaEspera.AGUARDANDO, null, LocalDateTime.now());
+        when(listaEsperaRepository.findById(5L)).thenReturn(Optional.of(entrada));
+
+        assertThrows(InvalidRequestException.class, () -> listaEsperaUseCase.sair(5L, 2L));
+        verify(listaEsperaRepository, never()).atualizarStatus(any(), any(), any());
+    }
+
+    private void lotarSlot() {
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(eq(1L), any(), any())).thenReturn(4);
+    }
+
+    private void aceitarEntradas() {
+        when(usuarioRepository.existsById(any())).thenReturn(true);
+        when(listaEsperaRepository.save(any(EntradaListaEspera.class))).thenAnswer(invocation -> {
+            EntradaListaEspera entrada = invocation.getArgument(0);
+            entrada.setId(proximoId.getAndIncrement());
+            return entrada;
+        });
+    }
+
+    private void cancelar(int numeroPessoas) {
+        Reserva cancelada = new Reserva();
+        cancelada.setRestaurante(inventarioAssentos.restaurante(1L));
+        cancelada.setDataHora(dataHora);
+        cancelada.setNumeroPessoas(numeroPessoas);
+        cancelada.setStatus(StatusReserva.CANCELADA);
+
+        inventarioAssentos.liberar(1L, dataHora, numeroPessoas);
+        listaEsperaUseCase.aoAlterarReserva(ReservaAlteradaEvent.cancelamento(cancelada, StatusReserva.CONFIRMADA));
+    }
+
+    private ReservaDTO pedido(Long usuarioId, int numeroPessoas) {
+        ReservaDTO dto = new ReservaDTO();
+        dto.setCliente("Cliente " + usuarioId);
+        dto.setRestauranteId(1L);
+        dto.setUsuarioId(usuarioId);
+        dto.setDataHora(dataHora);
+        dto.setNumeroPessoas(numeroPessoas);
+        return dto;
+    }
+
+    private static Usuario usuario(Long id) {
+        Usuario usuario = new Usuario();
+        usuario.setId(id);
+        usuario.setNome("Usuario " + id);
+        return usuario;
+    }
+}
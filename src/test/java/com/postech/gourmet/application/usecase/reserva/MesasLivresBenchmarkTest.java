@@ -0,0 +1,79 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Mesa;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a latência da alocação de mesas em um restaurante grande: 200 mesas, 50 slots e
+ * 10 mil pedidos de grupos de 1 a 12 pessoas distribuídos entre os slots.
+ */
+@Slf4j
+@Tag("benchmark")
+class MesasLivresBenchmarkTest {
+    private static final int MESAS = 200;
+    private static final int SLOTS = 50;
+    private static final int PEDIDOS = 10_000;
+    private static final int[] TAMANHOS = {2, 2, 2, 4, 4, 4, 6, 6, 8, 10};
+
+    @Test
+    @DisplayName("Deve alocar 10 mil pedidos em 200 mesas x 50 slots com latência baixa")
+    void deveAlocarComLatenciaBaixa() {
+        Random aleatorio = new Random(42);
+        List<Mesa> mesas = new ArrayList<>();
+        for (long id = 1; id <= MESAS; id++) {
+            mesas.add(new Mesa(id, 1L, TAMANHOS[(int) (id % TAMANHOS.length)], id % 3 != 0));
+        }
+        MesasLivres[] slots = new MesasLivres[SLOTS];
+        for (int i = 0; i < SLOTS; i++) {
+            slots[i] = new MesasLivres(mesas, Set.of(), 3);
+        }
+
+        // Aquecimento do JIT em um conjunto de slots descartável
+        MesasLivres aquecimento = new MesasLivres(mesas, Set.of(), 3);
+        for (int i = 0; i < 20_000; i++) {
+            List<Mesa> alocadas = aquecimento.alocar(1 + aleatorio.nextInt(12));
+            aquecimento.liberar(alocadas.stream().map(Mesa::getId).toList());
+        }
+
+        long[] latencias = new long[PEDIDOS];
+        int atendidos = 0;
+        long pessoasAtendidas = 0;
+        long lugaresOcupados = 0;
+        for (int i = 0; i < PEDIDOS; i++) {
+            int pessoas = 1 + aleatorio.nextInt(12);
+            MesasLivres slot = slots[aleatorio.nextInt(SLOTS)];
+
+            long inicio = System.nanoTime();
+            List<Mesa> alocadas = slot.alocar(pessoas);
+            latencias[i] = System.nanoTime() - inicio;
+
+            if (!alocadas.isEmpty()) {
+                atendidos++;
+                pessoasAtendidas += pessoas;
+                lugaresOcupados += alocadas.stream().mapToInt(Mesa::getLugares).sum();
+            }
+        }
+
+        Arrays.sort(latencias);
+        long p50 = latencias[PEDIDOS / 2];
+        long p99 = latencias[PEDIDOS * 99 / 100];
+        log.info("Alocação de mesas: {} pedidos, {} atendidos, aproveitamento {}%, p50 {} ns, p99 {} ns, máx {} ns",
+                PEDIDOS, atendidos, String.format("%.1f", 100.0 * pessoasAtendidas / lugaresOcupados),
+                p50, p99, latencias[PEDIDOS - 1]);
+
+        assertTrue(atendidos > 0);
+        // Limite folgado para não oscilar em máquinas lentas; os valores típicos ficam em microssegundos
+        assertTrue(p99 < 5_000_000, "p99 de " + p99 + " ns");
+    }
+}
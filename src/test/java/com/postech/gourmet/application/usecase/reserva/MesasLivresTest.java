@@ -0,0 +1,92 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.entities.Mesa;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MesasLivresTest {
+
+    @Test
+    @DisplayName("Deve escolher a menor mesa em que o grupo cabe")
+    void deveEscolherMenorMesaQueComporta() {
+        MesasLivres livres = new MesasLivres(List.of(
+                mesa(1L, 10, false), mesa(2L, 2, false), mesa(3L, 4, false)), Set.of(), 3);
+
+        assertEquals(List.of(3L), ids(livres.alocar(3)));
+        assertEquals(List.of(2L), ids(livres.alocar(2)));
+        assertEquals(List.of(1L), ids(livres.alocar(2)));
+        assertTrue(livres.alocar(1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve preferir mesas fixas às combináveis do mesmo tamanho")
+    void devePreferirMesasFixas() {
+        MesasLivres livres = new MesasLivres(List.of(mesa(1L, 4, true), mesa(2L, 4, false)), Set.of(), 3);
+
+        assertEquals(List.of(2L), ids(livres.alocar(4)));
+    }
+
+    @Test
+    @DisplayName("Deve combinar mesas combináveis quando nenhuma mesa isolada comporta o grupo")
+    void deveCombinarMesas() {
+        MesasLivres livres = new MesasLivres(List.of(
+                mesa(1L, 6, true), mesa(2L, 4, true), mesa(3L, 2, true), mesa(4L, 8, false)), Set.of(), 3);
+
+        List<Mesa> alocadas = livres.alocar(10);
+
+        assertEquals(List.of(1L, 2L), ids(alocadas));
+        assertEquals(2, livres.mesasLivres());
+    }
+
+    @Test
+    @DisplayName("Não deve ocupar mesas quando a combinação não comporta o grupo")
+    void naoDeveOcuparMesasSemCombinacaoSuficiente() {
+        MesasLivres livres = new MesasLivres(List.of(
+                mesa(1L, 4, true), mesa(2L, 4, true), mesa(3L, 4, true), mesa(4L, 10, false)), Set.of(), 2);
+
+        assertTrue(livres.alocar(12).isEmpty());
+        assertEquals(4, livres.mesasLivres());
+        assertTrue(livres.cabe(8));
+        assertEquals(4, livres.mesasLivres());
+    }
+
+    @Test
+    @DisplayName("Deve desconsiderar mesas ocupadas e devolvê-las ao liberar")
+    void deveDevolverMesasAoLiberar() {
+        MesasLivres livres = new MesasLivres(List.of(mesa(1L, 4, false), mesa(2L, 4, false)), Set.of(1L), 3);
+
+        assertEquals(List.of(2L), ids(livres.alocar(4)));
+        assertTrue(livres.alocar(4).isEmpty());
+
+        livres.liberar(List.of(1L, 99L));
+        livres.liberar(List.of(1L));
+
+        assertEquals(1, livres.mesasLivres());
+        assertEquals(List.of(1L), ids(livres.alocar(4)));
+    }
+
+    @Test
+    @DisplayName("Deve ocupar novamente mesas liberadas ao desfazer a liberação")
+    void deveOcuparMesasAoDesfazerLiberacao() {
+        MesasLivres livres = new MesasLivres(List.of(mesa(1L, 4, true), mesa(2L, 2, false)), Set.of(), 3);
+
+        livres.ocupar(List.of(1L));
+
+        assertEquals(1, livres.mesasLivres());
+        assertEquals(List.of(2L), ids(livres.alocar(2)));
+        assertTrue(livres.alocar(1).isEmpty());
+    }
+
+    private static Mesa mesa(Long id, int lugares, boolean combinavel) {
+        return new Mesa(id, 1L, lugares, combinavel);
+    }
+
+    private static List<Long> ids(List<Mesa> mesas) {
+        return mesas.stream().map(Mesa::getId).toList();
+    }
+}
@@ -0,0 +1,137 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.domain.events.AssentosLiberadosEvent;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class RegistroBloqueiosTest {
+
+    private InventarioAssentos inventarioAssentos;
+    private SimpleMeterRegistry meterRegistry;
+    private RegistroBloqueios registroBloqueios;
+    private List<Object> eventos;
+    private LocalDateTime agora;
+    private LocalDateTime dataHora;
+
+    @BeforeEach
+    void setUp() {
+        inventarioAssentos = new InventarioAssentos(
+                mock(RestauranteRepository.class), mock(ReservaRepository.class), 30);
+        meterRegistry = new SimpleMeterRegistry();
+        eventos = new ArrayList<>();
+        registroBloqueios = new RegistroBloqueios(inventarioAssentos, eventos::add, meterRegistry, Duration.ofMinutes(2));
+        agora = LocalDateTime.now();
+        dataHora = agora.plusDays(1).withHour(20).withMinute(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve reter os assentos e expor a quantidade de bloqueios ativos")
+    void deveReterAssentosEExporMetrica() {
+        BloqueioAssentos bloqueio = registroBloqueios.registrar(1L, 1L, dataHora, 4, agora);
+
+        assertEquals(agora.plusMinutes(2), bloqueio.expiraEm());
+        assertEquals(4, inventarioAssentos.assentosBloqueados(1L, dataHora));
+        assertEquals(1, meterRegistry.get("gourmet.reservas.bloqueios.ativos").gauge().value());
+        assertTrue(registroBloqueios.buscar(bloqueio.id(), agora).isPresent());
+        assertTrue(registroBloqueios.buscar(bloqueio.id(), bloqueio.expiraEm()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve liberar apenas os bloqueios vencidos")
+    void deveLiberarBloqueiosVencidos() {
+        registroBloqueios.registrar(1L, 1L, dataHora, 4, agora);
+        BloqueioAssentos recente = registroBloqueios.registrar(1L, 2L, dataHora, 2, agora.plusMinutes(1));
+
+        assertEquals(0, registroBloqueios.liberarVencidos(agora.plusMinutes(1)));
+        assertEquals(1, registroBloqueios.liberarVencidos(agora.plusMinutes(2).plusSeconds(1)));
+
+        assertEquals(1, registroBloqueios.bloqueiosAtivos());
+        assertEquals(2, inventarioAssentos.assentosBloqueados(1L, dataHora));
+        assertTrue(registroBloqueios.buscar(recente.id(), agora.plusMinutes(2)).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve devolver os assentos ao liberar o bloqueio uma única vez")
+    void deveLiberarBloqueioUmaVez() {
+        BloqueioAssentos bloqueio = registroBloqueios.registrar(1L, 1L, dataHora, 4, agora);
+
+        assertTrue(registroBloqueios.liberar(bloqueio.id()));
+        assertFalse(registroBloqueios.liberar(bloqueio.id()));
+        assertEquals(0, inventarioAssentos.assentosBloqueados(1L, dataHora));
+        assertEquals(0, registroBloqueios.liberarVencidos(agora.plusMinutes(3)));
+        assertEquals(List.of(new AssentosLiberadosEvent(1L, dataHora, 4)), eventos);
+    }
+
+    @Test
+    @DisplayName("Deve anunciar os assentos dos bloqueios vencidos")
+    void deveAnunciarAssentosDeBloqueiosVencidos() {
+        registroBloqueios.registrar(1L, 1L, dataHora, 4, agora);
+        registroBloqueios.registrar(2L, 2L, dataHora, 2, agora);
+
+        registroBloqueios.liberarVencidos(agora.plusMinutes(2).plusSeconds(1));
+
+        assertEquals(2, eventos.size());
+        assertTrue(eventos.contains(new AssentosLiberadosEvent(1L, dataHora, 4)));
+        assertTrue(eventos.contains(new AssentosLiberadosEvent(2L, dataHora, 2)));
+    }
+
+    @Test
+    @DisplayName("Deve manter os assentos retidos até o commit da conversão")
+    void deveManterAssentosAteOCommit() {
+        BloqueioAssentos bloqueio = registroBloqueios.registrar(1L, 1L, dataHora, 4, agora);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertTrue(registroBloqueios.retirar(bloqueio.id(), agora).isPresent());
+        assertTrue(registroBloqueios.retirar(bloqueio.id(), agora).isEmpty());
+        assertEquals(0, registroBloqueios.bloqueiosAtivos());
+        assertEquals(4, inventarioAssentos.assentosBloqueados(1L, dataHora));
+
+        concluirTransacao(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(0, inventarioAssentos.assentosBloqueados(1L, dataHora));
+        // Os assentos passaram para a reserva; nada foi liberado para a lista de espera
+        assertTrue(eventos.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve devolver o bloqueio à tabela se a conversão for desfeita")
+    void deveRestaurarBloqueioAoDesfazer() {
+        BloqueioAssentos bloqueio = registroBloqueios.registrar(1L, 1L, dataHora, 4, agora);
+        TransactionSynchronizationManager.initSynchronization();
+
+        registroBloqueios.retirar(bloqueio.id(), agora);
+        concluirTransacao(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertTrue(registroBloqueios.buscar(bloqueio.id(), agora).isPresent());
+        assertEquals(4, inventarioAssentos.assentosBloqueados(1L, dataHora));
+        // O bloqueio restaurado continua agendado para vencer
+        assertEquals(1, registroBloqueios.liberarVencidos(bloqueio.expiraEm().plusSeconds(1)));
+    }
+
+    private void concluirTransacao(int status) {
+        TransactionSynchronizationManager.getSynchronizations().forEach(sincronizacao -> sincronizacao.afterCompletion(status));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+}
@@ -0,0 +1,129 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Dispara muitas reservas simultâneas para o mesmo slot e garante que a capacidade
+ * do restaurante nunca é ultrapassada.
+ */
+class ReservaConcorrenciaStressTest {
+    private static final int CAPACIDADE = 40;
+    private static final int THREADS = 16;
+    private static final int TENTATIVAS_POR_THREAD = 50;
+
+    private GerenciarReservaUseCase gerenciarReservaUseCase;
+    private InventarioAssentos inventarioAssentos;
+    private List<Reserva> reservasSalvas;
+    private LocalDateTime dataHora;
+
+    @BeforeEach
+    void setUp() {
+        dataHora = LocalDateTime.now().plusDays(2).withHour(20).withMinute(0).withSecond(0).withNano(0);
+
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(1L);
+        restaurante.setCapacidade(CAPACIDADE);
+        restaurante.definirHorarioFuncionamento(dataHora.getDayOfWeek(), LocalTime.of(11, 0), LocalTime.of(23, 0));
+
+        Usuario usuario = new Usuario();
+        usuario.setId(1L);
+        usuario.setNome("Usuário Teste");
+
+        RestauranteRepository restauranteRepository = mock(RestauranteRepository.class);
+        UsuarioRepository usuarioRepository = mock(UsuarioRepository.class);
+        ReservaRepository reservaRepository = mock(ReservaRepository.class);
+
+        reservasSalvas = new CopyOnWriteArrayList<>();
+        when(restauranteRepository.findById(anyLong())).thenReturn(Optional.of(restaurante));
+        when(usuarioRepository.findById(anyLong())).thenReturn(Optional.of(usuario));
+        when(reservaRepository.somarPessoasAtivasNoPeriodo(any(), any(), any())).thenReturn(0);
+        when(reservaRepository.save(any(Reserva.class))).thenAnswer(invocation -> {
+            Reserva reserva = invocation.getArgument(0);
+            // Simula a latência de um insert, aumentando a janela de disputa
+            Thread.sleep(1);
+            reservasSalvas.add(reserva);
+            return reserva;
+        });
+
+        inventarioAssentos = new InventarioAssentos(restauranteRepository, reservaRepository, 30);
+        gerenciarReservaUseCase = new GerenciarReservaUseCase(
+                reservaRepository, restauranteRepository, usuarioRepository,
+                inventarioAssentos, new ControleConcorrenciaLocal(),
+                new RegistroBloqueios(inventarioAssentos, evento -> { }, new SimpleMeterRegistry(), Duration.ofMinutes(2)),
+                new AlocadorMesas(mock(MesaRepository.class), inventarioAssentos, 3), evento -> { });
+    }
+
+    @Test
+    @DisplayName("Não deve ultrapassar a capacidade com reservas concorrentes no mesmo slot")
+    void naoDeveUltrapassarCapacidadeComReservasConcorrentes() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicInteger recusadas = new AtomicInteger();
+
+        List<Future<?>> tarefas = new CopyOnWriteArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            tarefas.add(executor.submit(() -> {
+                largada.await();
+                for (int i = 0; i < TENTATIVAS_POR_THREAD; i++) {
+                    ReservaDTO dto = new ReservaDTO();
+                    dto.setRestauranteId(1L);
+                    dto.setUsuarioId(1L);
+                    // Minutos diferentes dentro do mesmo slot de 30 minutos
+                    dto.setDataHora(dataHora.plusMinutes((thread + i) % 30));
+                    dto.setNumeroPessoas(1 + (thread + i) % 3);
+                    try {
+                        gerenciarReservaUseCase.novaReserva(dto);
+                    } catch (InvalidRequestException e) {
+                        recusadas.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+
+        largada.countDown();
+        for (Future<?> tarefa : tarefas) {
+            tarefa.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        int assentosReservados = reservasSalvas.stream().mapToInt(Reserva::getNumeroPessoas).sum();
+        assertTrue(assentosReservados <= CAPACIDADE,
+                "Capacidade ultrapassada: " + assentosReservados + " assentos reservados");
+        assertTrue(assentosReservados >= CAPACIDADE - 2, "O slot deveria estar praticamente lotado");
+        assertEquals(assentosReservados, inventarioAssentos.assentosOcupados(1L, dataHora));
+        assertEquals(THREADS * TENTATIVAS_POR_THREAD, reservasSalvas.size() + recusadas.get());
+    }
+}
@@ -0,0 +1,216 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import com.postech.gourmet.adapters.dto.ReservaDTO;
+import com.postech.gourmet.domain.entities.ChaveIdempotencia;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.ChaveIdempotenciaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReservaIdempotenteUseCaseTest {
+
+    @Mock
+    private GerenciarReservaUseCase gerenciarReservaUseCase;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ReservaIdempotenteUseCase reservaIdempotenteUseCase;
+    private ReservaDTO reservaDTO;
+    private Reserva reserva;
+
+    @BeforeEach
+    void setUp() {
+        reservaIdempotenteUseCase = new ReservaIdempotenteUseCase(
+                gerenciarReservaUseCase, reservaRepository, chaveIdempotenciaRepository,
+                transactionManager, Duration.ofHours(24), 100);
+
+        LocalDateTime dataHora = LocalDateTime.now().plusDays(1);
+        reservaDTO = new ReservaDTO();
+        reservaDTO.setCliente("Cliente Teste");
+        reservaDTO.setDataHora(dataHora);
+        reservaDTO.setNumeroPessoas(2);
+        reservaDTO.setRestauranteId(1L);
+        reservaDTO.setUsuarioId(1L);
+
+        reserva = new Reserva(10L, "Cliente Teste", dataHora, null, null);
+    }
+
+    @Test
+    @DisplayName("Deve criar a reserva e registrar a chave na primeira requisição")
+    void deveCriarReservaERegistrarChave() {
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.empty());
+        when(gerenciarReservaUseCase.novaReserva(reservaDTO)).thenReturn(reserva);
+
+        ResultadoReservaIdempotente resultado = reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+
+        assertSame(reserva, resultado.reserva());
+        assertFalse(resultado.repetida());
+        ArgumentCaptor<ChaveIdempotencia> registro = ArgumentCaptor.forClass(ChaveIdempotencia.class);
+        verify(chaveIdempotenciaRepository).inserir(registro.capture());
+        assertEquals("chave-1", registro.getValue().getChave());
+        assertEquals(10L, registro.getValue().getReservaId());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a reserva original ao repetir a chave, sem criar outra")
+    void deveDevolverReservaOriginalAoRepetir() {
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.empty());
+        when(gerenciarReservaUseCase.novaReserva(reservaDTO)).thenReturn(reserva);
+        when(reservaRepository.findById(10L)).thenReturn(Optional.of(reserva));
+
+        reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+        ResultadoReservaIdempotente repetida = reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+
+        assertTrue(repetida.repetida());
+        assertSame(reserva, repetida.reserva());
+        verify(gerenciarReservaUseCase, times(1)).novaReserva(any());
+        // A segunda requisição é atendida pelo cache
+        verify(chaveIdempotenciaRepository, times(1)).findByChave("chave-1");
+    }
+
+    @Test
+    @DisplayName("Deve consultar o banco quando a chave não estiver no cache")
+    void deveConsultarBancoQuandoForaDoCache() {
+        ArgumentCaptor<ChaveIdempotencia> registro = ArgumentCaptor.forClass(ChaveIdempotencia.class);
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.empty());
+        when(gerenciarReservaUseCase.novaReserva(reservaDTO)).thenReturn(reserva);
+        reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+        verify(chaveIdempotenciaRepository).inserir(registro.capture());
+
+        // Outra instância, com o cache vazio, recebe a repetição
+        ReservaIdempotenteUseCase outraInstancia = new ReservaIdempotenteUseCase(
+                gerenciarReservaUseCase, reservaRepository, chaveIdempotenciaRepository,
+                transactionManager, Duration.ofHours(24), 100);
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.of(registro.getValue()));
+        when(reservaRepository.findById(10L)).thenReturn(Optional.of(reserva));
+
+        ResultadoReservaIdempotente repetida = outraInstancia.reservar("chave-1", reservaDTO);
+
+        assertTrue(repetida.repetida());
+        verify(gerenciarReservaUseCase, times(1)).novaReserva(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a chave reutilizada com dados diferentes")
+    void deveRejeitarChaveComDadosDiferentes() {
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.empty());
+        when(gerenciarReservaUseCase.novaReserva(reservaDTO)).thenReturn(reserva);
+        reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+
+        reservaDTO.setNumeroPessoas(4);
+
+        assertThrows(InvalidRequestException.class, () -> reservaIdempotenteUseCase.reservar("chave-1", reservaDTO));
+        verify(gerenciarReservaUseCase, times(1)).novaReserva(any());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a reserva da requisição concorrente que registrou a chave primeiro")
+    void deveDevolverReservaDaRequisicaoConcorrente() {
+        ArgumentCaptor<ChaveIdempotencia> registro = ArgumentCaptor.forClass(ChaveIdempotencia.class);
+        when(gerenciarReservaUseCase.novaReserva(reservaDTO)).thenReturn(new Reserva(11L, "Cliente Teste",
+                reservaDTO.getDataHora(), null, null));
+        doThrow(new DataIntegrityViolationException("chave duplicada"))
+                .when(chaveIdempotenciaRepository).inserir(registro.capture());
+        when(chaveIdempotenciaRepository.findByChave("chave-1"))
+                .thenReturn(Optional.empty())
+                .thenAnswer(invocacao -> Optional.of(new ChaveIdempotencia(
+                        "chave-1", 10L, registro.getValue().getImpressao(), LocalDateTime.now())));
+        when(reservaRepository.findById(10L)).thenReturn(Optional.of(reserva));
+
+        ResultadoReservaIdempotente resultado = reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+
+        assertTrue(resultado.repetida());
+        assertSame(reserva, resultado.reserva());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar chave em branco ou longa demais")
+    void deveRejeitarChaveInvalida() {
+        assertThrows(InvalidRequestException.class, () -> reservaIdempotenteUseCase.reservar(" ", reservaDTO));
+        assertThrows(InvalidRequestException.class,
+                () -> reservaIdempotenteUseCase.reservar("x".repeat(256), reservaDTO));
+        verifyNoInteractions(gerenciarReservaUseCase);
+    }
+
+    @Test
+    @DisplayName("Deve remover as chaves mais antigas que a validade")
+    void deveRemoverChavesVencidas() {
+        when(chaveIdempotenciaRepository.deleteByCriadaEmBefore(any())).thenReturn(3);
+
+        assertEquals(3, reservaIdempotenteUseCase.removerChavesVencidas());
+
+        ArgumentCaptor<LocalDateTime> limite = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(chaveIdempotenciaRepository).deleteByCriadaEmBefore(limite.capture());
+        assertTrue(limite.getValue().isBefore(LocalDateTime.now().minusHours(23)));
+    }
+
+    @Test
+    @DisplayName("Deve tratar a chave vencida ainda no banco como nova e removê-la antes de registrar")
+    void deveIgnorarChaveVencidaNoBanco() {
+        ChaveIdempotencia vencida = new ChaveIdempotencia(
+                "chave-1", 9L, "impressao-antiga", LocalDateTime.now().minusHours(25));
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.of(vencida));
+        when(gerenciarReservaUseCase.novaReserva(reservaDTO)).thenReturn(reserva);
+
+        ResultadoReservaIdempotente resultado = reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+
+        assertFalse(resultado.repetida());
+        assertSame(reserva, resultado.reserva());
+        verify(chaveIdempotenciaRepository).deleteByChaveAndCriadaEmBefore(eq("chave-1"), any());
+        verify(chaveIdempotenciaRepository).inserir(any());
+        verify(reservaRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Deve manter em cache a chave lida do banco apenas pelo restante da validade")
+    void deveGuardarNoCacheApenasORestanteDaValidade() throws InterruptedException {
+        ArgumentCaptor<ChaveIdempotencia> registro = ArgumentCaptor.forClass(ChaveIdempotencia.class);
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.empty());
+        when(gerenciarReservaUseCase.novaReserva(reservaDTO)).thenReturn(reserva);
+        reservaIdempotenteUseCase.reservar("chave-1", reservaDTO);
+        verify(chaveIdempotenciaRepository).inserir(registro.capture());
+
+        // Outra instância lê a chave do banco quando faltam 300 ms para ela vencer
+        ReservaIdempotenteUseCase outraInstancia = new ReservaIdempotenteUseCase(
+                gerenciarReservaUseCase, reservaRepository, chaveIdempotenciaRepository,
+                transactionManager, Duration.ofHours(24), 100);
+        ChaveIdempotencia quaseVencida = new ChaveIdempotencia("chave-1", 10L, registro.getValue().getImpressao(),
+                LocalDateTime.now().minusHours(24).plusNanos(300_000_000));
+        when(chaveIdempotenciaRepository.findByChave("chave-1")).thenReturn(Optional.of(quaseVencida));
+        when(reservaRepository.findById(10L)).thenReturn(Optional.of(reserva));
+        assertTrue(outraInstancia.reservar("chave-1", reservaDTO).repetida());
+
+        Thread.sleep(400);
+        ResultadoReservaIdempotente depoisDeVencer = outraInstancia.reservar("chave-1", reservaDTO);
+
+        assertFalse(depoisDeVencer.repetida());
+        verify(gerenciarReservaUseCase, times(2)).novaReserva(reservaDTO);
+    }
+}
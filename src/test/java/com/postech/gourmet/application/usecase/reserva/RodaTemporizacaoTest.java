@@ -0,0 +1,118 @@
+package com.postech.gourmet.application.usecase.reserva;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RodaTemporizacaoTest {
+
+    private static final long SEGUNDO = 1000;
+
+    @Test
+    @DisplayName("Deve devolver o item apenas quando o prazo for alcançado")
+    void deveDevolverItemNoPrazo() {
+        RodaTemporizacao<Long> roda = new RodaTemporizacao<>(SEGUNDO, 0);
+        roda.agendar(1L, 10 * SEGUNDO);
+
+        assertTrue(roda.avancar(9 * SEGUNDO).isEmpty());
+        assertEquals(List.of(1L), roda.avancar(10 * SEGUNDO));
+        assertEquals(0, roda.tamanho());
+    }
+
+    @Test
+    @DisplayName("Deve arredondar prazos fracionados para o tick seguinte")
+    void deveArredondarPrazoParaCima() {
+        RodaTemporizacao<Long> roda = new RodaTemporizacao<>(SEGUNDO, 0);
+        roda.agendar(1L, 2 * SEGUNDO + 1);
+
+        assertTrue(roda.avancar(2 * SEGUNDO + 999).isEmpty());
+        assertEquals(List.of(1L), roda.avancar(3 * SEGUNDO));
+    }
+
+    @Test
+    @DisplayName("Deve devolver no próximo avanço itens agendados com prazo já vencido")
+    void deveDevolverItensJaVencidos() {
+        RodaTemporizacao<Long> roda = new RodaTemporizacao<>(SEGUNDO, 100 * SEGUNDO);
+        roda.agendar(1L, 50 * SEGUNDO);
+
+        assertEquals(List.of(1L), roda.avancar(100 * SEGUNDO));
+    }
+
+    @Test
+    @DisplayName("Deve vencer itens distantes após redistribuí-los entre os níveis")
+    void deveVencerItensDeNiveisSuperiores() {
+        RodaTemporizacao<Long> roda = new RodaTemporizacao<>(SEGUNDO, 0);
+        long[] prazos = {63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 300_000};
+        for (int i = 0; i < prazos.length; i++) {
+            roda.agendar((long) i, prazos[i] * SEGUNDO);
+        }
+
+        for (int i = 0; i < prazos.length; i++) {
+            assertTrue(roda.avancar((prazos[i] - 1) * SEGUNDO).isEmpty(), "item " + i + " venceu antes do prazo");
+            assertEquals(List.of((long) i), roda.avancar(prazos[i] * SEGUNDO));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve tratar prazos além do alcance da roda")
+    void deveTratarPrazosAlemDoAlcance() {
+        RodaTemporizacao<Long> roda = new RodaTemporizacao<>(SEGUNDO, 7);
+        long prazo = (1L << 24) * 3 + 12_345;
+        roda.agendar(1L, prazo * SEGUNDO);
+
+        assertTrue(roda.avancar((prazo - 1) * SEGUNDO).isEmpty());
+        assertEquals(List.of(1L), roda.avancar(prazo * SEGUNDO));
+    }
+
+    @Test
+    @DisplayName("Deve remover itens cancelados e substituir agendamentos repetidos")
+    void deveCancelarEReagendar() {
+        RodaTemporizacao<Long> roda = new RodaTemporizacao<>(SEGUNDO, 0);
+        roda.agendar(1L, 10 * SEGUNDO);
+        roda.agendar(2L, 10 * SEGUNDO);
+        roda.agendar(2L, 5_000 * SEGUNDO);
+
+        assertTrue(roda.cancelar(1L));
+        assertFalse(roda.cancelar(1L));
+        assertTrue(roda.avancar(10 * SEGUNDO).isEmpty());
+        assertEquals(1, roda.tamanho());
+        assertEquals(List.of(2L), roda.avancar(5_000 * SEGUNDO));
+    }
+
+    @Test
+    @DisplayName("Deve vencer cada item exatamente uma vez no seu prazo, com avanços irregulares")
+    void deveVencerItensAleatoriosNoPrazo() {
+        Random aleatorio = new Random(42);
+        long inicio = 1_234_567;
+        RodaTemporizacao<Integer> roda = new RodaTemporizacao<>(1, inicio);
+        long[] prazos = new long[5_000];
+        for (int i = 0; i < prazos.length; i++) {
+            prazos[i] = inicio + 1 + aleatorio.nextInt(i % 2 == 0 ? 5_000 : 500_000);
+            roda.agendar(i, prazos[i]);
+        }
+
+        Set<Integer> vencidos = new HashSet<>();
+        long agora = inicio;
+        while (vencidos.size() < prazos.length) {
+            agora += 1 + aleatorio.nextInt(3_000);
+            List<Integer> lote = new ArrayList<>(roda.avancar(agora));
+            for (Integer item : lote) {
+                assertTrue(prazos[item] <= agora, "item " + item + " venceu antes do prazo");
+                assertTrue(vencidos.add(item), "item " + item + " venceu duas vezes");
+            }
+            for (int i = 0; i < prazos.length; i++) {
+                if (!vencidos.contains(i)) {
+                    assertTrue(prazos[i] > agora, "item " + i + " não venceu no prazo");
+                }
+            }
+        }
+        assertEquals(0, roda.tamanho());
+    }
+}
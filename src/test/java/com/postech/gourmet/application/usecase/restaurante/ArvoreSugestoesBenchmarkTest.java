@@ -0,0 +1,80 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a latência das sugestões em 100 mil restaurantes, com prefixos de 1 a 6 caracteres
+ * como os enviados a cada tecla digitada.
+ */
+@Slf4j
+@Tag("benchmark")
+class ArvoreSugestoesBenchmarkTest {
+    private static final int RESTAURANTES = 100_000;
+    private static final int CONSULTAS = 20_000;
+    private static final String[] PALAVRAS = {"Cantina", "Bistrô", "Churrascaria", "Sushi", "Trattoria", "Boteco",
+            "Pizzaria", "Taberna", "Cozinha", "Empório", "Casa", "Bar", "Restaurante", "Padaria", "Açaí"};
+    private static final String[] COZINHAS = {"Italiana", "Japonesa", "Brasileira", "Francesa", "Mexicana",
+            "Portuguesa", "Árabe", "Vegana"};
+
+    @Test
+    @DisplayName("Deve sugerir em 100 mil restaurantes com p99 abaixo de 1 ms")
+    void deveSugerirComLatenciaBaixa() {
+        Random aleatorio = new Random(42);
+        String[] nomes = new String[RESTAURANTES];
+        ArvoreSugestoes arvore = new ArvoreSugestoes();
+        long inicioCarga = System.nanoTime();
+        arvore.carregar(() -> {
+            for (int id = 1; id <= RESTAURANTES; id++) {
+                nomes[id - 1] = PALAVRAS[aleatorio.nextInt(PALAVRAS.length)] + " "
+                        + PALAVRAS[aleatorio.nextInt(PALAVRAS.length)] + " " + id;
+                arvore.indexar(id, nomes[id - 1], COZINHAS[aleatorio.nextInt(COZINHAS.length)]);
+                arvore.registrarAvaliacoes(id, 1 + aleatorio.nextInt(20), 0);
+            }
+            for (int id = 1; id <= RESTAURANTES; id++) {
+                arvore.registrarAvaliacoes(id, 0, aleatorio.nextInt(100));
+            }
+        });
+        long cargaMs = (System.nanoTime() - inicioCarga) / 1_000_000;
+
+        String[] prefixos = new String[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            String nome = nomes[aleatorio.nextInt(RESTAURANTES)];
+            prefixos[i] = nome.substring(0, Math.min(nome.length(), 1 + aleatorio.nextInt(6)));
+        }
+        // Aquecimento do JIT com os mesmos prefixos
+        for (String prefixo : prefixos) {
+            arvore.sugerir(prefixo, 10);
+        }
+
+        long[] latencias = new long[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            long inicio = System.nanoTime();
+            int sugestoes = arvore.sugerir(prefixos[i], 10).size();
+            latencias[i] = System.nanoTime() - inicio;
+            assertTrue(sugestoes > 0);
+        }
+
+        long inicioAtualizacoes = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            int id = 1 + aleatorio.nextInt(RESTAURANTES);
+            arvore.registrarAvaliacoes(id, 1, 1 + aleatorio.nextInt(5));
+        }
+        long atualizacaoUs = (System.nanoTime() - inicioAtualizacoes) / 1_000 / 1_000;
+
+        Arrays.sort(latencias);
+        long p50 = latencias[CONSULTAS / 2];
+        long p99 = latencias[CONSULTAS * 99 / 100];
+        log.info("Sugestões em {} restaurantes: carga {} ms, avaliação {} µs, p50 {} ns, p99 {} ns, máx {} ns",
+                RESTAURANTES, cargaMs, atualizacaoUs, p50, p99, latencias[CONSULTAS - 1]);
+
+        assertTrue(p99 < 1_000_000, "p99 de " + p99 + " ns");
+    }
+}
@@ -0,0 +1,153 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArvoreSugestoesTest {
+
+    @Test
+    @DisplayName("Deve sugerir pelo início do nome ou do tipo de cozinha, sem diferenciar acentos")
+    void deveSugerirPorPrefixo() {
+        ArvoreSugestoes arvore = new ArvoreSugestoes();
+        arvore.indexar(1, "Açaí da Praça", "Brasileira");
+        arvore.indexar(2, "Acarajé da Bahia", "Baiana");
+        arvore.indexar(3, "Cantina", "Italiana");
+
+        assertEquals(List.of(1L, 2L), ids(arvore.sugerir("aca", 10)));
+        assertEquals(List.of(1L), ids(arvore.sugerir("ACAI", 10)));
+        assertEquals(List.of(2L), ids(arvore.sugerir("ba", 10)));
+        assertEquals(List.of(1L), ids(arvore.sugerir("bras", 10)));
+        assertEquals(List.of(3L), ids(arvore.sugerir("ital", 10)));
+        // Prefixo que termina no meio de um rótulo e prefixo que diverge dele
+        assertEquals(List.of(3L), ids(arvore.sugerir("cant", 10)));
+        assertTrue(arvore.sugerir("cantx", 10).isEmpty());
+        assertTrue(arvore.sugerir("praça", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve ordenar pela média das avaliações e respeitar o limite")
+    void deveOrdenarPelaMedia() {
+        ArvoreSugestoes arvore = new ArvoreSugestoes();
+        for (int id = 1; id <= 15; id++) {
+            arvore.indexar(id, "Pizzaria " + id, "Italiana");
+        }
+        arvore.registrarAvaliacoes(7, 2, 10);
+        arvore.registrarAvaliacoes(3, 1, 4);
+        arvore.registrarAvaliacoes(12, 3, 12);
+
+        List<SugestaoRestaurante> sugestoes = arvore.sugerir("pizz", 3);
+
+        assertEquals(List.of(7L, 12L, 3L), ids(sugestoes));
+        assertEquals(5.0, sugestoes.get(0).mediaAvaliacoes());
+        assertEquals("Pizzaria 7", sugestoes.get(0).nome());
+        assertNull(arvore.sugerir("pizzaria 15", 10).get(0).mediaAvaliacoes());
+
+        // Nova avaliação baixa tira o restaurante do topo
+        arvore.registrarAvaliacoes(7, 8, 8);
+        assertEquals(List.of(12L, 3L), ids(arvore.sugerir("italiana", 2)));
+    }
+
+    @Test
+    @DisplayName("Deve atualizar as chaves na reindexação e esquecer o restaurante removido")
+    void deveAtualizarERemover() {
+        ArvoreSugestoes arvore = new ArvoreSugestoes();
+        arvore.indexar(1, "Cantina", "Italiana");
+        arvore.indexar(2, "Cantinho", "Mineira");
+        arvore.registrarAvaliacoes(1, 1, 5);
+
+        arvore.indexar(1, "Churrascaria", "Gaúcha");
+        assertEquals(List.of(2L), ids(arvore.sugerir("cant", 10)));
+        assertEquals(5.0, arvore.sugerir("churr", 10).get(0).mediaAvaliacoes());
+
+        arvore.remover(2);
+        arvore.remover(99);
+        assertTrue(arvore.sugerir("cant", 10).isEmpty());
+        assertEquals(1, arvore.restaurantes());
+    }
+
+    @Test
+    @DisplayName("Deve sugerir o mesmo que a ordenação de todos os restaurantes com o prefixo")
+    void deveEquivalerAOrdenacaoCompleta() {
+        Random aleatorio = new Random(11);
+        String alfabeto = "abc ";
+        ArvoreSugestoes arvore = new ArvoreSugestoes();
+        Map<Integer, String[]> textos = new HashMap<>();
+        Map<Integer, long[]> avaliacoes = new HashMap<>();
+
+        arvore.carregar(() -> {
+            for (int id = 0; id < 300; id++) {
+                indexar(arvore, textos, id, aleatorio, alfabeto);
+            }
+        });
+        for (int passo = 0; passo < 600; passo++) {
+            int id = aleatorio.nextInt(350);
+            switch (aleatorio.nextInt(4)) {
+                case 0 -> indexar(arvore, textos, id, aleatorio, alfabeto);
+                case 1 -> {
+                    arvore.remover(id);
+                    textos.remove(id);
+                    avaliacoes.remove(id);
+                }
+                default -> {
+                    if (textos.containsKey(id)) {
+                        int nota = 1 + aleatorio.nextInt(5);
+                        arvore.registrarAvaliacoes(id, 1, nota);
+                        long[] total = avaliacoes.computeIfAbsent(id, i -> new long[2]);
+                        total[0]++;
+                        total[1] += nota;
+                    }
+                }
+            }
+
+            String prefixo = texto(aleatorio, alfabeto, 1 + aleatorio.nextInt(3));
+            Comparator<Integer> ranking = Comparator
+                    .comparingDouble((Integer i) -> -media(avaliacoes.get(i)))
+                    .thenComparingLong(i -> -(avaliacoes.containsKey(i) ? avaliacoes.get(i)[0] : 0))
+                    .thenComparingInt(i -> i);
+            List<Long> esperados = textos.entrySet().stream()
+                    .filter(entrada -> Stream.of(entrada.getValue())
+                            .anyMatch(campo -> Restaurante.normalizarParaBusca(campo).startsWith(prefixo)))
+                    .map(Map.Entry::getKey)
+                    .sorted(ranking)
+                    .limit(5)
+                    .map(Long::valueOf)
+                    .toList();
+
+            assertEquals(esperados, ids(arvore.sugerir(prefixo, 5)), "prefixo '" + prefixo + "'");
+        }
+    }
+
+    private static void indexar(ArvoreSugestoes arvore, Map<Integer, String[]> textos, int id,
+                                Random aleatorio, String alfabeto) {
+        String nome = texto(aleatorio, alfabeto, 2 + aleatorio.nextInt(5));
+        String tipoCozinha = texto(aleatorio, alfabeto, 1 + aleatorio.nextInt(3));
+        arvore.indexar(id, nome, tipoCozinha);
+        textos.put(id, new String[]{nome, tipoCozinha});
+    }
+
+    private static double media(long[] total) {
+        return total != null ? (double) total[1] / total[0] : 0.0;
+    }
+
+    private static String texto(Random aleatorio, String alfabeto, int tamanho) {
+        StringBuilder texto = new StringBuilder(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            texto.append(alfabeto.charAt(aleatorio.nextInt(alfabeto.length())));
+        }
+        return texto.toString();
+    }
+
+    private static List<Long> ids(List<SugestaoRestaurante> sugestoes) {
+        return sugestoes.stream().map(SugestaoRestaurante::id).toList();
+    }
+}
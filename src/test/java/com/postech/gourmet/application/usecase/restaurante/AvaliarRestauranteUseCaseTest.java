@@ -4,6 +4,7 @@ import com.postech.gourmet.adapters.dto.AvaliacaoDTO;
 import com.postech.gourmet.domain.entities.Avaliacao;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.events.AvaliacaoRegistradaEvent;
 import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
 import com.postech.gourmet.domain.repositories.AvaliacaoRepository;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -38,6 +40,9 @@ class AvaliarRestauranteUseCaseTest {
     @Mock
     private UsuarioRepository usuarioRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AvaliarRestauranteUseCase avaliarRestauranteUseCase;
 
@@ -93,6 +98,7 @@ class AvaliarRestauranteUseCaseTest {
         assertEquals(usuario.getNome(), resultado.getCliente());
         verify(avaliacaoRepository).save(any(Avaliacao.class));
         verify(restauranteRepository).save(restaurante);
+        verify(eventPublisher).publishEvent(new AvaliacaoRegistradaEvent(1L, 4));
     }
 
     @Test
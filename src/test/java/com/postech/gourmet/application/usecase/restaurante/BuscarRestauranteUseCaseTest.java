@@ -1,6 +1,7 @@
 package com.postech.gourmet.application.usecase.restaurante;
 
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +18,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -26,6 +28,9 @@ class BuscarRestauranteUseCaseTest {
     @Mock
     private RestauranteRepository restauranteRepository;
 
+    @Mock
+    private IndiceBuscaRestaurantes indiceBuscaRestaurantes;
+
     @InjectMocks
     private BuscarRestauranteUseCase buscarRestauranteUseCase;
 
@@ -59,7 +64,7 @@ class BuscarRestauranteUseCaseTest {
         assertTrue(resultado.contains(restaurante1));
         assertTrue(resultado.contains(restaurante2));
         verify(restauranteRepository, times(1)).findAll();
-        verify(restauranteRepository, never()).findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(anyString(), anyString(), anyString());
+        verify(indiceBuscaRestaurantes, never()).buscar(anyString());
     }
 
     @Test
@@ -77,39 +82,73 @@ class BuscarRestauranteUseCaseTest {
         assertTrue(resultado.contains(restaurante1));
         assertTrue(resultado.contains(restaurante2));
         verify(restauranteRepository, times(1)).findAll();
-        verify(restauranteRepository, never()).findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(anyString(), anyString(), anyString());
+        verify(indiceBuscaRestaurantes, never()).buscar(anyString());
     }
 
     @Test
-    @DisplayName("Deve buscar restaurantes por termo")
+    @DisplayName("Deve buscar restaurantes por termo no índice e carregar os encontrados em ordem de ID")
     void deveBuscarRestaurantesPorTermo() {
 
-        String termo = "Italiano";
-        when(restauranteRepository.findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(termo, termo, termo))
-                .thenReturn(Collections.singletonList(restaurante1));
+        String termo = "Restaurante";
+        when(indiceBuscaRestaurantes.buscar(termo)).thenReturn(List.of(1L, 2L));
+        when(restauranteRepository.findAllById(List.of(1L, 2L))).thenReturn(Arrays.asList(restaurante2, restaurante1));
 
         List<Restaurante> resultado = buscarRestauranteUseCase.buscarRestaurantes(termo);
 
         assertNotNull(resultado);
-        assertEquals(1, resultado.size());
-        assertEquals(restaurante1, resultado.get(0));
-        verify(restauranteRepository, times(1)).findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(termo, termo, termo);
+        assertEquals(List.of(restaurante1, restaurante2), resultado);
+        verify(indiceBuscaRestaurantes, times(1)).buscar(termo);
         verify(restauranteRepository, never()).findAll();
+        verify(restauranteRepository, never()).findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(anyString(), anyString(), anyString());
     }
 
     @Test
     @DisplayName("Deve retornar lista vazia quando nenhum restaurante é encontrado pelo termo")
     void deveRetornarListaVaziaQuandoNenhumRestauranteEncontrado() {
         String termo = "Mexicano";
-        when(restauranteRepository.findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(termo, termo, termo))
-                .thenReturn(Collections.emptyList());
+        when(indiceBuscaRestaurantes.buscar(termo)).thenReturn(Collections.emptyList());
 
         List<Restaurante> resultado = buscarRestauranteUseCase.buscarRestaurantes(termo);
 
         assertNotNull(resultado);
         assertTrue(resultado.isEmpty());
-        verify(restauranteRepository, times(1)).findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(termo, termo, termo);
+        verify(indiceBuscaRestaurantes, times(1)).buscar(termo);
         verify(restauranteRepository, never()).findAll();
+        verify(restauranteRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Deve buscar restaurantes com erros de digitação na ordem de proximidade do índice")
+    void deveBuscarRestaurantesAproximado() {
+        String termo = "japones";
+        when(indiceBuscaRestaurantes.buscarAproximado(termo, 10)).thenReturn(List.of(2L, 1L));
+        when(restauranteRepository.findAllById(List.of(2L, 1L))).thenReturn(Arrays.asList(restaurante1, restaurante2));
+
+        List<Restaurante> resultado = buscarRestauranteUseCase.buscarRestaurantesAproximado(termo, 10);
+
+        assertEquals(List.of(restaurante2, restaurante1), resultado);
+        verify(indiceBuscaRestaurantes, never()).buscar(anyString());
+        verify(restauranteRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Deve respeitar o limite na busca aproximada sem termo")
+    void deveLimitarBuscaAproximadaSemTermo() {
+        when(restauranteRepository.findPrimeiros(1)).thenReturn(List.of(restaurante1));
+
+        assertEquals(List.of(restaurante1), buscarRestauranteUseCase.buscarRestaurantesAproximado("  ", 1));
+        verify(restauranteRepository, never()).findAll();
+        verifyNoInteractions(indiceBuscaRestaurantes);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite inválido na busca aproximada")
+    void deveRejeitarLimiteInvalidoNaBuscaAproximada() {
+        assertThrows(InvalidRequestException.class,
+                () -> buscarRestauranteUseCase.buscarRestaurantesAproximado("japones", 0));
+        assertThrows(InvalidRequestException.class, () -> buscarRestauranteUseCase.buscarRestaurantesAproximado(
+                "japones", BuscarRestauranteUseCase.MAXIMO_RESULTADOS_APROXIMADOS + 1));
+        verifyNoInteractions(indiceBuscaRestaurantes, restauranteRepository);
     }
 
     @Test
@@ -0,0 +1,117 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.LocalizacaoRestaurante;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BuscarRestaurantesProximosUseCaseTest {
+    private static final double MASP_LATITUDE = -23.5614;
+    private static final double MASP_LONGITUDE = -46.6559;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @InjectMocks
+    private BuscarRestaurantesProximosUseCase buscarRestaurantesProximosUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(restauranteRepository.findLocalizacoes()).thenReturn(List.of(
+                new LocalizacaoRestaurante(1L, -23.5417, -46.6296),
+                new LocalizacaoRestaurante(2L, -23.5614, -46.6559),
+                new LocalizacaoRestaurante(3L, -23.5535, -46.6600)));
+        lenient().when(restauranteRepository.findAllById(any())).thenAnswer(invocacao -> {
+            Collection<Long> ids = invocacao.getArgument(0);
+            return ids.stream().map(BuscarRestaurantesProximosUseCaseTest::restaurante).toList();
+        });
+    }
+
+    @Test
+    @DisplayName("Deve carregar a grade uma única vez e retornar os restaurantes por distância")
+    void deveBuscarPorDistancia() {
+        List<RestauranteProximo> proximos = buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 20);
+        buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 5, 1);
+
+        assertEquals(List.of(2L, 3L), proximos.stream().map(proximo -> proximo.restaurante().getId()).toList());
+        assertEquals(0.973, proximos.get(1).distanciaKm(), 0.001);
+        verify(restauranteRepository, times(1)).findLocalizacoes();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar coordenadas, raio e limite inválidos sem consultar o banco")
+    void deveValidarParametros() {
+        assertThrows(InvalidRequestException.class,
+                () -> buscarRestaurantesProximosUseCase.buscarProximos(89, MASP_LONGITUDE, 2, 20));
+        assertThrows(InvalidRequestException.class,
+                () -> buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, 181, 2, 20));
+        assertThrows(InvalidRequestException.class,
+                () -> buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 0, 20));
+        assertThrows(InvalidRequestException.class,
+                () -> buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 51, 20));
+        assertThrows(InvalidRequestException.class,
+                () -> buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 101));
+        verifyNoInteractions(restauranteRepository);
+    }
+
+    @Test
+    @DisplayName("Deve remontar a grade do banco na recarga, só depois da primeira busca")
+    void deveRecarregarGradeDoBanco() {
+        buscarRestaurantesProximosUseCase.recarregar();
+        verifyNoInteractions(restauranteRepository);
+        buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 20);
+
+        // Outra instância excluiu o restaurante 2 e cadastrou o 4
+        when(restauranteRepository.findLocalizacoes()).thenReturn(List.of(
+                new LocalizacaoRestaurante(3L, -23.5535, -46.6600),
+                new LocalizacaoRestaurante(4L, -23.5600, -46.6560)));
+        buscarRestaurantesProximosUseCase.recarregar();
+
+        assertEquals(List.of(4L, 3L), buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 20)
+                .stream()
+                .map(proximo -> proximo.restaurante().getId())
+                .toList());
+        verify(restauranteRepository, times(2)).findLocalizacoes();
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar cadastros, mudanças de localização e exclusões")
+    void deveAcompanharEventos() {
+        buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 20);
+
+        Restaurante novo = restaurante(4L);
+        novo.definirLocalizacao(-23.5600, -46.6560);
+        buscarRestaurantesProximosUseCase.aoAlterarRestaurante(RestauranteAlteradoEvent.cadastro(novo));
+        Restaurante semLocalizacao = restaurante(3L);
+        buscarRestaurantesProximosUseCase.aoAlterarRestaurante(RestauranteAlteradoEvent.atualizacao(semLocalizacao));
+        buscarRestaurantesProximosUseCase.aoAlterarRestaurante(RestauranteAlteradoEvent.exclusao(2L));
+
+        assertEquals(List.of(4L), buscarRestaurantesProximosUseCase.buscarProximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 20)
+                .stream()
+                .map(proximo -> proximo.restaurante().getId())
+                .toList());
+    }
+
+    private static Restaurante restaurante(Long id) {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(id);
+        restaurante.setNome("Restaurante " + id);
+        return restaurante;
+    }
+}
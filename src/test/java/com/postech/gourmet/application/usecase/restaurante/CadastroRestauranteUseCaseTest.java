@@ -3,6 +3,7 @@ package com.postech.gourmet.application.usecase.restaurante;
 import com.postech.gourmet.adapters.dto.HorarioFuncionamentoDTO;
 import com.postech.gourmet.adapters.dto.RestauranteDTO;
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
 import com.postech.gourmet.domain.exception.DuplicateResourceException;
 import com.postech.gourmet.domain.exception.InvalidRequestException;
 import com.postech.gourmet.domain.exception.ResourceNotFoundException;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.DayOfWeek;
 import java.time.LocalTime;
@@ -32,6 +34,9 @@ class CadastroRestauranteUseCaseTest {
     @Mock
     private RestauranteRepository restauranteRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private CadastroRestauranteUseCase cadastroRestauranteUseCase;
 
@@ -76,6 +81,31 @@ class CadastroRestauranteUseCaseTest {
         assertEquals(restaurante.getId(), resultado.getId());
         assertEquals(restaurante.getNome(), resultado.getNome());
         verify(restauranteRepository, times(1)).save(any(Restaurante.class));
+        verify(eventPublisher).publishEvent(RestauranteAlteradoEvent.cadastro(restaurante));
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar restaurante com localização")
+    void deveCadastrarRestauranteComLocalizacao() {
+        restauranteDTO.setLatitude(-23.5614);
+        restauranteDTO.setLongitude(-46.6559);
+        when(restauranteRepository.existsByNomeAndEndereco(anyString(), anyString())).thenReturn(false);
+        when(restauranteRepository.save(any(Restaurante.class))).thenReturn(restaurante);
+
+        cadastroRestauranteUseCase.cadastrarRestaurante(restauranteDTO);
+
+        verify(restauranteRepository).save(argThat(salvo ->
+                salvo.getLatitude() == -23.5614 && salvo.getLongitude() == -46.6559));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao cadastrar restaurante com latitude sem longitude")
+    void deveLancarExcecaoQuandoLocalizacaoIncompleta() {
+        restauranteDTO.setLatitude(-23.5614);
+
+        assertThrows(InvalidRequestException.class,
+                () -> cadastroRestauranteUseCase.cadastrarRestaurante(restauranteDTO));
+        verify(restauranteRepository, never()).save(any(Restaurante.class));
     }
 
     @Test
@@ -130,6 +160,7 @@ class CadastroRestauranteUseCaseTest {
         assertEquals(restaurante.getId(), resultado.getId());
         assertEquals(restaurante.getNome(), resultado.getNome());
         verify(restauranteRepository, times(1)).save(any(Restaurante.class));
+        verify(eventPublisher).publishEvent(RestauranteAlteradoEvent.atualizacao(restaurante));
     }
 
     @Test
@@ -156,6 +187,7 @@ class CadastroRestauranteUseCaseTest {
         cadastroRestauranteUseCase.excluirRestaurante(id);
 
         verify(restauranteRepository, times(1)).deleteById(id);
+        verify(eventPublisher).publishEvent(RestauranteAlteradoEvent.exclusao(id));
     }
 
     @Test
@@ -0,0 +1,75 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.application.usecase.reserva.AlocadorMesas;
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GerenciarMesasUseCaseTest {
+
+    @Mock
+    private MesaRepository mesaRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private AlocadorMesas alocadorMesas;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private GerenciarMesasUseCase gerenciarMesasUseCase;
+
+    @Test
+    @DisplayName("Deve substituir as mesas e avisar a alteração do restaurante")
+    void deveSubstituirMesas() {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(1L);
+        List<Mesa> mesas = List.of(new Mesa(null, null, 4, true));
+        List<Mesa> salvas = List.of(new Mesa(10L, 1L, 4, true));
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(restaurante));
+        when(mesaRepository.substituir(1L, mesas)).thenReturn(salvas);
+
+        assertEquals(salvas, gerenciarMesasUseCase.definirMesas(1L, mesas));
+        verify(eventPublisher).publishEvent(any(RestauranteAlteradoEvent.class));
+    }
+
+    @Test
+    @DisplayName("Deve recusar mesas sem lugares")
+    void deveRecusarMesaSemLugares() {
+        when(restauranteRepository.findById(1L)).thenReturn(Optional.of(new Restaurante()));
+
+        assertThrows(InvalidRequestException.class,
+                () -> gerenciarMesasUseCase.definirMesas(1L, List.of(new Mesa(null, null, 0, false))));
+        verify(mesaRepository, never()).substituir(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao listar mesas de restaurante inexistente")
+    void deveLancarExcecaoParaRestauranteInexistente() {
+        when(restauranteRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> gerenciarMesasUseCase.listarMesas(99L));
+    }
+}
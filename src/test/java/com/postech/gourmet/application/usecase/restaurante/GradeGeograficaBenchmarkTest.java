@@ -0,0 +1,83 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a latência da busca por proximidade com 100 mil restaurantes espalhados pela Grande São
+ * Paulo, comparada a uma varredura completa calculando a distância até cada um.
+ */
+@Slf4j
+@Tag("benchmark")
+class GradeGeograficaBenchmarkTest {
+    private static final int RESTAURANTES = 100_000;
+    private static final int CONSULTAS = 5_000;
+    private static final double LATITUDE_CENTRO = -23.55;
+    private static final double LONGITUDE_CENTRO = -46.63;
+    private static final double ESPALHAMENTO_GRAUS = 0.4;
+
+    @Test
+    @DisplayName("Deve buscar os mais próximos em 100 mil restaurantes sem varrer todos")
+    void deveBuscarComLatenciaPrevisivel() {
+        Random aleatorio = new Random(42);
+        double[] latitudes = new double[RESTAURANTES];
+        double[] longitudes = new double[RESTAURANTES];
+        GradeGeografica grade = new GradeGeografica();
+        long inicioCarga = System.nanoTime();
+        for (int i = 0; i < RESTAURANTES; i++) {
+            latitudes[i] = LATITUDE_CENTRO + (aleatorio.nextDouble() - 0.5) * ESPALHAMENTO_GRAUS;
+            longitudes[i] = LONGITUDE_CENTRO + (aleatorio.nextDouble() - 0.5) * ESPALHAMENTO_GRAUS;
+            grade.indexar(i + 1, latitudes[i], longitudes[i]);
+        }
+        long cargaMs = (System.nanoTime() - inicioCarga) / 1_000_000;
+
+        double[][] pontos = new double[CONSULTAS][];
+        for (int i = 0; i < CONSULTAS; i++) {
+            pontos[i] = new double[]{
+                    LATITUDE_CENTRO + (aleatorio.nextDouble() - 0.5) * ESPALHAMENTO_GRAUS,
+                    LONGITUDE_CENTRO + (aleatorio.nextDouble() - 0.5) * ESPALHAMENTO_GRAUS};
+        }
+        for (double[] ponto : pontos) {
+            grade.proximos(ponto[0], ponto[1], 2, 20);
+        }
+
+        long[] latencias = new long[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            long inicio = System.nanoTime();
+            assertEquals(20, grade.proximos(pontos[i][0], pontos[i][1], 2, 20).size());
+            latencias[i] = System.nanoTime() - inicio;
+        }
+
+        long[] varreduras = new long[100];
+        for (int i = 0; i < varreduras.length; i++) {
+            long inicio = System.nanoTime();
+            int dentroDoRaio = 0;
+            for (int r = 0; r < RESTAURANTES; r++) {
+                if (GradeGeografica.distanciaKm(pontos[i][0], pontos[i][1], latitudes[r], longitudes[r]) <= 2) {
+                    dentroDoRaio++;
+                }
+            }
+            assertTrue(dentroDoRaio >= 20);
+            varreduras[i] = System.nanoTime() - inicio;
+        }
+
+        Arrays.sort(latencias);
+        Arrays.sort(varreduras);
+        long p50 = latencias[CONSULTAS / 2];
+        long p99 = latencias[CONSULTAS * 99 / 100];
+        long varreduraP50 = varreduras[varreduras.length / 2];
+        log.info("Busca por proximidade em {} restaurantes: carga {} ms, p50 {} µs, p99 {} µs, máx {} µs; "
+                        + "varredura completa p50 {} µs",
+                RESTAURANTES, cargaMs, p50 / 1_000, p99 / 1_000, latencias[CONSULTAS - 1] / 1_000, varreduraP50 / 1_000);
+
+        assertTrue(p99 < 20_000_000, "p99 de " + p99 + " ns");
+        assertTrue(p50 * 10 < varreduraP50, "p50 de " + p50 + " ns contra varredura de " + varreduraP50 + " ns");
+    }
+}
@@ -0,0 +1,139 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeGeograficaTest {
+    private static final double MASP_LATITUDE = -23.5614;
+    private static final double MASP_LONGITUDE = -46.6559;
+
+    private List<double[]> pontos;
+    private GradeGeografica grade;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        pontos = lerCsv("/restaurantes-sao-paulo.csv");
+        grade = new GradeGeografica();
+        grade.carregar(() -> {
+            for (int i = 0; i < pontos.size(); i++) {
+                grade.indexar(i + 1, pontos.get(i)[0], pontos.get(i)[1]);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Deve retornar os restaurantes dentro do raio, do mais próximo para o mais distante")
+    void deveBuscarDentroDoRaio() {
+        List<GradeGeografica.Vizinho> proximos = grade.proximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 20);
+
+        assertEquals(List.of(2, 10, 9, 11, 23), ids(proximos));
+        assertEquals(0.0, proximos.get(0).distanciaKm(), 1e-9);
+        assertEquals(0.973, proximos.get(1).distanciaKm(), 0.001);
+        assertTrue(proximos.get(4).distanciaKm() <= 2);
+    }
+
+    @Test
+    @DisplayName("Deve limitar aos k mais próximos")
+    void deveLimitarAosMaisProximos() {
+        assertEquals(List.of(2, 10, 9), ids(grade.proximos(MASP_LATITUDE, MASP_LONGITUDE, 50, 3)));
+        // Campinas e Rio de Janeiro ficam fora de qualquer raio permitido
+        assertEquals(34, grade.proximos(MASP_LATITUDE, MASP_LONGITUDE, 50, 100).size());
+    }
+
+    @Test
+    @DisplayName("Deve calcular a distância de grande círculo")
+    void deveCalcularDistancia() {
+        // Praça da Sé ao centro do Rio de Janeiro
+        assertEquals(360.8, GradeGeografica.distanciaKm(-23.5505, -46.6340, -22.9068, -43.1729), 0.1);
+        assertEquals(0.0, GradeGeografica.distanciaKm(10, 20, 10, 20));
+    }
+
+    @Test
+    @DisplayName("Deve mover e remover restaurantes")
+    void deveMoverERemover() {
+        // Cantina da Paulista muda para Santana
+        grade.indexar(2, -23.5030, -46.6250);
+        grade.remover(10);
+        grade.remover(99);
+
+        assertEquals(List.of(9, 11, 23), ids(grade.proximos(MASP_LATITUDE, MASP_LONGITUDE, 2, 20)));
+        assertEquals(List.of(13, 2), ids(grade.proximos(-23.5027, -46.6255, 1, 20)));
+        assertEquals(pontos.size() - 1, grade.restaurantes());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar restaurantes dos dois lados do antimeridiano")
+    void deveAtravessarAntimeridiano() {
+        GradeGeografica ilhas = new GradeGeografica();
+        ilhas.indexar(1, -16.0, 179.995);
+        ilhas.indexar(2, -16.0, -179.995);
+        ilhas.indexar(3, -16.0, -179.9);
+
+        assertEquals(List.of(2, 1, 3), ids(ilhas.proximos(-16.0, -179.999, 20, 10)));
+    }
+
+    @Test
+    @DisplayName("Deve encontrar o mesmo que calcular a distância de todos os restaurantes")
+    void deveEquivalerAVarreduraCompleta() {
+        Random aleatorio = new Random(3);
+        List<double[]> sinteticos = new ArrayList<>(pontos);
+        for (int i = 0; i < 5_000; i++) {
+            double[] base = pontos.get(aleatorio.nextInt(pontos.size()));
+            sinteticos.add(new double[]{base[0] + aleatorio.nextGaussian() * 0.05, base[1] + aleatorio.nextGaussian() * 0.05});
+        }
+        GradeGeografica densa = new GradeGeografica();
+        for (int i = 0; i < sinteticos.size(); i++) {
+            densa.indexar(i + 1, sinteticos.get(i)[0], sinteticos.get(i)[1]);
+        }
+
+        for (int consulta = 0; consulta < 300; consulta++) {
+            double latitude = -23.55 + aleatorio.nextGaussian() * 0.15;
+            double longitude = -46.64 + aleatorio.nextGaussian() * 0.15;
+            double raio = 0.2 + aleatorio.nextDouble() * 10;
+            int limite = 1 + aleatorio.nextInt(50);
+
+            List<GradeGeografica.Vizinho> esperados = new ArrayList<>();
+            for (int i = 0; i < sinteticos.size(); i++) {
+                double distancia = GradeGeografica.distanciaKm(latitude, longitude, sinteticos.get(i)[0], sinteticos.get(i)[1]);
+                if (distancia <= raio) {
+                    esperados.add(new GradeGeografica.Vizinho(i + 1, distancia));
+                }
+            }
+            esperados.sort(Comparator.comparingDouble(GradeGeografica.Vizinho::distanciaKm)
+                    .thenComparingInt(GradeGeografica.Vizinho::id));
+
+            assertEquals(esperados.subList(0, Math.min(limite, esperados.size())),
+                    densa.proximos(latitude, longitude, raio, limite));
+        }
+    }
+
+    static List<double[]> lerCsv(String recurso) throws IOException {
+        List<double[]> pontos = new ArrayList<>();
+        try (BufferedReader leitor = new BufferedReader(new InputStreamReader(
+                GradeGeograficaTest.class.getResourceAsStream(recurso), StandardCharsets.UTF_8))) {
+            leitor.readLine();
+            String linha;
+            while ((linha = leitor.readLine()) != null) {
+                String[] campos = linha.split(";");
+                pontos.add(new double[]{Double.parseDouble(campos[1]), Double.parseDouble(campos[2])});
+            }
+        }
+        return pontos;
+    }
+
+    private static List<Integer> ids(List<GradeGeografica.Vizinho> vizinhos) {
+        return vizinhos.stream().map(GradeGeografica.Vizinho::id).toList();
+    }
+}
@@ -0,0 +1,121 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.repositories.TextoRestaurante;
+import com.postech.gourmet.gateways.jpa.JpaRestauranteRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Compara a busca por termo pelo índice de trigramas com a consulta JPQL
+ * ({@code LOWER(campo) LIKE '%termo%'}) em 100 mil restaurantes gravados no H2.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class IndiceTrigramasBenchmarkTest {
+    private static final int RESTAURANTES = 100_000;
+    private static final int CONSULTAS_JPQL = 10;
+    private static final int CONSULTAS_INDICE = 2_000;
+    private static final String[] NOMES = {"Cantina", "Bistrô", "Churrascaria", "Sushi", "Trattoria", "Boteco",
+            "Pizzaria", "Taberna", "Cozinha", "Empório"};
+    private static final String[] COZINHAS = {"Italiana", "Japonesa", "Brasileira", "Francesa", "Mexicana",
+            "Portuguesa", "Árabe", "Vegana"};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaRestauranteRepository jpaRestauranteRepository;
+
+    @Test
+    @DisplayName("Deve buscar 100 mil restaurantes pelo índice mais rápido do que pela consulta JPQL")
+    void deveBuscarMaisRapidoQueJpql() {
+        List<Object[]> linhas = new ArrayList<>(RESTAURANTES);
+        for (int i = 0; i < RESTAURANTES; i++) {
+            String nome = NOMES[i % NOMES.length] + " " + i;
+            String endereco = "Rua " + (i % 997) + ", " + i;
+            String tipoCozinha = COZINHAS[i % COZINHAS.length];
+            linhas.add(new Object[]{nome, endereco, tipoCozinha, 50, Restaurante.normalizarParaBusca(nome),
+                    Restaurante.normalizarParaBusca(endereco), Restaurante.normalizarParaBusca(tipoCozinha)});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO restaurante (nome, endereco, tipo_cozinha, capacidade, " +
+                "nome_normalizado, endereco_normalizado, tipo_cozinha_normalizado) VALUES (?, ?, ?, ?, ?, ?, ?)", linhas);
+
+        long inicioCarga = System.nanoTime();
+        IndiceTrigramas indice = new IndiceTrigramas();
+        indice.carregar(jpaRestauranteRepository::findTextosBusca, new IndiceTrigramas.Documento<TextoRestaurante>() {
+            @Override
+            public int id(TextoRestaurante texto) {
+                return Math.toIntExact(texto.id());
+            }
+
+            @Override
+            public String[] campos(TextoRestaurante texto) {
+                return new String[]{texto.nome(), texto.endereco(), texto.tipoCozinha()};
+            }
+        });
+        long cargaMs = (System.nanoTime() - inicioCarga) / 1_000_000;
+
+        Random aleatorio = new Random(42);
+        String[] termos = new String[CONSULTAS_INDICE];
+        for (int i = 0; i < termos.length; i++) {
+            int alvo = aleatorio.nextInt(RESTAURANTES);
+            termos[i] = NOMES[alvo % NOMES.length] + " " + alvo;
+        }
+
+        long[] latenciasJpql = new long[CONSULTAS_JPQL];
+        for (int i = 0; i < CONSULTAS_JPQL; i++) {
+            long inicio = System.nanoTime();
+            int encontrados = jpaRestauranteRepository.findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(termos[i]).size();
+            latenciasJpql[i] = System.nanoTime() - inicio;
+            assertTrue(encontrados >= 1);
+        }
+
+        // Aquecimento do JIT com os mesmos termos
+        for (String termo : termos) {
+            indice.buscar(termo);
+        }
+        long[] latenciasIndice = new long[CONSULTAS_INDICE];
+        for (int i = 0; i < CONSULTAS_INDICE; i++) {
+            long inicio = System.nanoTime();
+            int encontrados = indice.buscar(termos[i]).length;
+            latenciasIndice[i] = System.nanoTime() - inicio;
+            assertTrue(encontrados >= 1);
+        }
+
+        // Resultado idêntico ao da consulta JPQL, inclusive para termos com muitos candidatos
+        for (String termo : List.of(termos[0], "rua 99, 1", "vegana 9999", "bistro 7")) {
+            int[] esperados = jpaRestauranteRepository.findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining(termo)
+                    .stream().mapToInt(r -> Math.toIntExact(r.getId())).sorted().toArray();
+            assertArrayEquals(esperados, indice.buscar(termo), "termo '" + termo + "'");
+        }
+
+        Arrays.sort(latenciasJpql);
+        Arrays.sort(latenciasIndice);
+        long p50Jpql = latenciasJpql[CONSULTAS_JPQL / 2];
+        long p50Indice = latenciasIndice[CONSULTAS_INDICE / 2];
+        log.info("Busca por termo em {} restaurantes: carga do índice {} ms, postagens {} KB; " +
+                        "JPQL p50 {} µs; índice p50 {} µs, p99 {} µs",
+                RESTAURANTES, cargaMs, indice.bytesPostagens() / 1024, p50Jpql / 1_000,
+                p50Indice / 1_000, latenciasIndice[CONSULTAS_INDICE * 99 / 100] / 1_000);
+
+        assertTrue(p50Indice < p50Jpql, "índice p50 " + p50Indice + " ns, JPQL p50 " + p50Jpql + " ns");
+    }
+}
@@ -0,0 +1,152 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndiceTrigramasTest {
+
+    @Test
+    @DisplayName("Deve encontrar o termo em qualquer campo, sem diferenciar maiúsculas")
+    void deveBuscarSubstringEmQualquerCampo() {
+        IndiceTrigramas indice = new IndiceTrigramas();
+        indice.indexar(1, "Cantina Italiana", "Rua Itália, 123", "Italiana");
+        indice.indexar(2, "Sushi Bar", "Avenida Japão, 456", "Japonesa");
+        indice.indexar(3, "Pizzaria", null, "Italiana");
+
+        assertArrayEquals(new int[]{1, 3}, indice.buscar("ITALIANA"));
+        assertArrayEquals(new int[]{2}, indice.buscar("japão, 4"));
+        assertArrayEquals(new int[]{1}, indice.buscar("ua It"));
+        // Todos os trigramas existem, mas não nesta sequência
+        assertArrayEquals(new int[0], indice.buscar("ianaita"));
+        assertArrayEquals(new int[0], indice.buscar("mexicana"));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar acentos no texto e no termo")
+    void deveIgnorarAcentos() {
+        IndiceTrigramas indice = new IndiceTrigramas();
+        indice.indexar(1, "Açaí da Praça", "Avenida São Paulo, 10", "Brasileira");
+        indice.indexar(2, "Feijão Tropeiro", "Rua Sao Joao", "Mineira");
+
+        assertArrayEquals(new int[]{1}, indice.buscar("acai"));
+        assertArrayEquals(new int[]{1, 2}, indice.buscar("SÃO"));
+        assertArrayEquals(new int[]{2}, indice.buscar("feijao"));
+    }
+
+    @Test
+    @DisplayName("Deve verificar termos curtos sem trigramas documento a documento")
+    void deveBuscarTermosCurtos() {
+        IndiceTrigramas indice = new IndiceTrigramas();
+        indice.indexar(2, "Sushi Bar", "Avenida Japão", "Japonesa");
+        indice.indexar(1, "Bistrô", "Rua A", "Francesa");
+
+        assertArrayEquals(new int[]{1, 2}, indice.buscar("b"));
+        assertArrayEquals(new int[]{2}, indice.buscar("ba"));
+    }
+
+    @Test
+    @DisplayName("Deve substituir os textos na reindexação e esquecer o documento removido")
+    void deveAtualizarERemoverDocumentos() {
+        IndiceTrigramas indice = new IndiceTrigramas();
+        indice.indexar(1, "Cantina Italiana", "Rua A", "Italiana");
+        indice.indexar(2, "Trattoria", "Rua B", "Italiana");
+
+        indice.indexar(1, "Churrascaria", "Rua A", "Brasileira");
+        assertArrayEquals(new int[]{2}, indice.buscar("italiana"));
+        assertArrayEquals(new int[]{1}, indice.buscar("churrasc"));
+
+        indice.remover(2);
+        indice.remover(99);
+        assertArrayEquals(new int[0], indice.buscar("italiana"));
+        assertEquals(1, indice.documentos());
+    }
+
+    @Test
+    @DisplayName("Deve manter as listas ordenadas com IDs fora de ordem e diferenças grandes")
+    void deveCodificarListasForaDeOrdem() {
+        IndiceTrigramas.ListaPostagens lista = new IndiceTrigramas.ListaPostagens();
+        for (int id : new int[]{500, 7, 1_000_000, 7, 128, 2_000_000_000, 0}) {
+            lista.adicionar(id);
+        }
+
+        assertArrayEquals(new int[]{0, 7, 128, 500, 1_000_000, 2_000_000_000}, lista.decodificar());
+        assertEquals(5, lista.remover(128));
+        assertArrayEquals(new int[]{0, 7, 500, 1_000_000, 2_000_000_000}, lista.decodificar());
+
+        int[] candidatos = {7, 8, 500, 2_000_000_000};
+        assertEquals(3, lista.intersectar(candidatos, candidatos.length));
+        assertArrayEquals(new int[]{7, 500, 2_000_000_000}, Arrays.copyOf(candidatos, 3));
+    }
+
+    @Test
+    @DisplayName("Deve mesclar remoções e inserções pendentes e recodificar a lista quando acumulam")
+    void deveMesclarAlteracoesPendentes() {
+        Random aleatorio = new Random(11);
+        IndiceTrigramas.ListaPostagens lista = new IndiceTrigramas.ListaPostagens();
+        TreeSet<Integer> esperados = new TreeSet<>();
+        for (int id = 0; id < 2_000; id += 2) {
+            lista.adicionar(id);
+            esperados.add(id);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            int id = aleatorio.nextInt(2_500);
+            if (esperados.contains(id)) {
+                esperados.remove(id);
+                assertEquals(esperados.size(), lista.remover(id));
+            } else {
+                esperados.add(id);
+                lista.adicionar(id);
+            }
+            if (i % 97 == 0) {
+                int[] todos = esperados.stream().mapToInt(Integer::intValue).toArray();
+                assertArrayEquals(todos, lista.decodificar());
+                int[] candidatos = IntStream.range(0, 2_500).filter(c -> c % 3 == 0).toArray();
+                int mantidos = lista.intersectar(candidatos, candidatos.length);
+                assertArrayEquals(Arrays.stream(todos).filter(c -> c % 3 == 0).toArray(),
+                        Arrays.copyOf(candidatos, mantidos));
+            }
+        }
+        assertEquals(esperados.size(), lista.quantidade());
+    }
+
+    @Test
+    @DisplayName("Deve retornar o mesmo que a busca por substring em textos aleatórios")
+    void deveEquivalerABuscaPorSubstring() {
+        Random aleatorio = new Random(7);
+        String alfabeto = "abcde ";
+        IndiceTrigramas indice = new IndiceTrigramas();
+        List<String[]> documentos = new ArrayList<>();
+        for (int id = 0; id < 300; id++) {
+            String[] campos = {texto(aleatorio, alfabeto, 12), texto(aleatorio, alfabeto, 8), texto(aleatorio, alfabeto, 5)};
+            documentos.add(campos);
+            indice.indexar(id, campos);
+        }
+
+        for (int i = 0; i < 200; i++) {
+            String termo = texto(aleatorio, alfabeto, 1 + aleatorio.nextInt(5));
+            int[] esperados = IntStream.range(0, documentos.size())
+                    .filter(id -> List.of(documentos.get(id)).stream().anyMatch(campo -> campo.contains(termo)))
+                    .toArray();
+
+            assertArrayEquals(esperados, indice.buscar(termo), "termo '" + termo + "'");
+        }
+    }
+
+    private static String texto(Random aleatorio, String alfabeto, int tamanho) {
+        StringBuilder texto = new StringBuilder(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            texto.append(alfabeto.charAt(aleatorio.nextInt(alfabeto.length())));
+        }
+        return texto.toString();
+    }
+}
@@ -0,0 +1,185 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.ContagemDemanda;
+import com.postech.gourmet.domain.repositories.DemandaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MapaDemandaUseCaseTest {
+
+    // Terça-feira, 20:30: linha 1, coluna 82
+    private static final LocalDateTime DATA_HORA = LocalDateTime.of(2030, 1, 15, 20, 30);
+    private static final int FAIXA = 96 + 82;
+
+    @Mock
+    private DemandaRepository demandaRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private MapaDemandaUseCase mapaDemandaUseCase;
+
+    @BeforeEach
+    void setUp() {
+        mapaDemandaUseCase = new MapaDemandaUseCase(demandaRepository, restauranteRepository, transactionManager, 90,
+                Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve contar criação, cancelamento e expiração na faixa do horário reservado")
+    void deveAcumularVariacoesPorOperacao() {
+        mapaDemandaUseCase.aoAlterarReserva(ReservaAlteradaEvent.criacao(reserva(StatusReserva.PENDENTE)));
+        mapaDemandaUseCase.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(reserva(StatusReserva.CONFIRMADA)));
+        mapaDemandaUseCase.aoAlterarReserva(
+                ReservaAlteradaEvent.cancelamento(reserva(StatusReserva.CANCELADA), StatusReserva.CONFIRMADA));
+        mapaDemandaUseCase.aoAlterarReserva(ReservaAlteradaEvent.expiracao(reserva(StatusReserva.CANCELADA)));
+
+        ArgumentCaptor<ContagemDemanda> variacoes = ArgumentCaptor.forClass(ContagemDemanda.class);
+        verify(demandaRepository, times(3)).acumular(eq(LocalDate.now()), variacoes.capture());
+        assertEquals(List.of(
+                new ContagemDemanda(1L, FAIXA, 1, 0, 0),
+                new ContagemDemanda(1L, FAIXA, 0, 1, 0),
+                new ContagemDemanda(1L, FAIXA, 0, 0, 1)), variacoes.getAllValues());
+    }
+
+    @Test
+    @DisplayName("Deve carregar o mapa do banco uma vez e aplicar as variações seguintes em memória")
+    void deveCarregarUmaVezEAtualizarEmMemoria() {
+        when(restauranteRepository.existsById(1L)).thenReturn(true);
+        when(demandaRepository.totalizar(1L, mapaDemandaUseCase.getInicioJanela()))
+                .thenReturn(List.of(new ContagemDemanda(1L, FAIXA, 5, 2, 1)));
+
+        MapaCalorDemanda inicial = mapaDemandaUseCase.consultar(1L);
+        mapaDemandaUseCase.aoAlterarReserva(ReservaAlteradaEvent.criacao(reserva(StatusReserva.PENDENTE)));
+        MapaCalorDemanda atualizado = mapaDemandaUseCase.consultar(1L);
+
+        assertEquals(5, inicial.reservas()[1][82]);
+        assertEquals(6, atualizado.reservas()[1][82]);
+        assertEquals(2, atualizado.cancelamentos()[1][82]);
+        assertEquals(1, atualizado.naoComparecimentos()[1][82]);
+        assertEquals(0, atualizado.reservas()[1][81]);
+        assertEquals(LocalDate.now(), atualizado.fim());
+        verify(demandaRepository, times(1)).totalizar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve recarregar do banco o mapa vencido, com as reservas gravadas por outras instâncias")
+    void deveRecarregarMapaVencido() {
+        MapaDemandaUseCase semValidade = new MapaDemandaUseCase(demandaRepository, restauranteRepository,
+                transactionManager, 90, Duration.ZERO);
+        when(restauranteRepository.existsById(1L)).thenReturn(true);
+        when(demandaRepository.totalizar(1L, semValidade.getInicioJanela()))
+                .thenReturn(List.of(new ContagemDemanda(1L, FAIXA, 5, 0, 0)))
+                .thenReturn(List.of(new ContagemDemanda(1L, FAIXA, 7, 0, 0)));
+
+        assertEquals(5, semValidade.consultar(1L).reservas()[1][82]);
+        assertEquals(7, semValidade.consultar(1L).reservas()[1][82]);
+        verify(demandaRepository, times(2)).totalizar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve remover os dias que saíram da janela e recarregar as matrizes da tabela")
+    void deveCompactarDiasForaDaJanela() {
+        LocalDate inicio = mapaDemandaUseCase.getInicioJanela();
+        when(restauranteRepository.existsById(1L)).thenReturn(true);
+        when(demandaRepository.totalizar(1L, inicio)).thenReturn(List.of(new ContagemDemanda(1L, FAIXA, 5, 2, 1)));
+        when(demandaRepository.totalizar(1L, inicio.plusDays(2))).thenReturn(List.of(new ContagemDemanda(1L, FAIXA, 2, 0, 1)));
+        when(demandaRepository.deleteAntesDe(inicio.plusDays(2))).thenReturn(4);
+        mapaDemandaUseCase.consultar(1L);
+
+        assertEquals(4, mapaDemandaUseCase.compactar(LocalDate.now().plusDays(2)));
+        // A janela já avançou até esse dia
+        assertEquals(0, mapaDemandaUseCase.compactar(LocalDate.now().plusDays(2)));
+
+        MapaCalorDemanda mapa = mapaDemandaUseCase.consultar(1L);
+        assertEquals(inicio.plusDays(2), mapa.inicio());
+        assertEquals(2, mapa.reservas()[1][82]);
+        assertEquals(0, mapa.cancelamentos()[1][82]);
+        assertEquals(1, mapa.naoComparecimentos()[1][82]);
+        verify(demandaRepository).deleteAntesDe(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar em memória o mapa lido durante uma transação do mesmo restaurante")
+    void naoDeveGuardarMapaCarregadoComVariacaoEmAndamento() {
+        when(restauranteRepository.existsById(1L)).thenReturn(true);
+        // A leitura já enxerga a criação, confirmada antes de sua sincronização rodar
+        when(demandaRepository.totalizar(1L, mapaDemandaUseCase.getInicioJanela()))
+                .thenReturn(List.of(new ContagemDemanda(1L, FAIXA, 6, 0, 0)));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            mapaDemandaUseCase.aoAlterarReserva(ReservaAlteradaEvent.criacao(reserva(StatusReserva.PENDENTE)));
+            assertEquals(6, mapaDemandaUseCase.consultar(1L).reservas()[1][82]);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sincronizacao -> sincronizacao.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Sem a matriz em memória, a variação não é somada de novo; a próxima consulta relê e guarda
+        assertEquals(6, mapaDemandaUseCase.consultar(1L).reservas()[1][82]);
+        assertEquals(6, mapaDemandaUseCase.consultar(1L).reservas()[1][82]);
+        verify(demandaRepository, times(2)).totalizar(any(), any());
+    }
+
+    @Test
+    @DisplayName("Deve descartar o mapa do restaurante excluído")
+    void deveDescartarRestauranteExcluido() {
+        when(restauranteRepository.existsById(1L)).thenReturn(true, false);
+        mapaDemandaUseCase.consultar(1L);
+
+        mapaDemandaUseCase.aoAlterarRestaurante(RestauranteAlteradoEvent.exclusao(1L));
+
+        verify(demandaRepository).deleteByRestauranteId(1L);
+        assertThrows(ResourceNotFoundException.class, () -> mapaDemandaUseCase.consultar(1L));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao consultar restaurante inexistente")
+    void deveLancarExcecaoParaRestauranteInexistente() {
+        when(restauranteRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(ResourceNotFoundException.class, () -> mapaDemandaUseCase.consultar(99L));
+        verify(demandaRepository, never()).totalizar(any(), any());
+    }
+
+    private Reserva reserva(StatusReserva status) {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(1L);
+        Reserva reserva = new Reserva(10L, "Cliente", DATA_HORA, restaurante, null);
+        reserva.setNumeroPessoas(4);
+        reserva.setStatus(status);
+        return reserva;
+    }
+}
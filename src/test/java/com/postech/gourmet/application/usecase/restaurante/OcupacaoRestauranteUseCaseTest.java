@@ -0,0 +1,199 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.OcupacaoHoraria;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.ReservaAlteradaEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.exception.ResourceNotFoundException;
+import com.postech.gourmet.domain.repositories.OcupacaoHorariaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.TotalReservasPorHorario;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OcupacaoRestauranteUseCaseTest {
+
+    @Mock
+    private OcupacaoHorariaRepository ocupacaoHorariaRepository;
+
+    @Mock
+    private ReservaRepository reservaRepository;
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OcupacaoRestauranteUseCase ocupacaoRestauranteUseCase;
+    private LocalDateTime dataHora;
+
+    @BeforeEach
+    void setUp() {
+        ocupacaoRestauranteUseCase = new OcupacaoRestauranteUseCase(
+                ocupacaoHorariaRepository, reservaRepository, restauranteRepository, transactionManager, 2, 12);
+        dataHora = LocalDateTime.now().plusDays(1).withHour(20).withMinute(30);
+    }
+
+    @Test
+    @DisplayName("Deve somar a nova reserva às pendentes da hora")
+    void deveSomarReservaCriada() {
+        ocupacaoRestauranteUseCase.aoAlterarReserva(ReservaAlteradaEvent.criacao(reserva(StatusReserva.PENDENTE)));
+
+        OcupacaoHoraria variacao = variacaoAcumulada();
+        assertEquals(1L, variacao.getRestauranteId());
+        assertEquals(dataHora.toLocalDate(), variacao.getData());
+        assertEquals(20, variacao.getHora());
+        assertEquals(1, variacao.getReservasPendentes());
+        assertEquals(4, variacao.getPessoasPendentes());
+        assertEquals(0, variacao.getReservasConfirmadas());
+    }
+
+    @Test
+    @DisplayName("Deve mover a reserva confirmada de pendentes para confirmadas")
+    void deveMoverReservaConfirmada() {
+        ocupacaoRestauranteUseCase.aoAlterarReserva(ReservaAlteradaEvent.confirmacao(reserva(StatusReserva.CONFIRMADA)));
+
+        OcupacaoHoraria variacao = variacaoAcumulada();
+        assertEquals(-1, variacao.getReservasPendentes());
+        assertEquals(-4, variacao.getPessoasPendentes());
+        assertEquals(1, variacao.getReservasConfirmadas());
+        assertEquals(4, variacao.getPessoasConfirmadas());
+    }
+
+    @Test
+    @DisplayName("Deve descontar a reserva cancelada do status que ela tinha")
+    void deveDescontarReservaCancelada() {
+        ocupacaoRestauranteUseCase.aoAlterarReserva(
+                ReservaAlteradaEvent.cancelamento(reserva(StatusReserva.CANCELADA), StatusReserva.CONFIRMADA));
+
+        OcupacaoHoraria variacao = variacaoAcumulada();
+        assertEquals(0, variacao.getReservasPendentes());
+        assertEquals(-1, variacao.getReservasConfirmadas());
+        assertEquals(-4, variacao.getPessoasConfirmadas());
+    }
+
+    @Test
+    @DisplayName("Deve descontar a reserva expirada das pendentes")
+    void deveDescontarReservaExpirada() {
+        ocupacaoRestauranteUseCase.aoAlterarReserva(ReservaAlteradaEvent.expiracao(reserva(StatusReserva.CANCELADA)));
+
+        OcupacaoHoraria variacao = variacaoAcumulada();
+        assertEquals(-1, variacao.getReservasPendentes());
+        assertEquals(-4, variacao.getPessoasPendentes());
+    }
+
+    @Test
+    @DisplayName("Deve consultar a ocupação do período")
+    void deveConsultarOcupacao() {
+        LocalDate dia = dataHora.toLocalDate();
+        List<OcupacaoHoraria> esperada = List.of(new OcupacaoHoraria(1L, dia, 20));
+        when(restauranteRepository.existsById(1L)).thenReturn(true);
+        when(ocupacaoHorariaRepository.findByRestauranteIdAndDataBetween(1L, dia, dia.plusDays(6))).thenReturn(esperada);
+
+        assertEquals(esperada, ocupacaoRestauranteUseCase.consultarOcupacao(1L, dia, dia.plusDays(6)));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar período invertido ou longo demais")
+    void deveRejeitarPeriodoInvalido() {
+        LocalDate dia = LocalDate.now();
+
+        assertThrows(InvalidRequestException.class,
+                () -> ocupacaoRestauranteUseCase.consultarOcupacao(1L, dia, dia.minusDays(1)));
+        assertThrows(InvalidRequestException.class,
+                () -> ocupacaoRestauranteUseCase.consultarOcupacao(1L, dia,
+                        dia.plusDays(OcupacaoRestauranteUseCase.DIAS_MAXIMOS_CONSULTA)));
+        verifyNoInteractions(ocupacaoHorariaRepository);
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção ao consultar restaurante inexistente")
+    void deveLancarExcecaoParaRestauranteInexistente() {
+        when(restauranteRepository.existsById(anyLong())).thenReturn(false);
+        LocalDate dia = LocalDate.now();
+
+        assertThrows(ResourceNotFoundException.class, () -> ocupacaoRestauranteUseCase.consultarOcupacao(99L, dia, dia));
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir a ocupação de cada restaurante agrupando os horários por hora")
+    void deveReconstruirPorRestaurante() {
+        LocalDateTime vinteHoras = dataHora.withMinute(0);
+        when(restauranteRepository.findAllIds()).thenReturn(List.of(1L, 2L));
+        when(reservaRepository.totalizarPorHorario(eq(1L), any())).thenReturn(List.of(
+                new TotalReservasPorHorario(vinteHoras, StatusReserva.PENDENTE, 2, 5),
+                new TotalReservasPorHorario(vinteHoras.plusMinutes(30), StatusReserva.CONFIRMADA, 1, 3),
+                new TotalReservasPorHorario(vinteHoras.plusMinutes(30), StatusReserva.CONCLUIDA, 1, 2),
+                new TotalReservasPorHorario(vinteHoras.plusHours(1), StatusReserva.CANCELADA, 4, 8)));
+        when(reservaRepository.totalizarPorHorario(eq(2L), any())).thenReturn(List.of());
+        Map<Long, List<OcupacaoHoraria>> gravadas = new ConcurrentHashMap<>();
+        doAnswer(invocacao -> gravadas.put(invocacao.getArgument(0), new ArrayList<>(invocacao.getArgument(2))))
+                .when(ocupacaoHorariaRepository).substituir(anyLong(), any(), any());
+
+        assertEquals(2, ocupacaoRestauranteUseCase.reconstruir());
+
+        assertTrue(gravadas.get(2L).isEmpty());
+        List<OcupacaoHoraria> horas = gravadas.get(1L);
+        // A hora só com canceladas não é gravada
+        assertEquals(1, horas.size());
+        assertEquals(20, horas.get(0).getHora());
+        assertEquals(2, horas.get(0).getReservasPendentes());
+        assertEquals(5, horas.get(0).getPessoasPendentes());
+        assertEquals(2, horas.get(0).getReservasConfirmadas());
+        assertEquals(5, horas.get(0).getPessoasConfirmadas());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Deve reconstruir só as horas que o arquivamento ainda não alcançou")
+    void deveReconstruirApenasHorasNaoArquivadas() {
+        LocalDateTime agora = LocalDateTime.of(2025, 3, 10, 14, 25);
+        LocalDateTime desde = LocalDateTime.of(2024, 3, 10, 15, 0);
+        assertEquals(desde, ocupacaoRestauranteUseCase.inicioReconstrucao(agora));
+
+        when(reservaRepository.totalizarPorHorario(1L, desde)).thenReturn(List.of(
+                new TotalReservasPorHorario(desde.plusMinutes(30), StatusReserva.CONFIRMADA, 1, 3)));
+
+        ocupacaoRestauranteUseCase.reconstruirRestaurante(1L, desde);
+
+        verify(ocupacaoHorariaRepository).substituir(eq(1L), eq(desde), argThat(horas -> horas.size() == 1));
+    }
+
+    private Reserva reserva(StatusReserva status) {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(1L);
+        Reserva reserva = new Reserva(10L, "Cliente", dataHora, restaurante, null);
+        reserva.setNumeroPessoas(4);
+        reserva.setStatus(status);
+        return reserva;
+    }
+
+    private OcupacaoHoraria variacaoAcumulada() {
+        ArgumentCaptor<OcupacaoHoraria> variacao = ArgumentCaptor.forClass(OcupacaoHoraria.class);
+        verify(ocupacaoHorariaRepository).acumular(variacao.capture());
+        return variacao.getValue();
+    }
+}
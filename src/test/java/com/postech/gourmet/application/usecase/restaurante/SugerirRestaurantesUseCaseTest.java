@@ -0,0 +1,130 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.events.AvaliacaoRegistradaEvent;
+import com.postech.gourmet.domain.events.RestauranteAlteradoEvent;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.AvaliacaoRepository;
+import com.postech.gourmet.domain.repositories.NomeRestaurante;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.TotalAvaliacoes;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SugerirRestaurantesUseCaseTest {
+
+    @Mock
+    private RestauranteRepository restauranteRepository;
+
+    @Mock
+    private AvaliacaoRepository avaliacaoRepository;
+
+    @InjectMocks
+    private SugerirRestaurantesUseCase sugerirRestaurantesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(restauranteRepository.findNomes()).thenReturn(List.of(
+                new NomeRestaurante(1L, "Cantina da Nona", "Italiana"),
+                new NomeRestaurante(2L, "Cantinho Mineiro", "Mineira"),
+                new NomeRestaurante(3L, "Sushi Bar", "Japonesa")));
+        lenient().when(avaliacaoRepository.totalizarPorRestaurante()).thenReturn(List.of(
+                new TotalAvaliacoes(1L, 2, 6),
+                new TotalAvaliacoes(2L, 1, 5)));
+    }
+
+    @Test
+    @DisplayName("Deve carregar os restaurantes uma única vez e sugerir os mais bem avaliados")
+    void deveSugerirPelaMedia() {
+        List<SugestaoRestaurante> sugestoes = sugerirRestaurantesUseCase.sugerir("  cant", 10);
+        sugerirRestaurantesUseCase.sugerir("Japo", 10);
+
+        assertEquals(List.of(
+                new SugestaoRestaurante(2L, "Cantinho Mineiro", "Mineira", 5.0),
+                new SugestaoRestaurante(1L, "Cantina da Nona", "Italiana", 3.0)), sugestoes);
+        verify(restauranteRepository, times(1)).findNomes();
+        verify(avaliacaoRepository, times(1)).totalizarPorRestaurante();
+    }
+
+    @Test
+    @DisplayName("Deve remontar a árvore do banco na recarga, só depois da primeira consulta")
+    void deveRecarregarArvoreDoBanco() {
+        sugerirRestaurantesUseCase.recarregar();
+        verifyNoInteractions(restauranteRepository, avaliacaoRepository);
+        sugerirRestaurantesUseCase.sugerir("cant", 10);
+
+        // Outra instância excluiu a Cantina da Nona e registrou uma avaliação do Cantinho Mineiro
+        when(restauranteRepository.findNomes()).thenReturn(List.of(
+                new NomeRestaurante(2L, "Cantinho Mineiro", "Mineira"),
+                new NomeRestaurante(3L, "Sushi Bar", "Japonesa")));
+        when(avaliacaoRepository.totalizarPorRestaurante()).thenReturn(List.of(new TotalAvaliacoes(2L, 2, 9)));
+        sugerirRestaurantesUseCase.recarregar();
+
+        assertEquals(List.of(new SugestaoRestaurante(2L, "Cantinho Mineiro", "Mineira", 4.5)),
+                sugerirRestaurantesUseCase.sugerir("cant", 10));
+        verify(restauranteRepository, times(2)).findNomes();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar limite fora do intervalo e não consultar o banco para prefixo vazio")
+    void deveValidarParametros() {
+        assertThrows(InvalidRequestException.class, () -> sugerirRestaurantesUseCase.sugerir("can", 0));
+        assertThrows(InvalidRequestException.class, () -> sugerirRestaurantesUseCase.sugerir("can", 11));
+        assertTrue(sugerirRestaurantesUseCase.sugerir(" ", 5).isEmpty());
+        verifyNoInteractions(restauranteRepository, avaliacaoRepository);
+    }
+
+    @Test
+    @DisplayName("Deve acompanhar cadastros, exclusões e novas avaliações")
+    void deveAcompanharEventos() {
+        sugerirRestaurantesUseCase.sugerir("cant", 10);
+
+        Restaurante novo = new Restaurante();
+        novo.setId(4L);
+        novo.setNome("Cantón");
+        novo.setTipoCozinha("Chinesa");
+        sugerirRestaurantesUseCase.aoAlterarRestaurante(RestauranteAlteradoEvent.cadastro(novo));
+        sugerirRestaurantesUseCase.aoAlterarRestaurante(RestauranteAlteradoEvent.exclusao(2L));
+        when(avaliacaoRepository.totalizarDoRestaurante(4L)).thenReturn(Optional.of(new TotalAvaliacoes(4L, 1, 5)));
+        sugerirRestaurantesUseCase.aoRegistrarAvaliacao(new AvaliacaoRegistradaEvent(4L, 5));
+
+        assertEquals(List.of(4L, 1L), sugerirRestaurantesUseCase.sugerir("cant", 10).stream()
+                .map(SugestaoRestaurante::id)
+                .toList());
+        assertEquals(5.0, sugerirRestaurantesUseCase.sugerir("chin", 1).get(0).mediaAvaliacoes());
+    }
+
+    @Test
+    @DisplayName("Não deve contar duas vezes a avaliação já incluída na carga")
+    void naoDeveContarDuasVezesAvaliacaoDaCarga() {
+        // A carga já leu a avaliação de nota 1 do restaurante 2, confirmada antes dela
+        when(avaliacaoRepository.totalizarPorRestaurante()).thenReturn(List.of(new TotalAvaliacoes(2L, 2, 6)));
+        when(avaliacaoRepository.totalizarDoRestaurante(2L)).thenReturn(Optional.of(new TotalAvaliacoes(2L, 2, 6)));
+        sugerirRestaurantesUseCase.sugerir("cant", 10);
+
+        sugerirRestaurantesUseCase.aoRegistrarAvaliacao(new AvaliacaoRegistradaEvent(2L, 1));
+        sugerirRestaurantesUseCase.aoRegistrarAvaliacao(new AvaliacaoRegistradaEvent(2L, 1));
+
+        assertEquals(3.0, sugerirRestaurantesUseCase.sugerir("mine", 1).get(0).mediaAvaliacoes());
+    }
+
+    @Test
+    @DisplayName("Não deve consultar o banco por avaliações recebidas antes da carga")
+    void deveIgnorarAvaliacaoAntesDaCarga() {
+        sugerirRestaurantesUseCase.aoRegistrarAvaliacao(new AvaliacaoRegistradaEvent(1L, 5));
+
+        verifyNoInteractions(avaliacaoRepository);
+    }
+}
@@ -0,0 +1,99 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mede a latência da busca aproximada em 100 mil restaurantes, com nomes sorteados de um
+ * vocabulário de 20 mil palavras e termos com até duas letras trocadas, omitidas ou repetidas.
+ */
+@Slf4j
+@Tag("benchmark")
+class VocabularioAproximadoBenchmarkTest {
+    private static final int RESTAURANTES = 100_000;
+    private static final int PALAVRAS = 20_000;
+    private static final int CONSULTAS = 5_000;
+    // Padrão da busca com fuzzy=true
+    private static final int LIMITE = 20;
+    private static final String[] SILABAS = {"ba", "be", "ca", "co", "chu", "da", "fe", "go", "la", "li", "ma",
+            "mi", "na", "no", "pa", "pi", "ra", "ri", "sa", "so", "ta", "to", "va", "zi", "que", "lha", "nho"};
+    private static final String[] COZINHAS = {"Italiana", "Japonesa", "Brasileira", "Francesa", "Mexicana",
+            "Portuguesa", "Árabe", "Vegana", "Churrascaria", "Chinesa"};
+
+    @Test
+    @DisplayName("Deve buscar com erros de digitação em 100 mil restaurantes com latência previsível")
+    void deveBuscarComLatenciaPrevisivel() {
+        Random aleatorio = new Random(42);
+        String[] vocabulario = new String[PALAVRAS];
+        for (int i = 0; i < PALAVRAS; i++) {
+            StringBuilder palavra = new StringBuilder();
+            int silabas = 2 + aleatorio.nextInt(3);
+            for (int s = 0; s < silabas; s++) {
+                palavra.append(SILABAS[aleatorio.nextInt(SILABAS.length)]);
+            }
+            vocabulario[i] = palavra.toString();
+        }
+
+        VocabularioAproximado indice = new VocabularioAproximado();
+        long inicioCarga = System.nanoTime();
+        for (int id = 1; id <= RESTAURANTES; id++) {
+            indice.indexar(id, vocabulario[aleatorio.nextInt(PALAVRAS)] + " " + vocabulario[aleatorio.nextInt(PALAVRAS)],
+                    COZINHAS[aleatorio.nextInt(COZINHAS.length)]);
+        }
+        long cargaMs = (System.nanoTime() - inicioCarga) / 1_000_000;
+
+        String[] termos = new String[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            String palavra = aleatorio.nextInt(10) == 0
+                    ? COZINHAS[aleatorio.nextInt(COZINHAS.length)].toLowerCase()
+                    : vocabulario[aleatorio.nextInt(PALAVRAS)];
+            termos[i] = comErros(palavra, aleatorio);
+        }
+        for (String termo : termos) {
+            indice.buscar(termo, LIMITE);
+        }
+
+        long[] latencias = new long[CONSULTAS];
+        int encontrados = 0;
+        for (int i = 0; i < CONSULTAS; i++) {
+            long inicio = System.nanoTime();
+            encontrados += indice.buscar(termos[i], LIMITE).length > 0 ? 1 : 0;
+            latencias[i] = System.nanoTime() - inicio;
+        }
+
+        Arrays.sort(latencias);
+        long p50 = latencias[CONSULTAS / 2];
+        long p99 = latencias[CONSULTAS * 99 / 100];
+        log.info("Busca aproximada em {} restaurantes ({} palavras): carga {} ms, p50 {} µs, p99 {} µs, "
+                        + "máx {} µs, {} de {} termos encontrados",
+                RESTAURANTES, indice.palavras(), cargaMs, p50 / 1_000, p99 / 1_000, latencias[CONSULTAS - 1] / 1_000,
+                encontrados, CONSULTAS);
+
+        assertTrue(encontrados > CONSULTAS * 9 / 10, encontrados + " termos encontrados");
+        assertTrue(p99 < 20_000_000, "p99 de " + p99 + " ns");
+    }
+
+    /**
+     * Aplica uma ou duas edições, respeitando a tolerância da palavra.
+     */
+    private static String comErros(String palavra, Random aleatorio) {
+        StringBuilder termo = new StringBuilder(palavra);
+        int erros = Math.min(1 + aleatorio.nextInt(2), VocabularioAproximado.edicoesToleradas(palavra));
+        for (int e = 0; e < erros; e++) {
+            int posicao = aleatorio.nextInt(termo.length());
+            switch (aleatorio.nextInt(3)) {
+                case 0 -> termo.setCharAt(posicao, (char) ('a' + aleatorio.nextInt(26)));
+                case 1 -> termo.deleteCharAt(posicao);
+                default -> termo.insert(posicao, termo.charAt(posicao));
+            }
+        }
+        return termo.toString();
+    }
+}
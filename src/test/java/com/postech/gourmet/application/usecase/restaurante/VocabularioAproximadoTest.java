@@ -0,0 +1,165 @@
+package com.postech.gourmet.application.usecase.restaurante;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VocabularioAproximadoTest {
+
+    @Test
+    @DisplayName("Deve encontrar palavras com erros de digitação e acentos diferentes")
+    void deveTolerarErrosDeDigitacao() {
+        VocabularioAproximado vocabulario = new VocabularioAproximado();
+        vocabulario.indexar(1, "Churrascaria Gaúcha", "Brasileira");
+        vocabulario.indexar(2, "Sushi Bar", "Japonesa");
+        vocabulario.indexar(3, "Cantina", "Italiana");
+
+        assertArrayEquals(new int[]{1}, vocabulario.buscar("churascaria", 10));
+        assertArrayEquals(new int[]{2}, vocabulario.buscar("japones", 10));
+        assertArrayEquals(new int[]{1}, vocabulario.buscar("GAUCHA", 10));
+        assertArrayEquals(new int[]{3}, vocabulario.buscar("itailana", 10));
+        assertArrayEquals(new int[0], vocabulario.buscar("mexicana", 10));
+        assertArrayEquals(new int[0], vocabulario.buscar(" , ", 10));
+    }
+
+    @Test
+    @DisplayName("Deve tolerar menos edições em palavras curtas")
+    void deveLimitarEdicoesPeloTamanho() {
+        assertEquals(0, VocabularioAproximado.edicoesToleradas("ba"));
+        assertEquals(1, VocabularioAproximado.edicoesToleradas("bar"));
+        assertEquals(1, VocabularioAproximado.edicoesToleradas("sushi"));
+        assertEquals(2, VocabularioAproximado.edicoesToleradas("cantina"));
+
+        VocabularioAproximado vocabulario = new VocabularioAproximado();
+        vocabulario.indexar(1, "Sushi Bar", "Japonesa");
+        assertArrayEquals(new int[]{1}, vocabulario.buscar("bat", 10));
+        assertArrayEquals(new int[0], vocabulario.buscar("bxt", 10));
+        assertArrayEquals(new int[]{1}, vocabulario.buscar("susha", 10));
+        // Transposição conta como duas edições
+        assertArrayEquals(new int[0], vocabulario.buscar("suhsi", 10));
+    }
+
+    @Test
+    @DisplayName("Deve exigir todas as palavras do termo e ordenar pela soma das edições")
+    void deveOrdenarPelaProximidade() {
+        VocabularioAproximado vocabulario = new VocabularioAproximado();
+        vocabulario.indexar(1, "Cantinho Mineiro", "Mineira");
+        vocabulario.indexar(2, "Cantina Mineira", "Mineira");
+        vocabulario.indexar(3, "Cantina", "Italiana");
+
+        assertArrayEquals(new int[]{2, 3, 1}, vocabulario.buscar("cantina", 10));
+        assertArrayEquals(new int[]{2, 1}, vocabulario.buscar("cantina mineira", 10));
+        assertArrayEquals(new int[]{2, 1}, vocabulario.buscar("mineira cantina", 10));
+    }
+
+    @Test
+    @DisplayName("Deve devolver só os documentos mais próximos até o limite")
+    void deveLimitarOsResultados() {
+        VocabularioAproximado vocabulario = new VocabularioAproximado();
+        vocabulario.indexar(1, "Cantinho Mineiro", "Mineira");
+        vocabulario.indexar(2, "Cantina Mineira", "Mineira");
+        vocabulario.indexar(3, "Cantina", "Italiana");
+        vocabulario.indexar(4, "Cantinas", "Italiana");
+
+        assertArrayEquals(new int[]{2, 3}, vocabulario.buscar("cantina", 2));
+        assertArrayEquals(new int[]{2, 3, 4}, vocabulario.buscar("cantina", 3));
+        assertArrayEquals(new int[]{2, 3, 4, 1}, vocabulario.buscar("cantina", 10));
+        assertArrayEquals(new int[]{2}, vocabulario.buscar("cantina mineira", 1));
+    }
+
+    @Test
+    @DisplayName("Deve esquecer palavras de restaurantes removidos ou renomeados")
+    void deveAtualizarERemover() {
+        VocabularioAproximado vocabulario = new VocabularioAproximado();
+        for (int id = 1; id <= 20; id++) {
+            vocabulario.indexar(id, "Restaurante " + id, "Cozinha" + id);
+        }
+        vocabulario.indexar(1, "Churrascaria", "Gaúcha");
+        assertFalse(Arrays.stream(vocabulario.buscar("restaurante", 10)).anyMatch(id -> id == 1));
+        assertArrayEquals(new int[]{1}, vocabulario.buscar("churrascaria", 10));
+
+        // Os ramos das palavras que ficaram sem restaurantes são podados
+        for (int id = 2; id <= 18; id++) {
+            vocabulario.remover(id);
+        }
+        assertArrayEquals(new int[]{19, 20}, vocabulario.buscar("restaurante", 10));
+        assertArrayEquals(new int[]{19, 20}, vocabulario.buscar("cozinha19", 10));
+        assertArrayEquals(new int[]{1}, vocabulario.buscar("churascaria", 10));
+        assertEquals(7, vocabulario.palavras());
+    }
+
+    @Test
+    @DisplayName("Deve encontrar o mesmo que comparar o termo com todas as palavras")
+    void deveEquivalerAComparacaoCompleta() {
+        Random aleatorio = new Random(5);
+        VocabularioAproximado vocabulario = new VocabularioAproximado();
+        Map<Integer, String[]> palavras = new HashMap<>();
+        for (int passo = 0; passo < 1_500; passo++) {
+            int id = aleatorio.nextInt(400);
+            if (aleatorio.nextInt(5) == 0) {
+                vocabulario.remover(id);
+                palavras.remove(id);
+            } else {
+                String[] documento = {palavra(aleatorio), palavra(aleatorio)};
+                vocabulario.indexar(id, documento);
+                palavras.put(id, documento);
+            }
+        }
+
+        for (int consulta = 0; consulta < 300; consulta++) {
+            String termo = palavra(aleatorio);
+            int tolerancia = VocabularioAproximado.edicoesToleradas(termo);
+            Map<Integer, Integer> esperado = new HashMap<>();
+            palavras.forEach((id, documento) -> {
+                int menor = Arrays.stream(documento).mapToInt(p -> VocabularioAproximado.distancia(termo, p)).min().orElseThrow();
+                if (menor <= tolerancia) {
+                    esperado.put(id, menor);
+                }
+            });
+            long correspondencias = palavras.values().stream().flatMap(Arrays::stream).distinct()
+                    .filter(p -> VocabularioAproximado.distancia(termo, p) <= tolerancia)
+                    .count();
+            if (correspondencias > VocabularioAproximado.MAXIMO_CORRESPONDENCIAS_PALAVRA) {
+                continue;
+            }
+
+            List<Integer> ids = esperado.keySet().stream()
+                    .sorted(Comparator.comparing((Integer id) -> esperado.get(id)).thenComparing(id -> id))
+                    .toList();
+            int[] esperados = ids.stream().mapToInt(Integer::intValue).toArray();
+            assertArrayEquals(esperados, vocabulario.buscar(termo, Integer.MAX_VALUE), termo);
+            // Parando antes, os primeiros continuam os mesmos
+            int limite = 1 + aleatorio.nextInt(5);
+            assertArrayEquals(Arrays.copyOf(esperados, Math.min(limite, esperados.length)),
+                    vocabulario.buscar(termo, limite), termo);
+        }
+    }
+
+    @Test
+    @DisplayName("Deve calcular a distância de Levenshtein")
+    void deveCalcularDistancia() {
+        assertEquals(0, VocabularioAproximado.distancia("cantina", "cantina"));
+        assertEquals(1, VocabularioAproximado.distancia("churascaria", "churrascaria"));
+        assertEquals(2, VocabularioAproximado.distancia("itailana", "italiana"));
+        assertEquals(3, VocabularioAproximado.distancia("kitten", "sitting"));
+        assertEquals(5, VocabularioAproximado.distancia("", "sushi"));
+    }
+
+    private static String palavra(Random aleatorio) {
+        String letras = "abcdefgh";
+        StringBuilder palavra = new StringBuilder();
+        int tamanho = 2 + aleatorio.nextInt(7);
+        for (int i = 0; i < tamanho; i++) {
+            palavra.append(letras.charAt(aleatorio.nextInt(letras.length())));
+        }
+        return palavra.toString();
+    }
+}
@@ -187,4 +187,29 @@ class RestauranteTest {
         assertTrue(novoRestaurante.getReservas().isEmpty());
         assertNotNull(novoRestaurante.getHorariosFuncionamento());
     }
+
+    @Test
+    @DisplayName("Deve normalizar o texto de busca sem acentos e em minúsculas")
+    void deveNormalizarTextoDeBusca() {
+        assertEquals("acai da praca", Restaurante.normalizarParaBusca("Açaí da Praça"));
+        assertEquals("sao paulo", Restaurante.normalizarParaBusca("SÃO PAULO"));
+        assertEquals("feijao", Restaurante.normalizarParaBusca("feijão"));
+        assertEquals("rua 1", Restaurante.normalizarParaBusca("Rua 1"));
+        assertNull(Restaurante.normalizarParaBusca(null));
+    }
+
+    @Test
+    @DisplayName("Deve definir a localização com latitude e longitude juntas e válidas")
+    void deveDefinirLocalizacao() {
+        restaurante.definirLocalizacao(-23.5614, -46.6559);
+        assertTrue(restaurante.temLocalizacao());
+        assertEquals(-23.5614, restaurante.getLatitude());
+
+        restaurante.definirLocalizacao(null, null);
+        assertFalse(restaurante.temLocalizacao());
+
+        assertThrows(IllegalArgumentException.class, () -> restaurante.definirLocalizacao(-23.5614, null));
+        assertThrows(IllegalArgumentException.class, () -> restaurante.definirLocalizacao(91.0, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> restaurante.definirLocalizacao(0.0, -180.5));
+    }
 }
\ No newline at end of file
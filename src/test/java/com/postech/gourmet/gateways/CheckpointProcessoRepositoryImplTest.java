@@ -0,0 +1,60 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.domain.entities.CheckpointProcesso;
+import com.postech.gourmet.gateways.data.CheckpointProcessoData;
+import com.postech.gourmet.gateways.jpa.JpaCheckpointProcessoRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckpointProcessoRepositoryImplTest {
+
+    @Mock
+    private JpaCheckpointProcessoRepository jpaCheckpointProcessoRepository;
+
+    @InjectMocks
+    private CheckpointProcessoRepositoryImpl checkpointProcessoRepository;
+
+    @Test
+    void testSave() {
+        LocalDateTime corte = LocalDateTime.of(2025, 1, 1, 12, 0);
+        CheckpointProcesso checkpoint = new CheckpointProcesso("processo");
+        checkpoint.iniciar(corte);
+        checkpoint.avancar(corte.minusDays(1), 42L, 10);
+        when(jpaCheckpointProcessoRepository.save(any(CheckpointProcessoData.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        CheckpointProcesso resultado = checkpointProcessoRepository.save(checkpoint);
+
+        assertEquals("processo", resultado.getNome());
+        assertEquals(corte, resultado.getCorte());
+        assertEquals(42L, resultado.getUltimoId());
+        assertEquals(10, resultado.getProcessados());
+        assertTrue(resultado.isEmAndamento());
+    }
+
+    @Test
+    void testFindByNome() {
+        CheckpointProcessoData data = CheckpointProcessoData.builder()
+                .nome("processo")
+                .emAndamento(false)
+                .corte(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .build();
+        when(jpaCheckpointProcessoRepository.findById("processo")).thenReturn(Optional.of(data));
+
+        Optional<CheckpointProcesso> resultado = checkpointProcessoRepository.findByNome("processo");
+
+        assertTrue(resultado.isPresent());
+        assertEquals(data.getCorte(), resultado.get().processadoAte());
+    }
+}
@@ -0,0 +1,69 @@
+package com.postech.gourmet.gateways;
+
+import com.postech.gourmet.application.usecase.reserva.ChaveSlot;
+import com.postech.gourmet.application.usecase.reserva.InventarioAssentos;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ControleConcorrenciaPostgresTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private InventarioAssentos inventarioAssentos;
+
+    @InjectMocks
+    private ControleConcorrenciaPostgres controleConcorrencia;
+
+    private final ChaveSlot chave = new ChaveSlot(7L, LocalDateTime.of(2030, 1, 1, 20, 0));
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void testObtemTravaERecarregaSlotAntesDaAcao() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        String resultado = controleConcorrencia.executarComTrava(chave, () -> "ok");
+
+        assertEquals("ok", resultado);
+        InOrder ordem = inOrder(jdbcTemplate, inventarioAssentos);
+        ordem.verify(jdbcTemplate).query(eq("SELECT pg_advisory_xact_lock(?, ?)"), any(ResultSetExtractor.class),
+                eq(ControleConcorrenciaPostgres.chaveRestaurante(chave)), eq(ControleConcorrenciaPostgres.chaveHorario(chave)));
+        ordem.verify(inventarioAssentos).recarregarSlot(chave);
+    }
+
+    @Test
+    void testExigeTransacaoAtiva() {
+        assertThrows(IllegalStateException.class, () -> controleConcorrencia.executarComTrava(chave, () -> "ok"));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testRestaurantesDiferentesGeramChavesDiferentes() {
+        ChaveSlot outroRestaurante = new ChaveSlot(8L, chave.inicio());
+
+        assertNotEquals(ControleConcorrenciaPostgres.chaveRestaurante(chave),
+                ControleConcorrenciaPostgres.chaveRestaurante(outroRestaurante));
+        assertEquals(ControleConcorrenciaPostgres.chaveHorario(chave),
+                ControleConcorrenciaPostgres.chaveHorario(outroRestaurante));
+    }
+}
@@ -3,6 +3,7 @@ package com.postech.gourmet.gateways;
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.repositories.ArquivoReservaRepository;
 import com.postech.gourmet.domain.enums.StatusReserva;
 import com.postech.gourmet.gateways.data.ReservaData;
 import com.postech.gourmet.gateways.data.RestauranteData;
@@ -31,6 +32,9 @@ class ReservaRepositoryImplTest {
     @Mock
     private JpaReservaRepository jpaReservaRepository;
 
+    @Mock
+    private ArquivoReservaRepository arquivoReservaRepository;
+
     @InjectMocks
     private ReservaRepositoryImpl reservaRepository;
 
@@ -114,11 +118,24 @@ class ReservaRepositoryImplTest {
     @Test
     void testFindByIdNotFound() {
         when(jpaReservaRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(arquivoReservaRepository.findById(anyLong())).thenReturn(Optional.empty());
 
         Optional<Reserva> resultado = reservaRepository.findById(999L);
 
         assertFalse(resultado.isPresent());
         verify(jpaReservaRepository).findById(999L);
+        verify(arquivoReservaRepository).findById(999L);
+    }
+
+    @Test
+    void testFindByIdArquivada() {
+        when(jpaReservaRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(arquivoReservaRepository.findById(1L)).thenReturn(Optional.of(reserva));
+
+        Optional<Reserva> resultado = reservaRepository.findById(1L);
+
+        assertTrue(resultado.isPresent());
+        assertSame(reserva, resultado.get());
     }
 
     @Test
@@ -168,13 +185,17 @@ class ReservaRepositoryImplTest {
     void testFindByUsuarioId() {
         List<ReservaData> reservasData = Arrays.asList(reservaData);
         when(jpaReservaRepository.findByUsuarioId(anyLong())).thenReturn(reservasData);
+        Reserva arquivada = new Reserva(2L, "Cliente Antigo", dataFutura.minusYears(2), null, null);
+        // A cópia arquivada da reserva 1 é ignorada: a do banco prevalece
+        when(arquivoReservaRepository.findByUsuarioId(1L)).thenReturn(List.of(arquivada, reserva));
 
         List<Reserva> resultado = reservaRepository.findByUsuarioId(1L);
 
         assertNotNull(resultado);
-        assertEquals(1, resultado.size());
+        assertEquals(2, resultado.size());
         assertEquals(reserva.getId(), resultado.get(0).getId());
         assertEquals(reserva.getCliente(), resultado.get(0).getCliente());
+        assertEquals(2L, resultado.get(1).getId());
         verify(jpaReservaRepository).findByUsuarioId(1L);
     }
 }
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.postech.gourmet.gateways.arquivo;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ArquivoReservasCompactadoTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 10, 20, 0);
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve encontrar reservas arquivadas pelo ID usando o índice esparso de blocos")
+    void deveEncontrarPorId() {
+        ArquivoReservasCompactado arquivo = new ArquivoReservasCompactado(diretorio);
+        List<Reserva> reservas = reservas(1, 1000, 10);
+        Collections.shuffle(reservas, new Random(7));
+        arquivo.arquivar(reservas);
+
+        Reserva reserva = arquivo.findById(513L).orElseThrow();
+
+        assertEquals("Cliente 513", reserva.getCliente());
+        assertEquals(BASE.plusHours(513), reserva.getDataHora());
+        assertEquals(StatusReserva.CONCLUIDA, reserva.getStatus());
+        assertEquals(3, reserva.getNumeroPessoas());
+        assertEquals(513L % 10, reserva.getUsuario().getId());
+        assertEquals("Restaurante " + 513 % 7, reserva.getRestaurante().getNome());
+        assertTrue(arquivo.findById(0L).isEmpty());
+        assertTrue(arquivo.findById(1001L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve reunir o histórico do usuário de todos os segmentos, mesmo após reabrir o arquivo")
+    void deveReunirHistoricoDoUsuario() {
+        ArquivoReservasCompactado arquivo = new ArquivoReservasCompactado(diretorio);
+        arquivo.arquivar(reservas(1, 600, 10));
+        arquivo.arquivar(reservas(601, 1200, 10));
+
+        ArquivoReservasCompactado reaberto = new ArquivoReservasCompactado(diretorio);
+        List<Reserva> historico = reaberto.findByUsuarioId(4L);
+
+        assertEquals(120, historico.size());
+        assertTrue(historico.stream().allMatch(reserva -> reserva.getUsuario().getId() == 4L));
+        assertTrue(reaberto.findById(1195L).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a cópia mais recente de uma reserva arquivada duas vezes")
+    void deveDevolverCopiaMaisRecente() {
+        ArquivoReservasCompactado arquivo = new ArquivoReservasCompactado(diretorio);
+        arquivo.arquivar(reservas(1, 10, 2));
+        Reserva cancelada = reserva(5L, 2);
+        cancelada.setStatus(StatusReserva.CANCELADA);
+        arquivo.arquivar(List.of(cancelada));
+
+        assertEquals(StatusReserva.CANCELADA, arquivo.findById(5L).orElseThrow().getStatus());
+        assertEquals(5, arquivo.findByUsuarioId(1L).size());
+    }
+
+    @Test
+    @DisplayName("Deve ocupar bem menos espaço que os registros sem compressão")
+    void deveComprimirSegmento() throws IOException {
+        new ArquivoReservasCompactado(diretorio).arquivar(reservas(1, 10_000, 500));
+
+        long tamanho;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            tamanho = arquivos.mapToLong(arquivo -> arquivo.toFile().length()).sum();
+        }
+        // Cada reserva ocupa cerca de 80 bytes antes da compressão
+        assertTrue(tamanho < 10_000 * 40, "Arquivo com " + tamanho + " bytes");
+    }
+
+    private List<Reserva> reservas(long de, long ate, int usuarios) {
+        List<Reserva> reservas = new ArrayList<>();
+        for (long id = de; id <= ate; id++) {
+            reservas.add(reserva(id, usuarios));
+        }
+        return reservas;
+    }
+
+    private Reserva reserva(long id, int usuarios) {
+        Restaurante restaurante = new Restaurante();
+        restaurante.setId(id % 7);
+        restaurante.setNome("Restaurante " + id % 7);
+        Usuario usuario = new Usuario();
+        usuario.setId(id % usuarios);
+        usuario.setNome("Cliente " + id);
+
+        Reserva reserva = new Reserva(id, "Cliente " + id, BASE.plusHours(id), restaurante, usuario);
+        reserva.setNumeroPessoas(3);
+        reserva.setStatus(StatusReserva.CONCLUIDA);
+        reserva.setCriadaEm(BASE.plusHours(id).minusDays(3));
+        return reserva;
+    }
+}
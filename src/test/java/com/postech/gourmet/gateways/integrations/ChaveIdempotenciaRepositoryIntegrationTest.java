@@ -0,0 +1,76 @@
+package com.postech.gourmet.gateways.integrations;
+
+import com.postech.gourmet.domain.entities.ChaveIdempotencia;
+import com.postech.gourmet.domain.repositories.ChaveIdempotenciaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ChaveIdempotenciaRepositoryIntegrationTest {
+
+    @Autowired
+    private ChaveIdempotenciaRepository chaveIdempotenciaRepository;
+
+    @Test
+    @DisplayName("Deve inserir e recuperar uma chave de idempotência")
+    void deveInserirERecuperarChave() {
+        LocalDateTime agora = LocalDateTime.now().withNano(0);
+        chaveIdempotenciaRepository.inserir(new ChaveIdempotencia("chave-1", 10L, "abc", agora));
+
+        Optional<ChaveIdempotencia> recuperada = chaveIdempotenciaRepository.findByChave("chave-1");
+
+        assertTrue(recuperada.isPresent());
+        assertEquals(10L, recuperada.get().getReservaId());
+        assertEquals("abc", recuperada.get().getImpressao());
+        assertEquals(agora, recuperada.get().getCriadaEm());
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever uma chave já registrada")
+    void naoDeveSobrescreverChave() {
+        chaveIdempotenciaRepository.inserir(new ChaveIdempotencia("chave-1", 10L, "abc", LocalDateTime.now()));
+
+        assertThrows(DataIntegrityViolationException.class, () -> chaveIdempotenciaRepository.inserir(
+                new ChaveIdempotencia("chave-1", 11L, "def", LocalDateTime.now())));
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas as chaves anteriores ao limite")
+    void deveRemoverChavesAnterioresAoLimite() {
+        LocalDateTime agora = LocalDateTime.now();
+        chaveIdempotenciaRepository.inserir(new ChaveIdempotencia("antiga", 1L, "a", agora.minusDays(2)));
+        chaveIdempotenciaRepository.inserir(new ChaveIdempotencia("recente", 2L, "b", agora));
+
+        int removidas = chaveIdempotenciaRepository.deleteByCriadaEmBefore(agora.minusDays(1));
+
+        assertEquals(1, removidas);
+        assertTrue(chaveIdempotenciaRepository.findByChave("antiga").isEmpty());
+        assertTrue(chaveIdempotenciaRepository.findByChave("recente").isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve remover a chave informada apenas se ela for anterior ao limite")
+    void deveRemoverChaveVencida() {
+        LocalDateTime agora = LocalDateTime.now();
+        chaveIdempotenciaRepository.inserir(new ChaveIdempotencia("antiga", 1L, "a", agora.minusDays(2)));
+        chaveIdempotenciaRepository.inserir(new ChaveIdempotencia("recente", 2L, "b", agora));
+
+        assertEquals(0, chaveIdempotenciaRepository.deleteByChaveAndCriadaEmBefore("recente", agora.minusDays(1)));
+        assertEquals(1, chaveIdempotenciaRepository.deleteByChaveAndCriadaEmBefore("antiga", agora.minusDays(1)));
+
+        assertTrue(chaveIdempotenciaRepository.findByChave("antiga").isEmpty());
+        assertTrue(chaveIdempotenciaRepository.findByChave("recente").isPresent());
+    }
+}
@@ -0,0 +1,21 @@
+package com.postech.gourmet.gateways.integrations;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Guarda o último SQL gerado pelo Hibernate na thread, para que os testes consultem o plano da
+ * consulta que o repositório realmente executa.
+ */
+public class ConsultasGeradas implements StatementInspector {
+    private static final ThreadLocal<String> ULTIMA = new ThreadLocal<>();
+
+    static String ultima() {
+        return ULTIMA.get();
+    }
+
+    @Override
+    public String inspect(String sql) {
+        ULTIMA.set(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,55 @@
+package com.postech.gourmet.gateways.integrations;
+
+import com.postech.gourmet.domain.repositories.ContagemDemanda;
+import com.postech.gourmet.domain.repositories.DemandaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class DemandaRepositoryIntegrationTest {
+
+    @Autowired
+    private DemandaRepository demandaRepository;
+
+    private final LocalDate dia = LocalDate.of(2030, 1, 15);
+
+    @Test
+    @DisplayName("Deve criar a faixa do dia na primeira variação e somar as seguintes")
+    void deveAcumularVariacoes() {
+        demandaRepository.acumular(dia, new ContagemDemanda(1L, 178, 1, 0, 0));
+        demandaRepository.acumular(dia, new ContagemDemanda(1L, 178, 1, 0, 0));
+        demandaRepository.acumular(dia, new ContagemDemanda(1L, 178, 0, 1, 0));
+        demandaRepository.acumular(dia.plusDays(1), new ContagemDemanda(1L, 178, 0, 0, 1));
+
+        List<ContagemDemanda> totais = demandaRepository.totalizar(1L, dia);
+
+        assertEquals(List.of(new ContagemDemanda(1L, 178, 2, 1, 1)), totais);
+        assertEquals(List.of(new ContagemDemanda(1L, 178, 0, 0, 1)), demandaRepository.totalizar(1L, dia.plusDays(1)));
+    }
+
+    @Test
+    @DisplayName("Deve remover apenas os dias anteriores ao limite")
+    void deveRemoverDiasAntigos() {
+        demandaRepository.acumular(dia.minusDays(2), new ContagemDemanda(1L, 10, 1, 0, 0));
+        demandaRepository.acumular(dia.minusDays(1), new ContagemDemanda(1L, 10, 2, 0, 0));
+        demandaRepository.acumular(dia.minusDays(1), new ContagemDemanda(2L, 20, 0, 3, 0));
+        demandaRepository.acumular(dia, new ContagemDemanda(1L, 10, 4, 0, 0));
+
+        assertEquals(3, demandaRepository.deleteAntesDe(dia));
+        assertEquals(List.of(new ContagemDemanda(1L, 10, 4, 0, 0)), demandaRepository.totalizar(1L, dia.minusDays(2)));
+
+        demandaRepository.deleteByRestauranteId(1L);
+        assertTrue(demandaRepository.totalizar(1L, dia.minusDays(2)).isEmpty());
+    }
+}
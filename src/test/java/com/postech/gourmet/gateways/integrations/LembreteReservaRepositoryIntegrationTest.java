@@ -0,0 +1,97 @@
+package com.postech.gourmet.gateways.integrations;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+import com.postech.gourmet.domain.repositories.LembreteReservaRepository;
+import com.postech.gourmet.gateways.jpa.JpaLembreteReservaRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Sem @Transactional: cada reserva de lote é confirmada em transação própria, como no despachante
+@SpringBootTest
+@ActiveProfiles("test")
+class LembreteReservaRepositoryIntegrationTest {
+
+    @Autowired
+    private LembreteReservaRepository lembreteReservaRepository;
+
+    @Autowired
+    private JpaLembreteReservaRepository jpaLembreteReservaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final LocalDateTime agora = LocalDateTime.now().withNano(0);
+
+    @AfterEach
+    void tearDown() {
+        jpaLembreteReservaRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve reservar apenas lembretes pendentes vencidos e escondê-los até o fim do arrendamento")
+    void deveReservarVencidos() {
+        List<LembreteReserva> salvos = lembreteReservaRepository.saveAll(List.of(
+                lembrete(1L, TipoLembrete.VINTE_E_QUATRO_HORAS, agora.minusMinutes(5)),
+                lembrete(1L, TipoLembrete.DUAS_HORAS, agora.plusHours(22)),
+                lembrete(2L, TipoLembrete.DUAS_HORAS, agora.minusMinutes(1))));
+        assertEquals(Set.of(TipoLembrete.VINTE_E_QUATRO_HORAS, TipoLembrete.DUAS_HORAS),
+                lembreteReservaRepository.findTiposByReservaId(1L));
+
+        List<LembreteReserva> reservados = emTransacao(() -> lembreteReservaRepository.reservarVencidos(agora, agora.plusMinutes(5), 10));
+
+        assertEquals(List.of(salvos.get(0).getId(), salvos.get(2).getId()), reservados.stream().map(LembreteReserva::getId).toList());
+        assertEquals(1, reservados.get(0).getTentativas());
+        assertTrue(emTransacao(() -> lembreteReservaRepository.reservarVencidos(agora.plusMinutes(4), agora.plusMinutes(9), 10)).isEmpty());
+
+        // Arrendamento vencido sem registro do envio: o lembrete volta a ser despachado
+        emTransacao(() -> lembreteReservaRepository.atualizarStatus(List.of(salvos.get(0).getId()), StatusLembrete.ENVIADO));
+        List<LembreteReserva> retomados = emTransacao(() -> lembreteReservaRepository.reservarVencidos(agora.plusMinutes(6), agora.plusMinutes(11), 10));
+        assertEquals(List.of(salvos.get(2).getId()), retomados.stream().map(LembreteReserva::getId).toList());
+        assertEquals(2, retomados.get(0).getTentativas());
+    }
+
+    @Test
+    @DisplayName("Deve cancelar os lembretes pendentes da reserva e reagendar apenas pendentes")
+    void deveCancelarEReagendar() {
+        List<LembreteReserva> salvos = lembreteReservaRepository.saveAll(List.of(
+                lembrete(3L, TipoLembrete.VINTE_E_QUATRO_HORAS, agora.minusMinutes(5)),
+                lembrete(3L, TipoLembrete.DUAS_HORAS, agora.plusHours(22)),
+                lembrete(4L, TipoLembrete.DUAS_HORAS, agora.minusMinutes(5))));
+        List<Long> ids = salvos.stream().map(LembreteReserva::getId).toList();
+
+        assertEquals(1, emTransacao(() -> lembreteReservaRepository.atualizarStatus(List.of(ids.get(0)), StatusLembrete.ENVIADO)));
+        assertEquals(1, emTransacao(() -> lembreteReservaRepository.cancelarPendentes(3L)));
+        assertEquals(1, emTransacao(() -> lembreteReservaRepository.reagendar(ids, agora.plusHours(1))));
+
+        assertEquals("ENVIADO", jpaLembreteReservaRepository.findById(ids.get(0)).orElseThrow().getStatus());
+        assertEquals("CANCELADO", jpaLembreteReservaRepository.findById(ids.get(1)).orElseThrow().getStatus());
+        assertEquals(agora.plusHours(1), jpaLembreteReservaRepository.findById(ids.get(2)).orElseThrow().getEnviarEm());
+    }
+
+    private LembreteReserva lembrete(Long reservaId, TipoLembrete tipo, LocalDateTime enviarEm) {
+        Reserva reserva = new Reserva(reservaId, "Cliente " + reservaId, enviarEm.plus(tipo.getAntecedencia()), null, null);
+        LembreteReserva lembrete = LembreteReserva.para(reserva, tipo);
+        assertEquals(enviarEm, lembrete.getEnviarEm());
+        return lembrete;
+    }
+
+    private <T> T emTransacao(Supplier<T> acao) {
+        return new TransactionTemplate(transactionManager).execute(status -> acao.get());
+    }
+}
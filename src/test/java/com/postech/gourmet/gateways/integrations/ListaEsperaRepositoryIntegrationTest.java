@@ -0,0 +1,67 @@
+package com.postech.gourmet.gateways.integrations;
+
+import com.postech.gourmet.domain.entities.EntradaListaEspera;
+import com.postech.gourmet.domain.enums.StatusListaEspera;
+import com.postech.gourmet.domain.repositories.ListaEsperaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ListaEsperaRepositoryIntegrationTest {
+
+    @Autowired
+    private ListaEsperaRepository listaEsperaRepository;
+
+    @Test
+    @DisplayName("Deve listar apenas entradas aguardando horários futuros, em ordem de chegada")
+    void deveListarEntradasAguardandoEmOrdemDeChegada() {
+        LocalDateTime agora = LocalDateTime.now().withNano(0);
+        EntradaListaEspera segunda = listaEsperaRepository.save(novaEntrada(agora.plusDays(1), agora.minusMinutes(5)));
+        EntradaListaEspera primeira = listaEsperaRepository.save(novaEntrada(agora.plusDays(2), agora.minusMinutes(10)));
+        listaEsperaRepository.save(novaEntrada(agora.minusDays(1), agora.minusMinutes(20)));
+        EntradaListaEspera cancelada = listaEsperaRepository.save(novaEntrada(agora.plusDays(1), agora.minusMinutes(30)));
+        listaEsperaRepository.atualizarStatus(cancelada.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.CANCELADA);
+
+        List<EntradaListaEspera> aguardando = listaEsperaRepository.findAguardandoAPartirDe(agora);
+
+        assertEquals(List.of(primeira.getId(), segunda.getId()), aguardando.stream().map(EntradaListaEspera::getId).toList());
+    }
+
+    @Test
+    @DisplayName("Deve alterar o status apenas se a entrada estiver no status esperado")
+    void deveAlterarStatusCondicionalmente() {
+        LocalDateTime agora = LocalDateTime.now();
+        EntradaListaEspera entrada = listaEsperaRepository.save(novaEntrada(agora.plusDays(1), agora));
+
+        assertEquals(1, listaEsperaRepository.atualizarStatus(
+                entrada.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.PROMOVIDA));
+        assertEquals(0, listaEsperaRepository.atualizarStatus(
+                entrada.getId(), StatusListaEspera.AGUARDANDO, StatusListaEspera.CANCELADA));
+
+        listaEsperaRepository.registrarReserva(entrada.getId(), 42L);
+        EntradaListaEspera recuperada = listaEsperaRepository.findById(entrada.getId()).orElseThrow();
+        assertEquals(StatusListaEspera.PROMOVIDA, recuperada.getStatus());
+        assertEquals(42L, recuperada.getReservaId());
+    }
+
+    private static EntradaListaEspera novaEntrada(LocalDateTime dataHora, LocalDateTime criadaEm) {
+        EntradaListaEspera entrada = new EntradaListaEspera();
+        entrada.setRestauranteId(1L);
+        entrada.setUsuarioId(1L);
+        entrada.setDataHora(dataHora);
+        entrada.setNumeroPessoas(2);
+        entrada.setCriadaEm(criadaEm);
+        return entrada;
+    }
+}
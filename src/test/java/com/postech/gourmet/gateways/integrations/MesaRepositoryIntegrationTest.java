@@ -0,0 +1,106 @@
+package com.postech.gourmet.gateways.integrations;
+
+import com.postech.gourmet.domain.entities.Mesa;
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.MesaRepository;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MesaRepositoryIntegrationTest {
+
+    @Autowired
+    private MesaRepository mesaRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    private Restaurante restaurante;
+    private Usuario usuario;
+
+    @BeforeEach
+    void setUp() {
+        restaurante = new Restaurante();
+        restaurante.setNome("Restaurante Mesas");
+        restaurante.setEndereco("Endereço Teste");
+        restaurante.setTipoCozinha("Italiana");
+        restaurante.setCapacidade(20);
+        restaurante = restauranteRepository.save(restaurante);
+
+        usuario = new Usuario();
+        usuario.setNome("Usuário Teste");
+        usuario.setEmail("mesas@teste.com");
+        usuario.setSenha("senha123");
+        usuario = usuarioRepository.save(usuario);
+    }
+
+    @Test
+    @DisplayName("Deve substituir o layout de mesas do restaurante")
+    void deveSubstituirLayout() {
+        mesaRepository.substituir(restaurante.getId(), List.of(new Mesa(null, null, 2, false)));
+
+        List<Mesa> salvas = mesaRepository.substituir(restaurante.getId(), List.of(
+                new Mesa(null, null, 4, true), new Mesa(null, null, 6, false)));
+
+        List<Mesa> mesas = mesaRepository.findByRestauranteId(restaurante.getId());
+        assertEquals(2, mesas.size());
+        assertEquals(salvas.stream().map(Mesa::getId).toList(), mesas.stream().map(Mesa::getId).toList());
+        assertTrue(mesas.get(0).isCombinavel());
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas as mesas de reservas ativas no período")
+    void deveListarMesasDeReservasAtivas() {
+        List<Mesa> mesas = mesaRepository.substituir(restaurante.getId(), List.of(
+                new Mesa(null, null, 4, false), new Mesa(null, null, 4, false), new Mesa(null, null, 2, false)));
+        LocalDateTime dataHora = LocalDateTime.now().plusDays(1).withHour(20).withMinute(0).withSecond(0).withNano(0);
+
+        Reserva ativa = reservaRepository.save(novaReserva(dataHora, StatusReserva.CONFIRMADA));
+        Reserva cancelada = reservaRepository.save(novaReserva(dataHora, StatusReserva.CANCELADA));
+        Reserva outroHorario = reservaRepository.save(novaReserva(dataHora.plusHours(1), StatusReserva.PENDENTE));
+        mesaRepository.registrarAlocacao(ativa.getId(), List.of(mesas.get(0).getId(), mesas.get(2).getId()));
+        mesaRepository.registrarAlocacao(cancelada.getId(), List.of(mesas.get(1).getId()));
+        mesaRepository.registrarAlocacao(outroHorario.getId(), List.of(mesas.get(1).getId()));
+
+        List<Long> ocupadas = mesaRepository.findMesaIdsOcupadas(restaurante.getId(), dataHora, dataHora.plusMinutes(30));
+
+        assertEquals(2, ocupadas.size());
+        assertTrue(ocupadas.containsAll(List.of(mesas.get(0).getId(), mesas.get(2).getId())));
+        assertEquals(List.of(mesas.get(0).getId(), mesas.get(2).getId()), mesaRepository.findMesaIdsByReservaId(ativa.getId()));
+    }
+
+    private Reserva novaReserva(LocalDateTime dataHora, StatusReserva status) {
+        Reserva reserva = new Reserva();
+        reserva.setCliente(usuario.getNome());
+        reserva.setDataHora(dataHora);
+        reserva.setNumeroPessoas(2);
+        reserva.setRestaurante(restaurante);
+        reserva.setUsuario(usuario);
+        reserva.setStatus(status);
+        return reserva;
+    }
+}
@@ -0,0 +1,93 @@
+package com.postech.gourmet.gateways.integrations;
+
+import com.postech.gourmet.domain.entities.OcupacaoHoraria;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.OcupacaoHorariaRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class OcupacaoHorariaRepositoryIntegrationTest {
+
+    @Autowired
+    private OcupacaoHorariaRepository ocupacaoHorariaRepository;
+
+    private final LocalDate dia = LocalDate.of(2030, 1, 15);
+
+    @Test
+    @DisplayName("Deve criar a hora na primeira variação e somar as seguintes")
+    void deveAcumularVariacoes() {
+        assertTrue(ocupacaoHorariaRepository.isEmpty());
+
+        ocupacaoHorariaRepository.acumular(variacao(1L, 20, StatusReserva.PENDENTE, 1, 2));
+        ocupacaoHorariaRepository.acumular(variacao(1L, 20, StatusReserva.PENDENTE, 1, 4));
+        OcupacaoHoraria confirmacao = variacao(1L, 20, StatusReserva.PENDENTE, -1, -2);
+        confirmacao.acumular(StatusReserva.CONFIRMADA, 1, 2);
+        ocupacaoHorariaRepository.acumular(confirmacao);
+
+        List<OcupacaoHoraria> ocupacao = ocupacaoHorariaRepository.findByRestauranteIdAndDataBetween(1L, dia, dia);
+
+        assertFalse(ocupacaoHorariaRepository.isEmpty());
+        assertEquals(1, ocupacao.size());
+        assertEquals(dia, ocupacao.get(0).getData());
+        assertEquals(20, ocupacao.get(0).getHora());
+        assertEquals(1, ocupacao.get(0).getReservasPendentes());
+        assertEquals(4, ocupacao.get(0).getPessoasPendentes());
+        assertEquals(1, ocupacao.get(0).getReservasConfirmadas());
+        assertEquals(2, ocupacao.get(0).getPessoasConfirmadas());
+    }
+
+    @Test
+    @DisplayName("Deve listar apenas as horas do restaurante no período, em ordem cronológica")
+    void deveFiltrarPorRestauranteEPeriodo() {
+        ocupacaoHorariaRepository.acumular(variacao(1L, 21, StatusReserva.PENDENTE, 1, 2));
+        ocupacaoHorariaRepository.acumular(variacao(1L, 19, StatusReserva.PENDENTE, 1, 2));
+        ocupacaoHorariaRepository.acumular(variacao(2L, 20, StatusReserva.PENDENTE, 1, 2));
+        OcupacaoHoraria outroDia = new OcupacaoHoraria(1L, dia.plusDays(1), 12);
+        outroDia.acumular(StatusReserva.PENDENTE, 1, 2);
+        ocupacaoHorariaRepository.acumular(outroDia);
+
+        List<OcupacaoHoraria> ocupacao = ocupacaoHorariaRepository.findByRestauranteIdAndDataBetween(1L, dia, dia);
+
+        assertEquals(List.of(19, 21), ocupacao.stream().map(OcupacaoHoraria::getHora).toList());
+    }
+
+    @Test
+    @DisplayName("Deve substituir os totais de um restaurante sem afetar os demais")
+    void deveSubstituirTotaisDoRestaurante() {
+        ocupacaoHorariaRepository.acumular(variacao(1L, 20, StatusReserva.PENDENTE, 5, 10));
+        ocupacaoHorariaRepository.acumular(variacao(2L, 20, StatusReserva.PENDENTE, 1, 2));
+
+        ocupacaoHorariaRepository.acumular(variacao(1L, 22, StatusReserva.PENDENTE, 1, 2));
+        ocupacaoHorariaRepository.acumular(variacao(1L, 19, StatusReserva.PENDENTE, 1, 2));
+
+        ocupacaoHorariaRepository.substituir(1L, dia.atTime(20, 0),
+                List.of(variacao(1L, 21, StatusReserva.CONFIRMADA, 1, 3)));
+
+        // As horas anteriores ao início da substituição são mantidas
+        List<OcupacaoHoraria> restaurante1 = ocupacaoHorariaRepository.findByRestauranteIdAndDataBetween(1L, dia, dia);
+        assertEquals(List.of(19, 21), restaurante1.stream().map(OcupacaoHoraria::getHora).toList());
+        assertEquals(3, restaurante1.get(1).getPessoasConfirmadas());
+        assertEquals(1, ocupacaoHorariaRepository.findByRestauranteIdAndDataBetween(2L, dia, dia).size());
+
+        ocupacaoHorariaRepository.deleteByRestauranteId(1L);
+        assertTrue(ocupacaoHorariaRepository.findByRestauranteIdAndDataBetween(1L, dia, dia).isEmpty());
+    }
+
+    private OcupacaoHoraria variacao(Long restauranteId, int hora, StatusReserva status, int reservas, int pessoas) {
+        OcupacaoHoraria variacao = new OcupacaoHoraria(restauranteId, dia, hora);
+        variacao.acumular(status, reservas, pessoas);
+        return variacao;
+    }
+}
@@ -0,0 +1,107 @@
+package com.postech.gourmet.gateways.integrations;
+
+import com.postech.gourmet.domain.entities.Reserva;
+import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.entities.Usuario;
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.repositories.ReservaRepository;
+import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.UsuarioRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Confere o plano das consultas que o repositório gera. Sem transação de teste: o ANALYZE do H2
+ * confirma a transação corrente, então os dados são gravados de fato e removidos ao final.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.postech.gourmet.gateways.integrations.ConsultasGeradas")
+@ActiveProfiles("test")
+class ReservaIndicesIntegrationTest {
+    private static final int RESTAURANTES = 20;
+    private static final int RESERVAS_POR_RESTAURANTE = 12;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private RestauranteRepository restauranteRepository;
+
+    @Autowired
+    private UsuarioRepository usuarioRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<Restaurante> restaurantes = new ArrayList<>();
+    private Usuario usuario;
+    private LocalDateTime inicio;
+
+    @BeforeEach
+    void setUp() {
+        inicio = LocalDateTime.now().plusDays(1).withNano(0);
+
+        usuario = new Usuario();
+        usuario.setNome("Usuário Índices");
+        usuario.setEmail("indices@teste.com");
+        usuario.setSenha("senha123");
+        usuario.setTelefone("(11) 98765-4321");
+        usuario = usuarioRepository.save(usuario);
+
+        // Estatísticas próximas das de produção: muitos restaurantes, poucos status
+        StatusReserva[] status = StatusReserva.values();
+        for (int r = 0; r < RESTAURANTES; r++) {
+            Restaurante restaurante = new Restaurante();
+            restaurante.setNome("Restaurante Índices " + r);
+            restaurante.setEndereco("Endereço " + r);
+            restaurante.setTipoCozinha("Italiana");
+            restaurante.setCapacidade(50);
+            restaurante = restauranteRepository.save(restaurante);
+            restaurantes.add(restaurante);
+
+            for (int i = 0; i < RESERVAS_POR_RESTAURANTE; i++) {
+                Reserva reserva = new Reserva(null, usuario.getNome(), inicio.plusHours(i), restaurante, usuario);
+                reserva.setNumeroPessoas(2);
+                reserva.setStatus(status[i % status.length]);
+                reservaRepository.save(reserva);
+            }
+        }
+        jdbcTemplate.execute("ANALYZE TABLE reserva");
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Restaurante restaurante : restaurantes) {
+            jdbcTemplate.update("DELETE FROM reserva WHERE restaurante_id = ?", restaurante.getId());
+            restauranteRepository.deleteById(restaurante.getId());
+        }
+        jdbcTemplate.update("DELETE FROM usuario WHERE id = ?", usuario.getId());
+    }
+
+    @Test
+    @DisplayName("Deve resolver a agenda gerada pelo repositório pelo índice composto do restaurante")
+    void deveUsarIndiceCompostoNaAgenda() {
+        Long restauranteId = restaurantes.get(0).getId();
+        reservaRepository.findByRestauranteIdAndDataHoraBetweenAndStatusIn(restauranteId, inicio,
+                inicio.plusDays(1), List.of(StatusReserva.PENDENTE, StatusReserva.CONFIRMADA));
+        String consulta = ConsultasGeradas.ultima();
+
+        // O H2 faz as vezes do EXPLAIN do Postgres: o plano indica o índice escolhido
+        String plano = jdbcTemplate.queryForObject("EXPLAIN " + consulta, String.class,
+                restauranteId, inicio, inicio.plusDays(1), "PENDENTE", "CONFIRMADA");
+
+        assertTrue(plano.contains("/* PUBLIC.IDX_RESERVA_RESTAURANTE_DATA_HORA_ID_STATUS"), plano);
+    }
+}
@@ -1,11 +1,17 @@
 package com.postech.gourmet.gateways.integrations;
 
+import com.postech.gourmet.application.usecase.reserva.ArquivarReservasUseCase;
+import com.postech.gourmet.application.usecase.reserva.GerenciarReservaUseCase;
 import com.postech.gourmet.domain.entities.Reserva;
 import com.postech.gourmet.domain.entities.Restaurante;
 import com.postech.gourmet.domain.entities.Usuario;
 import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.exception.InvalidRequestException;
+import com.postech.gourmet.domain.repositories.CursorReserva;
+import com.postech.gourmet.domain.repositories.FiltroReservas;
 import com.postech.gourmet.domain.repositories.ReservaRepository;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
+import com.postech.gourmet.domain.repositories.TotalReservasPorHorario;
 import com.postech.gourmet.domain.repositories.UsuarioRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,8 +22,10 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -35,6 +43,12 @@ class ReservaRepositoryIntegrationTest {
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private ArquivarReservasUseCase arquivarReservasUseCase;
+
+    @Autowired
+    private GerenciarReservaUseCase gerenciarReservaUseCase;
+
     private Restaurante restaurante;
     private Usuario usuario;
     private LocalDateTime dataHoraFutura;
@@ -210,4 +224,292 @@ class ReservaRepositoryIntegrationTest {
         // Verifica que a reserva foi excluída
         assertFalse(reservaRepository.existsById(reserva.getId()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve salvar reservas em lote com IDs de sequência")
+    void deveSalvarReservasEmLote() {
+        List<Reserva> reservas = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            Reserva reserva = new Reserva();
+            reserva.setCliente(usuario.getNome());
+            reserva.setDataHora(dataHoraFutura.plusMinutes(i));
+            reserva.setNumeroPessoas(1 + i % 4);
+            reserva.setRestaurante(restaurante);
+            reserva.setUsuario(usuario);
+            reserva.setStatus(StatusReserva.PENDENTE);
+            reservas.add(reserva);
+        }
+
+        List<Reserva> salvas = reservaRepository.saveAll(reservas);
+
+        assertEquals(120, salvas.size());
+        assertTrue(salvas.stream().allMatch(r -> r.getId() != null));
+        assertEquals(120, salvas.stream().map(Reserva::getId).distinct().count());
+        assertEquals(reservas.get(7).getDataHora(), salvas.get(7).getDataHora());
+        assertTrue(reservaRepository.existsById(salvas.get(119).getId()));
+    }
+
+    @Test
+    @DisplayName("Deve paginar reservas por cursor aplicando os filtros")
+    void devePaginarReservasPorCursorComFiltros() {
+        LocalDateTime base = dataHoraFutura.withNano(0);
+        List<Reserva> reservas = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Reserva reserva = new Reserva();
+            reserva.setCliente(usuario.getNome());
+            // Pares de reservas no mesmo horário exercitam o desempate pelo id
+            reserva.setDataHora(base.plusHours(i / 2));
+            reserva.setNumeroPessoas(2);
+            reserva.setRestaurante(restaurante);
+            reserva.setUsuario(usuario);
+            reserva.setStatus(i == 6 ? StatusReserva.CANCELADA : StatusReserva.PENDENTE);
+            reservas.add(reserva);
+        }
+        reservaRepository.saveAll(reservas);
+
+        FiltroReservas filtro = new FiltroReservas(restaurante.getId(), StatusReserva.PENDENTE, null, null);
+        List<Reserva> primeira = reservaRepository.buscarPagina(filtro, null, 4);
+        List<Reserva> segunda = reservaRepository.buscarPagina(
+                filtro, CursorReserva.apos(primeira.get(primeira.size() - 1)), 4);
+
+        assertEquals(4, primeira.size());
+        assertEquals(2, segunda.size());
+        List<Reserva> todas = new ArrayList<>(primeira);
+        todas.addAll(segunda);
+        for (int i = 1; i < todas.size(); i++) {
+            Reserva anterior = todas.get(i - 1);
+            Reserva atual = todas.get(i);
+            assertTrue(anterior.getDataHora().isBefore(atual.getDataHora())
+                    || (anterior.getDataHora().equals(atual.getDataHora()) && anterior.getId() < atual.getId()));
+        }
+        assertEquals("Restaurante Teste", todas.get(0).getRestaurante().getNome());
+
+        FiltroReservas periodo = new FiltroReservas(restaurante.getId(), null, base.plusHours(1), base.plusHours(3));
+        assertEquals(4, reservaRepository.buscarPagina(periodo, null, 10).size());
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as páginas sob demanda, incluindo reservas passadas")
+    void devePercorrerPaginasSobDemanda() {
+        // Precisão de segundos: as entidades continuam no contexto de persistência com a hora em memória
+        Reserva futura = new Reserva();
+        futura.setCliente(usuario.getNome());
+        futura.setDataHora(dataHoraFutura.withNano(0));
+        futura.setNumeroPessoas(2);
+        futura.setRestaurante(restaurante);
+        futura.setUsuario(usuario);
+        reservaRepository.save(futura);
+        for (int i = 0; i < 4; i++) {
+            Reserva passada = new Reserva(null, usuario.getNome(), LocalDateTime.now().withNano(0).minusDays(i + 1),
+                    restaurante, usuario);
+            passada.setNumeroPessoas(2);
+            reservaRepository.save(passada);
+        }
+
+        FiltroReservas filtro = new FiltroReservas(restaurante.getId(), null, null, null);
+        List<List<Reserva>> paginas = reservaRepository.paginar(filtro, 2).toList();
+
+        assertEquals(List.of(2, 2, 1), paginas.stream().map(List::size).toList());
+        assertEquals(futura.getDataHora(), paginas.get(2).get(0).getDataHora());
+    }
+
+    @Test
+    @DisplayName("Deve transmitir todas as reservas em ordem de ID")
+    void deveTransmitirTodasAsReservas() {
+        List<Reserva> reservas = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Reserva reserva = new Reserva(null, usuario.getNome(), LocalDateTime.now().minusDays(i), restaurante, usuario);
+            reserva.setNumeroPessoas(i + 1);
+            reserva.setStatus(StatusReserva.CONFIRMADA);
+            reservas.add(reserva);
+        }
+        List<Long> ids = reservaRepository.saveAll(reservas).stream().map(Reserva::getId).toList();
+
+        List<Reserva> transmitidas;
+        try (Stream<Reserva> stream = reservaRepository.streamAll()) {
+            transmitidas = stream.filter(r -> ids.contains(r.getId())).toList();
+        }
+
+        assertEquals(ids, transmitidas.stream().map(Reserva::getId).toList());
+        Reserva primeira = transmitidas.get(0);
+        assertEquals(restaurante.getId(), primeira.getRestaurante().getId());
+        assertEquals(usuario.getId(), primeira.getUsuario().getId());
+        assertEquals(StatusReserva.CONFIRMADA, primeira.getStatus());
+        assertEquals(1, primeira.getNumeroPessoas());
+    }
+
+    @Test
+    @DisplayName("Deve travar e atualizar em lote apenas as reservas no status esperado")
+    void deveTravarEAtualizarStatusEmLote() {
+        List<Reserva> reservas = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Reserva reserva = new Reserva();
+            reserva.setCliente(usuario.getNome());
+            reserva.setDataHora(dataHoraFutura.plusHours(i));
+            reserva.setNumeroPessoas(2);
+            reserva.setRestaurante(restaurante);
+            reserva.setUsuario(usuario);
+            reserva.setStatus(i == 2 ? StatusReserva.CONFIRMADA : StatusReserva.PENDENTE);
+            reservas.add(reserva);
+        }
+        List<Long> ids = reservaRepository.saveAll(reservas).stream().map(Reserva::getId).toList();
+
+        List<Reserva> pendentes = reservaRepository.travarPorStatus(ids.reversed(), StatusReserva.PENDENTE);
+        assertEquals(ids.subList(0, 2), pendentes.stream().map(Reserva::getId).toList());
+        assertEquals(restaurante.getId(), pendentes.get(0).getRestaurante().getId());
+        assertNotNull(pendentes.get(0).getCriadaEm());
+
+        List<Long> informados = new ArrayList<>(ids);
+        informados.add(0, -1L);
+        assertEquals(ids, reservaRepository.travarPorIds(informados.reversed()).stream().map(Reserva::getId).toList());
+
+        int alteradas = reservaRepository.atualizarStatus(ids, StatusReserva.PENDENTE, StatusReserva.CANCELADA);
+
+        assertEquals(2, alteradas);
+        assertEquals(StatusReserva.CANCELADA, reservaRepository.findById(ids.get(0)).orElseThrow().getStatus());
+        assertEquals(StatusReserva.CONFIRMADA, reservaRepository.findById(ids.get(2)).orElseThrow().getStatus());
+        try (Stream<Reserva> canceladas = reservaRepository.streamByStatus(StatusReserva.CANCELADA)) {
+            assertTrue(canceladas.map(Reserva::getId).toList().containsAll(ids.subList(0, 2)));
+        }
+    }
+
+    @Test
+    @DisplayName("Deve buscar as chaves das reservas confirmadas passadas em lotes por cursor")
+    void deveBuscarChavesDeReservasConfirmadasPassadas() {
+        LocalDateTime base = LocalDateTime.now().withNano(0).minusDays(10);
+        List<Reserva> reservas = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Reserva reserva = new Reserva(null, usuario.getNome(), base.plusDays(i), restaurante, usuario);
+            reserva.setNumeroPessoas(2);
+            reserva.setStatus(i == 1 ? StatusReserva.CANCELADA : StatusReserva.CONFIRMADA);
+            reservas.add(reserva);
+        }
+        List<Long> ids = reservaRepository.saveAll(reservas).stream().map(Reserva::getId).toList();
+        LocalDateTime corte = base.plusDays(4);
+
+        List<CursorReserva> primeiroLote = reservaRepository.buscarChavesPorStatusAntesDe(
+                StatusReserva.CONFIRMADA, corte, new CursorReserva(base.minusYears(1), 0L), 2);
+        List<CursorReserva> segundoLote = reservaRepository.buscarChavesPorStatusAntesDe(
+                StatusReserva.CONFIRMADA, corte, primeiroLote.get(1), 2);
+
+        assertEquals(List.of(new CursorReserva(base, ids.get(0)), new CursorReserva(base.plusDays(2), ids.get(2))),
+                primeiroLote);
+        assertEquals(List.of(new CursorReserva(base.plusDays(3), ids.get(3))), segundoLote);
+    }
+
+    @Test
+    @DisplayName("Deve totalizar as reservas do restaurante por horário e status")
+    void deveTotalizarPorHorario() {
+        LocalDateTime horario = dataHoraFutura.withNano(0);
+        reservaRepository.saveAll(List.of(
+                novaReserva(horario, 2, StatusReserva.PENDENTE),
+                novaReserva(horario, 3, StatusReserva.PENDENTE),
+                novaReserva(horario, 4, StatusReserva.CONFIRMADA),
+                novaReserva(horario.minusDays(1), 6, StatusReserva.CONFIRMADA)));
+
+        List<TotalReservasPorHorario> totais = reservaRepository.totalizarPorHorario(
+                restaurante.getId(), horario.minusHours(1));
+
+        assertEquals(2, totais.size());
+        assertTrue(totais.contains(new TotalReservasPorHorario(horario, StatusReserva.PENDENTE, 2, 5)));
+        assertTrue(totais.contains(new TotalReservasPorHorario(horario, StatusReserva.CONFIRMADA, 1, 4)));
+    }
+
+    @Test
+    @DisplayName("Deve arquivar reservas antigas encerradas e continuar encontrando-as pelo ID e pelo usuário")
+    void deveArquivarReservasAntigas() {
+        LocalDateTime agora = LocalDateTime.now().withNano(0);
+        Reserva arquivavel = reservaRepository.save(novaReserva(agora.minusMonths(14), 2, StatusReserva.CONCLUIDA));
+        Reserva antigaConfirmada = reservaRepository.save(novaReserva(agora.minusMonths(14), 3, StatusReserva.CONFIRMADA));
+        Reserva recente = reservaRepository.save(novaReserva(agora.minusMonths(2), 4, StatusReserva.CANCELADA));
+
+        assertEquals(1, arquivarReservasUseCase.arquivarProximoLote(agora));
+        assertEquals(0, arquivarReservasUseCase.arquivarProximoLote(agora));
+
+        assertFalse(reservaRepository.existsById(arquivavel.getId()));
+        Reserva arquivada = reservaRepository.findById(arquivavel.getId()).orElseThrow();
+        assertEquals(StatusReserva.CONCLUIDA, arquivada.getStatus());
+        assertEquals(agora.minusMonths(14), arquivada.getDataHora());
+        assertEquals(2, arquivada.getNumeroPessoas());
+        assertEquals(restaurante.getNome(), arquivada.getRestaurante().getNome());
+        assertEquals(usuario.getId(), arquivada.getUsuario().getId());
+
+        List<Long> historico = reservaRepository.findByUsuarioId(usuario.getId()).stream().map(Reserva::getId).toList();
+        assertEquals(3, historico.size());
+        assertTrue(historico.containsAll(List.of(arquivavel.getId(), antigaConfirmada.getId(), recente.getId())));
+    }
+
+    @Test
+    @DisplayName("Deve buscar as reservas do restaurante no intervalo, com e sem filtro de status")
+    void deveBuscarReservasDoRestauranteNoIntervalo() {
+        LocalDateTime inicio = dataHoraFutura.toLocalDate().atStartOfDay();
+        Restaurante outro = new Restaurante();
+        outro.setNome("Outro Restaurante");
+        outro.setCapacidade(20);
+        outro = restauranteRepository.save(outro);
+
+        Reserva almoco = novaReserva(inicio.plusHours(12), 2, StatusReserva.CONFIRMADA);
+        Reserva jantar = novaReserva(inicio.plusHours(20), 4, StatusReserva.CANCELADA);
+        Reserva semUsuario = new Reserva(null, "Cliente Balcão", inicio.plusHours(19), restaurante, null);
+        semUsuario.setNumeroPessoas(3);
+        semUsuario.setStatus(StatusReserva.PENDENTE);
+        Reserva diaSeguinte = novaReserva(inicio.plusDays(1), 2, StatusReserva.CONFIRMADA);
+        Reserva deOutroRestaurante = new Reserva(null, "Cliente", inicio.plusHours(12), outro, usuario);
+        deOutroRestaurante.setNumeroPessoas(2);
+        reservaRepository.saveAll(List.of(almoco, jantar, semUsuario, diaSeguinte, deOutroRestaurante));
+
+        List<Reserva> doDia = reservaRepository.findByRestauranteIdAndDataHoraBetween(
+                restaurante.getId(), inicio, inicio.plusDays(1));
+
+        assertEquals(List.of("Usuário Teste", "Cliente Balcão", "Usuário Teste"),
+                doDia.stream().map(Reserva::getCliente).toList());
+        assertEquals(List.of(inicio.plusHours(12), inicio.plusHours(19), inicio.plusHours(20)),
+                doDia.stream().map(Reserva::getDataHora).toList());
+        assertEquals(restaurante.getId(), doDia.get(0).getRestaurante().getId());
+        assertEquals(usuario.getId(), doDia.get(0).getUsuario().getId());
+        assertNull(doDia.get(1).getUsuario());
+
+        List<Reserva> ativas = reservaRepository.findByRestauranteIdAndDataHoraBetweenAndStatusIn(
+                restaurante.getId(), inicio, inicio.plusDays(1), List.of(StatusReserva.PENDENTE, StatusReserva.CONFIRMADA));
+
+        assertEquals(List.of(StatusReserva.CONFIRMADA, StatusReserva.PENDENTE),
+                ativas.stream().map(Reserva::getStatus).toList());
+        assertTrue(reservaRepository.findByRestauranteIdAndDataHoraBetweenAndStatusIn(
+                restaurante.getId(), inicio, inicio.plusDays(1), List.of()).isEmpty());
+    }
+
+    private Reserva novaReserva(LocalDateTime dataHora, int numeroPessoas, StatusReserva status) {
+        Reserva reserva = new Reserva(null, usuario.getNome(), dataHora, restaurante, usuario);
+        reserva.setNumeroPessoas(numeroPessoas);
+        reserva.setStatus(status);
+        return reserva;
+    }
+
+    @Test
+    @DisplayName("Deve confirmar e cancelar uma reserva gravada a partir da leitura com trava")
+    void deveConfirmarECancelarReservaTravada() {
+        Reserva reserva = new Reserva();
+        reserva.setCliente(usuario.getNome());
+        reserva.setDataHora(dataHoraFutura);
+        reserva.setNumeroPessoas(2);
+        reserva.setRestaurante(restaurante);
+        reserva.setUsuario(usuario);
+        reserva.setStatus(StatusReserva.PENDENTE);
+        Long id = reservaRepository.save(reserva).getId();
+
+        Reserva confirmada = gerenciarReservaUseCase.confirmarReserva(id);
+        assertEquals(StatusReserva.CONFIRMADA, confirmada.getStatus());
+        assertEquals(restaurante.getNome(), confirmada.getRestaurante().getNome());
+
+        gerenciarReservaUseCase.cancelarReserva(id, usuario.getId());
+        Reserva cancelada = reservaRepository.findById(id).orElseThrow();
+        assertEquals(StatusReserva.CANCELADA, cancelada.getStatus());
+        assertEquals(usuario.getId(), cancelada.getUsuario().getId());
+        assertEquals(2, cancelada.getNumeroPessoas());
+
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> gerenciarReservaUseCase.cancelarReserva(id, usuario.getId()));
+        assertEquals("Esta reserva já está cancelada", exception.getMessage());
+        assertThrows(InvalidRequestException.class, () -> gerenciarReservaUseCase.confirmarReserva(id));
+    }
+}
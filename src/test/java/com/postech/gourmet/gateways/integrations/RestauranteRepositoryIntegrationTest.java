@@ -1,11 +1,13 @@
 package com.postech.gourmet.gateways.integrations;
 
 import com.postech.gourmet.domain.entities.Restaurante;
+import com.postech.gourmet.domain.repositories.LocalizacaoRestaurante;
 import com.postech.gourmet.domain.repositories.RestauranteRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +24,9 @@ class RestauranteRepositoryIntegrationTest {
     @Autowired
     private RestauranteRepository restauranteRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("Deve buscar restaurantes por termo no nome")
     void deveBuscarRestaurantesPorTermoNoNome() {
@@ -162,4 +167,92 @@ class RestauranteRepositoryIntegrationTest {
         // Verifica que o restaurante foi excluído
         assertFalse(restauranteRepository.existsById(restaurante.getId()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve buscar restaurantes sem diferenciar acentos nem maiúsculas")
+    void deveBuscarSemDiferenciarAcentos() {
+        Restaurante acai = new Restaurante();
+        acai.setNome("Açaí da Praça");
+        acai.setEndereco("Avenida São Paulo, 10");
+        acai.setTipoCozinha("Brasileira");
+        acai.setCapacidade(20);
+        acai = restauranteRepository.save(acai);
+
+        assertEquals(List.of(acai.getId()), ids(restauranteRepository
+                .findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining("acai", "acai", "acai")));
+        assertEquals(List.of(acai.getId()), ids(restauranteRepository
+                .findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining("SAO PAULO", "SAO PAULO", "SAO PAULO")));
+
+        // A atualização recalcula as colunas normalizadas
+        acai.setNome("Feijão da Vila");
+        restauranteRepository.save(acai);
+        assertEquals(List.of(acai.getId()), ids(restauranteRepository
+                .findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining("feijao", "feijao", "feijao")));
+        assertTrue(restauranteRepository
+                .findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining("acai", "acai", "acai").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve preencher as colunas de busca de restaurantes gravados sem elas")
+    void devePreencherCamposBuscaPendentes() {
+        jdbcTemplate.update("INSERT INTO restaurante (nome, endereco, tipo_cozinha, capacidade) VALUES (?, ?, ?, ?)",
+                "Pastelaria Japonesa", "Rua Galvão Bueno, 1", "Pastéis", 30);
+
+        assertTrue(restauranteRepository
+                .findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining("galvao", "galvao", "galvao").isEmpty());
+        assertEquals(1, restauranteRepository.preencherCamposBusca(100));
+        assertEquals(0, restauranteRepository.preencherCamposBusca(100));
+
+        assertEquals(1, restauranteRepository
+                .findByNomeContainingOrEnderecoContainingOrTipoCozinhaContaining("galvao", "galvao", "galvao").size());
+        assertTrue(restauranteRepository.findTextosBusca().stream()
+                .anyMatch(texto -> "pasteis".equals(texto.tipoCozinha())));
+    }
+
+    @Test
+    @DisplayName("Deve gravar a localização e listar apenas restaurantes localizados")
+    void deveGravarLocalizacao() {
+        Restaurante localizado = new Restaurante();
+        localizado.setNome("Cantina da Paulista");
+        localizado.setEndereco("Avenida Paulista, 1578");
+        localizado.definirLocalizacao(-23.5614, -46.6559);
+        localizado = restauranteRepository.save(localizado);
+
+        Restaurante semLocalizacao = new Restaurante();
+        semLocalizacao.setNome("Cantina sem Mapa");
+        semLocalizacao.setEndereco("Rua Desconhecida, 1");
+        semLocalizacao = restauranteRepository.save(semLocalizacao);
+
+        Restaurante recarregado = restauranteRepository.findById(localizado.getId()).orElseThrow();
+        assertEquals(-23.5614, recarregado.getLatitude());
+        assertEquals(-46.6559, recarregado.getLongitude());
+
+        List<Long> localizados = restauranteRepository.findLocalizacoes().stream()
+                .map(LocalizacaoRestaurante::id)
+                .toList();
+        assertTrue(localizados.contains(localizado.getId()));
+        assertFalse(localizados.contains(semLocalizacao.getId()));
+    }
+
+    private static List<Long> ids(List<Restaurante> restaurantes) {
+        return restaurantes.stream().map(Restaurante::getId).toList();
+    }
+
+    @Test
+    @DisplayName("Deve trazer só os primeiros restaurantes em ordem de ID")
+    void deveBuscarPrimeirosRestaurantes() {
+        for (int i = 0; i < 3; i++) {
+            Restaurante restaurante = new Restaurante();
+            restaurante.setNome("Restaurante " + i);
+            restaurante.setEndereco("Endereço " + i);
+            restaurante.setTipoCozinha("Italiana");
+            restaurante.setCapacidade(30);
+            restauranteRepository.save(restaurante);
+        }
+
+        List<Restaurante> primeiros = restauranteRepository.findPrimeiros(2);
+
+        assertEquals(restauranteRepository.findAllIds().subList(0, 2),
+                primeiros.stream().map(Restaurante::getId).toList());
+    }
+}
@@ -0,0 +1,203 @@
+package com.postech.gourmet.gateways.journal;
+
+import com.postech.gourmet.domain.enums.StatusReserva;
+import com.postech.gourmet.domain.events.RegistroJournalReserva;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.health.Status;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JournalReservaArquivoTest {
+
+    @TempDir
+    Path diretorio;
+
+    private final List<JournalReservaArquivo> abertos = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (JournalReservaArquivo journal : abertos) {
+            journal.encerrar();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve gravar registros e reproduzi-los a partir de uma sequência")
+    void deveGravarEReproduzir() {
+        JournalReservaArquivo journal = abrir(100);
+        LocalDateTime dataHora = LocalDateTime.of(2025, 6, 10, 20, 30);
+
+        long criacao = journal.registrar(registro(RegistroJournalReserva.Tipo.CRIACAO, 7L, null,
+                StatusReserva.PENDENTE, dataHora)).join();
+        long confirmacao = journal.registrar(registro(RegistroJournalReserva.Tipo.CONFIRMACAO, 7L,
+                StatusReserva.PENDENTE, StatusReserva.CONFIRMADA, dataHora)).join();
+        journal.registrar(RegistroJournalReserva.conclusao(7L, dataHora)).join();
+
+        List<RegistroJournalReserva> lidos = new ArrayList<>();
+        long proxima = journal.reproduzir(confirmacao, 10, lidos::add);
+
+        assertEquals(0, criacao);
+        assertEquals(1, confirmacao);
+        assertEquals(3, proxima);
+        assertEquals(2, lidos.size());
+        RegistroJournalReserva lido = lidos.get(0);
+        assertEquals(RegistroJournalReserva.Tipo.CONFIRMACAO, lido.tipo());
+        assertEquals(7L, lido.reservaId());
+        assertEquals(3L, lido.restauranteId());
+        assertEquals(dataHora, lido.dataHora());
+        assertEquals(4, lido.numeroPessoas());
+        assertEquals(StatusReserva.PENDENTE, lido.statusAnterior());
+        assertEquals(StatusReserva.CONFIRMADA, lido.status());
+        assertNull(lidos.get(1).restauranteId());
+        assertNull(lidos.get(1).numeroPessoas());
+    }
+
+    @Test
+    @DisplayName("Deve abrir um novo segmento quando o atual enche e ler através deles")
+    void deveRolarSegmentos() throws IOException {
+        JournalReservaArquivo journal = abrir(4);
+
+        for (long i = 0; i < 10; i++) {
+            journal.registrar(registro(RegistroJournalReserva.Tipo.CRIACAO, i, null, StatusReserva.PENDENTE,
+                    LocalDateTime.of(2025, 6, 10, 20, 0))).join();
+        }
+
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            assertEquals(3, arquivos.filter(arquivo -> arquivo.getFileName().toString()
+                    .endsWith(SegmentoJournal.EXTENSAO)).count());
+        }
+        List<Long> ids = new ArrayList<>();
+        assertEquals(9, journal.reproduzir(3, 6, registro -> ids.add(registro.reservaId())));
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L), ids);
+    }
+
+    @Test
+    @DisplayName("Deve recusar o lote que falhou, avisar no health e voltar a gravar depois da falha")
+    void deveSeRecuperarDeFalhaNaGravacao() throws Exception {
+        JournalReservaArquivo journal = abrir(2);
+        JournalReservaHealthIndicator health = new JournalReservaHealthIndicator(journal);
+        LocalDateTime dataHora = LocalDateTime.of(2025, 6, 10, 20, 0);
+        for (long i = 0; i < 2; i++) {
+            journal.registrar(registro(RegistroJournalReserva.Tipo.CRIACAO, i, null, StatusReserva.PENDENTE, dataHora)).join();
+        }
+        // Um diretório no lugar do próximo segmento faz a abertura dele falhar em todas as tentativas
+        Path bloqueio = Files.createDirectory(SegmentoJournal.arquivo(diretorio, 2));
+
+        CompletableFuture<Long> recusado = journal.registrar(
+                registro(RegistroJournalReserva.Tipo.CRIACAO, 10L, null, StatusReserva.PENDENTE, dataHora));
+        assertThrows(CompletionException.class, recusado::join);
+        assertTrue(journal.ultimaFalha().isPresent());
+        assertEquals(Status.DOWN, health.health().getStatus());
+
+        Files.delete(bloqueio);
+        long sequencia = journal.registrar(
+                registro(RegistroJournalReserva.Tipo.CRIACAO, 11L, null, StatusReserva.PENDENTE, dataHora)).join();
+
+        assertEquals(2, sequencia);
+        assertTrue(journal.ultimaFalha().isEmpty());
+        assertEquals(Status.UP, health.health().getStatus());
+        List<Long> reservas = new ArrayList<>();
+        journal.reproduzir(0, 10, registro -> reservas.add(registro.reservaId()));
+        assertEquals(List.of(0L, 1L, 11L), reservas);
+
+        journal.encerrar();
+        abertos.remove(journal);
+        assertEquals(3, abrir(2).proximaSequencia());
+    }
+
+    @Test
+    @DisplayName("Deve recusar uma segunda instância no mesmo diretório e liberá-lo ao encerrar")
+    void deveTravarODiretorio() throws InterruptedException {
+        JournalReservaArquivo journal = abrir(100);
+
+        IllegalStateException erro = assertThrows(IllegalStateException.class,
+                () -> new JournalReservaArquivo(diretorio, 100));
+        assertTrue(erro.getMessage().contains("em uso"));
+
+        journal.encerrar();
+        abertos.remove(journal);
+        assertEquals(0, abrir(100).proximaSequencia());
+    }
+
+    @Test
+    @DisplayName("Deve continuar após o último registro válido ao reabrir, descartando uma cauda corrompida")
+    void deveRecuperarAoReabrir() throws Exception {
+        JournalReservaArquivo journal = abrir(100);
+        for (long i = 0; i < 3; i++) {
+            journal.registrar(registro(RegistroJournalReserva.Tipo.CRIACAO, i, null, StatusReserva.PENDENTE,
+                    LocalDateTime.of(2025, 6, 10, 20, 0))).join();
+        }
+        journal.encerrar();
+        abertos.remove(journal);
+
+        // Simula um lote interrompido: a quarta posição recebe bytes sem CRC válido
+        try (FileChannel canal = FileChannel.open(SegmentoJournal.arquivo(diretorio, 0), StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 1, 0, 0, 1}), 3L * SegmentoJournal.TAMANHO_REGISTRO);
+        }
+
+        JournalReservaArquivo reaberto = abrir(100);
+        assertEquals(3, reaberto.proximaSequencia());
+        assertEquals(3, reaberto.registrar(registro(RegistroJournalReserva.Tipo.CANCELAMENTO, 1L,
+                StatusReserva.PENDENTE, StatusReserva.CANCELADA, LocalDateTime.of(2025, 6, 10, 20, 0))).join());
+
+        List<RegistroJournalReserva.Tipo> tipos = new ArrayList<>();
+        reaberto.reproduzir(0, 10, registro -> tipos.add(registro.tipo()));
+        assertEquals(List.of(RegistroJournalReserva.Tipo.CRIACAO, RegistroJournalReserva.Tipo.CRIACAO,
+                RegistroJournalReserva.Tipo.CRIACAO, RegistroJournalReserva.Tipo.CANCELAMENTO), tipos);
+    }
+
+    @Test
+    @DisplayName("Deve atribuir sequências únicas a gravações concorrentes e permitir reconstruir uma projeção")
+    void deveGravarConcorrentementeEReconstruirProjecao() {
+        JournalReservaArquivo journal = abrir(256);
+        LocalDateTime dataHora = LocalDateTime.of(2025, 6, 10, 20, 0);
+
+        List<CompletableFuture<Long>> futuros = IntStream.range(0, 1000)
+                .parallel()
+                .mapToObj(i -> journal.registrar(new RegistroJournalReserva(-1, RegistroJournalReserva.Tipo.CRIACAO,
+                        (long) i, (long) (i % 5), dataHora, 2, null, StatusReserva.PENDENTE, Instant.now())))
+                .toList();
+        List<Long> sequencias = futuros.stream().map(CompletableFuture::join).sorted().toList();
+
+        assertEquals(sequenciasAte(1000), sequencias);
+        Map<Long, Integer> pessoasPorRestaurante = new HashMap<>();
+        assertEquals(1000, journal.reproduzir(0, Integer.MAX_VALUE, registro ->
+                pessoasPorRestaurante.merge(registro.restauranteId(), registro.numeroPessoas(), Integer::sum)));
+        assertEquals(Map.of(0L, 400, 1L, 400, 2L, 400, 3L, 400, 4L, 400), pessoasPorRestaurante);
+    }
+
+    private static List<Long> sequenciasAte(int quantidade) {
+        return IntStream.range(0, quantidade).mapToObj(Long::valueOf).toList();
+    }
+
+    private JournalReservaArquivo abrir(int registrosPorSegmento) {
+        JournalReservaArquivo journal = new JournalReservaArquivo(diretorio, registrosPorSegmento);
+        abertos.add(journal);
+        return journal;
+    }
+
+    private RegistroJournalReserva registro(RegistroJournalReserva.Tipo tipo, Long reservaId,
+                                            StatusReserva anterior, StatusReserva status, LocalDateTime dataHora) {
+        return new RegistroJournalReserva(-1, tipo, reservaId, 3L, dataHora, 4, anterior, status, Instant.now());
+    }
+}
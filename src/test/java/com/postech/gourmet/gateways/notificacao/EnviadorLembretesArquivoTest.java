@@ -0,0 +1,39 @@
+package com.postech.gourmet.gateways.notificacao;
+
+import com.postech.gourmet.domain.entities.LembreteReserva;
+import com.postech.gourmet.domain.enums.StatusLembrete;
+import com.postech.gourmet.domain.enums.TipoLembrete;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EnviadorLembretesArquivoTest {
+
+    @TempDir
+    Path diretorio;
+
+    @Test
+    @DisplayName("Deve acrescentar uma linha por lembrete enviado")
+    void deveAcrescentarLinhaPorLembrete() throws IOException {
+        Path arquivo = diretorio.resolve("saida/lembretes.csv");
+        EnviadorLembretesArquivo enviador = new EnviadorLembretesArquivo(arquivo);
+        LocalDateTime dataHora = LocalDateTime.of(2025, 6, 10, 20, 0);
+
+        enviador.enviar(new LembreteReserva(1L, 10L, 3L, 4L, "Cliente", dataHora,
+                TipoLembrete.VINTE_E_QUATRO_HORAS, StatusLembrete.PENDENTE, dataHora.minusHours(24), 1));
+        enviador.enviar(new LembreteReserva(2L, 10L, 3L, 4L, "Cliente", dataHora,
+                TipoLembrete.DUAS_HORAS, StatusLembrete.PENDENTE, dataHora.minusHours(2), 1));
+
+        assertEquals(List.of(
+                "1,10,VINTE_E_QUATRO_HORAS,4,2025-06-10T20:00",
+                "2,10,DUAS_HORAS,4,2025-06-10T20:00"), Files.readAllLines(arquivo));
+    }
+}